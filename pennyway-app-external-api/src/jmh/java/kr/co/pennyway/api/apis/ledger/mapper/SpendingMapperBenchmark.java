@@ -0,0 +1,45 @@
+package kr.co.pennyway.api.apis.ledger.mapper;
+
+import kr.co.pennyway.api.apis.ledger.dto.SpendingSearchRes;
+import kr.co.pennyway.domain.domains.spending.dto.SpendingDetail;
+import kr.co.pennyway.domain.domains.spending.type.SpendingCategory;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 달 1,000건의 지출 내역을 {@link SpendingSearchRes.Month}로 변환하는 비용을 측정한다. <br/>
+ * 데이터셋은 SpendingMapperTest와 같으며, 지출 일시 내림차순, 지출 ID 오름차순으로 정렬된 조회 결과를 가정한다.
+ */
+@State(Scope.Benchmark)
+public class SpendingMapperBenchmark {
+    private static final YearMonth TARGET_MONTH = YearMonth.of(2024, 5);
+    private static final int ROW_COUNT = 1_000;
+
+    private List<SpendingDetail> spendings;
+
+    @Setup
+    public void setUp() {
+        spendings = new ArrayList<>(ROW_COUNT);
+
+        long id = 1L;
+        for (int i = 0; i < ROW_COUNT; i++) {
+            int day = TARGET_MONTH.lengthOfMonth() - (i * TARGET_MONTH.lengthOfMonth() / ROW_COUNT);
+            LocalDateTime spendAt = TARGET_MONTH.atDay(day).atTime(12, 0);
+
+            if (day % 2 == 0) {
+                spendings.add(new SpendingDetail(id++, 1000 + i, SpendingCategory.FOOD, spendAt, null, null, null, null, null));
+            } else {
+                spendings.add(new SpendingDetail(id++, 1000 + i, SpendingCategory.CUSTOM, spendAt, "계좌", "메모", 10L, "커스텀", SpendingCategory.EDUCATION));
+            }
+        }
+    }
+
+    @Benchmark
+    public SpendingSearchRes.Month toSpendingSearchResMonthFromDetails() {
+        return SpendingMapper.toSpendingSearchResMonthFromDetails(spendings, TARGET_MONTH.getYear(), TARGET_MONTH.getMonthValue());
+    }
+}
@@ -13,6 +13,7 @@ import kr.co.pennyway.domain.domains.user.domain.User;
 import kr.co.pennyway.domain.domains.user.exception.UserErrorCode;
 import kr.co.pennyway.domain.domains.user.exception.UserErrorException;
 import kr.co.pennyway.infra.common.event.ChatRoomJoinEvent;
+import kr.co.pennyway.infra.common.event.ChatRoomMembershipEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.ImmutableTriple;
@@ -63,6 +64,7 @@ public class ChatMemberJoinService {
         Long unreadMessageCount = chatMessageService.countUnreadMessages(chatRoomId, 0L);
 
         eventPublisher.publishEvent(ChatRoomJoinEvent.of(chatRoomId, user.getName()));
+        eventPublisher.publishEvent(ChatRoomMembershipEvent.joined(chatRoomId, userId));
 
         return ImmutableTriple.of(chatRoom, currentMemberCount.intValue() + 1, unreadMessageCount);
     }
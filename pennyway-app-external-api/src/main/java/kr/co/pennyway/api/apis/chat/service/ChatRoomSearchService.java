@@ -9,7 +9,9 @@ import kr.co.pennyway.domain.domains.chatroom.domain.ChatRoom;
 import kr.co.pennyway.domain.domains.chatroom.dto.ChatRoomDetail;
 import kr.co.pennyway.domain.domains.chatroom.exception.ChatRoomErrorCode;
 import kr.co.pennyway.domain.domains.chatroom.exception.ChatRoomErrorException;
+import kr.co.pennyway.domain.domains.chatstatus.dto.LastReadMessage;
 import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
+import kr.co.pennyway.domain.domains.message.dto.ChatRoomMessageSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -30,6 +33,7 @@ public class ChatRoomSearchService {
 
     /**
      * 사용자 ID가 속한 채팅방 목록을 조회한다.
+     * 마지막으로 읽은 메시지 ID, 마지막 메시지, 안 읽은 메시지 수는 채팅방 수와 관계없이 일괄 조회한다.
      *
      * @return 채팅방 목록. {@link ChatRoomRes.Info} 리스트 형태로 반환
      */
@@ -38,10 +42,17 @@ public class ChatRoomSearchService {
         List<ChatRoomDetail> chatRooms = chatRoomService.readChatRoomsByUserId(userId);
         List<ChatRoomRes.Info> result = new ArrayList<>();
 
+        if (chatRooms.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, LastReadMessage> lastReadMessages = chatMessageStatusService.readLastReadMessageIds(userId, chatRooms.stream().map(ChatRoomDetail::id).toList());
+        Map<Long, ChatRoomMessageSummary> summaries = chatMessageService.readChatRoomMessageSummaries(lastReadMessages);
+
         for (ChatRoomDetail chatRoom : chatRooms) {
-            Long lastReadMessageId = chatMessageStatusService.readLastReadMessageId(userId, chatRoom.id());
-            ChatMessage lastMessage = chatMessageService.readRecentMessages(chatRoom.id(), 1).stream().findFirst().orElse(null);
-            Long unreadCount = chatMessageService.countUnreadMessages(chatRoom.id(), lastReadMessageId);
+            ChatRoomMessageSummary summary = summaries.get(chatRoom.id());
+            ChatMessage lastMessage = summary == null ? null : summary.lastMessage();
+            Long unreadCount = summary == null ? 0L : summary.unreadCount();
 
             result.add(ChatRoomRes.Info.of(chatRoom, unreadCount, lastMessage == null ? null : ChatRes.ChatDetail.from(lastMessage)));
         }
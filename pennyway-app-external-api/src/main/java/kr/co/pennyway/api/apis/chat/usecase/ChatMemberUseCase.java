@@ -14,10 +14,13 @@ import kr.co.pennyway.domain.context.chat.service.ChatMemberService;
 import kr.co.pennyway.domain.context.chat.service.ChatRoomAdminDelegateService;
 import kr.co.pennyway.domain.context.chat.service.ChatRoomLeaveService;
 import kr.co.pennyway.domain.domains.chatroom.domain.ChatRoom;
+import kr.co.pennyway.domain.domains.member.domain.ChatMember;
 import kr.co.pennyway.domain.domains.member.dto.ChatMemberResult;
+import kr.co.pennyway.infra.common.event.ChatRoomMembershipEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Triple;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Set;
@@ -33,6 +36,7 @@ public class ChatMemberUseCase {
 
     private final ChatMemberService chatMemberService;
     private final AwsS3Adapter awsS3Adapter;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ChatRoomRes.Detail joinChatRoom(Long userId, Long chatRoomId, Integer password) {
         Triple<ChatRoom, Integer, Long> chatRoom = chatMemberJoinService.execute(userId, chatRoomId, password);
@@ -48,10 +52,14 @@ public class ChatMemberUseCase {
 
     public void leaveChatRoom(Long userId, Long chatRoomId) {
         chatRoomLeaveService.execute(userId, chatRoomId);
+
+        eventPublisher.publishEvent(ChatRoomMembershipEvent.left(chatRoomId, userId));
     }
 
     public void banChatMember(Long userId, Long targetMemberId, Long chatRoomId) {
-        chatMemberBanService.execute(ChatMemberBanCommand.of(userId, targetMemberId, chatRoomId));
+        ChatMember bannedMember = chatMemberBanService.execute(ChatMemberBanCommand.of(userId, targetMemberId, chatRoomId));
+
+        eventPublisher.publishEvent(ChatRoomMembershipEvent.banned(chatRoomId, bannedMember.getUser().getId()));
     }
 
     public void delegate(Long userId, Long targetChatMemberId, Long chatRoomId) {
@@ -17,7 +17,9 @@ import kr.co.pennyway.domain.context.chat.service.ChatRoomDeleteService;
 import kr.co.pennyway.domain.context.chat.service.ChatRoomNotificationToggleService;
 import kr.co.pennyway.domain.domains.chatroom.domain.ChatRoom;
 import kr.co.pennyway.domain.domains.chatroom.dto.ChatRoomDetail;
+import kr.co.pennyway.infra.common.event.ChatRoomMembershipEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
@@ -37,6 +39,7 @@ public class ChatRoomUseCase {
     private final ChatMemberService chatMemberService;
 
     private final AwsS3Adapter awsS3Adapter;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ChatRoomRes.Detail createChatRoom(ChatRoomReq.Create request, Long userId) {
         ChatRoom chatRoom = chatRoomSaveService.createChatRoom(request, userId);
@@ -96,5 +99,7 @@ public class ChatRoomUseCase {
 
     public void deleteChatRoom(Long userId, Long chatRoomId) {
         chatRoomDeleteService.execute(ChatRoomDeleteCommand.of(userId, chatRoomId));
+
+        eventPublisher.publishEvent(ChatRoomMembershipEvent.deleted(chatRoomId));
     }
 }
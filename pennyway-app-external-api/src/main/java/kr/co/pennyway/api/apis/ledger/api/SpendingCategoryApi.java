@@ -8,6 +8,8 @@ import io.swagger.v3.oas.annotations.media.*;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import kr.co.pennyway.api.apis.ledger.dto.SpendingCategoryDto;
 import kr.co.pennyway.api.apis.ledger.dto.SpendingSearchRes;
 import kr.co.pennyway.api.common.annotation.ApiExceptionExplanation;
@@ -25,6 +27,8 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.time.LocalDateTime;
+
 
 @Tag(name = "지출 카테고리 API")
 public interface SpendingCategoryApi {
@@ -112,6 +116,36 @@ public interface SpendingCategoryApi {
             @AuthenticationPrincipal SecurityUserDetails user
     );
 
+    @Operation(summary = "지출 카테고리에 등록된 지출 내역 커서 조회", method = "GET", description = """
+            지출 카테고리별 지출 내역을 지출 일시 내림차순, 식별값 오름차순으로 조회하며, 무한 스크롤 응답이 반환됩니다. <br/>
+            페이지 번호 대신 이전 응답의 nextSpendAt, nextSpendingId를 lastSpendAt, lastSpendingId로 전달하므로, 페이지가 깊어져도 조회 성능이 일정합니다. <br/>
+            첫 페이지는 lastSpendAt, lastSpendingId를 모두 생략하여 조회합니다.
+            """)
+    @Parameters({
+            @Parameter(name = "categoryId", description = "type이 default면 아이콘 코드(1~11), custom이면 카테고리 pk", required = true, in = ParameterIn.PATH),
+            @Parameter(name = "type", description = "지출 카테고리 타입", required = true, in = ParameterIn.QUERY, examples = {
+                    @ExampleObject(name = "기본", value = "default"), @ExampleObject(name = "사용자 정의", value = "custom")
+            }),
+            @Parameter(name = "lastSpendAt", description = "이전 응답의 nextSpendAt (ISO-8601)", example = "2024-05-01T12:30:00.123456", in = ParameterIn.QUERY),
+            @Parameter(name = "lastSpendingId", description = "이전 응답의 nextSpendingId", example = "100", in = ParameterIn.QUERY),
+            @Parameter(name = "size", description = "페이지 사이즈 (1~100, default: 30)", example = "30", in = ParameterIn.QUERY)
+    })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "지출 내역 조회 성공", content = @Content(mediaType = "application/json", schemaProperties = @SchemaProperty(name = "spendings", schema = @Schema(implementation = SpendingSearchRes.MonthCursorSlice.class)))),
+    })
+    @ApiResponseExplanations(errors = {
+            @ApiExceptionExplanation(value = SpendingErrorCode.class, constant = "INVALID_TYPE_WITH_CATEGORY_ID", name = "type과 categoryId 미스 매치", description = "type이 default면서, categoryId가 CUSTOM(0) 혹은 OTHER(12)일 수는 없다."),
+            @ApiExceptionExplanation(value = SpendingErrorCode.class, constant = "INVALID_CURSOR", name = "커서 누락", description = "lastSpendAt과 lastSpendingId 중 하나만 전달할 수 없다.")
+    })
+    ResponseEntity<?> getSpendingsByCategoryWithCursor(
+            @PathVariable(value = "categoryId") Long categoryId,
+            @RequestParam(value = "type") SpendingCategoryType type,
+            @RequestParam(value = "lastSpendAt", required = false) LocalDateTime lastSpendAt,
+            @RequestParam(value = "lastSpendingId", required = false) Long lastSpendingId,
+            @RequestParam(value = "size", defaultValue = "30") @Min(value = 1, message = "size는 1 이상이어야 합니다.") @Max(value = 100, message = "size는 100 이하여야 합니다.") int size,
+            @AuthenticationPrincipal SecurityUserDetails user
+    );
+
     @Operation(summary = "지출 내역 카테고리 수정", method = "PATCH", description = "사용자 커스텀 지출 카테고리를 수정합니다.")
     @Parameters({
             @Parameter(name = "name", description = "카테고리 이름(8자 이하)", required = true, in = ParameterIn.QUERY),
@@ -15,13 +15,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 @Slf4j
+@Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/v2/spending-categories")
@@ -89,6 +93,28 @@ public class SpendingCategoryController implements SpendingCategoryApi {
         return ResponseEntity.ok(SuccessResponse.from("spendings", spendingCategoryUseCase.getSpendingsByCategory(user.getUserId(), categoryId, pageable, type)));
     }
 
+    @Override
+    @GetMapping("/{categoryId}/spendings/cursor")
+    @PreAuthorize("isAuthenticated() and @spendingCategoryManager.hasPermission(#user.getUserId(), #categoryId, #type)")
+    public ResponseEntity<?> getSpendingsByCategoryWithCursor(
+            @PathVariable(value = "categoryId") Long categoryId,
+            @RequestParam(value = "type") SpendingCategoryType type,
+            @RequestParam(value = "lastSpendAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastSpendAt,
+            @RequestParam(value = "lastSpendingId", required = false) Long lastSpendingId,
+            @RequestParam(value = "size", defaultValue = "30") int size,
+            @AuthenticationPrincipal SecurityUserDetails user
+    ) {
+        if (type.equals(SpendingCategoryType.DEFAULT) && (categoryId.equals(0L) || categoryId.equals(12L))) {
+            throw new SpendingErrorException(SpendingErrorCode.INVALID_TYPE_WITH_CATEGORY_ID);
+        }
+
+        if ((lastSpendAt == null) != (lastSpendingId == null)) {
+            throw new SpendingErrorException(SpendingErrorCode.INVALID_CURSOR);
+        }
+
+        return ResponseEntity.ok(SuccessResponse.from("spendings", spendingCategoryUseCase.getSpendingsByCategory(user.getUserId(), categoryId, lastSpendAt, lastSpendingId, size, type)));
+    }
+
     @Override
     @PatchMapping("/{categoryId}")
     @PreAuthorize("isAuthenticated() and @spendingCategoryManager.hasPermission(principal.userId, #categoryId)")
@@ -33,6 +33,27 @@ public class SpendingSearchRes {
         }
     }
 
+    @Builder
+    @Schema(title = "월별 지출 내역 커서 조회 슬라이스 응답")
+    public record MonthCursorSlice(
+            @Schema(description = "년/월별 지출 내역")
+            List<Month> content,
+            @Schema(description = "페이지 크기")
+            int pageSize,
+            @Schema(description = "전체 요소 개수")
+            int numberOfElements,
+            @Schema(description = "다음 페이지 존재 여부")
+            boolean hasNext,
+            @Schema(description = "다음 페이지 조회 시 lastSpendAt으로 전달할 값. 다음 페이지가 없으면 null", example = "2024-05-01T12:30:00.123456")
+            LocalDateTime nextSpendAt,
+            @Schema(description = "다음 페이지 조회 시 lastSpendingId로 전달할 값. 다음 페이지가 없으면 null")
+            Long nextSpendingId
+    ) {
+        public static MonthCursorSlice from(List<Month> months, int pageSize, int numberOfElements, boolean hasNext, LocalDateTime nextSpendAt, Long nextSpendingId) {
+            return new MonthCursorSlice(months, pageSize, numberOfElements, hasNext, nextSpendAt, nextSpendingId);
+        }
+    }
+
     @Builder
     @Schema(title = "월별 지출 내역 조회 응답")
     public record Month(
@@ -3,9 +3,11 @@ package kr.co.pennyway.api.apis.ledger.mapper;
 import kr.co.pennyway.api.apis.ledger.dto.SpendingSearchRes;
 import kr.co.pennyway.common.annotation.Mapper;
 import kr.co.pennyway.domain.domains.spending.domain.Spending;
+import kr.co.pennyway.domain.domains.spending.dto.SpendingDetail;
 import org.springframework.data.domain.Slice;
 
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.ConcurrentMap;
@@ -13,31 +15,53 @@ import java.util.stream.Collectors;
 
 @Mapper
 public class SpendingMapper {
+    private static final int DAYS_OF_MONTH = 31;
+
     /**
      * Slice 객체를 받아 년/월/일 별로 지출 내역을 그룹화 및 정렬화 후 {@link SpendingSearchRes.MonthSlice}로 변환하는 메서드
      */
     public static SpendingSearchRes.MonthSlice toMonthSlice(Slice<Spending> spendings) {
-        List<Spending> spendingList = spendings.getContent();
+        List<SpendingSearchRes.Month> months = toSpendingSearchResMonths(spendings.getContent());
+
+        return SpendingSearchRes.MonthSlice.from(months, spendings.getPageable(), spendings.getNumberOfElements(), spendings.hasNext());
+    }
+
+    /**
+     * 커서 기반으로 조회한 Slice 객체를 {@link SpendingSearchRes.MonthCursorSlice}로 변환하는 메서드 <br/>
+     * 다음 페이지가 존재하면, 조회 순서상 마지막 지출 내역의 지출 일시와 ID를 다음 커서로 반환한다.
+     */
+    public static SpendingSearchRes.MonthCursorSlice toMonthCursorSlice(Slice<Spending> spendings) {
+        List<SpendingSearchRes.Month> months = toSpendingSearchResMonths(spendings.getContent());
+        Spending last = (spendings.hasNext()) ? spendings.getContent().get(spendings.getNumberOfElements() - 1) : null;
 
+        return SpendingSearchRes.MonthCursorSlice.from(
+                months,
+                spendings.getSize(),
+                spendings.getNumberOfElements(),
+                spendings.hasNext(),
+                (last != null) ? last.getSpendAt() : null,
+                (last != null) ? last.getId() : null
+        );
+    }
+
+    private static List<SpendingSearchRes.Month> toSpendingSearchResMonths(List<Spending> spendingList) {
         // 연도와 월별로 그룹화
         ConcurrentMap<YearMonth, List<Spending>> groupSpendingsByYearAndMonth = spendingList.stream()
                 .collect(Collectors.groupingByConcurrent(spending -> YearMonth.of(spending.getSpendAt().getYear(), spending.getSpendAt().getMonthValue())));
 
         // 그룹화된 결과를 Month 객체로 변환하고, 년-월 순으로 역정렬
-        List<SpendingSearchRes.Month> months = groupSpendingsByYearAndMonth.entrySet().stream()
+        return groupSpendingsByYearAndMonth.entrySet().stream()
                 .map(entry -> toSpendingSearchResMonth(entry.getValue(), entry.getKey().getYear(), entry.getKey().getMonthValue()))
                 .sorted(Comparator.comparing(SpendingSearchRes.Month::year)
                         .thenComparing(SpendingSearchRes.Month::month)
                         .reversed())
                 .toList();
-
-        return SpendingSearchRes.MonthSlice.from(months, spendings.getPageable(), spendings.getNumberOfElements(), spendings.hasNext());
     }
 
     /**
      * 년/월 별로 지출 내역을 그룹화 및 정렬화 후 {@link SpendingSearchRes.Month}로 변환하는 메서드
      */
-    public static SpendingSearchRes.Month toSpendingSearchResMonth(List<Spending> spendings, int year, int month) {
+    private static SpendingSearchRes.Month toSpendingSearchResMonth(List<Spending> spendings, int year, int month) {
         ConcurrentMap<Integer, List<Spending>> groupSpendingsByDay = spendings.stream().collect(Collectors.groupingByConcurrent(Spending::getDay));
 
         // 그룹화된 결과를 Daily 객체로 변환하고, 일(day)을 기준으로 역정렬
@@ -53,6 +77,42 @@ public class SpendingMapper {
                 .build();
     }
 
+    /**
+     * 지출 일시 내림차순, 지출 ID 오름차순으로 정렬된 한 달의 지출 내역을 {@link SpendingSearchRes.Month}로 변환하는 메서드 <br/>
+     * 31일 크기의 배열에 일 별 지출 내역과 총 금액을 한 번의 순회로 누적하므로, 별도의 그룹화나 정렬을 수행하지 않는다. <br/>
+     * 일 별 지출 내역은 입력 순서를 유지하며, 일(day)을 기준으로 역정렬하여 반환한다.
+     */
+    @SuppressWarnings("unchecked")
+    public static SpendingSearchRes.Month toSpendingSearchResMonthFromDetails(List<SpendingDetail> spendings, int year, int month) {
+        List<SpendingSearchRes.Individual>[] individualsByDay = new List[DAYS_OF_MONTH + 1];
+        long[] totalAmountByDay = new long[DAYS_OF_MONTH + 1];
+        int dayCount = 0;
+
+        for (SpendingDetail spending : spendings) {
+            int day = spending.getDay();
+
+            if (individualsByDay[day] == null) {
+                individualsByDay[day] = new ArrayList<>();
+                ++dayCount;
+            }
+            individualsByDay[day].add(toSpendingSearchResIndividual(spending));
+            totalAmountByDay[day] += spending.amount();
+        }
+
+        List<SpendingSearchRes.Daily> dailySpendings = new ArrayList<>(dayCount);
+        for (int day = DAYS_OF_MONTH; day > 0; --day) {
+            if (individualsByDay[day] != null) {
+                dailySpendings.add(new SpendingSearchRes.Daily(day, totalAmountByDay[day], individualsByDay[day]));
+            }
+        }
+
+        return SpendingSearchRes.Month.builder()
+                .year(year)
+                .month(month)
+                .dailySpendings(dailySpendings)
+                .build();
+    }
+
     /**
      * 일 별로 지출 내역을 정렬 후 {@link SpendingSearchRes.Daily}로 변환하는 메서드
      */
@@ -81,6 +141,17 @@ public class SpendingMapper {
                 .build();
     }
 
+    public static SpendingSearchRes.Individual toSpendingSearchResIndividual(SpendingDetail spending) {
+        return new SpendingSearchRes.Individual(
+                spending.id(),
+                spending.amount(),
+                spending.category(),
+                spending.spendAt(),
+                spending.accountName(),
+                spending.memo()
+        );
+    }
+
     /**
      * 하루 지출 내역의 총 금액을 계산하는 메서드
      */
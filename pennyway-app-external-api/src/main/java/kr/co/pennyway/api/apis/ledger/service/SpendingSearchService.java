@@ -3,6 +3,7 @@ package kr.co.pennyway.api.apis.ledger.service;
 import kr.co.pennyway.api.common.query.SpendingCategoryType;
 import kr.co.pennyway.domain.context.finance.service.SpendingService;
 import kr.co.pennyway.domain.domains.spending.domain.Spending;
+import kr.co.pennyway.domain.domains.spending.dto.SpendingDetail;
 import kr.co.pennyway.domain.domains.spending.dto.TotalSpendingAmount;
 import kr.co.pennyway.domain.domains.spending.exception.SpendingErrorCode;
 import kr.co.pennyway.domain.domains.spending.exception.SpendingErrorException;
@@ -15,6 +16,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,8 +32,8 @@ public class SpendingSearchService {
     }
 
     @Transactional(readOnly = true)
-    public List<Spending> readSpendingsAtYearAndMonth(Long userId, int year, int month) {
-        return spendingService.readSpendings(userId, year, month);
+    public List<SpendingDetail> readSpendingsAtYearAndMonth(Long userId, int year, int month) {
+        return spendingService.readSpendingDetails(userId, year, month);
     }
 
     /**
@@ -64,6 +66,24 @@ public class SpendingSearchService {
         return spendingService.readSpendingsSliceByCategory(userId, spendingCategory, pageable);
     }
 
+    /**
+     * 카테고리에 등록된 지출 내역 리스트를 커서 기반으로 조회한다.
+     *
+     * @param categoryId     type이 {@link SpendingCategoryType#CUSTOM}이면 커스텀 카테고리 아이디, {@link SpendingCategoryType#DEFAULT}이면 시스템 제공 카테고리 코드로 사용한다.
+     * @param lastSpendAt    이전 페이지의 마지막 지출 일시. lastSpendingId와 함께 null이면 첫 페이지를 조회한다.
+     * @param lastSpendingId 이전 페이지의 마지막 지출 ID
+     * @return 지출 내역 리스트를 {@link Slice}에 담아서 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Spending> readSpendingsByCategoryId(Long userId, Long categoryId, LocalDateTime lastSpendAt, Long lastSpendingId, int size, SpendingCategoryType type) {
+        if (type.equals(SpendingCategoryType.CUSTOM)) {
+            return spendingService.readSpendingsSliceByCategoryId(userId, categoryId, lastSpendAt, lastSpendingId, size);
+        }
+
+        SpendingCategory spendingCategory = SpendingCategory.fromCode(categoryId.toString());
+        return spendingService.readSpendingsSliceByCategory(userId, spendingCategory, lastSpendAt, lastSpendingId, size);
+    }
+
     @Transactional(readOnly = true)
     public Optional<TotalSpendingAmount> readTotalSpendingAmountByUserIdThatMonth(Long userId, LocalDate date) {
         return spendingService.readTotalSpendingAmount(userId, date);
@@ -14,6 +14,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -29,7 +31,9 @@ public class SpendingUpdateService {
                 ? spendingCategoryService.readSpendingCustomCategory(request.categoryId()).orElseThrow(() -> new SpendingErrorException(SpendingErrorCode.NOT_FOUND_CUSTOM_CATEGORY))
                 : null;
 
+        LocalDate previousSpendDate = spending.getSpendAt().toLocalDate();
         spending.update(request.amount(), request.icon(), request.spendAt().atStartOfDay(), request.accountName(), request.memo(), customCategory);
+        spendingService.refreshSpendingSummary(spending.getUser().getId(), previousSpendDate, request.spendAt());
 
         return spending;
     }
@@ -39,17 +43,17 @@ public class SpendingUpdateService {
         if (fromType.equals(SpendingCategoryType.DEFAULT)) {
             SpendingCategory fromCategory = SpendingCategory.fromCode(fromId.toString());
             if (toType.equals(SpendingCategoryType.CUSTOM)) {
-                spendingService.updateCategoryByCustomCategory(fromCategory, toId);
+                spendingService.updateCategoryByCustomCategory(userId, fromCategory, toId);
             } else {
                 SpendingCategory spendingCategory = SpendingCategory.fromCode(toId.toString());
-                spendingService.updateCategoryByCategory(fromCategory, spendingCategory);
+                spendingService.updateCategoryByCategory(userId, fromCategory, spendingCategory);
             }
         } else {
             if (toType.equals(SpendingCategoryType.CUSTOM)) {
-                spendingService.updateCustomCategoryByCustomCategory(fromId, toId);
+                spendingService.updateCustomCategoryByCustomCategory(userId, fromId, toId);
             } else {
                 SpendingCategory spendingCategory = SpendingCategory.fromCode(toId.toString());
-                spendingService.updateCustomCategoryByCategory(fromId, spendingCategory);
+                spendingService.updateCustomCategoryByCategory(userId, fromId, spendingCategory);
             }
         }
     }
@@ -16,6 +16,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -60,6 +61,13 @@ public class SpendingCategoryUseCase {
         return SpendingMapper.toMonthSlice(spendings);
     }
 
+    @Transactional(readOnly = true)
+    public SpendingSearchRes.MonthCursorSlice getSpendingsByCategory(Long userId, Long categoryId, LocalDateTime lastSpendAt, Long lastSpendingId, int size, SpendingCategoryType type) {
+        Slice<Spending> spendings = spendingSearchService.readSpendingsByCategoryId(userId, categoryId, lastSpendAt, lastSpendingId, size, type);
+
+        return SpendingMapper.toMonthCursorSlice(spendings);
+    }
+
     @Transactional
     public SpendingCategoryDto.Res updateSpendingCategory(Long categoryId, String name, SpendingCategory icon) {
         SpendingCustomCategory category = spendingCategorySaveService.update(categoryId, name, icon);
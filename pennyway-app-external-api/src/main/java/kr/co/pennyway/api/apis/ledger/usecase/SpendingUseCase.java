@@ -10,6 +10,7 @@ import kr.co.pennyway.api.apis.ledger.service.SpendingSearchService;
 import kr.co.pennyway.api.apis.ledger.service.SpendingUpdateService;
 import kr.co.pennyway.common.annotation.UseCase;
 import kr.co.pennyway.domain.domains.spending.domain.Spending;
+import kr.co.pennyway.domain.domains.spending.dto.SpendingDetail;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,9 +38,9 @@ public class SpendingUseCase {
 
     @Transactional(readOnly = true)
     public SpendingSearchRes.Month getSpendingsAtYearAndMonth(Long userId, int year, int month) {
-        List<Spending> spendings = spendingSearchService.readSpendingsAtYearAndMonth(userId, year, month);
+        List<SpendingDetail> spendings = spendingSearchService.readSpendingsAtYearAndMonth(userId, year, month);
 
-        return SpendingMapper.toSpendingSearchResMonth(spendings, year, month);
+        return SpendingMapper.toSpendingSearchResMonthFromDetails(spendings, year, month);
     }
 
     @Transactional(readOnly = true)
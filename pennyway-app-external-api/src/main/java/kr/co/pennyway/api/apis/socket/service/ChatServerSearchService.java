@@ -10,10 +10,10 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 public class ChatServerSearchService {
-    private final CoordinatorService defaultCoordinatorService;
+    private final CoordinatorService coordinatorService;
 
     public String getChatServerUrl() {
-        WebSocket.ChatServerUrl response = defaultCoordinatorService.readChatServerUrl(null, null);
+        WebSocket.ChatServerUrl response = coordinatorService.readChatServerUrl(null, null);
 
         return response.url();
     }
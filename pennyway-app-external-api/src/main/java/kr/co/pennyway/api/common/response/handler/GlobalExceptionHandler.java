@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.ConstraintViolationException;
 import kr.co.pennyway.api.common.exception.CustomValidationException;
 import kr.co.pennyway.api.common.response.ErrorResponse;
 import kr.co.pennyway.api.common.swagger.CustomJsonView;
@@ -128,6 +129,21 @@ public class GlobalExceptionHandler {
         return ErrorResponse.of(code, e.getMessage());
     }
 
+    /**
+     * API 호출 시 '@Validated' 컨트롤러의 파라미터 제약 조건을 위반한 경우
+     *
+     * @see ConstraintViolationException
+     */
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(ConstraintViolationException.class)
+    @JsonView(CustomJsonView.Common.class)
+    protected ErrorResponse handleConstraintViolationException(ConstraintViolationException e) {
+        log.warn("handleConstraintViolationException : {}", e.getMessage());
+        String code = String.valueOf(StatusCode.BAD_REQUEST.getCode() * 10 + ReasonCode.INVALID_REQUEST.getCode());
+
+        return ErrorResponse.of(code, e.getMessage());
+    }
+
     /**
      * API 호출 시 외부 서버와 통신 중 예외가 발생한 경우
      *
@@ -5,8 +5,10 @@ import kr.co.pennyway.domain.context.chat.service.ChatMessageService;
 import kr.co.pennyway.domain.context.chat.service.ChatMessageStatusService;
 import kr.co.pennyway.domain.context.chat.service.ChatRoomService;
 import kr.co.pennyway.domain.domains.chatroom.dto.ChatRoomDetail;
+import kr.co.pennyway.domain.domains.chatstatus.dto.LastReadMessage;
 import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
 import kr.co.pennyway.domain.domains.message.domain.ChatMessageBuilder;
+import kr.co.pennyway.domain.domains.message.dto.ChatRoomMessageSummary;
 import kr.co.pennyway.domain.domains.message.type.MessageCategoryType;
 import kr.co.pennyway.domain.domains.message.type.MessageContentType;
 import org.junit.jupiter.api.DisplayName;
@@ -19,11 +21,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -54,16 +57,18 @@ class ChatRoomSearchServiceTest {
         // room1: 마지막으로 읽은 메시지 ID 10, 읽지 않은 메시지 5개
         ChatMessage firstRoomLastMessage = ChatMessageBuilder.builder().chatRoomId(2L).chatId(1L).content("Hello").contentType(MessageContentType.TEXT).categoryType(MessageCategoryType.NORMAL).sender(userId).build();
 
-        given(chatMessageStatusService.readLastReadMessageId(userId, 1L)).willReturn(10L);
-        given(chatMessageService.countUnreadMessages(1L, 10L)).willReturn(5L);
-        given(chatMessageService.readRecentMessages(1L, 1)).willReturn(List.of(firstRoomLastMessage));
-
         // room2: 마지막으로 읽은 메시지 ID 20, 읽지 않은 메시지 3개
         ChatMessage secondRoomLastMessage = ChatMessageBuilder.builder().chatRoomId(2L).chatId(100L).content("jayang님이 입장하셨습니다.").contentType(MessageContentType.TEXT).categoryType(MessageCategoryType.SYSTEM).sender(userId).build();
 
-        given(chatMessageStatusService.readLastReadMessageId(userId, 2L)).willReturn(20L);
-        given(chatMessageService.countUnreadMessages(2L, 20L)).willReturn(3L);
-        given(chatMessageService.readRecentMessages(2L, 1)).willReturn(List.of(secondRoomLastMessage));
+        Map<Long, LastReadMessage> lastReadMessageIds = new LinkedHashMap<>();
+        lastReadMessageIds.put(1L, LastReadMessage.of(10L, 1L));
+        lastReadMessageIds.put(2L, LastReadMessage.of(20L, 2L));
+
+        given(chatMessageStatusService.readLastReadMessageIds(userId, List.of(1L, 2L))).willReturn(lastReadMessageIds);
+        given(chatMessageService.readChatRoomMessageSummaries(lastReadMessageIds)).willReturn(Map.of(
+                1L, new ChatRoomMessageSummary(1L, firstRoomLastMessage, 5L),
+                2L, new ChatRoomMessageSummary(2L, secondRoomLastMessage, 3L)
+        ));
 
         // when
         List<ChatRoomRes.Info> result = chatRoomSearchService.readChatRooms(userId);
@@ -90,13 +95,12 @@ class ChatRoomSearchServiceTest {
 
         // then
         assertTrue(result.isEmpty());
-        verify(chatMessageStatusService, never()).readLastReadMessageId(eq(userId), anyLong());
-        verify(chatMessageService, never()).countUnreadMessages(anyLong(), anyLong());
-        verify(chatMessageService, never()).countUnreadMessages(anyLong(), anyLong());
+        verify(chatMessageStatusService, never()).readLastReadMessageIds(eq(userId), anyList());
+        verify(chatMessageService, never()).readChatRoomMessageSummaries(anyMap());
     }
 
     @Test
-    @DisplayName("읽지 않은 메시지 수 조회 중, 모든 조회가 실패한다.")
+    @DisplayName("마지막으로 읽은 메시지 ID 일괄 조회가 실패하면, 채팅방 목록 조회도 실패한다.")
     void continueProcessingOnError() {
         // given
         Long userId = 1L;
@@ -107,11 +111,7 @@ class ChatRoomSearchServiceTest {
 
         given(chatRoomService.readChatRoomsByUserId(userId)).willReturn(chatRooms);
 
-        // room1: 정상 처리
-        given(chatMessageStatusService.readLastReadMessageId(userId, 1L)).willReturn(10L);
-
-        // room2: 오류 발생
-        given(chatMessageStatusService.readLastReadMessageId(userId, 2L))
+        given(chatMessageStatusService.readLastReadMessageIds(userId, List.of(1L, 2L)))
                 .willThrow(new RuntimeException("Failed to get last read message id"));
 
         // when - then
@@ -130,16 +130,15 @@ class ChatRoomSearchServiceTest {
         InOrder inOrder = inOrder(chatRoomService, chatMessageStatusService, chatMessageService, chatMessageService);
 
         given(chatRoomService.readChatRoomsByUserId(userId)).willReturn(chatRooms);
-        given(chatMessageStatusService.readLastReadMessageId(userId, 1L)).willReturn(10L);
-        given(chatMessageService.readRecentMessages(1L, 1)).willReturn(Collections.emptyList());
-        given(chatMessageService.countUnreadMessages(userId, 10L)).willReturn(5L);
+        given(chatMessageStatusService.readLastReadMessageIds(userId, List.of(1L))).willReturn(Map.of(1L, LastReadMessage.of(10L, 1L)));
+        given(chatMessageService.readChatRoomMessageSummaries(Map.of(1L, LastReadMessage.of(10L, 1L)))).willReturn(Map.of(1L, new ChatRoomMessageSummary(1L, null, 5L)));
 
         // when
         chatRoomSearchService.readChatRooms(userId);
 
         // then
         inOrder.verify(chatRoomService).readChatRoomsByUserId(userId);
-        inOrder.verify(chatMessageStatusService).readLastReadMessageId(userId, 1L);
-        inOrder.verify(chatMessageService).countUnreadMessages(userId, 10L);
+        inOrder.verify(chatMessageStatusService).readLastReadMessageIds(userId, List.of(1L));
+        inOrder.verify(chatMessageService).readChatRoomMessageSummaries(Map.of(1L, LastReadMessage.of(10L, 1L)));
     }
 }
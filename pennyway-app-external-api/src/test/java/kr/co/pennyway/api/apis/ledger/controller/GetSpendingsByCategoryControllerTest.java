@@ -17,10 +17,13 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -74,6 +77,53 @@ public class GetSpendingsByCategoryControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("커서 없이 조회하면 첫 페이지를, 커서와 함께 조회하면 커서 이후의 페이지를 조회한다.")
+    @WithSecurityMockUser
+    void getSpendingsByCategoryWithCursor() throws Exception {
+        given(spendingCategoryUseCase.getSpendingsByCategory(any(), any(), any(), any(), anyInt(), any())).willReturn(new SpendingSearchRes.MonthCursorSlice(new ArrayList<>(), 30, 0, false, null, null));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/spending-categories/{categoryId}/spendings/cursor", 1L)
+                        .param("type", SpendingCategoryType.DEFAULT.name()))
+                .andDo(print())
+                .andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/spending-categories/{categoryId}/spendings/cursor", 1L)
+                        .param("type", SpendingCategoryType.DEFAULT.name())
+                        .param("lastSpendAt", "2024-05-01T12:30:00.123456")
+                        .param("lastSpendingId", "100"))
+                .andExpect(status().isOk());
+
+        verify(spendingCategoryUseCase).getSpendingsByCategory(any(), eq(1L), eq(LocalDateTime.of(2024, 5, 1, 12, 30, 0, 123456000)), eq(100L), eq(30), eq(SpendingCategoryType.DEFAULT));
+    }
+
+    @Test
+    @DisplayName("lastSpendAt과 lastSpendingId 중 하나만 전달하면 400 에러가 발생한다.")
+    @WithSecurityMockUser
+    void getSpendingsByCategoryWithCursor_PartialCursor() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/spending-categories/{categoryId}/spendings/cursor", 1L)
+                        .param("type", SpendingCategoryType.DEFAULT.name())
+                        .param("lastSpendingId", "100"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        verify(spendingCategoryUseCase, never()).getSpendingsByCategory(any(), any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("size가 1 미만이거나 100을 초과하면 400 에러가 발생한다.")
+    @WithSecurityMockUser
+    void getSpendingsByCategoryWithCursor_InvalidSize() throws Exception {
+        for (String size : new String[]{"0", "-1", "101"}) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/v2/spending-categories/{categoryId}/spendings/cursor", 1L)
+                            .param("type", SpendingCategoryType.DEFAULT.name())
+                            .param("size", size))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+
+        verify(spendingCategoryUseCase, never()).getSpendingsByCategory(any(), any(), any(), any(), anyInt(), any());
+    }
+
     private ResultActions performGetSpendingsByCategory(Long categoryId, String type) throws Exception {
         return mockMvc.perform(MockMvcRequestBuilders.get("/v2/spending-categories/{categoryId}/spendings", categoryId)
                 .param("type", type));
@@ -0,0 +1,101 @@
+package kr.co.pennyway.api.apis.ledger.mapper;
+
+import kr.co.pennyway.api.apis.ledger.dto.SpendingSearchRes;
+import kr.co.pennyway.domain.domains.spending.dto.SpendingDetail;
+import kr.co.pennyway.domain.domains.spending.type.SpendingCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpendingMapperTest {
+    private static final YearMonth TARGET_MONTH = YearMonth.of(2024, 5);
+    private static final int ROW_COUNT = 1_000;
+
+    private List<SpendingDetail> spendings;
+
+    @BeforeEach
+    void setUp() {
+        spendings = new ArrayList<>(ROW_COUNT);
+
+        // 지출 일시 내림차순, 지출 ID 오름차순으로 정렬된 조회 결과를 가정한다.
+        long id = 1L;
+        for (int i = 0; i < ROW_COUNT; i++) {
+            int day = TARGET_MONTH.lengthOfMonth() - (i * TARGET_MONTH.lengthOfMonth() / ROW_COUNT);
+            LocalDateTime spendAt = TARGET_MONTH.atDay(day).atTime(12, 0);
+
+            if (day % 2 == 0) {
+                spendings.add(new SpendingDetail(id++, 1000 + i, SpendingCategory.FOOD, spendAt, null, null, null, null, null));
+            } else {
+                spendings.add(new SpendingDetail(id++, 1000 + i, SpendingCategory.CUSTOM, spendAt, "계좌", "메모", 10L, "커스텀", SpendingCategory.EDUCATION));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("한 달의 지출 내역을 일 별로 묶고, 일(day) 역순으로 일 별 총 금액과 함께 반환한다")
+    void toSpendingSearchResMonthFromDetails() {
+        // when
+        SpendingSearchRes.Month month = SpendingMapper.toSpendingSearchResMonthFromDetails(spendings, TARGET_MONTH.getYear(), TARGET_MONTH.getMonthValue());
+
+        // then
+        List<SpendingSearchRes.Daily> dailySpendings = month.dailySpendings();
+
+        assertAll(
+                () -> assertEquals(TARGET_MONTH.lengthOfMonth(), dailySpendings.size()),
+                () -> assertTrue(IntStream.range(0, dailySpendings.size() - 1).allMatch(i -> dailySpendings.get(i).day() > dailySpendings.get(i + 1).day())),
+                () -> assertEquals(ROW_COUNT, dailySpendings.stream().mapToInt(daily -> daily.individuals().size()).sum()),
+                () -> assertEquals(spendings.stream().mapToLong(SpendingDetail::amount).sum(), dailySpendings.stream().mapToLong(SpendingSearchRes.Daily::dailyTotalAmount).sum())
+        );
+
+        for (SpendingSearchRes.Daily daily : dailySpendings) {
+            long expectedTotal = daily.individuals().stream().mapToLong(SpendingSearchRes.Individual::amount).sum();
+
+            assertEquals(expectedTotal, daily.dailyTotalAmount(), daily.day() + "일의 총 금액이 일치해야 합니다.");
+            assertTrue(daily.individuals().stream().allMatch(individual -> individual.spendAt().getDayOfMonth() == daily.day()));
+        }
+    }
+
+    @Test
+    @DisplayName("일 별 지출 내역은 조회 결과의 순서를 유지하며, 사용자 정의 카테고리는 카테고리 정보로 변환한다")
+    void keepQueryOrderAndConvertCategory() {
+        // when
+        SpendingSearchRes.Month month = SpendingMapper.toSpendingSearchResMonthFromDetails(spendings, TARGET_MONTH.getYear(), TARGET_MONTH.getMonthValue());
+
+        // then
+        List<Long> expected = spendings.stream().map(SpendingDetail::id).toList();
+        List<Long> actual = month.dailySpendings().stream()
+                .flatMap(daily -> daily.individuals().stream())
+                .map(SpendingSearchRes.Individual::id)
+                .toList();
+        SpendingSearchRes.Individual custom = month.dailySpendings().get(0).individuals().get(0);
+
+        assertAll(
+                () -> assertEquals(expected, actual),
+                () -> assertTrue(custom.category().isCustom()),
+                () -> assertEquals(10L, custom.category().id()),
+                () -> assertEquals("커스텀", custom.category().name())
+        );
+    }
+
+    @Test
+    @DisplayName("지출 내역이 없으면 빈 일 별 지출 내역을 반환한다")
+    void emptySpendings() {
+        // when
+        SpendingSearchRes.Month month = SpendingMapper.toSpendingSearchResMonthFromDetails(List.of(), TARGET_MONTH.getYear(), TARGET_MONTH.getMonthValue());
+
+        // then
+        assertAll(
+                () -> assertEquals(TARGET_MONTH.getYear(), month.year()),
+                () -> assertEquals(TARGET_MONTH.getMonthValue(), month.month()),
+                () -> assertTrue(month.dailySpendings().isEmpty())
+        );
+    }
+}
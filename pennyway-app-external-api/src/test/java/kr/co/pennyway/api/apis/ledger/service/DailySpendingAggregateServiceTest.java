@@ -3,10 +3,10 @@ package kr.co.pennyway.api.apis.ledger.service;
 import kr.co.pennyway.api.config.ExternalApiDBTestConfig;
 import kr.co.pennyway.api.config.ExternalApiIntegrationTest;
 import kr.co.pennyway.api.config.fixture.UserFixture;
+import kr.co.pennyway.domain.context.finance.service.SpendingService;
 import kr.co.pennyway.domain.domains.spending.domain.Spending;
 import kr.co.pennyway.domain.domains.spending.domain.SpendingCustomCategory;
 import kr.co.pennyway.domain.domains.spending.repository.SpendingCustomCategoryRepository;
-import kr.co.pennyway.domain.domains.spending.repository.SpendingRepository;
 import kr.co.pennyway.domain.domains.spending.type.SpendingCategory;
 import kr.co.pennyway.domain.domains.user.domain.User;
 import kr.co.pennyway.domain.domains.user.repository.UserRepository;
@@ -25,7 +25,7 @@ public class DailySpendingAggregateServiceTest extends ExternalApiDBTestConfig {
     private UserRepository userRepository;
 
     @Autowired
-    private SpendingRepository spendingRepository;
+    private SpendingService spendingService;
 
     @Autowired
     private SpendingCustomCategoryRepository spendingCustomCategoryRepository;
@@ -53,14 +53,14 @@ public class DailySpendingAggregateServiceTest extends ExternalApiDBTestConfig {
 
         var today = LocalDateTime.now();
 
-        var defaultFoodSpending1 = spendingRepository.save(createSpending("시스템 카테고리 지출1", today, SpendingCategory.FOOD, 10000, null, user));
-        var defaultFoodSpending2 = spendingRepository.save(createSpending("시스템 카테고리 지출2", today, SpendingCategory.FOOD, 20000, null, user));
-        var defaultEducationSpending1 = spendingRepository.save(createSpending("시스템 카테고리 지출3", today, SpendingCategory.EDUCATION, 30000, null, user));
-        var defaultEducationSpending2 = spendingRepository.save(createSpending("시스템 카테고리 지출4", today, SpendingCategory.EDUCATION, 40000, null, user));
-        var systemEducationSpending1 = spendingRepository.save(createSpending("커스텀 카테고리 지출1", today, SpendingCategory.CUSTOM, 50000, spendingCustomCategory1, user));
-        var systemEducationSpending2 = spendingRepository.save(createSpending("커스텀 카테고리 지출2", today, SpendingCategory.CUSTOM, 60000, spendingCustomCategory1, user));
-        var systemFoodSpending1 = spendingRepository.save(createSpending("커스텀 카테고리 지출3", today, SpendingCategory.CUSTOM, 70000, spendingCustomCategory2, user));
-        var systemFoodSpending2 = spendingRepository.save(createSpending("커스텀 카테고리 지출4", today, SpendingCategory.CUSTOM, 80000, spendingCustomCategory2, user));
+        var defaultFoodSpending1 = spendingService.createSpending(createSpending("시스템 카테고리 지출1", today, SpendingCategory.FOOD, 10000, null, user));
+        var defaultFoodSpending2 = spendingService.createSpending(createSpending("시스템 카테고리 지출2", today, SpendingCategory.FOOD, 20000, null, user));
+        var defaultEducationSpending1 = spendingService.createSpending(createSpending("시스템 카테고리 지출3", today, SpendingCategory.EDUCATION, 30000, null, user));
+        var defaultEducationSpending2 = spendingService.createSpending(createSpending("시스템 카테고리 지출4", today, SpendingCategory.EDUCATION, 40000, null, user));
+        var systemEducationSpending1 = spendingService.createSpending(createSpending("커스텀 카테고리 지출1", today, SpendingCategory.CUSTOM, 50000, spendingCustomCategory1, user));
+        var systemEducationSpending2 = spendingService.createSpending(createSpending("커스텀 카테고리 지출2", today, SpendingCategory.CUSTOM, 60000, spendingCustomCategory1, user));
+        var systemFoodSpending1 = spendingService.createSpending(createSpending("커스텀 카테고리 지출3", today, SpendingCategory.CUSTOM, 70000, spendingCustomCategory2, user));
+        var systemFoodSpending2 = spendingService.createSpending(createSpending("커스텀 카테고리 지출4", today, SpendingCategory.CUSTOM, 80000, spendingCustomCategory2, user));
 
         // when
         var result = dailySpendingAggregateService.execute(user.getId(), today.getYear(), today.getMonthValue(), today.getDayOfMonth());
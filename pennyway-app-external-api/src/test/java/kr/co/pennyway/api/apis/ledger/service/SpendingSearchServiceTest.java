@@ -10,8 +10,8 @@ import kr.co.pennyway.api.config.fixture.UserFixture;
 import kr.co.pennyway.domain.context.account.service.UserService;
 import kr.co.pennyway.domain.context.finance.service.SpendingCategoryService;
 import kr.co.pennyway.domain.context.finance.service.SpendingService;
-import kr.co.pennyway.domain.domains.spending.domain.Spending;
 import kr.co.pennyway.domain.domains.spending.domain.SpendingCustomCategory;
+import kr.co.pennyway.domain.domains.spending.dto.SpendingDetail;
 import kr.co.pennyway.domain.domains.user.domain.User;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -60,7 +60,7 @@ class SpendingSearchServiceTest extends ExternalApiDBTestConfig {
 
     @Test
     @Transactional
-    @DisplayName("커스텀 카테고리 지출 내역을 기간별 조회시 카테고리를 바로 fetch 한다.")
+    @DisplayName("커스텀 카테고리 지출 내역을 기간별 조회시 카테고리 정보를 함께 조회한다.")
     void testReadSpendingsLazyLoading() {
         // given
         User user = userService.createUser(UserFixture.GENERAL_USER.toUser());
@@ -69,24 +69,24 @@ class SpendingSearchServiceTest extends ExternalApiDBTestConfig {
         SpendingFixture.bulkInsertSpending(user, 100, spendingCustomCategory.getId(), jdbcTemplate);
 
         // when
-        List<Spending> spendings = spendingService.readSpendings(user.getId(), LocalDate.now().getYear(), LocalDate.now().getMonthValue());
+        List<SpendingDetail> spendings = spendingService.readSpendingDetails(user.getId(), LocalDate.now().getYear(), LocalDate.now().getMonthValue());
 
         int size = spendings.size();
-        for (Spending spending : spendings) {
+        for (SpendingDetail spending : spendings) {
             log.info("지출내역 id : {} 커스텀 카테고리 id : {} 커스텀 카테고리 name : {}",
-                    spending.getId(),
-                    spending.getSpendingCustomCategory().getId(),
-                    spending.getSpendingCustomCategory().getName()
+                    spending.id(),
+                    spending.category().id(),
+                    spending.category().name()
             );
         }
 
         // then
         log.info("쿼리문 실행 횟수: {}", statistics.getPrepareStatementCount());
-        log.info("readSpendings로 조회해온 지출 내역 개수: {}", size);
+        log.info("readSpendingDetails로 조회해온 지출 내역 개수: {}", size);
         Assertions.assertEquals(3, statistics.getPrepareStatementCount());
 
         boolean isSortedDescending = IntStream.range(0, spendings.size() - 1)
-                .allMatch(i -> !spendings.get(i).getSpendAt().isBefore(spendings.get(i + 1).getSpendAt()));
+                .allMatch(i -> !spendings.get(i).spendAt().isBefore(spendings.get(i + 1).spendAt()));
         Assertions.assertTrue(isSortedDescending);
     }
 }
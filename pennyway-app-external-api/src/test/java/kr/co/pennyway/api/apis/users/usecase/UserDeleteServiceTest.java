@@ -135,7 +135,7 @@ public class UserDeleteServiceTest extends ExternalApiDBTestConfig {
         // when - then
         assertDoesNotThrow(() -> userDeleteService.execute(user.getId()));
         assertTrue("사용자가 삭제되어 있어야 한다.", userService.readUser(user.getId()).isEmpty());
-        assertTrue("지출 정보가 삭제되어 있어야 한다.", spendingService.readSpendings(user.getId(), spending1.getSpendAt().getYear(), spending1.getSpendAt().getMonthValue()).isEmpty());
+        assertTrue("지출 정보가 삭제되어 있어야 한다.", spendingService.readSpendingDetails(user.getId(), spending1.getSpendAt().getYear(), spending1.getSpendAt().getMonthValue()).isEmpty());
         assertTrue("지출 카테고리가 삭제되어 있어야 한다.", spendingCategoryService.readSpendingCustomCategory(category.getId()).isEmpty());
     }
 
@@ -0,0 +1,9 @@
+package kr.co.pennyway.batch.common.dto;
+
+/**
+ * 지출 요약 정합성 검사 대상 유저 아이디를 담은 DTO
+ */
+public record SpendingOwner(
+        Long userId
+) {
+}
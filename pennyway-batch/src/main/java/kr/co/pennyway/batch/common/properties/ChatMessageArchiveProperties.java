@@ -0,0 +1,35 @@
+package kr.co.pennyway.batch.common.properties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 채팅 메시지 아카이빙 설정
+ *
+ * <pre>
+ * hotWindowMaxCount : 채팅방 별로 Redis에 유지할 최대 메시지 개수. 0 이하이면 개수 제한을 두지 않는다.
+ * hotWindowMaxAge   : Redis에 유지할 메시지의 최대 보관 기간. 설정하지 않으면 기간 제한을 두지 않는다.
+ * chunkSize         : 한 번에 MySQL로 이관할 메시지 개수
+ * </pre>
+ * 두 조건 중 하나라도 벗어난 메시지는 MySQL의 chat_message 테이블로 이관된 후 Redis에서 제거된다.
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "pennyway.chat.archive")
+public class ChatMessageArchiveProperties {
+    private final int hotWindowMaxCount;
+    private final Duration hotWindowMaxAge;
+    private final int chunkSize;
+
+    @Override
+    public String toString() {
+        return "ChatMessageArchiveProperties{" +
+                "hotWindowMaxCount=" + hotWindowMaxCount +
+                ", hotWindowMaxAge=" + hotWindowMaxAge +
+                ", chunkSize=" + chunkSize +
+                '}';
+    }
+}
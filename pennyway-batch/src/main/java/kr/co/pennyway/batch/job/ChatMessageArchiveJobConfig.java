@@ -0,0 +1,56 @@
+package kr.co.pennyway.batch.job;
+
+import kr.co.pennyway.batch.common.properties.ChatMessageArchiveProperties;
+import kr.co.pennyway.batch.reader.ChatRoomIdReader;
+import kr.co.pennyway.batch.writer.ChatMessageArchiveWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ChatMessageArchiveProperties.class)
+public class ChatMessageArchiveJobConfig {
+    private static final int CHUNK_SIZE = 100;
+    private static final String PREFIX_PATTERN = "chatroom:*:message";
+    private final JobRepository jobRepository;
+    private final ChatMessageArchiveWriter writer;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Bean
+    public Job chatMessageArchiveJob(PlatformTransactionManager transactionManager) {
+        return new JobBuilder("chatMessageArchiveJob", jobRepository)
+                .start(chatMessageArchiveStep(transactionManager))
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public Step chatMessageArchiveStep(PlatformTransactionManager transactionManager) {
+        return new StepBuilder("chatMessageArchiveStep", jobRepository)
+                .<Long, Long>chunk(CHUNK_SIZE, transactionManager)
+                .reader(chatRoomIdReader())
+                .writer(writer)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ChatRoomIdReader chatRoomIdReader() {
+        ScanOptions options = ScanOptions.scanOptions().match(PREFIX_PATTERN).count(CHUNK_SIZE).build();
+        Cursor<String> cursor = redisTemplate.scan(options);
+        return new ChatRoomIdReader(cursor);
+    }
+}
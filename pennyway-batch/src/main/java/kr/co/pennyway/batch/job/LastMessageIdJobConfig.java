@@ -1,10 +1,12 @@
 package kr.co.pennyway.batch.job;
 
 import kr.co.pennyway.batch.common.dto.KeyValue;
+import kr.co.pennyway.batch.listener.LastMessageIdSnapshotListener;
 import kr.co.pennyway.batch.processor.LastMessageIdProcessor;
 import kr.co.pennyway.batch.reader.LastMessageIdReader;
 import kr.co.pennyway.batch.writer.LastMessageIdWriter;
 import kr.co.pennyway.domain.domains.chatstatus.domain.ChatMessageStatus;
+import kr.co.pennyway.domain.domains.chatstatus.service.ChatMessageStatusRedisService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -17,17 +19,17 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 @RequiredArgsConstructor
 public class LastMessageIdJobConfig {
     private static final int CHUNK_SIZE = 1000;
-    private static final String PREFIX_PATTERN = "chat:last_read:*";
     private final JobRepository jobRepository;
     private final LastMessageIdProcessor processor;
     private final LastMessageIdWriter writer;
+    private final LastMessageIdSnapshotListener snapshotListener;
+    private final ChatMessageStatusRedisService chatMessageStatusRedisService;
     private final RedisTemplate<String, String> redisTemplate;
 
     @Bean
@@ -50,14 +52,14 @@ public class LastMessageIdJobConfig {
                 .reader(lastMessageIdReader())
                 .processor(processor)
                 .writer(writer)
+                .listener(snapshotListener)
                 .build();
     }
 
     @Bean
     @StepScope
     public LastMessageIdReader lastMessageIdReader() {
-        ScanOptions options = ScanOptions.scanOptions().match(PREFIX_PATTERN).count(CHUNK_SIZE).build();
-        Cursor<String> cursor = redisTemplate.scan(options);
-        return new LastMessageIdReader(redisTemplate, cursor);
+        Cursor<String> cursor = chatMessageStatusRedisService.scanDirtyKeySnapshot(CHUNK_SIZE);
+        return new LastMessageIdReader(redisTemplate, cursor, CHUNK_SIZE);
     }
 }
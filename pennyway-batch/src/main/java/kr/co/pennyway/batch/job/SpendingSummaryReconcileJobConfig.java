@@ -0,0 +1,41 @@
+package kr.co.pennyway.batch.job;
+
+import kr.co.pennyway.batch.common.dto.SpendingOwner;
+import kr.co.pennyway.batch.reader.SpendingOwnerReader;
+import kr.co.pennyway.batch.writer.SpendingSummaryReconcileWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@RequiredArgsConstructor
+public class SpendingSummaryReconcileJobConfig {
+    private static final int CHUNK_SIZE = 100;
+    private final JobRepository jobRepository;
+    private final SpendingOwnerReader reader;
+    private final SpendingSummaryReconcileWriter writer;
+
+    @Bean
+    public Job spendingSummaryReconcileJob(PlatformTransactionManager transactionManager) {
+        return new JobBuilder("spendingSummaryReconcileJob", jobRepository)
+                .start(spendingSummaryReconcileStep(transactionManager))
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public Step spendingSummaryReconcileStep(PlatformTransactionManager transactionManager) {
+        return new StepBuilder("spendingSummaryReconcileStep", jobRepository)
+                .<SpendingOwner, SpendingOwner>chunk(CHUNK_SIZE, transactionManager)
+                .reader(reader.spendingOwnerItemReader())
+                .writer(writer)
+                .build();
+    }
+}
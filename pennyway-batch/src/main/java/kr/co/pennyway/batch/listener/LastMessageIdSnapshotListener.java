@@ -0,0 +1,37 @@
+package kr.co.pennyway.batch.listener;
+
+import kr.co.pennyway.domain.domains.chatstatus.service.ChatMessageStatusRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Step 시작 시 변경된 캐시 키를 스냅샷으로 옮기고, Step이 정상 완료된 경우에만 스냅샷을 삭제한다.
+ * Step이 실패하면 스냅샷이 남아있으므로, 다음 실행에서 새로운 변경 사항과 함께 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastMessageIdSnapshotListener implements StepExecutionListener {
+    private final ChatMessageStatusRedisService chatMessageStatusRedisService;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        long size = chatMessageStatusRedisService.snapshotDirtyKeys();
+        log.info("Last read message snapshot created. size: {}", size);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (ExitStatus.COMPLETED.equals(stepExecution.getExitStatus())) {
+            chatMessageStatusRedisService.deleteDirtyKeySnapshot();
+        } else {
+            log.warn("Last read message snapshot retained for next run. exitStatus: {}", stepExecution.getExitStatus());
+        }
+
+        return stepExecution.getExitStatus();
+    }
+}
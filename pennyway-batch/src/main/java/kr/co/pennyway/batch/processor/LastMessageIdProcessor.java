@@ -2,6 +2,7 @@ package kr.co.pennyway.batch.processor;
 
 import kr.co.pennyway.batch.common.dto.KeyValue;
 import kr.co.pennyway.domain.domains.chatstatus.domain.ChatMessageStatus;
+import kr.co.pennyway.domain.domains.chatstatus.dto.LastReadMessage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
@@ -24,10 +25,10 @@ public class LastMessageIdProcessor implements ItemProcessor<KeyValue, ChatMessa
         try {
             Long roomId = Long.parseLong(parts[2]);
             Long userId = Long.parseLong(parts[3]);
-            Long messageId = Long.parseLong(item.value());
-            log.debug("Parsed roomId: {}, userId: {}, messageId: {}", roomId, userId, messageId);
+            LastReadMessage lastReadMessage = LastReadMessage.fromCacheValue(item.value());
+            log.debug("Parsed roomId: {}, userId: {}, lastReadMessage: {}", roomId, userId, lastReadMessage);
 
-            return new ChatMessageStatus(userId, roomId, messageId);
+            return new ChatMessageStatus(userId, roomId, lastReadMessage.messageId(), lastReadMessage.seq());
         } catch (NoSuchFieldError | NumberFormatException e) {
             log.error("Failed to parse key: {}", item.key(), e);
             return null;
@@ -0,0 +1,41 @@
+package kr.co.pennyway.batch.reader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.NonTransientResourceException;
+import org.springframework.batch.item.ParseException;
+import org.springframework.batch.item.UnexpectedInputException;
+import org.springframework.data.redis.core.Cursor;
+
+/**
+ * chatroom:{chatRoomId}:message 형식의 Redis key를 순회하며 채팅방 ID를 읽어옵니다.
+ * 형식이 올바르지 않은 key는 건너뜁니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ChatRoomIdReader implements ItemReader<Long> {
+    private final Cursor<String> cursor;
+
+    @Override
+    public Long read() throws Exception, UnexpectedInputException, ParseException, NonTransientResourceException {
+        while (cursor.hasNext()) {
+            String key = cursor.next();
+            String[] parts = key.split(":");
+
+            if (parts.length != 3) {
+                log.warn("Invalid key format: {}", key);
+                continue;
+            }
+
+            try {
+                return Long.parseLong(parts[1]);
+            } catch (NumberFormatException e) {
+                log.warn("Failed to parse key: {}", key, e);
+            }
+        }
+
+        log.debug("No more keys to read cursor: {}", cursor);
+        return null;
+    }
+}
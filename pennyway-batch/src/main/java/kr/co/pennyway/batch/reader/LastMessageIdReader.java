@@ -1,7 +1,6 @@
 package kr.co.pennyway.batch.reader;
 
 import kr.co.pennyway.batch.common.dto.KeyValue;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.NonTransientResourceException;
@@ -10,28 +9,61 @@ import org.springframework.batch.item.UnexpectedInputException;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 변경된 캐시 키를 fetchSize 단위로 모아 한 번의 MGET으로 조회한다.
+ * TTL이 만료되어 값이 없는 키는 건너뛴다.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public class LastMessageIdReader implements ItemReader<KeyValue> {
     private final RedisTemplate<String, String> redisTemplate;
     private final Cursor<String> cursor;
+    private final int fetchSize;
+    private final Deque<KeyValue> buffer;
+
+    public LastMessageIdReader(RedisTemplate<String, String> redisTemplate, Cursor<String> cursor, int fetchSize) {
+        this.redisTemplate = redisTemplate;
+        this.cursor = cursor;
+        this.fetchSize = fetchSize;
+        this.buffer = new ArrayDeque<>(fetchSize);
+    }
 
     @Override
     public KeyValue read() throws Exception, UnexpectedInputException, ParseException, NonTransientResourceException {
-        if (!cursor.hasNext()) {
+        while (buffer.isEmpty() && cursor.hasNext()) {
+            fetch();
+        }
+
+        if (buffer.isEmpty()) {
             log.debug("No more keys to read cursor: {}", cursor);
             return null;
         }
 
-        String key = cursor.next();
-        String value = redisTemplate.opsForValue().get(key);
-        log.debug("Read key: {}, value: {}", key, value);
+        return buffer.poll();
+    }
 
-        if (value == null) {
-            log.warn("Value not found for key: {}", key);
-            return null;
+    private void fetch() {
+        List<String> keys = new ArrayList<>(fetchSize);
+        while (cursor.hasNext() && keys.size() < fetchSize) {
+            keys.add(cursor.next());
         }
 
-        return new KeyValue(key, value);
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        log.debug("Read keys: {}, values: {}", keys, values);
+
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values == null ? null : values.get(i);
+
+            if (value == null) {
+                log.warn("Value not found for key: {}", keys.get(i));
+                continue;
+            }
+
+            buffer.add(new KeyValue(keys.get(i), value));
+        }
     }
 }
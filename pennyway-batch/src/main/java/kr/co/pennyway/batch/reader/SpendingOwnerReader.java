@@ -0,0 +1,43 @@
+package kr.co.pennyway.batch.reader;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import jakarta.persistence.EntityManagerFactory;
+import kr.co.pennyway.batch.common.dto.SpendingOwner;
+import kr.co.pennyway.batch.common.reader.QuerydslNoOffsetPagingItemReader;
+import kr.co.pennyway.batch.common.reader.QuerydslNoOffsetPagingItemReaderBuilder;
+import kr.co.pennyway.batch.common.reader.expression.Expression;
+import kr.co.pennyway.batch.common.reader.options.QuerydslNoOffsetNumberOptions;
+import kr.co.pennyway.batch.common.reader.options.QuerydslNoOffsetOptions;
+import kr.co.pennyway.domain.domains.user.domain.QUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.context.annotation.Bean;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SpendingOwnerReader {
+    private static final int PAGE_SIZE = 100;
+
+    private final EntityManagerFactory emf;
+
+    private final QUser user = QUser.user;
+
+    @Bean
+    @StepScope
+    public QuerydslNoOffsetPagingItemReader<SpendingOwner> spendingOwnerItemReader() {
+        QuerydslNoOffsetOptions<SpendingOwner> options = QuerydslNoOffsetNumberOptions.of(user.id, Expression.ASC, "userId");
+
+        return QuerydslNoOffsetPagingItemReaderBuilder.<SpendingOwner>builder()
+                .entityManagerFactory(emf)
+                .pageSize(PAGE_SIZE)
+                .options(options)
+                .queryFunction(queryFactory -> queryFactory.select(createConstructorExpression()).from(user))
+                .build();
+    }
+
+    private ConstructorExpression<SpendingOwner> createConstructorExpression() {
+        return Projections.constructor(SpendingOwner.class, user.id);
+    }
+}
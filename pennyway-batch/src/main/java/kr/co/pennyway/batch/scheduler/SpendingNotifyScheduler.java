@@ -23,6 +23,8 @@ public class SpendingNotifyScheduler {
     private final Job dailyNotificationJob;
     private final Job monthlyNotificationJob;
     private final Job lastMessageIdJob;
+    private final Job chatMessageArchiveJob;
+    private final Job spendingSummaryReconcileJob;
 
     @Scheduled(cron = "0 0 20 * * ?")
     public void runDailyNotificationJob() {
@@ -65,4 +67,32 @@ public class SpendingNotifyScheduler {
             log.error("Failed to run lastMessageIdJob", e);
         }
     }
+
+    @Scheduled(cron = "0 30 * * * ?")
+    public void runChatMessageArchiveJob() {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        try {
+            jobLauncher.run(chatMessageArchiveJob, jobParameters);
+        } catch (JobExecutionAlreadyRunningException | JobRestartException
+                 | JobInstanceAlreadyCompleteException | JobParametersInvalidException e) {
+            log.error("Failed to run chatMessageArchiveJob", e);
+        }
+    }
+
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void runSpendingSummaryReconcileJob() {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        try {
+            jobLauncher.run(spendingSummaryReconcileJob, jobParameters);
+        } catch (JobExecutionAlreadyRunningException | JobRestartException
+                 | JobInstanceAlreadyCompleteException | JobParametersInvalidException e) {
+            log.error("Failed to run spendingSummaryReconcileJob", e);
+        }
+    }
 }
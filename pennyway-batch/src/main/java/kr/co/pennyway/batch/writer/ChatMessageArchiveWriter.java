@@ -0,0 +1,106 @@
+package kr.co.pennyway.batch.writer;
+
+import kr.co.pennyway.batch.common.properties.ChatMessageArchiveProperties;
+import kr.co.pennyway.domain.domains.chatarchive.domain.ChatMessageArchive;
+import kr.co.pennyway.domain.domains.chatarchive.service.ChatMessageArchiveRdbService;
+import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
+import kr.co.pennyway.domain.domains.message.service.ChatMessageRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 채팅방 별로 hot window를 벗어난 메시지를 MySQL로 이관한 후, Redis에서 제거합니다.
+ * <p>
+ * MySQL 저장이 커밋된 이후에만 Redis에서 제거하므로, 중간에 실패하더라도 메시지는 유실되지 않습니다.
+ * 실패 후 재실행 시 이미 이관된 메시지를 다시 저장하게 되지만, chat_id 기준으로 무시되므로 멱등합니다.
+ * <p>
+ * 삭제 범위에 이관하지 않은 메시지(늦게 저장된 더 작은 TSID의 메시지, 디코딩에 실패한 메시지)가 있으면 삭제하지 않고 해당 채팅방의 이관을 중단합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageArchiveWriter implements ItemWriter<Long> {
+    /**
+     * TSID의 timestamp 기준 시각 (2020-01-01T00:00:00Z)
+     */
+    private static final long TSID_EPOCH = 1577836800000L;
+    /**
+     * TSID에서 timestamp 이후의 node + counter 비트 수
+     */
+    private static final int TSID_RANDOM_BITS = 22;
+
+    private final ChatMessageRedisService chatMessageRedisService;
+    private final ChatMessageArchiveRdbService chatMessageArchiveRdbService;
+    private final ChatMessageArchiveProperties properties;
+
+    @Override
+    public void write(Chunk<? extends Long> chunk) throws Exception {
+        Long cutoffMessageId = getCutoffMessageId();
+
+        for (Long chatRoomId : chunk.getItems()) {
+            int archivedCount = archive(chatRoomId, cutoffMessageId);
+
+            if (archivedCount > 0) {
+                log.info("Chat messages archived. chatRoomId: {}, count: {}", chatRoomId, archivedCount);
+            }
+        }
+    }
+
+    private int archive(Long chatRoomId, Long cutoffMessageId) {
+        int archivedCount = 0;
+
+        while (true) {
+            List<ChatMessage> messages = chatMessageRedisService.readMessagesOutsideHotWindow(chatRoomId, properties.getHotWindowMaxCount(), cutoffMessageId, properties.getChunkSize());
+
+            if (messages.isEmpty()) {
+                return archivedCount;
+            }
+
+            chatMessageArchiveRdbService.saveAll(messages.stream().map(this::toArchive).toList());
+
+            Long lastChatId = messages.get(messages.size() - 1).getChatId();
+            if (!chatMessageRedisService.deleteMessagesUpTo(chatRoomId, lastChatId, messages.size())) {
+                log.warn("Chat messages not archived were found in the deletion range, skipping deletion. chatRoomId: {}, lastChatId: {}", chatRoomId, lastChatId);
+                return archivedCount;
+            }
+            archivedCount += messages.size();
+
+            if (messages.size() < properties.getChunkSize()) {
+                return archivedCount;
+            }
+        }
+    }
+
+    /**
+     * hotWindowMaxAge 이전 시각에 해당하는 TSID를 계산합니다. 이 값보다 작은 TSID를 가진 메시지는 hot window를 벗어납니다.
+     *
+     * @return hotWindowMaxAge가 설정되지 않은 경우 null
+     */
+    private Long getCutoffMessageId() {
+        if (properties.getHotWindowMaxAge() == null) {
+            return null;
+        }
+
+        long cutoffMillis = System.currentTimeMillis() - properties.getHotWindowMaxAge().toMillis();
+
+        return Math.max(0, cutoffMillis - TSID_EPOCH) << TSID_RANDOM_BITS;
+    }
+
+    private ChatMessageArchive toArchive(ChatMessage message) {
+        return ChatMessageArchive.of(
+                message.getChatId(),
+                message.getChatRoomId(),
+                message.getSender(),
+                message.getContent(),
+                message.getContentType().toString(),
+                message.getCategoryType().toString(),
+                message.getCreatedAt(),
+                message.getDeletedAt()
+        );
+    }
+}
@@ -8,7 +8,10 @@ import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.stereotype.Component;
 
+import java.util.Comparator;
 import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -21,24 +24,16 @@ public class LastMessageIdWriter implements ItemWriter<ChatMessageStatus> {
     public void write(Chunk<? extends ChatMessageStatus> chunk) throws Exception {
         log.debug("Writing chunk size: {}", chunk.getItems().size());
 
-        Map<Long, Map<Long, Long>> updates = chunk.getItems().stream()
+        Map<String, ChatMessageStatus> updates = chunk.getItems().stream()
                 .collect(
-                        Collectors.groupingBy(
-                                ChatMessageStatus::getUserId,
-                                Collectors.toMap(
-                                        ChatMessageStatus::getChatRoomId,
-                                        ChatMessageStatus::getLastReadMessageId,
-                                        Long::max
-                                )
+                        Collectors.toMap(
+                                status -> status.getUserId() + ":" + status.getChatRoomId(),
+                                Function.identity(),
+                                BinaryOperator.maxBy(Comparator.comparing(ChatMessageStatus::getLastReadMessageId))
                         )
                 );
         log.debug("Grouped updates: {}", updates);
 
-        updates.forEach((userId, roomUpdates) ->
-                roomUpdates.forEach((roomId, messageId) -> {
-                    log.debug("Saving - userId: {}, roomId: {}, messageId: {}", userId, roomId, messageId);
-                    repository.saveLastReadMessageIdInBulk(userId, roomId, messageId);
-                })
-        );
+        repository.saveLastReadMessageIdsInBulk(updates.values());
     }
 }
@@ -0,0 +1,39 @@
+package kr.co.pennyway.batch.writer;
+
+import kr.co.pennyway.batch.common.dto.SpendingOwner;
+import kr.co.pennyway.domain.domains.spending.service.SpendingRdbService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 유저별로 spending_summary와 지출 내역을 비교하여, 불일치한 일자를 다시 집계한다. <br/>
+ * 요약 행이 없는 기존 지출 내역도 불일치로 판단되므로, 최초 실행은 spending_summary의 백필을 겸한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpendingSummaryReconcileWriter implements ItemWriter<SpendingOwner> {
+    private final SpendingRdbService spendingRdbService;
+
+    @Override
+    public void write(@NonNull Chunk<? extends SpendingOwner> owners) throws Exception {
+        int repairedCount = 0;
+
+        for (SpendingOwner owner : owners) {
+            List<LocalDate> repairedDates = spendingRdbService.reconcileSpendingSummary(owner.userId());
+
+            if (!repairedDates.isEmpty()) {
+                repairedCount++;
+            }
+        }
+
+        log.info("지출 요약 정합성 검사 완료: 대상 유저 {}명, 재집계 유저 {}명", owners.size(), repairedCount);
+    }
+}
@@ -26,6 +26,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 @Slf4j
 @BatchIntegrationTest
 public class LastMessageIdIntegrationTest extends BatchDBTestConfig {
+    private static final String DIRTY_KEYS_KEY = "chat:last_read:dirty";
+
     @Autowired
     private JobLauncherTestUtils jobLauncherTestUtils;
 
@@ -102,8 +104,8 @@ public class LastMessageIdIntegrationTest extends BatchDBTestConfig {
         Long userId = 1L;
         Long roomId = 1L;
 
-        redisTemplate.opsForValue().set(formatCacheKey(userId, roomId), "invalid_value"); // Redis에는 있지만 value가 잘못된 데이터
-        redisTemplate.opsForValue().set(formatCacheKey(2L, 2L), "300");
+        saveCache(userId, roomId, "invalid_value"); // Redis에는 있지만 value가 잘못된 데이터
+        saveCache(2L, 2L, "300");
 
         // when
         JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
@@ -119,6 +121,39 @@ public class LastMessageIdIntegrationTest extends BatchDBTestConfig {
         assertTrue(invalidStatus.isEmpty(), "1번 사용자, 1번 채팅방 (잘못된)lastMessageId 데이터가 존재하지 않아야 합니다.");
     }
 
+    @Test
+    @DisplayName("변경 집합에 기록되지 않은 캐시는 반영하지 않고, 정상 완료 후에는 변경 집합을 비운다")
+    void onlyDirtyKeysTest() throws Exception {
+        // given
+        redisTemplate.opsForValue().set(formatCacheKey(3L, 3L), "400"); // 변경 집합에 기록되지 않은 데이터
+
+        // when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // then
+        assertEquals(ExitStatus.COMPLETED, jobExecution.getExitStatus());
+        assertEquals(3, chatMessageStatusRepository.count());
+        assertTrue(chatMessageStatusRepository.findByUserIdAndChatRoomId(3L, 3L).isEmpty(), "변경되지 않은 데이터는 반영하지 않아야 합니다.");
+        assertEquals(0L, redisTemplate.opsForSet().size(DIRTY_KEYS_KEY));
+        assertEquals(0L, redisTemplate.opsForSet().size(DIRTY_KEYS_KEY + ":snapshot"));
+    }
+
+    @Test
+    @DisplayName("이미 저장된 메시지 ID보다 작은 값은 덮어쓰지 않는다")
+    void keepGreaterMessageIdTest() throws Exception {
+        // given
+        chatMessageStatusRepository.save(new ChatMessageStatus(1L, 1L, 500L, 50L));
+
+        // when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // then
+        assertEquals(ExitStatus.COMPLETED, jobExecution.getExitStatus());
+        ChatMessageStatus status = chatMessageStatusRepository.findByUserIdAndChatRoomId(1L, 1L).orElseThrow();
+        assertEquals(500L, status.getLastReadMessageId());
+        assertEquals(50L, status.getLastReadMessageSeq());
+    }
+
     @Test
     @DisplayName("빈 데이터로 Job 실행 시 정상 완료되어야 한다")
     void emptyDataJobTest() throws Exception {
@@ -144,7 +179,7 @@ public class LastMessageIdIntegrationTest extends BatchDBTestConfig {
         // 대량의 테스트 데이터 생성
         for (int i = 1; i <= userCount; i++) {
             for (int j = 1; j <= roomCount; j++) {
-                redisTemplate.opsForValue().set(formatCacheKey((long) i, (long) j), String.valueOf(i * 1000 + j));
+                saveCache((long) i, (long) j, String.valueOf(i * 1000 + j));
             }
         }
 
@@ -169,9 +204,9 @@ public class LastMessageIdIntegrationTest extends BatchDBTestConfig {
     @DisplayName("Job이 실패하더라도 이전 처리 데이터는 유지되어야 한다")
     void jobFailureTest() throws Exception {
         // given
-        redisTemplate.opsForValue().set(formatCacheKey(1L, 1L), "100");
-        redisTemplate.opsForValue().set(formatCacheKey(1L, 2L), "invalid_value"); // 실패 유발 데이터
-        redisTemplate.opsForValue().set(formatCacheKey(2L, 1L), "300");
+        saveCache(1L, 1L, "100");
+        saveCache(1L, 2L, "invalid_value"); // 실패 유발 데이터
+        saveCache(2L, 1L, "300");
 
         // when
         JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
@@ -199,9 +234,9 @@ public class LastMessageIdIntegrationTest extends BatchDBTestConfig {
                 .toJobParameters();
 
         // Redis 테스트 데이터 설정
-        redisTemplate.opsForValue().set(formatCacheKey(1L, 1L), "100");
-        redisTemplate.opsForValue().set(formatCacheKey(1L, 2L), "200");
-        redisTemplate.opsForValue().set(formatCacheKey(2L, 1L), "300");
+        saveCache(1L, 1L, "100");
+        saveCache(1L, 2L, "200");
+        saveCache(2L, 1L, "300");
     }
 
     private void cleanupTestData() {
@@ -215,6 +250,14 @@ public class LastMessageIdIntegrationTest extends BatchDBTestConfig {
         chatMessageStatusRepository.deleteAll();
     }
 
+    /**
+     * 캐시 값을 저장하고, 서비스의 쓰기 경로와 동일하게 변경 집합에 기록합니다.
+     */
+    private void saveCache(Long userId, Long chatRoomId, String value) {
+        redisTemplate.opsForValue().set(formatCacheKey(userId, chatRoomId), value);
+        redisTemplate.opsForSet().add(DIRTY_KEYS_KEY, formatCacheKey(userId, chatRoomId));
+    }
+
     private String formatCacheKey(Long userId, Long chatRoomId) {
         return "chat:last_read:" + chatRoomId + ":" + userId;
     }
@@ -0,0 +1,158 @@
+package kr.co.pennyway.batch.job;
+
+import kr.co.pennyway.batch.common.properties.ChatMessageArchiveProperties;
+import kr.co.pennyway.batch.reader.ChatRoomIdReader;
+import kr.co.pennyway.batch.writer.ChatMessageArchiveWriter;
+import kr.co.pennyway.domain.domains.chatarchive.domain.ChatMessageArchive;
+import kr.co.pennyway.domain.domains.chatarchive.service.ChatMessageArchiveRdbService;
+import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
+import kr.co.pennyway.domain.domains.message.domain.ChatMessageBuilder;
+import kr.co.pennyway.domain.domains.message.service.ChatMessageRedisService;
+import kr.co.pennyway.domain.domains.message.type.MessageCategoryType;
+import kr.co.pennyway.domain.domains.message.type.MessageContentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+import org.springframework.data.redis.core.Cursor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ChatMessageArchiveJobBatchTest {
+    @Mock
+    private Cursor<String> cursor;
+
+    @Mock
+    private ChatMessageRedisService chatMessageRedisService;
+
+    @Mock
+    private ChatMessageArchiveRdbService chatMessageArchiveRdbService;
+
+    @Test
+    @DisplayName("Reader - 채팅방 메시지 key에서 채팅방 ID를 읽고, 잘못된 형식의 key는 건너뛴다")
+    void readerTest() throws Exception {
+        // given
+        ChatRoomIdReader reader = new ChatRoomIdReader(cursor);
+
+        given(cursor.hasNext()).willReturn(true, true, true, false);
+        given(cursor.next()).willReturn("chatroom:1:message", "chatroom:invalid:message", "chatroom:2:message");
+
+        // when - then
+        assertEquals(1L, reader.read());
+        assertEquals(2L, reader.read());
+        assertNull(reader.read());
+    }
+
+    @Test
+    @DisplayName("Writer - hot window를 벗어난 메시지를 MySQL에 저장한 후, Redis에서 제거한다")
+    void writerTest() throws Exception {
+        // given
+        ChatMessageArchiveWriter writer = new ChatMessageArchiveWriter(chatMessageRedisService, chatMessageArchiveRdbService, new ChatMessageArchiveProperties(100, null, 2));
+        List<ChatMessage> firstChunk = createMessages(1L, 1L, 2L);
+        List<ChatMessage> lastChunk = createMessages(1L, 3L);
+
+        given(chatMessageRedisService.readMessagesOutsideHotWindow(1L, 100, null, 2)).willReturn(firstChunk, lastChunk);
+        given(chatMessageRedisService.deleteMessagesUpTo(anyLong(), anyLong(), anyInt())).willReturn(true);
+
+        // when
+        writer.write(new Chunk<>(List.of(1L)));
+
+        // then
+        InOrder inOrder = inOrder(chatMessageArchiveRdbService, chatMessageRedisService);
+        inOrder.verify(chatMessageArchiveRdbService).saveAll(anyList());
+        inOrder.verify(chatMessageRedisService).deleteMessagesUpTo(1L, 2L, 2);
+        inOrder.verify(chatMessageArchiveRdbService).saveAll(anyList());
+        inOrder.verify(chatMessageRedisService).deleteMessagesUpTo(1L, 3L, 1);
+        verify(chatMessageRedisService, times(2)).readMessagesOutsideHotWindow(1L, 100, null, 2);
+    }
+
+    @Test
+    @DisplayName("Writer - 이관할 메시지가 없으면 MySQL과 Redis에 쓰지 않는다")
+    void writerNothingToArchiveTest() throws Exception {
+        // given
+        ChatMessageArchiveWriter writer = new ChatMessageArchiveWriter(chatMessageRedisService, chatMessageArchiveRdbService, new ChatMessageArchiveProperties(100, null, 500));
+
+        given(chatMessageRedisService.readMessagesOutsideHotWindow(1L, 100, null, 500)).willReturn(List.of());
+
+        // when
+        writer.write(new Chunk<>(List.of(1L)));
+
+        // then
+        verifyNoInteractions(chatMessageArchiveRdbService);
+        verify(chatMessageRedisService, never()).deleteMessagesUpTo(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Writer - 삭제 범위에 이관하지 않은 메시지가 있어 삭제하지 못하면, 해당 채팅방의 이관을 중단한다")
+    void writerStopsWhenDeletionRangeChangedTest() throws Exception {
+        // given
+        ChatMessageArchiveWriter writer = new ChatMessageArchiveWriter(chatMessageRedisService, chatMessageArchiveRdbService, new ChatMessageArchiveProperties(100, null, 2));
+
+        given(chatMessageRedisService.readMessagesOutsideHotWindow(1L, 100, null, 2)).willReturn(createMessages(1L, 1L, 2L));
+        given(chatMessageRedisService.deleteMessagesUpTo(1L, 2L, 2)).willReturn(false);
+
+        // when
+        writer.write(new Chunk<>(List.of(1L)));
+
+        // then
+        verify(chatMessageArchiveRdbService).saveAll(anyList());
+        verify(chatMessageRedisService).readMessagesOutsideHotWindow(1L, 100, null, 2);
+    }
+
+    @Test
+    @DisplayName("Writer - 보관 기간이 설정되면, 기준 시각 이전의 TSID를 cutoff로 전달하고 메시지 필드를 그대로 이관한다")
+    @SuppressWarnings("unchecked")
+    void writerWithMaxAgeTest() throws Exception {
+        // given
+        ChatMessageArchiveWriter writer = new ChatMessageArchiveWriter(chatMessageRedisService, chatMessageArchiveRdbService, new ChatMessageArchiveProperties(0, Duration.ofDays(30), 500));
+        List<ChatMessage> messages = createMessages(1L, 10L);
+
+        given(chatMessageRedisService.readMessagesOutsideHotWindow(eq(1L), eq(0), anyLong(), eq(500))).willReturn(messages);
+
+        // when
+        writer.write(new Chunk<>(List.of(1L)));
+
+        // then
+        ArgumentCaptor<Long> cutoffCaptor = ArgumentCaptor.forClass(Long.class);
+        verify(chatMessageRedisService).readMessagesOutsideHotWindow(eq(1L), eq(0), cutoffCaptor.capture(), eq(500));
+        long cutoffMillis = (cutoffCaptor.getValue() >>> 22) + 1577836800000L;
+        assertTrue(Math.abs(System.currentTimeMillis() - Duration.ofDays(30).toMillis() - cutoffMillis) < Duration.ofMinutes(1).toMillis());
+
+        ArgumentCaptor<List<ChatMessageArchive>> archiveCaptor = ArgumentCaptor.forClass(List.class);
+        verify(chatMessageArchiveRdbService).saveAll(archiveCaptor.capture());
+        ChatMessageArchive archive = archiveCaptor.getValue().get(0);
+        assertAll(
+                () -> assertEquals(10L, archive.getChatId()),
+                () -> assertEquals(1L, archive.getChatRoomId()),
+                () -> assertEquals("Message 10", archive.getContent()),
+                () -> assertEquals("TEXT", archive.getContentType()),
+                () -> assertEquals("NORMAL", archive.getCategoryType()),
+                () -> assertEquals(messages.get(0).getCreatedAt(), archive.getCreatedAt())
+        );
+    }
+
+    private List<ChatMessage> createMessages(Long chatRoomId, Long... chatIds) {
+        return Stream.of(chatIds)
+                .map(chatId -> ChatMessageBuilder.builder()
+                        .chatRoomId(chatRoomId)
+                        .chatId(chatId)
+                        .content("Message " + chatId)
+                        .contentType(MessageContentType.TEXT)
+                        .categoryType(MessageCategoryType.NORMAL)
+                        .sender(1L)
+                        .build())
+                .toList();
+    }
+}
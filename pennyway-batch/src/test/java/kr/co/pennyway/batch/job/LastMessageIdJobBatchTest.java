@@ -1,18 +1,23 @@
 package kr.co.pennyway.batch.job;
 
 import kr.co.pennyway.batch.common.dto.KeyValue;
+import kr.co.pennyway.batch.listener.LastMessageIdSnapshotListener;
 import kr.co.pennyway.batch.processor.LastMessageIdProcessor;
 import kr.co.pennyway.batch.reader.LastMessageIdReader;
 import kr.co.pennyway.batch.writer.LastMessageIdWriter;
 import kr.co.pennyway.domain.domains.chatstatus.domain.ChatMessageStatus;
 import kr.co.pennyway.domain.domains.chatstatus.repository.ChatMessageStatusRepository;
+import kr.co.pennyway.domain.domains.chatstatus.service.ChatMessageStatusRedisService;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.test.context.SpringBatchTest;
 import org.springframework.data.redis.core.Cursor;
@@ -20,13 +25,17 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.*;
 
 @Slf4j
 @SpringBatchTest
@@ -45,60 +54,55 @@ public class LastMessageIdJobBatchTest {
     @Mock
     private ChatMessageStatusRepository repository;
 
+    @Mock
+    private ChatMessageStatusRedisService chatMessageStatusRedisService;
+
     private LastMessageIdReader reader;
     private LastMessageIdProcessor processor;
     private LastMessageIdWriter writer;
 
     @BeforeEach
     void setUp() {
-        reader = new LastMessageIdReader(redisTemplate, cursor);
+        reader = new LastMessageIdReader(redisTemplate, cursor, 2);
         processor = new LastMessageIdProcessor();
         writer = new LastMessageIdWriter(repository);
     }
 
     @Test
-    @DisplayName("Reader - Redis에서 키/값을 정상적으로 읽어오는지 테스트")
+    @DisplayName("Reader - 변경된 키를 fetchSize 단위의 MGET으로 읽어오는지 테스트")
     void readerTest() throws Exception {
         // given
-        String key = "chat:last_read:1:2";
-        String value = "100";
-
-        given(cursor.hasNext()).willReturn(true, false);
-        given(cursor.next()).willReturn(key);
+        given(cursor.hasNext()).willReturn(true, true, true, false);
+        given(cursor.next()).willReturn("chat:last_read:1:2", "chat:last_read:1:3", "chat:last_read:2:2");
         given(redisTemplate.opsForValue()).willReturn(valueOperations);
-        given(valueOperations.get(key)).willReturn(value);
-
-        // when
-        KeyValue result = reader.read();
-
-        // then
-        assertNotNull(result);
-        assertEquals(key, result.key());
-        assertEquals(value, result.value());
-        assertNull(reader.read()); // 두 번째 읽기에서는 null 반환 확인
+        given(valueOperations.multiGet(List.of("chat:last_read:1:2", "chat:last_read:1:3"))).willReturn(List.of("100", "200:5"));
+        given(valueOperations.multiGet(List.of("chat:last_read:2:2"))).willReturn(List.of("300"));
+
+        // when - then
+        assertEquals(new KeyValue("chat:last_read:1:2", "100"), reader.read());
+        assertEquals(new KeyValue("chat:last_read:1:3", "200:5"), reader.read());
+        assertEquals(new KeyValue("chat:last_read:2:2", "300"), reader.read());
+        assertNull(reader.read());
+        verify(valueOperations, times(2)).multiGet(anyList());
+        verify(valueOperations, never()).get(any());
     }
 
     @Test
-    @DisplayName("Reader - value가 null인 경우 null 반환 확인")
+    @DisplayName("Reader - TTL이 만료되어 값이 없는 키는 건너뛰고 다음 키를 읽는지 테스트")
     void nullValueTest() throws Exception {
         // given
-        String key = "chat:last_read:1:2";
-
-        given(cursor.hasNext()).willReturn(true);
-        given(cursor.next()).willReturn(key);
+        given(cursor.hasNext()).willReturn(true, true, true, false);
+        given(cursor.next()).willReturn("chat:last_read:1:2", "chat:last_read:1:3", "chat:last_read:2:2");
         given(redisTemplate.opsForValue()).willReturn(valueOperations);
-        given(valueOperations.get(key)).willReturn(null);
+        given(valueOperations.multiGet(List.of("chat:last_read:1:2", "chat:last_read:1:3"))).willReturn(Arrays.asList(null, null));
+        given(valueOperations.multiGet(List.of("chat:last_read:2:2"))).willReturn(List.of("300"));
 
         // when
         KeyValue result = reader.read();
 
         // then
-        assertNull(result);
-
-        // verify
-        verify(cursor).hasNext();
-        verify(cursor).next();
-        verify(valueOperations).get(key);
+        assertEquals(new KeyValue("chat:last_read:2:2", "300"), result);
+        assertNull(reader.read());
     }
 
     @Test
@@ -116,7 +120,7 @@ public class LastMessageIdJobBatchTest {
         // verify
         verify(cursor).hasNext();
         verify(cursor, never()).next();
-        verify(valueOperations, never()).get(any());
+        verify(valueOperations, never()).multiGet(any());
     }
 
     @Test
@@ -133,6 +137,22 @@ public class LastMessageIdJobBatchTest {
         assertEquals(2L, result.getUserId());
         assertEquals(1L, result.getChatRoomId());
         assertEquals(100L, result.getLastReadMessageId());
+        assertNull(result.getLastReadMessageSeq(), "순번이 없는 기존 형식의 값은 순번을 null로 변환해야 합니다");
+    }
+
+    @Test
+    @DisplayName("Processor - 순번이 포함된 값을 ChatMessageStatus로 정상 변환하는지 테스트")
+    void processorWithSequenceTest() throws Exception {
+        // given
+        KeyValue item = new KeyValue("chat:last_read:1:2", "100:7");
+
+        // when
+        ChatMessageStatus result = processor.process(item);
+
+        // then
+        assertNotNull(result);
+        assertEquals(100L, result.getLastReadMessageId());
+        assertEquals(7L, result.getLastReadMessageSeq());
     }
 
     @Test
@@ -149,13 +169,15 @@ public class LastMessageIdJobBatchTest {
     }
 
     @Test
-    @DisplayName("Writer - 데이터를 정상적으로 저장하는지 테스트")
+    @DisplayName("Writer - chunk 단위로 한 번의 multi-row upsert를 실행하는지 테스트")
+    @SuppressWarnings("unchecked")
     void writerTest() throws Exception {
         // given
         List<ChatMessageStatus> items = List.of(
-                new ChatMessageStatus(1L, 1L, 100L),
-                new ChatMessageStatus(1L, 2L, 200L),
-                new ChatMessageStatus(2L, 1L, 300L)
+                new ChatMessageStatus(1L, 1L, 100L, 10L),
+                new ChatMessageStatus(1L, 2L, 200L, 20L),
+                new ChatMessageStatus(2L, 1L, 300L),
+                new ChatMessageStatus(1L, 1L, 50L, 5L)
         );
         Chunk<ChatMessageStatus> chunk = new Chunk<>(items);
 
@@ -163,8 +185,32 @@ public class LastMessageIdJobBatchTest {
         writer.write(chunk);
 
         // then
-        verify(repository).saveLastReadMessageIdInBulk(1L, 1L, 100L);
-        verify(repository).saveLastReadMessageIdInBulk(1L, 2L, 200L);
-        verify(repository).saveLastReadMessageIdInBulk(2L, 1L, 300L);
+        ArgumentCaptor<Collection<ChatMessageStatus>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).saveLastReadMessageIdsInBulk(captor.capture());
+        verify(repository, never()).saveLastReadMessageIdInBulk(any(), any(), any(), any());
+
+        Map<String, Long> saved = captor.getValue().stream()
+                .collect(Collectors.toMap(status -> status.getUserId() + ":" + status.getChatRoomId(), ChatMessageStatus::getLastReadMessageId));
+        assertEquals(Map.of("1:1", 100L, "1:2", 200L, "2:1", 300L), saved, "같은 (사용자, 채팅방)은 가장 큰 메시지 ID만 저장해야 합니다");
+    }
+
+    @Test
+    @DisplayName("Listener - Step 시작 시 스냅샷을 만들고, 정상 완료된 경우에만 삭제하는지 테스트")
+    void snapshotListenerTest() {
+        // given
+        LastMessageIdSnapshotListener listener = new LastMessageIdSnapshotListener(chatMessageStatusRedisService);
+        StepExecution completed = new StepExecution("lastMessageIdStep", null);
+        completed.setExitStatus(ExitStatus.COMPLETED);
+        StepExecution failed = new StepExecution("lastMessageIdStep", null);
+        failed.setExitStatus(ExitStatus.FAILED);
+
+        // when
+        listener.beforeStep(completed);
+        listener.afterStep(failed);
+        listener.afterStep(completed);
+
+        // then
+        verify(chatMessageStatusRedisService).snapshotDirtyKeys();
+        verify(chatMessageStatusRedisService, times(1)).deleteDirtyKeySnapshot();
     }
 }
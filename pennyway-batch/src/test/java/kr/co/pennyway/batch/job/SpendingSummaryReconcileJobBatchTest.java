@@ -0,0 +1,42 @@
+package kr.co.pennyway.batch.job;
+
+import kr.co.pennyway.batch.common.dto.SpendingOwner;
+import kr.co.pennyway.batch.writer.SpendingSummaryReconcileWriter;
+import kr.co.pennyway.domain.domains.spending.service.SpendingRdbService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+
+@ExtendWith(MockitoExtension.class)
+public class SpendingSummaryReconcileJobBatchTest {
+    @Mock
+    private SpendingRdbService spendingRdbService;
+
+    @Test
+    @DisplayName("Writer - chunk의 모든 유저에 대해 지출 요약 정합성 검사를 수행한다")
+    void writerTest() throws Exception {
+        // given
+        SpendingSummaryReconcileWriter writer = new SpendingSummaryReconcileWriter(spendingRdbService);
+
+        given(spendingRdbService.reconcileSpendingSummary(1L)).willReturn(List.of(LocalDate.of(2024, 5, 1)));
+        given(spendingRdbService.reconcileSpendingSummary(2L)).willReturn(List.of());
+
+        // when
+        writer.write(new Chunk<>(List.of(new SpendingOwner(1L), new SpendingOwner(2L))));
+
+        // then
+        InOrder inOrder = inOrder(spendingRdbService);
+        inOrder.verify(spendingRdbService).reconcileSpendingSummary(1L);
+        inOrder.verify(spendingRdbService).reconcileSpendingSummary(2L);
+    }
+}
@@ -56,6 +56,9 @@ public enum ReasonCode {
     VALIDATION_ERROR_IN_REQUEST_BODY(1),
     TYPE_MISMATCH_ERROR_IN_REQUEST_BODY(2),
 
+    /* 429_TOO_MANY_REQUESTS */
+    REQUEST_RATE_LIMIT_EXCEEDED(0),
+
     /* 500_INTERNAL_SERVER_ERROR */
     UNEXPECTED_ERROR(0),
     ;
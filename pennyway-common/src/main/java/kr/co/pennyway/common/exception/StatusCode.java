@@ -22,6 +22,7 @@ public enum StatusCode {
     CONFLICT(409),
     PRECONDITION_FAILED(412),
     UNPROCESSABLE_CONTENT(422),
+    TOO_MANY_REQUESTS(429),
 
     INTERNAL_SERVER_ERROR(500),
     SERVICE_UNAVAILABLE(503);
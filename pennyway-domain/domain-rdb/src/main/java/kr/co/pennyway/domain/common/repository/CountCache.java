@@ -0,0 +1,90 @@
+package kr.co.pennyway.domain.common.repository;
+
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.EntityPath;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이지 조회의 COUNT 결과를 짧은 시간 동안 보관하는 캐시 <br/>
+ * 같은 조건으로 반복해서 조회되는 페이지의 COUNT 쿼리를 생략하기 위해 사용하며, TTL 동안에는 데이터 변경이 전체 요소 개수에 반영되지 않는다. <br/>
+ * 조회 대상과 조인, 검색 조건, 그룹화 조건의 문자열 표현을 키로 사용하므로, 조건에 포함된 값이 다르면 서로 다른 키로 취급한다.
+ *
+ * <pre>
+ * {@code
+ * private static final CountCache countCache = CountCache.of(Duration.ofSeconds(10), 1_000);
+ *
+ * Page<Entity> page = searchRepository.findPage(predicate, queryHandler, pageable, countCache);
+ * }
+ * </pre>
+ */
+public final class CountCache {
+    private final long ttlNanos;
+    private final int maximumSize;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    CountCache(Duration ttl, int maximumSize, LongSupplier nanoClock) {
+        Assert.isTrue(ttl != null && !ttl.isNegative() && !ttl.isZero(), "ttl must be positive!");
+        Assert.isTrue(maximumSize > 0, "maximumSize must be greater than 0!");
+
+        this.ttlNanos = ttl.toNanos();
+        this.maximumSize = maximumSize;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param ttl         COUNT 결과를 보관할 시간
+     * @param maximumSize 보관할 최대 키 개수. 초과하면 만료된 키를 제거하고, 그래도 초과하면 모든 키를 제거한다.
+     */
+    public static CountCache of(Duration ttl, int maximumSize) {
+        return new CountCache(ttl, maximumSize, System::nanoTime);
+    }
+
+    static String keyOf(EntityPath<?> path, QueryMetadata metadata) {
+        return path.getType().getName() + "|" + metadata.getJoins() + "|" + metadata.getWhere() + "|" + metadata.getGroupBy() + "|" + metadata.getHaving();
+    }
+
+    /**
+     * 보관 중인 COUNT 결과를 반환한다. 결과가 없거나 만료되었으면 loader로 다시 조회하여 보관한다.
+     */
+    long get(String key, LongSupplier loader) {
+        long now = nanoClock.getAsLong();
+        Entry entry = entries.get(key);
+
+        if (entry != null && entry.expiresAt() - now > 0) {
+            return entry.count();
+        }
+
+        long count = loader.getAsLong();
+
+        if (entries.size() >= maximumSize) {
+            entries.values().removeIf(it -> it.expiresAt() - now <= 0);
+
+            if (entries.size() >= maximumSize) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry(count, now + ttlNanos));
+
+        return count;
+    }
+
+    /**
+     * 보관 중인 모든 COUNT 결과를 제거한다. 즉시 반영되어야 하는 데이터 변경이 발생한 경우 사용한다.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
@@ -1,9 +1,11 @@
 package kr.co.pennyway.domain.common.repository;
 
 import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 import java.util.LinkedHashMap;
@@ -14,7 +16,7 @@ import java.util.Map;
  * QueryDsl을 이용한 검색 조건을 처리하는 기본적인 메서드를 선언한 인터페이스
  *
  * @author YANG JAESEO
- * @version 1.1
+ * @version 1.2
  */
 public interface QueryDslSearchRepository<T> {
 
@@ -54,7 +56,8 @@ public interface QueryDslSearchRepository<T> {
     List<T> findList(Predicate predicate, QueryHandler queryHandler, Sort sort);
 
     /**
-     * 검색 조건에 해당하는 도메인 페이지를 조회하는 메서드
+     * 검색 조건에 해당하는 도메인 페이지를 조회하는 메서드 <br/>
+     * 전체 요소 개수는 COUNT 쿼리로 조회하며, 첫 페이지나 마지막 페이지처럼 조회 결과만으로 전체 요소 개수를 알 수 있으면 COUNT 쿼리를 생략한다.
      *
      * @param predicate : 검색 조건
      * @param queryHandler : 검색 조건에 추가적으로 적용할 조건
@@ -88,6 +91,49 @@ public interface QueryDslSearchRepository<T> {
      */
     Page<T> findPage(Predicate predicate, QueryHandler queryHandler, Pageable pageable);
 
+    /**
+     * 검색 조건에 해당하는 도메인 페이지를 조회하며, 전체 요소 개수를 countCache에 보관된 값으로 대체하는 메서드 <br/>
+     * 같은 조건으로 반복해서 조회되는 페이지에서 COUNT 쿼리를 생략하기 위해 사용한다.
+     *
+     * @param countCache : COUNT 결과를 보관하는 캐시. null이면 {@link #findPage(Predicate, QueryHandler, Pageable)}와 같다.
+     * @see #findPage(Predicate, QueryHandler, Pageable)
+     * @see CountCache
+     */
+    Page<T> findPage(Predicate predicate, QueryHandler queryHandler, Pageable pageable, CountCache countCache);
+
+    /**
+     * 검색 조건에 해당하는 도메인 슬라이스를 커서(keyset) 기반으로 조회하는 메서드 <br/>
+     * offset 대신 이전 페이지의 마지막 요소의 정렬 키 값을 조건으로 사용하므로, 페이지가 깊어지더라도 앞선 요소를 읽고 버리지 않는다.
+     *
+     * @param predicate : 검색 조건
+     * @param queryHandler : 검색 조건에 추가적으로 적용할 조건. offset, limit을 적용해서는 안 된다.
+     * @param orders : 정렬 키. 요소를 유일하게 식별할 수 있도록 식별자를 마지막 정렬 키로 포함해야 한다.
+     * @param cursor : 이전 페이지의 마지막 요소의 정렬 키 값. orders와 같은 순서로 전달하며, null이거나 비어있으면 첫 페이지를 조회한다.
+     * @param size : 페이지 크기
+     *
+     * // @formatter:off
+     * <pre>
+     * {@code
+     * @Component
+     * class SearchService {
+     *      private final QEntity entity = QEntity.entity;
+     *
+     *      private Slice<Entity> select(LocalDateTime lastCreatedAt, Long lastId) {
+     *          Predicate predicate = entity.owner.id.eq(1L);
+     *          List<OrderSpecifier<?>> orders = List.of(entity.createdAt.desc(), entity.id.asc());
+     *          List<?> cursor = (lastId == null) ? List.of() : List.of(lastCreatedAt, lastId);
+     *
+     *          return searchRepository.findKeysetSlice(predicate, null, orders, cursor, 30);
+     *      }
+     * }
+     * }
+     * </pre>
+     * // @formatter:on
+     *
+     * @see kr.co.pennyway.domain.common.util.QueryDslUtil#keysetPredicate(List, List)
+     */
+    Slice<T> findKeysetSlice(Predicate predicate, QueryHandler queryHandler, List<OrderSpecifier<?>> orders, List<?> cursor, int size);
+
     /**
      * 검색 조건에 해당하는 DTO 리스트를 조회하는 메서드 <br/>
      * bindings가 {@link LinkedHashMap}을 구현체로 사용하는 경우 Dto 생성자 파라미터 순서에 맞게 삽입하면, Dto의 불변성을 유지할 수 있다. <br/>
@@ -180,4 +226,13 @@ public interface QueryDslSearchRepository<T> {
      * @see org.springframework.data.domain.PageRequest
      */
     <P> Page<P> selectPage(Predicate predicate, Class<P> type, Map<String, Expression<?>> bindings, QueryHandler queryHandler, Pageable pageable);
+
+    /**
+     * 검색 조건에 해당하는 DTO 페이지를 조회하며, 전체 요소 개수를 countCache에 보관된 값으로 대체하는 메서드
+     *
+     * @param countCache : COUNT 결과를 보관하는 캐시. null이면 {@link #selectPage(Predicate, Class, Map, QueryHandler, Pageable)}와 같다.
+     * @see #selectPage(Predicate, Class, Map, QueryHandler, Pageable)
+     * @see CountCache
+     */
+    <P> Page<P> selectPage(Predicate predicate, Class<P> type, Map<String, Expression<?>> bindings, QueryHandler queryHandler, Pageable pageable, CountCache countCache);
 }
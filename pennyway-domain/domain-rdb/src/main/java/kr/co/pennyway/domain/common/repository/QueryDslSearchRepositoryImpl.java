@@ -1,18 +1,26 @@
 package kr.co.pennyway.domain.common.repository;
 
+import com.querydsl.core.DefaultQueryMetadata;
+import com.querydsl.core.JoinExpression;
+import com.querydsl.core.JoinFlag;
+import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.types.*;
 import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAQueryMixin;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import kr.co.pennyway.domain.common.util.QueryDslUtil;
+import kr.co.pennyway.domain.common.util.SliceUtil;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.querydsl.QSort;
 import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.Assert;
 
 import java.util.LinkedHashMap;
@@ -43,14 +51,35 @@ public class QueryDslSearchRepositoryImpl<T> implements QueryDslSearchRepository
 
     @Override
     public Page<T> findPage(Predicate predicate, QueryHandler queryHandler, Pageable pageable) {
+        return this.findPage(predicate, queryHandler, pageable, null);
+    }
+
+    @Override
+    public Page<T> findPage(Predicate predicate, QueryHandler queryHandler, Pageable pageable, CountCache countCache) {
         Assert.notNull(pageable, "pageable must not be null!");
 
-        JPAQuery<?> query = this.buildWithoutSelect(predicate, null, queryHandler, pageable.getSort()).select(path);
+        JPAQuery<?> query = this.buildWithoutSelect(predicate, null, queryHandler, pageable.getSort());
+        query.offset(pageable.getOffset()).limit(pageable.getPageSize());
 
-        int totalSize = query.fetch().size();
-        query = query.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        List<T> content = query.select(path).fetch();
 
-        return new PageImpl<>(query.select(path).fetch(), pageable, totalSize);
+        return PageableExecutionUtils.getPage(content, pageable, () -> this.count(query.getMetadata(), countCache));
+    }
+
+    @Override
+    public Slice<T> findKeysetSlice(Predicate predicate, QueryHandler queryHandler, List<OrderSpecifier<?>> orders, List<?> cursor, int size) {
+        Assert.notEmpty(orders, "orders must not be empty!");
+        Assert.isTrue(size > 0, "size must be greater than 0!");
+
+        JPAQuery<?> query = this.buildWithoutSelect(predicate, null, queryHandler, null);
+
+        if (cursor != null && !cursor.isEmpty()) {
+            query.where(QueryDslUtil.keysetPredicate(orders, cursor));
+        }
+
+        query.orderBy(orders.toArray(new OrderSpecifier[0])).limit(size + 1);
+
+        return SliceUtil.toSlice(query.select(path).fetch(), Pageable.ofSize(size));
     }
 
     @Override
@@ -66,18 +95,71 @@ public class QueryDslSearchRepositoryImpl<T> implements QueryDslSearchRepository
 
     @Override
     public <P> Page<P> selectPage(Predicate predicate, Class<P> type, Map<String, Expression<?>> bindings, QueryHandler queryHandler, Pageable pageable) {
+        return this.selectPage(predicate, type, bindings, queryHandler, pageable, null);
+    }
+
+    @Override
+    public <P> Page<P> selectPage(Predicate predicate, Class<P> type, Map<String, Expression<?>> bindings, QueryHandler queryHandler, Pageable pageable, CountCache countCache) {
         Assert.notNull(pageable, "pageable must not be null!");
 
-        JPAQuery<?> query = this.buildWithoutSelect(predicate, bindings, queryHandler, pageable.getSort()).select(path);
+        JPAQuery<?> query = this.buildWithoutSelect(predicate, bindings, queryHandler, pageable.getSort());
+        query.offset(pageable.getOffset()).limit(pageable.getPageSize());
 
-        int totalSize = query.fetch().size();
-        query = query.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        List<P> content = (bindings instanceof LinkedHashMap)
+                ? query.select(Projections.constructor(type, bindings.values().toArray(new Expression<?>[0]))).fetch()
+                : query.select(Projections.bean(type, bindings)).fetch();
 
-        if (bindings instanceof LinkedHashMap) {
-            return new PageImpl<>(query.select(Projections.constructor(type, bindings.values().toArray(new Expression<?>[0]))).fetch(), pageable, totalSize);
+        return PageableExecutionUtils.getPage(content, pageable, () -> this.count(query.getMetadata(), countCache));
+    }
+
+    private long count(QueryMetadata metadata, CountCache countCache) {
+        if (countCache == null) {
+            return this.fetchCount(metadata);
         }
 
-        return new PageImpl<>(query.select(Projections.bean(type, bindings)).fetch(), pageable, totalSize);
+        return countCache.get(CountCache.keyOf(path, metadata), () -> this.fetchCount(metadata));
+    }
+
+    /**
+     * 조회 쿼리의 조인, 검색 조건, 그룹화 조건으로 COUNT 쿼리를 생성하여 실행하는 메서드 <br/>
+     * COUNT 쿼리의 select 절에는 조회 대상이 없으므로 fetch join은 일반 join으로 변환하며, 정렬과 페이지 정보는 적용하지 않는다. <br/>
+     * fetch join을 변환한 경우, 컬렉션 조인으로 중복된 행을 세지 않도록 count(distinct)를 사용한다. <br/>
+     * JPQL은 from 절의 서브쿼리를 지원하지 않으므로, group by가 있으면 그룹 키만 조회하여 그룹의 개수를 센다.
+     */
+    private long fetchCount(QueryMetadata source) {
+        QueryMetadata metadata = new DefaultQueryMetadata();
+        boolean fetchJoinRemoved = false;
+
+        for (JoinExpression join : source.getJoins()) {
+            metadata.addJoin(join.getType(), join.getTarget());
+
+            if (join.getCondition() != null) {
+                metadata.addJoinCondition(join.getCondition());
+            }
+
+            for (JoinFlag flag : join.getFlags()) {
+                if (JPAQueryMixin.FETCH.equals(flag) || JPAQueryMixin.FETCH_ALL_PROPERTIES.equals(flag)) {
+                    fetchJoinRemoved = true;
+                } else {
+                    metadata.addJoinFlag(flag);
+                }
+            }
+        }
+
+        if (source.getWhere() != null) metadata.addWhere(source.getWhere());
+        source.getGroupBy().forEach(metadata::addGroupBy);
+        if (source.getHaving() != null) metadata.addHaving(source.getHaving());
+
+        JPAQuery<?> countQuery = new JPAQuery<>(em, metadata);
+
+        if (!source.getGroupBy().isEmpty()) {
+            return countQuery.select(source.getGroupBy().toArray(new Expression<?>[0])).fetch().size();
+        }
+
+        Operator operator = (fetchJoinRemoved || source.isDistinct()) ? Ops.AggOps.COUNT_DISTINCT_AGG : Ops.AggOps.COUNT_AGG;
+        Long count = countQuery.select(Expressions.numberOperation(Long.class, operator, path)).fetchOne();
+
+        return (count != null) ? count : 0L;
     }
 
     /**
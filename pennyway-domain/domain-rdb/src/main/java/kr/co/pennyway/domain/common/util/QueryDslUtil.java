@@ -1,14 +1,15 @@
 package kr.co.pennyway.domain.common.util;
 
 import com.querydsl.core.types.*;
-import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.NumberExpression;
-import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.core.types.dsl.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -105,6 +106,80 @@ public class QueryDslUtil {
         return Expressions.booleanTemplate(TWO_COLUMN_NATURAL_FUNCTION_NAME, c1, c2, target);
     }
 
+    /**
+     * 컬럼이 [start, end) 범위에 속하는지 비교하는 메서드 <br/>
+     * 컬럼에 함수를 적용하지 않으므로, 컬럼을 포함하는 인덱스의 range scan을 사용할 수 있다.
+     *
+     * @param path  {@link ComparableExpression} : 비교할 컬럼
+     * @param start : 범위의 시작 (포함)
+     * @param end   : 범위의 끝 (미포함)
+     * @return {@link BooleanExpression} : {@code path >= start AND path < end}
+     */
+    public static <T extends Comparable<?>> BooleanExpression halfOpenRange(final ComparableExpression<T> path, final T start, final T end) {
+        return path.goe(start).and(path.lt(end));
+    }
+
+    /**
+     * 일시 컬럼이 해당 년/월에 속하는지 비교하는 메서드. {@code YEAR(path) = ? AND MONTH(path) = ?} 대신 사용한다.
+     *
+     * @param path      {@link DateTimeExpression} : 비교할 일시 컬럼
+     * @param yearMonth {@link YearMonth} : 비교할 년/월
+     */
+    public static BooleanExpression inMonth(final DateTimeExpression<LocalDateTime> path, final YearMonth yearMonth) {
+        return halfOpenRange(path, yearMonth.atDay(1).atStartOfDay(), yearMonth.plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    /**
+     * 날짜 컬럼이 해당 년/월에 속하는지 비교하는 메서드
+     *
+     * @param path      {@link DateExpression} : 비교할 날짜 컬럼
+     * @param yearMonth {@link YearMonth} : 비교할 년/월
+     */
+    public static BooleanExpression inMonth(final DateExpression<LocalDate> path, final YearMonth yearMonth) {
+        return halfOpenRange(path, yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
+
+    /**
+     * 일시 컬럼이 해당 일자에 속하는지 비교하는 메서드. {@code DATE(path) = ?} 대신 사용한다.
+     *
+     * @param path {@link DateTimeExpression} : 비교할 일시 컬럼
+     * @param date {@link LocalDate} : 비교할 일자
+     */
+    public static BooleanExpression inDay(final DateTimeExpression<LocalDateTime> path, final LocalDate date) {
+        return halfOpenRange(path, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * 정렬 키와 이전 페이지의 마지막 요소의 정렬 키 값으로 keyset 페이지네이션 조건을 생성하는 메서드 <br/>
+     * 정렬 키가 (k1 DESC, k2 ASC)이고 커서가 (v1, v2)라면 {@code k1 <= v1 AND (k1 < v1 OR (k1 = v1 AND k2 > v2))}를 생성한다. <br/>
+     * 첫 번째 정렬 키의 범위 조건을 함께 생성하므로, 첫 번째 정렬 키를 포함하는 인덱스의 range scan을 사용할 수 있다.
+     *
+     * @param orders : 정렬 키. 정렬 키의 값은 null이 아니어야 하며, 요소를 유일하게 식별할 수 있도록 식별자를 마지막 정렬 키로 포함해야 한다.
+     * @param cursor : 이전 페이지의 마지막 요소의 정렬 키 값. orders와 같은 순서로 전달해야 한다.
+     * @return {@link BooleanExpression} : 커서 이후의 요소를 조회하는 조건
+     */
+    public static BooleanExpression keysetPredicate(final List<OrderSpecifier<?>> orders, final List<?> cursor) {
+        Assert.notEmpty(orders, "orders must not be empty!");
+        Assert.isTrue(orders.size() == cursor.size(), "cursor must have the same size as orders!");
+
+        BooleanExpression after = null;
+        BooleanExpression samePrefix = null;
+
+        for (int i = 0; i < orders.size(); i++) {
+            Expression<?> target = orders.get(i).getTarget();
+            Expression<?> value = Expressions.constant(cursor.get(i));
+
+            BooleanExpression next = Expressions.predicate(orders.get(i).isAscending() ? Ops.GT : Ops.LT, target, value);
+            after = (after == null) ? next : after.or(samePrefix.and(next));
+
+            BooleanExpression same = Expressions.predicate(Ops.EQ, target, value);
+            samePrefix = (samePrefix == null) ? same : samePrefix.and(same);
+        }
+
+        Ops leadingBound = orders.get(0).isAscending() ? Ops.GOE : Ops.LOE;
+        return Expressions.predicate(leadingBound, orders.get(0).getTarget(), Expressions.constant(cursor.get(0))).and(after);
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     private static OrderSpecifier<?> createOrderSpecifier(Order orderBy, Expression<?> expression, OrderSpecifier.NullHandling queryDslNullHandling) {
         if (expression instanceof Operation && ((Operation<?>) expression).getOperator() == Ops.ALIAS) {
@@ -0,0 +1,68 @@
+package kr.co.pennyway.domain.domains.chatarchive.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Redis의 hot window를 벗어나 MySQL로 이관된 채팅 메시지.
+ * chatId(TSID)를 그대로 PK로 사용하므로, 같은 메시지를 여러 번 이관해도 한 번만 저장됩니다.
+ * <p>
+ * 메시지 타입은 domain-redis의 enum을 참조할 수 없으므로, enum의 이름을 문자열로 저장합니다.
+ */
+@Entity
+@Getter
+@Table(name = "chat_message", indexes = {
+        @Index(name = "idx_chat_message_chat_room_id_chat_id", columnList = "chat_room_id, chat_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatMessageArchive {
+    @Id
+    private Long chatId;
+
+    private Long chatRoomId;
+    private Long sender;
+
+    @Column(length = 5000)
+    private String content;
+    private String contentType;
+    private String categoryType;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime deletedAt;
+    private LocalDateTime archivedAt;
+
+    private ChatMessageArchive(Long chatId, Long chatRoomId, Long sender, String content, String contentType, String categoryType, LocalDateTime createdAt, LocalDateTime deletedAt) {
+        this.chatId = Objects.requireNonNull(chatId, "chatId must not be null");
+        this.chatRoomId = Objects.requireNonNull(chatRoomId, "chatRoomId must not be null");
+        this.sender = Objects.requireNonNull(sender, "sender must not be null");
+        this.content = Objects.requireNonNull(content, "content must not be null");
+        this.contentType = Objects.requireNonNull(contentType, "contentType must not be null");
+        this.categoryType = Objects.requireNonNull(categoryType, "categoryType must not be null");
+        this.createdAt = createdAt;
+        this.deletedAt = deletedAt;
+        this.archivedAt = LocalDateTime.now();
+    }
+
+    public static ChatMessageArchive of(Long chatId, Long chatRoomId, Long sender, String content, String contentType, String categoryType, LocalDateTime createdAt, LocalDateTime deletedAt) {
+        return new ChatMessageArchive(chatId, chatRoomId, sender, content, contentType, categoryType, createdAt, deletedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "ChatMessageArchive{" +
+                "chatId=" + chatId +
+                ", chatRoomId=" + chatRoomId +
+                ", sender=" + sender +
+                ", contentType='" + contentType + '\'' +
+                ", categoryType='" + categoryType + '\'' +
+                ", createdAt=" + createdAt +
+                ", deletedAt=" + deletedAt +
+                ", archivedAt=" + archivedAt +
+                '}';
+    }
+}
@@ -0,0 +1,23 @@
+package kr.co.pennyway.domain.domains.chatarchive.repository;
+
+import kr.co.pennyway.domain.domains.chatarchive.domain.ChatMessageArchive;
+
+import java.util.List;
+
+public interface ChatMessageArchiveCustomRepository {
+    /**
+     * 채팅 메시지를 일괄 저장한다.
+     * 이미 저장된 chat_id는 무시하므로, 같은 메시지를 여러 번 이관해도 결과는 동일하다.
+     *
+     * <pre>
+     * {@code
+     * INSERT INTO chat_message(chat_id, chat_room_id, sender, content, content_type, category_type, created_at, deleted_at, archived_at)
+     * VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW())
+     * ON DUPLICATE KEY UPDATE chat_id = chat_id;
+     * }
+     * </pre>
+     *
+     * @param messages : 저장할 채팅 메시지 목록
+     */
+    void saveAllIgnoreDuplicates(List<ChatMessageArchive> messages);
+}
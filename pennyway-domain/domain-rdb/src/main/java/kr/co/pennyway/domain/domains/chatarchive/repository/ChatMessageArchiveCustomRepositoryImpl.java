@@ -0,0 +1,47 @@
+package kr.co.pennyway.domain.domains.chatarchive.repository;
+
+import kr.co.pennyway.domain.domains.chatarchive.domain.ChatMessageArchive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageArchiveCustomRepositoryImpl implements ChatMessageArchiveCustomRepository {
+    private static final int BATCH_SIZE = 1000;
+    private static final String INSERT_SQL = "INSERT INTO chat_message(chat_id, chat_room_id, sender, content, content_type, category_type, created_at, deleted_at, archived_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE chat_id = chat_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAllIgnoreDuplicates(List<ChatMessageArchive> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, BATCH_SIZE, (ps, message) -> {
+            ps.setLong(1, message.getChatId());
+            ps.setLong(2, message.getChatRoomId());
+            ps.setLong(3, message.getSender());
+            ps.setString(4, message.getContent());
+            ps.setString(5, message.getContentType());
+            ps.setString(6, message.getCategoryType());
+            ps.setTimestamp(7, toTimestamp(message.getCreatedAt()));
+            ps.setTimestamp(8, toTimestamp(message.getDeletedAt()));
+        });
+
+        log.debug("Chat messages archived. count: {}", messages.size());
+    }
+
+    private Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+}
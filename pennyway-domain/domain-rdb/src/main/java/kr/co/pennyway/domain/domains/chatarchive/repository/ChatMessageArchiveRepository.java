@@ -0,0 +1,15 @@
+package kr.co.pennyway.domain.domains.chatarchive.repository;
+
+import kr.co.pennyway.domain.domains.chatarchive.domain.ChatMessageArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ChatMessageArchiveRepository extends JpaRepository<ChatMessageArchive, Long>, ChatMessageArchiveCustomRepository {
+    @Transactional(readOnly = true)
+    Slice<ChatMessageArchive> findByChatRoomIdAndChatIdLessThanOrderByChatIdDesc(Long chatRoomId, Long chatId, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    boolean existsByChatRoomIdAndChatIdLessThan(Long chatRoomId, Long chatId);
+}
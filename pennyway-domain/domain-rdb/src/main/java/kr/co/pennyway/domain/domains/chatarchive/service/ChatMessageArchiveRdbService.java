@@ -0,0 +1,43 @@
+package kr.co.pennyway.domain.domains.chatarchive.service;
+
+import kr.co.pennyway.common.annotation.DomainService;
+import kr.co.pennyway.domain.domains.chatarchive.domain.ChatMessageArchive;
+import kr.co.pennyway.domain.domains.chatarchive.repository.ChatMessageArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@DomainService
+@RequiredArgsConstructor
+public class ChatMessageArchiveRdbService {
+    private final ChatMessageArchiveRepository chatMessageArchiveRepository;
+
+    /**
+     * 채팅 메시지를 일괄 저장합니다. 이미 저장된 메시지는 무시합니다.
+     * 호출자가 저장 직후 Redis에서 메시지를 제거하므로, 바깥 트랜잭션과 관계없이 반환 시점에 커밋되어야 합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveAll(List<ChatMessageArchive> messages) {
+        chatMessageArchiveRepository.saveAllIgnoreDuplicates(messages);
+    }
+
+    /**
+     * chatId 이전의 메시지를 최신 순으로 조회합니다.
+     * chatId에 해당하는 메시지는 포함되지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ChatMessageArchive> readMessagesBefore(Long chatRoomId, Long chatId, int size) {
+        return chatMessageArchiveRepository.findByChatRoomIdAndChatIdLessThanOrderByChatIdDesc(chatRoomId, chatId, PageRequest.of(0, size));
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isExistsMessageBefore(Long chatRoomId, Long chatId) {
+        return chatMessageArchiveRepository.existsByChatRoomIdAndChatIdLessThan(chatRoomId, chatId);
+    }
+}
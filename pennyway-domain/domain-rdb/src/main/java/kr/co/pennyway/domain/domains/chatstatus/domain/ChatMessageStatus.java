@@ -26,12 +26,21 @@ public class ChatMessageStatus {
     private Long userId;
     private Long chatRoomId;
     private Long lastReadMessageId;
+    /**
+     * 마지막으로 읽은 메시지의 채팅방 내 순번. 순번이 도입되기 전에 저장된 경우 null
+     */
+    private Long lastReadMessageSeq;
     private LocalDateTime updatedAt;
 
     public ChatMessageStatus(Long userId, Long chatRoomId, Long lastReadMessageId) {
+        this(userId, chatRoomId, lastReadMessageId, null);
+    }
+
+    public ChatMessageStatus(Long userId, Long chatRoomId, Long lastReadMessageId, Long lastReadMessageSeq) {
         this.userId = Objects.requireNonNull(userId, "userId must not be null");
         this.chatRoomId = Objects.requireNonNull(chatRoomId, "chatRoomId must not be null");
         this.lastReadMessageId = Objects.requireNonNull(lastReadMessageId, "lastReadMessageId must not be null");
+        this.lastReadMessageSeq = lastReadMessageSeq;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -42,8 +51,13 @@ public class ChatMessageStatus {
     }
 
     public void updateLastReadMessageId(Long messageId) {
+        updateLastReadMessageId(messageId, null);
+    }
+
+    public void updateLastReadMessageId(Long messageId, Long messageSeq) {
         if (this.lastReadMessageId == null || messageId > this.lastReadMessageId) {
             this.lastReadMessageId = messageId;
+            this.lastReadMessageSeq = messageSeq;
         }
     }
 
@@ -54,6 +68,7 @@ public class ChatMessageStatus {
                 ", userId=" + userId +
                 ", chatRoomId=" + chatRoomId +
                 ", lastReadMessageId=" + lastReadMessageId +
+                ", lastReadMessageSeq=" + lastReadMessageSeq +
                 ", updatedAt=" + updatedAt +
                 '}';
     }
@@ -0,0 +1,26 @@
+package kr.co.pennyway.domain.domains.chatstatus.repository;
+
+import kr.co.pennyway.domain.domains.chatstatus.domain.ChatMessageStatus;
+
+import java.util.Collection;
+
+public interface ChatMessageStatusCustomRepository {
+    /**
+     * 여러 (사용자, 채팅방)의 마지막으로 읽은 메시지 ID와 순번을 하나의 multi-row upsert로 저장한다.
+     * 메시지 ID는 기존 값보다 큰 경우에만 갱신되며, 순번은 메시지 ID가 갱신되는 경우에만 함께 갱신된다.
+     *
+     * <pre>
+     * {@code
+     * INSERT INTO chat_message_status (user_id, chat_room_id, last_read_message_id, last_read_message_seq, updated_at)
+     * VALUES (?, ?, ?, ?, NOW()), (?, ?, ?, ?, NOW()), ... AS incoming
+     * ON DUPLICATE KEY UPDATE
+     * last_read_message_seq = IF(incoming.last_read_message_id > chat_message_status.last_read_message_id, incoming.last_read_message_seq, chat_message_status.last_read_message_seq),
+     * last_read_message_id = GREATEST(chat_message_status.last_read_message_id, incoming.last_read_message_id),
+     * updated_at = NOW();
+     * }
+     * </pre>
+     *
+     * @param statuses : 저장할 읽음 상태 목록. 같은 (사용자, 채팅방)이 중복되지 않아야 한다.
+     */
+    void saveLastReadMessageIdsInBulk(Collection<ChatMessageStatus> statuses);
+}
@@ -0,0 +1,56 @@
+package kr.co.pennyway.domain.domains.chatstatus.repository;
+
+import kr.co.pennyway.domain.domains.chatstatus.domain.ChatMessageStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageStatusCustomRepositoryImpl implements ChatMessageStatusCustomRepository {
+    private static final String INSERT_SQL = "INSERT INTO chat_message_status (user_id, chat_room_id, last_read_message_id, last_read_message_seq, updated_at) VALUES ";
+    private static final String VALUES_SQL = "(?, ?, ?, ?, NOW())";
+    private static final String UPSERT_SQL = " AS incoming ON DUPLICATE KEY UPDATE " +
+            "last_read_message_seq = IF(incoming.last_read_message_id > chat_message_status.last_read_message_id, incoming.last_read_message_seq, chat_message_status.last_read_message_seq), " +
+            "last_read_message_id = GREATEST(chat_message_status.last_read_message_id, incoming.last_read_message_id), " +
+            "updated_at = NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveLastReadMessageIdsInBulk(Collection<ChatMessageStatus> statuses) {
+        if (statuses.isEmpty()) {
+            return;
+        }
+
+        // 동시에 실행되는 upsert와 교착 상태가 발생하지 않도록, 항상 unique key 순서로 잠금을 획득한다.
+        List<ChatMessageStatus> sorted = statuses.stream()
+                .sorted(Comparator.comparing(ChatMessageStatus::getUserId).thenComparing(ChatMessageStatus::getChatRoomId))
+                .toList();
+        String sql = INSERT_SQL + sorted.stream().map(status -> VALUES_SQL).collect(Collectors.joining(", ")) + UPSERT_SQL;
+
+        jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (ChatMessageStatus status : sorted) {
+                ps.setLong(index++, status.getUserId());
+                ps.setLong(index++, status.getChatRoomId());
+                ps.setLong(index++, status.getLastReadMessageId());
+                if (status.getLastReadMessageSeq() == null) {
+                    ps.setNull(index++, Types.BIGINT);
+                } else {
+                    ps.setLong(index++, status.getLastReadMessageSeq());
+                }
+            }
+        });
+
+        log.debug("Chat message statuses saved. count: {}", sorted.size());
+    }
+}
@@ -9,19 +9,24 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ChatMessageStatusRepository extends JpaRepository<ChatMessageStatus, Long> {
+public interface ChatMessageStatusRepository extends JpaRepository<ChatMessageStatus, Long>, ChatMessageStatusCustomRepository {
     Optional<ChatMessageStatus> findByUserIdAndChatRoomId(Long userId, Long chatRoomId);
 
     @Query("SELECT c FROM ChatMessageStatus c WHERE c.userId = :userId AND c.chatRoomId IN :roomIds")
     List<ChatMessageStatus> findAllByUserIdAndChatRoomIdIn(Long userId, Collection<Long> roomIds);
 
+    /**
+     * 마지막으로 읽은 메시지 ID와 순번을 저장합니다.
+     * 순번은 메시지 ID가 갱신되는 경우에만 함께 갱신되며, 갱신 전의 메시지 ID와 비교해야 하므로 last_read_message_id보다 먼저 갱신합니다.
+     */
     @Modifying
     @Query(value = """
-            INSERT INTO chat_message_status (user_id, chat_room_id, last_read_message_id, updated_at)
-            VALUES (:userId, :roomId, :messageId, NOW())
+            INSERT INTO chat_message_status (user_id, chat_room_id, last_read_message_id, last_read_message_seq, updated_at)
+            VALUES (:userId, :roomId, :messageId, :messageSeq, NOW())
             ON DUPLICATE KEY UPDATE
+            last_read_message_seq = IF(:messageId > last_read_message_id, :messageSeq, last_read_message_seq),
             last_read_message_id = GREATEST(last_read_message_id, :messageId),
             updated_at = NOW()
             """, nativeQuery = true)
-    void saveLastReadMessageIdInBulk(Long userId, Long roomId, Long messageId);
+    void saveLastReadMessageIdInBulk(Long userId, Long roomId, Long messageId, Long messageSeq);
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -19,4 +21,13 @@ public class ChatMessageStatusRdbService {
     public Optional<ChatMessageStatus> readByUserIdAndChatRoomId(Long userId, Long chatRoomId) {
         return chatMessageStatusRepository.findByUserIdAndChatRoomId(userId, chatRoomId);
     }
+
+    @Transactional(readOnly = true)
+    public List<ChatMessageStatus> readAllByUserIdAndChatRoomIds(Long userId, Collection<Long> chatRoomIds) {
+        if (chatRoomIds.isEmpty()) {
+            return List.of();
+        }
+
+        return chatMessageStatusRepository.findAllByUserIdAndChatRoomIdIn(userId, chatRoomIds);
+    }
 }
@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long> {
     @Query("SELECT d FROM DeviceToken d WHERE d.user.id = :userId AND d.token = :token")
@@ -19,6 +20,9 @@ public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long>
 
     List<DeviceToken> findAllByUser_IdAndDeviceId(Long userId, String deviceId);
 
+    @Query("SELECT d FROM DeviceToken d WHERE d.user.id IN :userIds AND d.deviceId IN :deviceIds AND d.activated = true")
+    List<DeviceToken> findAllActivatedByUserIdInAndDeviceIdIn(Set<Long> userIds, Set<String> deviceIds);
+
     @Modifying(clearAutomatically = true)
     @Transactional
     @Query("UPDATE DeviceToken d SET d.activated = false WHERE d.user.id = :userId")
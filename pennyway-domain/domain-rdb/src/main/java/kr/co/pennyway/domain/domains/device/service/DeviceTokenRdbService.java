@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @DomainService
@@ -59,6 +60,19 @@ public class DeviceTokenRdbService {
         return deviceTokenRepository.findAllByUser_Id(userId);
     }
 
+    /**
+     * 사용자 아이디 목록과 디바이스 아이디 목록에 모두 포함되는 활성화된 디바이스 토큰을 한 번의 쿼리로 조회합니다.
+     * 두 목록의 조합(user_id, device_id) 중 실제 세션에 해당하지 않는 토큰이 포함될 수 있으므로, 호출자가 필요한 쌍만 걸러내야 합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<DeviceToken> readAllActivatedByUserIdsAndDeviceIds(Set<Long> userIds, Set<String> deviceIds) {
+        if (userIds.isEmpty() || deviceIds.isEmpty()) {
+            return List.of();
+        }
+
+        return deviceTokenRepository.findAllActivatedByUserIdInAndDeviceIdIn(userIds, deviceIds);
+    }
+
     @Transactional
     public void deleteDevicesByUserIdInQuery(Long userId) {
         deviceTokenRepository.deleteAllByUserIdInQuery(userId);
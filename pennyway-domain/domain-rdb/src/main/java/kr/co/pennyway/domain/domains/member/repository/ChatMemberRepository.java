@@ -42,6 +42,12 @@ public interface ChatMemberRepository extends ExtendedRepository<ChatMember, Lon
     @Query("SELECT cm.user.id FROM ChatMember cm WHERE cm.chatRoom.id = :chatRoomId AND cm.deletedAt IS NULL")
     Set<Long> findUserIdsByChatRoomId(Long chatRoomId);
 
+    @Transactional(readOnly = true)
+    @Query("SELECT u.id FROM ChatMember cm JOIN cm.user u " +
+            "WHERE cm.chatRoom.id = :chatRoomId AND u.id IN :userIds AND cm.deletedAt IS NULL AND cm.notifyEnabled = true " +
+            "AND u.deletedAt IS NULL AND u.notifySetting.chatNotify = true")
+    Set<Long> findChatNotifyEnabledUserIds(Long chatRoomId, Set<Long> userIds);
+
     @Transactional
     @Modifying(clearAutomatically = true)
     @Query("UPDATE ChatMember cm SET cm.deletedAt = NOW() WHERE cm.chatRoom.id = :chatRoomId")
@@ -126,6 +126,19 @@ public class ChatMemberRdbService {
         return chatMemberRepository.findUserIdsByChatRoomId(chatRoomId);
     }
 
+    /**
+     * 주어진 사용자들 중 채팅 알림(user.notify_setting)과 채팅방 알림(chat_member.notify_enabled)이 모두 활성화된 사용자 아이디를 조회한다.
+     * 채팅방을 탈퇴했거나, 삭제된 사용자는 포함하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> readChatNotifyEnabledUserIds(Long chatRoomId, Set<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return chatMemberRepository.findChatNotifyEnabledUserIds(chatRoomId, userIds);
+    }
+
     /**
      * 채팅방에 해당 유저가 존재하는지 확인한다.
      * 이 때, 삭제된 사용자 데이터는 조회하지 않는다.
@@ -0,0 +1,77 @@
+package kr.co.pennyway.domain.domains.spending.domain;
+
+import jakarta.persistence.*;
+import kr.co.pennyway.domain.common.converter.SpendingCategoryConverter;
+import kr.co.pennyway.domain.domains.spending.dto.CategoryInfo;
+import kr.co.pennyway.domain.domains.spending.type.SpendingCategory;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자의 일별, 카테고리별 지출 합계.
+ * (user_id, spend_date, category, spending_custom_category_id) 마다 한 행을 가지며, 월별 합계는 해당 월의 행을 더해서 계산합니다.
+ * MySQL의 unique 제약은 NULL을 서로 다른 값으로 취급하므로, 사용자 정의 카테고리가 없으면 0인 custom_category_key로 요약 키의 유일성을 보장합니다.
+ * <p>
+ * 행은 지출 내역이 변경되는 트랜잭션 안에서 spending 테이블로부터 다시 집계되므로, 애플리케이션에서 직접 생성하거나 수정하지 않습니다.
+ *
+ * @see kr.co.pennyway.domain.domains.spending.repository.SpendingSummaryRepository
+ */
+@Entity
+@Getter
+@Immutable
+@Table(name = "spending_summary",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_spending_summary_user_id_spend_date_category",
+                        columnNames = {"user_id", "spend_date", "category", "custom_category_key"}
+                )
+        },
+        indexes = {
+                @Index(name = "idx_spending_summary_spending_custom_category_id", columnList = "spending_custom_category_id")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SpendingSummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long userId;
+    private LocalDate spendDate;
+    @Convert(converter = SpendingCategoryConverter.class)
+    private SpendingCategory category;
+    @Column(nullable = false)
+    private Long customCategoryKey;
+    private Long totalAmount;
+    private Integer spendingCount;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "spending_custom_category_id")
+    private SpendingCustomCategory spendingCustomCategory;
+
+    /**
+     * {@link Spending#getCategory()}와 같은 규칙으로 지출 카테고리 정보를 반환한다.
+     */
+    public CategoryInfo getCategory() {
+        if (this.category.equals(SpendingCategory.CUSTOM)) {
+            return CategoryInfo.of(spendingCustomCategory.getId(), spendingCustomCategory.getName(), spendingCustomCategory.getIcon());
+        }
+
+        return CategoryInfo.of(-1L, this.category.getType(), this.category);
+    }
+
+    @Override
+    public String toString() {
+        return "SpendingSummary{" +
+                "id=" + id +
+                ", userId=" + userId +
+                ", spendDate=" + spendDate +
+                ", category=" + category +
+                ", totalAmount=" + totalAmount +
+                ", spendingCount=" + spendingCount +
+                '}';
+    }
+}
@@ -0,0 +1,13 @@
+package kr.co.pennyway.domain.domains.spending.dto;
+
+/**
+ * 지출 카테고리별 총 지출 금액을 담는 DTO
+ *
+ * @param category      {@link CategoryInfo} : 지출 카테고리 정보
+ * @param totalSpending long : 총 지출 금액
+ */
+public record CategoryTotalSpendingAmount(
+        CategoryInfo category,
+        long totalSpending
+) {
+}
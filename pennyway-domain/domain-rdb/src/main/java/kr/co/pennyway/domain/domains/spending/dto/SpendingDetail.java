@@ -0,0 +1,47 @@
+package kr.co.pennyway.domain.domains.spending.dto;
+
+import kr.co.pennyway.domain.domains.spending.type.SpendingCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회 전용 지출 내역 DTO <br/>
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 조회하기 위해 사용한다.
+ *
+ * @param id          Long : 지출 ID
+ * @param amount      Integer : 지출 금액
+ * @param category    {@link CategoryInfo} : 지출 카테고리 정보
+ * @param spendAt     LocalDateTime : 지출 일시
+ * @param accountName String : 계좌명
+ * @param memo        String : 메모
+ */
+public record SpendingDetail(
+        Long id,
+        Integer amount,
+        CategoryInfo category,
+        LocalDateTime spendAt,
+        String accountName,
+        String memo
+) {
+    /**
+     * 지출 내역과 사용자 정의 카테고리의 컬럼으로 생성하는 생성자. QueryDsl의 constructor projection에서 사용한다. <br/>
+     * category가 CUSTOM일 경우 사용자 정의 카테고리 정보로 {@link CategoryInfo}를 생성한다.
+     */
+    public SpendingDetail(Long id, Integer amount, SpendingCategory category, LocalDateTime spendAt, String accountName, String memo,
+                          Long customCategoryId, String customCategoryName, SpendingCategory customCategoryIcon) {
+        this(
+                id,
+                amount,
+                category.equals(SpendingCategory.CUSTOM)
+                        ? CategoryInfo.of(customCategoryId, customCategoryName, customCategoryIcon)
+                        : CategoryInfo.of(-1L, category.getType(), category),
+                spendAt,
+                accountName,
+                memo
+        );
+    }
+
+    public int getDay() {
+        return spendAt.getDayOfMonth();
+    }
+}
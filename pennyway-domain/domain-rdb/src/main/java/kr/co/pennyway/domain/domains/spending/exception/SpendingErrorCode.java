@@ -17,6 +17,7 @@ public enum SpendingErrorCode implements BaseErrorCode {
     INVALID_CATEGORY_TYPE(StatusCode.BAD_REQUEST, ReasonCode.CLIENT_ERROR, "존재하지 않는 카테고리 타입입니다."),
     INVALID_SHARE_TYPE(StatusCode.BAD_REQUEST, ReasonCode.MALFORMED_PARAMETER, "부적절한 공유 타입입니다."),
     MISSING_SHARE_PARAM(StatusCode.BAD_REQUEST, ReasonCode.MISSING_REQUIRED_PARAMETER, "지출 내역 공유 시 필수 파라미터가 누락되었습니다."),
+    INVALID_CURSOR(StatusCode.BAD_REQUEST, ReasonCode.MISSING_REQUIRED_PARAMETER, "lastSpendAt과 lastSpendingId는 함께 전달해야 합니다."),
 
     /* 404 Not Found */
     NOT_FOUND_SPENDING(StatusCode.NOT_FOUND, ReasonCode.REQUESTED_RESOURCE_NOT_FOUND, "존재하지 않는 지출 내역입니다."),
@@ -1,15 +1,31 @@
 package kr.co.pennyway.domain.domains.spending.repository;
 
 import kr.co.pennyway.domain.domains.spending.domain.Spending;
+import kr.co.pennyway.domain.domains.spending.dto.SpendingDetail;
 import kr.co.pennyway.domain.domains.spending.dto.TotalSpendingAmount;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface SpendingCustomRepository {
-    Optional<TotalSpendingAmount> findTotalSpendingAmountByUserId(Long userId, int year, int month);
-
     List<Spending> findByYearAndMonth(Long userId, int year, int month);
 
+    /**
+     * 해당 년/월의 지출 내역을 엔티티가 아닌 {@link SpendingDetail}로 조회한다. <br/>
+     * 결과는 지출 일시 내림차순, 지출 ID 오름차순으로 정렬한다.
+     */
+    List<SpendingDetail> findDetailsByYearAndMonth(Long userId, int year, int month);
+
     List<Spending> findByYearAndMonthAndDay(Long userId, int year, int month, int day);
+
+    /**
+     * 해당 년/월의 총 지출 금액을 spending_summary가 아닌 지출 내역으로부터 집계한다.
+     */
+    Optional<TotalSpendingAmount> findTotalSpendingAmountByUserId(Long userId, int year, int month);
+
+    /**
+     * 월별 총 지출 금액을 spending_summary가 아닌 지출 내역으로부터 집계한다. <br/>
+     * 결과는 최신 월부터 정렬한다.
+     */
+    List<TotalSpendingAmount> findMonthlyTotalSpendingAmountsByUserId(Long userId);
 }
@@ -2,18 +2,21 @@ package kr.co.pennyway.domain.domains.spending.repository;
 
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import kr.co.pennyway.domain.common.util.QueryDslUtil;
 import kr.co.pennyway.domain.domains.spending.domain.QSpending;
 import kr.co.pennyway.domain.domains.spending.domain.QSpendingCustomCategory;
 import kr.co.pennyway.domain.domains.spending.domain.Spending;
+import kr.co.pennyway.domain.domains.spending.dto.SpendingDetail;
 import kr.co.pennyway.domain.domains.spending.dto.TotalSpendingAmount;
-import kr.co.pennyway.domain.domains.user.domain.QUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,30 +26,9 @@ import java.util.Optional;
 public class SpendingCustomRepositoryImpl implements SpendingCustomRepository {
     private final JPAQueryFactory queryFactory;
 
-    private final QUser user = QUser.user;
     private final QSpending spending = QSpending.spending;
     private final QSpendingCustomCategory spendingCustomCategory = QSpendingCustomCategory.spendingCustomCategory;
 
-    @Override
-    public Optional<TotalSpendingAmount> findTotalSpendingAmountByUserId(Long userId, int year, int month) {
-        TotalSpendingAmount result = queryFactory.select(
-                        Projections.constructor(
-                                TotalSpendingAmount.class,
-                                spending.spendAt.year().intValue(),
-                                spending.spendAt.month().intValue(),
-                                spending.amount.sum().longValue()
-                        )
-                ).from(user)
-                .leftJoin(spending).on(user.id.eq(spending.user.id))
-                .where(user.id.eq(userId)
-                        .and(spending.spendAt.year().eq(year))
-                        .and(spending.spendAt.month().eq(month)))
-                .groupBy(spending.spendAt.year(), spending.spendAt.month())
-                .fetchOne();
-
-        return Optional.ofNullable(result);
-    }
-
     @Override
     public List<Spending> findByYearAndMonth(Long userId, int year, int month) {
         Sort sort = Sort.by(Sort.Order.desc("spendAt"));
@@ -54,25 +36,75 @@ public class SpendingCustomRepositoryImpl implements SpendingCustomRepository {
 
         return queryFactory.selectFrom(spending)
                 .leftJoin(spending.spendingCustomCategory, spendingCustomCategory).fetchJoin()
-                .where(spending.spendAt.year().eq(year)
-                        .and(spending.spendAt.month().eq(month))
-                        .and(spending.user.id.eq(userId))
+                .where(spending.user.id.eq(userId)
+                        .and(QueryDslUtil.inMonth(spending.spendAt, YearMonth.of(year, month)))
                 )
                 .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
                 .fetch();
     }
 
+    @Override
+    public List<SpendingDetail> findDetailsByYearAndMonth(Long userId, int year, int month) {
+        return queryFactory.select(Projections.constructor(SpendingDetail.class,
+                        spending.id,
+                        spending.amount,
+                        spending.category,
+                        spending.spendAt,
+                        spending.accountName,
+                        spending.memo,
+                        spendingCustomCategory.id,
+                        spendingCustomCategory.name,
+                        spendingCustomCategory.icon
+                ))
+                .from(spending)
+                .leftJoin(spending.spendingCustomCategory, spendingCustomCategory)
+                .where(spending.user.id.eq(userId)
+                        .and(QueryDslUtil.inMonth(spending.spendAt, YearMonth.of(year, month)))
+                )
+                .orderBy(spending.spendAt.desc(), spending.id.asc())
+                .fetch();
+    }
+
     @Override
     public List<Spending> findByYearAndMonthAndDay(Long userId, int year, int month, int day) {
         Sort sort = Sort.by(Sort.Order.desc("spendAt"));
 
         return queryFactory.selectFrom(spending)
                 .leftJoin(spending.spendingCustomCategory, spendingCustomCategory).fetchJoin()
-                .where(spending.spendAt.year().eq(year)
-                        .and(spending.spendAt.month().eq(month))
-                        .and(spending.spendAt.dayOfMonth().eq(day))
-                        .and(spending.user.id.eq(userId))
+                .where(spending.user.id.eq(userId)
+                        .and(QueryDslUtil.inDay(spending.spendAt, LocalDate.of(year, month, day)))
                 )
                 .fetch();
     }
+
+    @Override
+    public Optional<TotalSpendingAmount> findTotalSpendingAmountByUserId(Long userId, int year, int month) {
+        Long totalSpending = queryFactory.select(spending.amount.sum().longValue())
+                .from(spending)
+                .where(spending.user.id.eq(userId)
+                        .and(QueryDslUtil.inMonth(spending.spendAt, YearMonth.of(year, month)))
+                )
+                .fetchOne();
+
+        return Optional.ofNullable(totalSpending).map(total -> new TotalSpendingAmount(year, month, total));
+    }
+
+    @Override
+    public List<TotalSpendingAmount> findMonthlyTotalSpendingAmountsByUserId(Long userId) {
+        NumberExpression<Integer> year = spending.spendAt.year();
+        NumberExpression<Integer> month = spending.spendAt.month();
+
+        return queryFactory.select(
+                        Projections.constructor(
+                                TotalSpendingAmount.class,
+                                year,
+                                month,
+                                spending.amount.sum().longValue()
+                        )
+                ).from(spending)
+                .where(spending.user.id.eq(userId))
+                .groupBy(year, month)
+                .orderBy(year.desc(), month.desc())
+                .fetch();
+    }
 }
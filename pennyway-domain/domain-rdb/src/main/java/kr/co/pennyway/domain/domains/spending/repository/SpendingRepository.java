@@ -24,13 +24,13 @@ public interface SpendingRepository extends ExtendedRepository<Spending, Long>,
 
     @Modifying(clearAutomatically = true)
     @Transactional
-    @Query("UPDATE Spending s SET s.spendingCustomCategory.id = :toCategoryId, s.category = :custom WHERE s.category = :fromCategory")
-    void updateCategoryByCustomCategoryInQuery(SpendingCategory fromCategory, Long toCategoryId, SpendingCategory custom);
+    @Query("UPDATE Spending s SET s.spendingCustomCategory.id = :toCategoryId, s.category = :custom WHERE s.user.id = :userId AND s.category = :fromCategory")
+    void updateCategoryByCustomCategoryInQuery(Long userId, SpendingCategory fromCategory, Long toCategoryId, SpendingCategory custom);
 
     @Modifying(clearAutomatically = true)
     @Transactional
-    @Query("UPDATE Spending s SET s.category = :toCategory WHERE s.category = :fromCategory")
-    void updateCategoryByCategoryInQuery(SpendingCategory fromCategory, SpendingCategory toCategory);
+    @Query("UPDATE Spending s SET s.category = :toCategory WHERE s.user.id = :userId AND s.category = :fromCategory")
+    void updateCategoryByCategoryInQuery(Long userId, SpendingCategory fromCategory, SpendingCategory toCategory);
 
     @Modifying(clearAutomatically = true)
     @Transactional
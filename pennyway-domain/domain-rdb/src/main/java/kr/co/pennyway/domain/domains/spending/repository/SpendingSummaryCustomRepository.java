@@ -0,0 +1,27 @@
+package kr.co.pennyway.domain.domains.spending.repository;
+
+import kr.co.pennyway.domain.domains.spending.dto.CategoryTotalSpendingAmount;
+import kr.co.pennyway.domain.domains.spending.dto.TotalSpendingAmount;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface SpendingSummaryCustomRepository {
+    /**
+     * 사용자의 특정 일자 지출 금액을 카테고리별로 조회한다.
+     */
+    List<CategoryTotalSpendingAmount> findCategoryTotalSpendingAmounts(Long userId, LocalDate date);
+
+    /**
+     * 사용자의 특정 년/월 총 지출 금액을 조회한다.
+     * 해당 월에 지출 내역이 없다면 {@link Optional#empty()}를 반환한다.
+     */
+    Optional<TotalSpendingAmount> findTotalSpendingAmount(Long userId, int year, int month);
+
+    /**
+     * 사용자의 월별 총 지출 금액을 최신 월부터 조회한다.
+     * 지출 내역이 없는 월은 포함하지 않는다.
+     */
+    List<TotalSpendingAmount> findMonthlyTotalSpendingAmounts(Long userId);
+}
@@ -0,0 +1,72 @@
+package kr.co.pennyway.domain.domains.spending.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.co.pennyway.domain.common.util.QueryDslUtil;
+import kr.co.pennyway.domain.domains.spending.domain.QSpendingCustomCategory;
+import kr.co.pennyway.domain.domains.spending.domain.QSpendingSummary;
+import kr.co.pennyway.domain.domains.spending.domain.SpendingSummary;
+import kr.co.pennyway.domain.domains.spending.dto.CategoryTotalSpendingAmount;
+import kr.co.pennyway.domain.domains.spending.dto.TotalSpendingAmount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class SpendingSummaryCustomRepositoryImpl implements SpendingSummaryCustomRepository {
+    private final JPAQueryFactory queryFactory;
+
+    private final QSpendingSummary spendingSummary = QSpendingSummary.spendingSummary;
+    private final QSpendingCustomCategory spendingCustomCategory = QSpendingCustomCategory.spendingCustomCategory;
+
+    @Override
+    public List<CategoryTotalSpendingAmount> findCategoryTotalSpendingAmounts(Long userId, LocalDate date) {
+        List<SpendingSummary> summaries = queryFactory.selectFrom(spendingSummary)
+                .leftJoin(spendingSummary.spendingCustomCategory, spendingCustomCategory).fetchJoin()
+                .where(spendingSummary.userId.eq(userId)
+                        .and(spendingSummary.spendDate.eq(date)))
+                .fetch();
+
+        return summaries.stream()
+                .map(summary -> new CategoryTotalSpendingAmount(summary.getCategory(), summary.getTotalAmount()))
+                .toList();
+    }
+
+    @Override
+    public Optional<TotalSpendingAmount> findTotalSpendingAmount(Long userId, int year, int month) {
+        Long totalSpending = queryFactory.select(spendingSummary.totalAmount.sum())
+                .from(spendingSummary)
+                .where(spendingSummary.userId.eq(userId)
+                        .and(QueryDslUtil.inMonth(spendingSummary.spendDate, YearMonth.of(year, month))))
+                .fetchOne();
+
+        return Optional.ofNullable(totalSpending).map(total -> new TotalSpendingAmount(year, month, total));
+    }
+
+    @Override
+    public List<TotalSpendingAmount> findMonthlyTotalSpendingAmounts(Long userId) {
+        NumberExpression<Integer> year = spendingSummary.spendDate.year();
+        NumberExpression<Integer> month = spendingSummary.spendDate.month();
+
+        return queryFactory.select(
+                        Projections.constructor(
+                                TotalSpendingAmount.class,
+                                year,
+                                month,
+                                spendingSummary.totalAmount.sum()
+                        )
+                ).from(spendingSummary)
+                .where(spendingSummary.userId.eq(userId))
+                .groupBy(year, month)
+                .orderBy(year.desc(), month.desc())
+                .fetch();
+    }
+}
@@ -0,0 +1,95 @@
+package kr.co.pennyway.domain.domains.spending.repository;
+
+import kr.co.pennyway.domain.domains.spending.domain.SpendingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * spending_summary 테이블을 spending 테이블로부터 다시 집계하는 쿼리를 제공한다.
+ * <p>
+ * 모든 갱신 쿼리는 실행 전에 영속성 컨텍스트를 flush하므로, 같은 트랜잭션에서 변경한 지출 내역이 집계에 반영된다.
+ * 갱신은 항상 "범위 내 지출 내역 재집계 결과를 요약 키 기준으로 upsert → 지출 내역이 사라진 요약 행 삭제" 순서로 수행해야 한다.
+ * 요약 키(user_id, spend_date, category, custom_category_key)에 unique 제약이 있으므로, 같은 일자를 동시에 다시 집계하더라도 행이 중복되지 않고 마지막 집계 결과로 수렴한다.
+ */
+public interface SpendingSummaryRepository extends JpaRepository<SpendingSummary, Long>, SpendingSummaryCustomRepository {
+    String UPSERT_AGGREGATED_SPENDINGS = "INSERT INTO spending_summary(user_id, spend_date, category, spending_custom_category_id, custom_category_key, total_amount, spending_count) " +
+            "SELECT * FROM (" +
+            "SELECT s.user_id, DATE(s.spend_at) AS spend_date, s.category, s.spending_custom_category_id, COALESCE(s.spending_custom_category_id, 0) AS custom_category_key, " +
+            "SUM(s.amount) AS total_amount, COUNT(*) AS spending_count FROM spending s ";
+    String GROUP_BY_SUMMARY_KEY = " GROUP BY s.user_id, DATE(s.spend_at), s.category, s.spending_custom_category_id" +
+            ") AS aggregated " +
+            "ON DUPLICATE KEY UPDATE total_amount = aggregated.total_amount, spending_count = aggregated.spending_count";
+    String DELETE_STALE_SUMMARIES = "DELETE FROM spending_summary WHERE user_id = :userId ";
+    String NOT_EXISTS_SPENDING = " AND NOT EXISTS (SELECT 1 FROM spending s " +
+            "WHERE s.user_id = spending_summary.user_id AND s.deleted_at IS NULL " +
+            "AND s.spend_at >= spending_summary.spend_date AND s.spend_at < spending_summary.spend_date + INTERVAL 1 DAY " +
+            "AND s.category = spending_summary.category " +
+            "AND COALESCE(s.spending_custom_category_id, 0) = spending_summary.custom_category_key)";
+
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query(value = UPSERT_AGGREGATED_SPENDINGS +
+            "WHERE s.user_id = :userId AND s.deleted_at IS NULL AND s.spend_at >= :from AND s.spend_at < :to" +
+            GROUP_BY_SUMMARY_KEY, nativeQuery = true)
+    void upsertAggregatedSpendingsInQuery(Long userId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 범위 내 요약 행 중, 같은 요약 키의 지출 내역이 더 이상 존재하지 않는 행을 삭제한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query(value = DELETE_STALE_SUMMARIES + "AND spend_date >= :from AND spend_date < :to" + NOT_EXISTS_SPENDING, nativeQuery = true)
+    void deleteStaleByUserIdAndSpendDateBetweenInQuery(Long userId, LocalDate from, LocalDate to);
+
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query(value = "DELETE FROM spending_summary WHERE user_id = :userId", nativeQuery = true)
+    void deleteAllByUserIdInQuery(Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query(value = UPSERT_AGGREGATED_SPENDINGS +
+            "WHERE s.user_id = :userId AND s.deleted_at IS NULL" +
+            GROUP_BY_SUMMARY_KEY, nativeQuery = true)
+    void upsertAllAggregatedSpendingsInQuery(Long userId);
+
+    /**
+     * 사용자의 요약 행 중, 같은 요약 키의 지출 내역이 더 이상 존재하지 않는 행을 삭제한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query(value = DELETE_STALE_SUMMARIES + NOT_EXISTS_SPENDING, nativeQuery = true)
+    void deleteAllStaleByUserIdInQuery(Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query(value = "DELETE FROM spending_summary WHERE spending_custom_category_id = :categoryId", nativeQuery = true)
+    void deleteAllBySpendingCustomCategoryIdInQuery(Long categoryId);
+
+    /**
+     * 사용자의 지출 내역을 다시 집계한 결과와 요약 행을 비교하여, 값이 다른 날짜를 오름차순으로 조회한다.
+     * 요약 키(날짜, 카테고리, 사용자 정의 카테고리)와 합계, 건수가 양쪽에 정확히 한 번씩 존재하지 않으면 불일치로 판단한다.
+     *
+     * @return 불일치가 발견된 날짜(yyyy-MM-dd) 목록
+     */
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT DISTINCT CAST(m.spend_date AS CHAR) FROM (" +
+            "SELECT t.spend_date FROM (" +
+            "SELECT DATE(s.spend_at) AS spend_date, s.category, COALESCE(s.spending_custom_category_id, 0) AS custom_category_id, SUM(s.amount) AS total_amount, COUNT(*) AS spending_count, 1 AS source " +
+            "FROM spending s WHERE s.user_id = :userId AND s.deleted_at IS NULL " +
+            "GROUP BY DATE(s.spend_at), s.category, s.spending_custom_category_id " +
+            "UNION ALL " +
+            "SELECT ss.spend_date, ss.category, COALESCE(ss.spending_custom_category_id, 0), ss.total_amount, ss.spending_count, 2 " +
+            "FROM spending_summary ss WHERE ss.user_id = :userId" +
+            ") t " +
+            "GROUP BY t.spend_date, t.category, t.custom_category_id, t.total_amount, t.spending_count " +
+            "HAVING SUM(t.source = 1) <> 1 OR SUM(t.source = 2) <> 1" +
+            ") m ORDER BY 1", nativeQuery = true)
+    List<String> findMismatchedSpendDates(Long userId);
+}
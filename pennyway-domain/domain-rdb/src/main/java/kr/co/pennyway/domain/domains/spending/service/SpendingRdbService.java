@@ -1,6 +1,6 @@
 package kr.co.pennyway.domain.domains.spending.service;
 
-import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
 import kr.co.pennyway.common.annotation.DomainService;
 import kr.co.pennyway.domain.common.repository.QueryHandler;
@@ -8,36 +8,54 @@ import kr.co.pennyway.domain.common.util.SliceUtil;
 import kr.co.pennyway.domain.domains.spending.domain.QSpending;
 import kr.co.pennyway.domain.domains.spending.domain.QSpendingCustomCategory;
 import kr.co.pennyway.domain.domains.spending.domain.Spending;
+import kr.co.pennyway.domain.domains.spending.dto.CategoryTotalSpendingAmount;
+import kr.co.pennyway.domain.domains.spending.dto.SpendingDetail;
 import kr.co.pennyway.domain.domains.spending.dto.TotalSpendingAmount;
 import kr.co.pennyway.domain.domains.spending.repository.SpendingRepository;
+import kr.co.pennyway.domain.domains.spending.repository.SpendingSummaryRepository;
 import kr.co.pennyway.domain.domains.spending.type.SpendingCategory;
-import kr.co.pennyway.domain.domains.user.domain.QUser;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @DomainService
-@RequiredArgsConstructor
 public class SpendingRdbService {
     private final SpendingRepository spendingRepository;
+    private final SpendingSummaryRepository spendingSummaryRepository;
+    /* false면 spending_summary 백필이 끝나지 않은 것으로 보고, 합계 조회를 지출 내역 집계로 처리한다. 요약 갱신은 플래그와 무관하게 항상 수행한다. */
+    private final boolean summaryReadEnabled;
 
-    private final QUser user = QUser.user;
     private final QSpending spending = QSpending.spending;
     private final QSpendingCustomCategory spendingCustomCategory = QSpendingCustomCategory.spendingCustomCategory;
 
+    /* 카테고리별 지출 내역 커서 조회의 정렬 키. offset 조회의 기본 정렬(지출 일시 내림차순, 식별자 오름차순)과 같다. */
+    private final List<OrderSpecifier<?>> categorySpendingKeysetOrders = List.of(spending.spendAt.desc(), spending.id.asc());
+
+    public SpendingRdbService(
+            SpendingRepository spendingRepository,
+            SpendingSummaryRepository spendingSummaryRepository,
+            @Value("${pennyway.spending.summary.read-enabled:false}") boolean summaryReadEnabled
+    ) {
+        this.spendingRepository = spendingRepository;
+        this.spendingSummaryRepository = spendingSummaryRepository;
+        this.summaryReadEnabled = summaryReadEnabled;
+    }
+
     @Transactional
     public Spending createSpending(Spending spending) {
-        return spendingRepository.save(spending);
+        Spending savedSpending = spendingRepository.save(spending);
+        refreshSpendingSummary(savedSpending.getUser().getId(), savedSpending.getSpendAt().toLocalDate());
+
+        return savedSpending;
     }
 
     @Transactional(readOnly = true)
@@ -45,9 +63,14 @@ public class SpendingRdbService {
         return spendingRepository.findById(spendingId);
     }
 
+    /**
+     * 해당 년/월의 지출 내역을 조회 전용 DTO로 조회한다.
+     *
+     * @return 지출 일시 내림차순, 지출 ID 오름차순으로 정렬된 {@link SpendingDetail} 리스트
+     */
     @Transactional(readOnly = true)
-    public List<Spending> readSpendings(Long userId, int year, int month) {
-        return spendingRepository.findByYearAndMonth(userId, year, month);
+    public List<SpendingDetail> readSpendingDetails(Long userId, int year, int month) {
+        return spendingRepository.findDetailsByYearAndMonth(userId, year, month);
     }
 
     @Transactional(readOnly = true)
@@ -106,26 +129,84 @@ public class SpendingRdbService {
         return SliceUtil.toSlice(spendingRepository.findList(predicate, queryHandler, sort), pageable);
     }
 
+    /**
+     * 사용자 정의 카테고리 ID로 지출 내역 리스트를 커서 기반으로 조회한다.
+     * 지출 일시 내림차순, 식별자 오름차순으로 정렬하며, 이전 페이지의 마지막 지출 내역 이후부터 조회한다.
+     *
+     * @param lastSpendAt    이전 페이지의 마지막 지출 일시. lastSpendingId와 함께 null이면 첫 페이지를 조회한다.
+     * @param lastSpendingId 이전 페이지의 마지막 지출 ID
+     * @return 지출 내역 리스트를 {@link Slice}에 담아서 반환한다.
+     */
     @Transactional(readOnly = true)
-    public Optional<TotalSpendingAmount> readTotalSpendingAmountByUserId(Long userId, LocalDate date) {
-        return spendingRepository.findTotalSpendingAmountByUserId(userId, date.getYear(), date.getMonthValue());
+    public Slice<Spending> readSpendingsSliceByCategoryId(Long userId, Long categoryId, LocalDateTime lastSpendAt, Long lastSpendingId, int size) {
+        Predicate predicate = spending.user.id.eq(userId).and(spendingCustomCategory.id.eq(categoryId));
+
+        QueryHandler queryHandler = query -> query
+                .leftJoin(spending.spendingCustomCategory, spendingCustomCategory).fetchJoin();
+
+        return spendingRepository.findKeysetSlice(predicate, queryHandler, categorySpendingKeysetOrders, toCursor(lastSpendAt, lastSpendingId), size);
+    }
+
+    /**
+     * 시스템 제공 카테고리 code로 지출 내역 리스트를 커서 기반으로 조회한다.
+     * 지출 일시 내림차순, 식별자 오름차순으로 정렬하며, 이전 페이지의 마지막 지출 내역 이후부터 조회한다.
+     *
+     * @param lastSpendAt    이전 페이지의 마지막 지출 일시. lastSpendingId와 함께 null이면 첫 페이지를 조회한다.
+     * @param lastSpendingId 이전 페이지의 마지막 지출 ID
+     * @return 지출 내역 리스트를 {@link Slice}에 담아서 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Spending> readSpendingsSliceByCategory(Long userId, SpendingCategory spendingCategory, LocalDateTime lastSpendAt, Long lastSpendingId, int size) {
+        if (spendingCategory.equals(SpendingCategory.CUSTOM) || spendingCategory.equals(SpendingCategory.OTHER)) {
+            throw new IllegalArgumentException("지출 카테고리가 시스템 제공 카테고리가 아닙니다.");
+        }
+
+        Predicate predicate = spending.user.id.eq(userId).and(spending.category.eq(spendingCategory));
+
+        return spendingRepository.findKeysetSlice(predicate, null, categorySpendingKeysetOrders, toCursor(lastSpendAt, lastSpendingId), size);
     }
 
+    /**
+     * 사용자의 특정 일자 지출 금액을 카테고리별로 조회한다.
+     * <code>pennyway.spending.summary.read-enabled</code>가 true면 지출 내역 대신 spending_summary 테이블을 조회한다.
+     */
     @Transactional(readOnly = true)
-    public List<TotalSpendingAmount> readTotalSpendingsAmountByUserId(Long userId) {
-        Predicate predicate = user.id.eq(userId);
+    public List<CategoryTotalSpendingAmount> readCategoryTotalSpendingAmounts(Long userId, LocalDate date) {
+        if (summaryReadEnabled) {
+            return spendingSummaryRepository.findCategoryTotalSpendingAmounts(userId, date);
+        }
+
+        return readSpendings(userId, date.getYear(), date.getMonthValue(), date.getDayOfMonth()).stream()
+                .collect(Collectors.groupingBy(Spending::getCategory, LinkedHashMap::new, Collectors.summingLong(Spending::getAmount)))
+                .entrySet().stream()
+                .map(entry -> new CategoryTotalSpendingAmount(entry.getKey(), entry.getValue()))
+                .toList();
+    }
 
-        QueryHandler queryHandler = query -> query.leftJoin(spending).on(user.id.eq(spending.user.id))
-                .groupBy(spending.spendAt.year(), spending.spendAt.month());
+    /**
+     * 사용자의 특정 년/월 총 지출 금액을 조회한다.
+     * <code>pennyway.spending.summary.read-enabled</code>가 true면 지출 내역 대신 spending_summary 테이블을 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<TotalSpendingAmount> readTotalSpendingAmountByUserId(Long userId, LocalDate date) {
+        if (summaryReadEnabled) {
+            return spendingSummaryRepository.findTotalSpendingAmount(userId, date.getYear(), date.getMonthValue());
+        }
 
-        Sort sort = Sort.by(Sort.Order.desc("year(spendAt)"), Sort.Order.desc("month(spendAt)"));
+        return spendingRepository.findTotalSpendingAmountByUserId(userId, date.getYear(), date.getMonthValue());
+    }
 
-        Map<String, Expression<?>> bindings = new LinkedHashMap<>();
-        bindings.put("year", spending.spendAt.year().intValue());
-        bindings.put("month", spending.spendAt.month().intValue());
-        bindings.put("totalSpending", spending.amount.sum().longValue());
+    /**
+     * 사용자의 월별 총 지출 금액을 최신 월부터 조회한다.
+     * <code>pennyway.spending.summary.read-enabled</code>가 true면 지출 내역 대신 spending_summary 테이블을 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<TotalSpendingAmount> readTotalSpendingsAmountByUserId(Long userId) {
+        if (summaryReadEnabled) {
+            return spendingSummaryRepository.findMonthlyTotalSpendingAmounts(userId);
+        }
 
-        return spendingRepository.selectList(predicate, TotalSpendingAmount.class, bindings, queryHandler, sort);
+        return spendingRepository.findMonthlyTotalSpendingAmountsByUserId(userId);
     }
 
     @Transactional(readOnly = true)
@@ -139,44 +220,105 @@ public class SpendingRdbService {
     }
 
     @Transactional
-    public void updateCategoryByCustomCategory(SpendingCategory fromCategory, Long toId) {
+    public void updateCategoryByCustomCategory(Long userId, SpendingCategory fromCategory, Long toId) {
         SpendingCategory custom = SpendingCategory.CUSTOM;
-        spendingRepository.updateCategoryByCustomCategoryInQuery(fromCategory, toId, custom);
+        spendingRepository.updateCategoryByCustomCategoryInQuery(userId, fromCategory, toId, custom);
+        refreshAllSpendingSummaries(userId);
     }
 
     @Transactional
-    public void updateCategoryByCategory(SpendingCategory fromCategory, SpendingCategory toCategory) {
-
-        spendingRepository.updateCategoryByCategoryInQuery(fromCategory, toCategory);
+    public void updateCategoryByCategory(Long userId, SpendingCategory fromCategory, SpendingCategory toCategory) {
+        spendingRepository.updateCategoryByCategoryInQuery(userId, fromCategory, toCategory);
+        refreshAllSpendingSummaries(userId);
     }
 
     @Transactional
-    public void updateCustomCategoryByCustomCategory(Long fromId, Long toId) {
+    public void updateCustomCategoryByCustomCategory(Long userId, Long fromId, Long toId) {
         spendingRepository.updateCustomCategoryByCustomCategoryInQuery(fromId, toId);
+        refreshAllSpendingSummaries(userId);
     }
 
     @Transactional
-    public void updateCustomCategoryByCategory(Long fromId, SpendingCategory toCategory) {
+    public void updateCustomCategoryByCategory(Long userId, Long fromId, SpendingCategory toCategory) {
         spendingRepository.updateCustomCategoryByCategoryInQuery(fromId, toCategory);
+        refreshAllSpendingSummaries(userId);
     }
 
     @Transactional
     public void deleteSpending(Spending spending) {
         spendingRepository.delete(spending);
+        refreshSpendingSummary(spending.getUser().getId(), spending.getSpendAt().toLocalDate());
     }
 
     @Transactional
     public void deleteSpendingsInQuery(List<Long> spendingIds) {
+        Map<Long, Set<LocalDate>> affectedDates = new HashMap<>();
+        for (Spending spending : spendingRepository.findAllById(spendingIds)) {
+            affectedDates.computeIfAbsent(spending.getUser().getId(), key -> new HashSet<>()).add(spending.getSpendAt().toLocalDate());
+        }
+
         spendingRepository.deleteAllByIdAndDeletedAtNullInQuery(spendingIds);
+        affectedDates.forEach((userId, dates) -> dates.forEach(date -> refreshSpendingSummary(userId, date)));
     }
 
     @Transactional
     public void deleteSpendingsByUserIdInQuery(Long userId) {
         spendingRepository.deleteAllByUserIdInQuery(userId);
+        spendingSummaryRepository.deleteAllByUserIdInQuery(userId);
     }
 
     @Transactional
     public void deleteSpendingsByCategoryIdInQuery(Long categoryId) {
         spendingRepository.deleteAllByCategoryIdAndDeletedAtNullInQuery(categoryId);
+        spendingSummaryRepository.deleteAllBySpendingCustomCategoryIdInQuery(categoryId);
+    }
+
+    /**
+     * 사용자의 특정 일자 지출 요약을 지출 내역으로부터 다시 집계한다.
+     * 지출 내역을 변경한 트랜잭션 안에서 호출해야 하며, 지출 일자가 변경된 경우 변경 전후 일자 모두 호출해야 한다.
+     * 요약 키 기준으로 upsert하므로, 같은 일자를 동시에 다시 집계해도 요약 행이 중복되지 않는다.
+     */
+    @Transactional
+    public void refreshSpendingSummary(Long userId, LocalDate date) {
+        spendingSummaryRepository.upsertAggregatedSpendingsInQuery(userId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        spendingSummaryRepository.deleteStaleByUserIdAndSpendDateBetweenInQuery(userId, date, date.plusDays(1));
+    }
+
+    /**
+     * 사용자의 모든 지출 요약을 지출 내역으로부터 다시 집계한다.
+     * 카테고리 일괄 변경처럼 여러 일자의 요약 키가 바뀌는 경우에 사용한다.
+     */
+    @Transactional
+    public void refreshAllSpendingSummaries(Long userId) {
+        spendingSummaryRepository.upsertAllAggregatedSpendingsInQuery(userId);
+        spendingSummaryRepository.deleteAllStaleByUserIdInQuery(userId);
+    }
+
+    /**
+     * 지출 요약과 지출 내역을 비교하여, 불일치가 발견된 일자를 다시 집계한다.
+     * 요약 테이블 도입 이전의 지출 내역도 이 메서드로 채울 수 있다.
+     *
+     * @return 불일치가 발견되어 다시 집계한 일자 목록. 요약이 지출 내역과 일치하면 빈 리스트를 반환한다.
+     */
+    @Transactional
+    public List<LocalDate> reconcileSpendingSummary(Long userId) {
+        List<LocalDate> mismatchedDates = spendingSummaryRepository.findMismatchedSpendDates(userId).stream()
+                .map(LocalDate::parse)
+                .toList();
+
+        if (!mismatchedDates.isEmpty()) {
+            log.warn("지출 요약이 지출 내역과 일치하지 않아 다시 집계합니다. userId={}, dates={}", userId, mismatchedDates);
+            mismatchedDates.forEach(date -> refreshSpendingSummary(userId, date));
+        }
+
+        return mismatchedDates;
+    }
+
+    private List<?> toCursor(LocalDateTime lastSpendAt, Long lastSpendingId) {
+        if (lastSpendAt == null && lastSpendingId == null) {
+            return List.of();
+        }
+
+        return List.of(Objects.requireNonNull(lastSpendAt, "lastSpendAt은 null일 수 없습니다."), Objects.requireNonNull(lastSpendingId, "lastSpendingId는 null일 수 없습니다."));
     }
 }
@@ -8,5 +8,7 @@ import java.util.Optional;
 public interface TargetAmountCustomRepository {
     Optional<TargetAmount> findRecentOneByUserId(Long userId);
 
+    Optional<TargetAmount> findByUserIdThatMonth(Long userId, LocalDate date);
+
     boolean existsByUserIdThatMonth(Long userId, LocalDate date);
 }
@@ -1,6 +1,7 @@
 package kr.co.pennyway.domain.domains.target.repository;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.co.pennyway.domain.common.util.QueryDslUtil;
 import kr.co.pennyway.domain.domains.target.domain.QTargetAmount;
 import kr.co.pennyway.domain.domains.target.domain.TargetAmount;
 import kr.co.pennyway.domain.domains.user.domain.QUser;
@@ -9,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Optional;
 
 @Slf4j
@@ -37,13 +39,24 @@ public class TargetAmountCustomRepositoryImpl implements TargetAmountCustomRepos
         return Optional.ofNullable(result);
     }
 
+    /**
+     * 사용자의 해당 월 목표 금액을 조회한다.
+     */
+    @Override
+    public Optional<TargetAmount> findByUserIdThatMonth(Long userId, LocalDate date) {
+        TargetAmount result = queryFactory.selectFrom(targetAmount)
+                .where(targetAmount.user.id.eq(userId)
+                        .and(QueryDslUtil.inMonth(targetAmount.createdAt, YearMonth.from(date))))
+                .fetchOne();
+
+        return Optional.ofNullable(result);
+    }
+
     @Override
     public boolean existsByUserIdThatMonth(Long userId, LocalDate date) {
         return queryFactory.selectOne().from(targetAmount)
-                .innerJoin(user).on(targetAmount.user.id.eq(user.id))
-                .where(user.id.eq(userId)
-                        .and(targetAmount.createdAt.year().eq(date.getYear()))
-                        .and(targetAmount.createdAt.month().eq(date.getMonthValue())))
+                .where(targetAmount.user.id.eq(userId)
+                        .and(QueryDslUtil.inMonth(targetAmount.createdAt, YearMonth.from(date))))
                 .fetchFirst() != null;
     }
 }
@@ -0,0 +1,7 @@
+-- chat_message_status.last_read_message_seq: 마지막으로 읽은 메시지의 채팅방 내 순번 (ChatMessageStatus 엔티티)
+-- ddl-auto가 none인 환경(dev, prod)에서는 pennyway-socket과 pennyway-batch를 배포하기 전에 이 스크립트를 실행한다.
+-- 컬럼이 없으면 LastMessageIdWriter의 INSERT ... ON DUPLICATE KEY UPDATE가 Unknown column 오류로 실패한다.
+-- 기존 행은 NULL로 남으며, 순번이 없는 채팅방의 안 읽은 메시지 수는 마지막으로 읽은 메시지 ID 이후의 범위로 계산한다.
+
+ALTER TABLE chat_message_status
+    ADD COLUMN last_read_message_seq BIGINT NULL;
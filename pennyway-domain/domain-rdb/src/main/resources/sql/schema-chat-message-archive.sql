@@ -0,0 +1,18 @@
+-- chat_message: Redis의 hot window를 벗어나 MySQL로 이관된 채팅 메시지 (ChatMessageArchive 엔티티)
+-- ddl-auto가 none인 환경(dev, prod)에서는 pennyway-batch의 chatMessageArchiveJob이 실행되기 전에 이 스크립트를 실행한다.
+-- chat_id(TSID)를 PK로 사용하며, 이관 쿼리(INSERT ... ON DUPLICATE KEY UPDATE)는 이 PK로 같은 메시지의 중복 저장을 막는다.
+
+CREATE TABLE IF NOT EXISTS chat_message
+(
+    chat_id       BIGINT        NOT NULL,
+    chat_room_id  BIGINT,
+    sender        BIGINT,
+    content       VARCHAR(5000),
+    content_type  VARCHAR(255),
+    category_type VARCHAR(255),
+    created_at    DATETIME(6),
+    deleted_at    DATETIME(6),
+    archived_at   DATETIME(6),
+    PRIMARY KEY (chat_id),
+    INDEX idx_chat_message_chat_room_id_chat_id (chat_room_id, chat_id)
+) ENGINE = InnoDB;
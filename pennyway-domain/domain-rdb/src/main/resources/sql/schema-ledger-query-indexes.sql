@@ -0,0 +1,15 @@
+-- 가계부 조회용 복합 인덱스 (Spending, TargetAmount, Notification 엔티티의 @Table(indexes))
+-- ddl-auto가 none인 환경(dev, prod)에서는 애플리케이션 배포 전에 한 번 실행한다. MySQL의 CREATE INDEX는 IF NOT EXISTS를 지원하지 않으므로, 이미 생성된 인덱스의 문장은 제외하고 실행한다.
+-- InnoDB는 보조 인덱스를 온라인(ALGORITHM=INPLACE, LOCK=NONE)으로 생성하므로 생성 중에도 읽기/쓰기가 가능하다.
+
+-- 월별/일별 지출 조회: user_id = ? AND deleted_at IS NULL AND spend_at >= ? AND spend_at < ?
+CREATE INDEX idx_spending_user_id_deleted_at_spend_at
+    ON spending (user_id, deleted_at, spend_at) ALGORITHM = INPLACE LOCK = NONE;
+
+-- 당월 목표 금액 조회: user_id = ? AND created_at >= ? AND created_at < ?
+CREATE INDEX idx_target_amount_user_id_created_at
+    ON target_amount (user_id, created_at) ALGORITHM = INPLACE LOCK = NONE;
+
+-- 알림 중복 발송 확인: receiver = ? AND type = ? AND announcement = ? AND created_at >= ? AND created_at < ?
+CREATE INDEX idx_notification_receiver_type_announcement_created_at
+    ON notification (receiver, type, announcement, created_at) ALGORITHM = INPLACE LOCK = NONE;
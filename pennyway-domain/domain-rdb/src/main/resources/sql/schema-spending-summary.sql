@@ -0,0 +1,23 @@
+-- spending_summary: 사용자의 일별, 카테고리별 지출 합계 (SpendingSummary 엔티티)
+-- ddl-auto가 none인 환경(dev, prod)에서는 애플리케이션 배포 전에 이 스크립트를 실행한다.
+-- 테이블 생성 후 pennyway-batch의 spendingSummaryReconcileJob으로 기존 지출 내역을 백필하고,
+-- 백필이 끝나면 pennyway.spending.summary.read-enabled를 true로 전환한다.
+-- 요약 행은 uk_spending_summary_user_id_spend_date_category를 기준으로 upsert 되므로, 동시에 같은 일자를 다시 집계해도 중복되지 않는다.
+-- MySQL의 unique 제약은 NULL을 서로 다른 값으로 취급하므로, 사용자 정의 카테고리가 없으면 custom_category_key에 0을 저장한다.
+
+CREATE TABLE IF NOT EXISTS spending_summary
+(
+    id                          BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id                     BIGINT,
+    spend_date                  DATE,
+    category                    VARCHAR(255),
+    spending_custom_category_id BIGINT,
+    custom_category_key         BIGINT       NOT NULL,
+    total_amount                BIGINT,
+    spending_count              INT,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_spending_summary_user_id_spend_date_category (user_id, spend_date, category, custom_category_key),
+    INDEX idx_spending_summary_spending_custom_category_id (spending_custom_category_id),
+    CONSTRAINT fk_spending_summary_spending_custom_category_id
+        FOREIGN KEY (spending_custom_category_id) REFERENCES spending_custom_category (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,92 @@
+package kr.co.pennyway.domain.common.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CountCacheTest {
+    private static final Duration TTL = Duration.ofSeconds(10);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private CountCache countCache;
+
+    @BeforeEach
+    void setUp() {
+        countCache = new CountCache(TTL, 2, clock::get);
+    }
+
+    @Test
+    @DisplayName("TTL 이내에 같은 키로 조회하면 COUNT 쿼리를 다시 실행하지 않고 보관된 결과를 반환한다")
+    void returnCachedCountWithinTtl() {
+        // given
+        countCache.get("key", () -> load(10L));
+        clock.addAndGet(TTL.toNanos() - 1);
+
+        // when
+        long count = countCache.get("key", () -> load(20L));
+
+        // then
+        assertEquals(10L, count);
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 COUNT 쿼리를 다시 실행한다")
+    void reloadCountAfterTtl() {
+        // given
+        countCache.get("key", () -> load(10L));
+        clock.addAndGet(TTL.toNanos());
+
+        // when
+        long count = countCache.get("key", () -> load(20L));
+
+        // then
+        assertEquals(20L, count);
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("invalidateAll을 호출하면 TTL 이내라도 COUNT 쿼리를 다시 실행한다")
+    void reloadCountAfterInvalidateAll() {
+        // given
+        countCache.get("key", () -> load(10L));
+
+        // when
+        countCache.invalidateAll();
+        long count = countCache.get("key", () -> load(20L));
+
+        // then
+        assertEquals(20L, count);
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("최대 키 개수를 초과하면 만료된 키를 먼저 제거하고, 만료된 키가 없으면 모든 키를 제거한다")
+    void evictWhenMaximumSizeExceeded() {
+        // given
+        countCache.get("first", () -> load(1L));
+        clock.addAndGet(TTL.toNanos());
+        countCache.get("second", () -> load(2L));
+
+        // when
+        countCache.get("third", () -> load(3L));
+        int sizeAfterExpiredEviction = countCache.size();
+        countCache.get("fourth", () -> load(4L));
+
+        // then
+        assertEquals(2, sizeAfterExpiredEviction);
+        assertEquals(1, countCache.size());
+    }
+
+    private long load(long count) {
+        loadCount.incrementAndGet();
+        return count;
+    }
+}
@@ -0,0 +1,232 @@
+package kr.co.pennyway.domain.domains.spending.repository;
+
+import kr.co.pennyway.domain.config.ContainerMySqlTestConfig;
+import kr.co.pennyway.domain.config.JpaConfig;
+import kr.co.pennyway.domain.config.JpaTestConfig;
+import kr.co.pennyway.domain.domains.spending.dto.SpendingDetail;
+import kr.co.pennyway.domain.domains.spending.type.SpendingCategory;
+import kr.co.pennyway.domain.domains.target.repository.TargetAmountRepository;
+import kr.co.pennyway.domain.domains.user.domain.NotifySetting;
+import kr.co.pennyway.domain.domains.user.domain.User;
+import kr.co.pennyway.domain.domains.user.repository.UserRepository;
+import kr.co.pennyway.domain.domains.user.type.ProfileVisibility;
+import kr.co.pennyway.domain.domains.user.type.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 년/월/일 조건의 조회 쿼리가 컬럼에 함수를 적용하지 않고, 복합 인덱스의 range scan을 사용하는지 실행 계획으로 검증한다. <br/>
+ * 옵티마이저가 통계 정보를 기반으로 인덱스를 선택하므로, 트랜잭션 없이 데이터를 저장하고 ANALYZE TABLE을 수행한 뒤 EXPLAIN을 확인한다.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=kr.co.pennyway.domain.domains.spending.repository.LedgerQueryIndexTest$SqlCapture"
+})
+@ContextConfiguration(classes = JpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(JpaTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class LedgerQueryIndexTest extends ContainerMySqlTestConfig {
+    private static final int USER_COUNT = 30;
+    private static final YearMonth TARGET_MONTH = YearMonth.of(2024, 5);
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SpendingRepository spendingRepository;
+    @Autowired
+    private SpendingSummaryRepository spendingSummaryRepository;
+    @Autowired
+    private TargetAmountRepository targetAmountRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> spendings = new ArrayList<>();
+        List<Object[]> targetAmounts = new ArrayList<>();
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            Long id = userRepository.save(createUser("user" + i)).getId();
+
+            for (int month = 1; month <= 12; month++) {
+                LocalDateTime createdAt = LocalDateTime.of(2024, month, 1, 9, 0);
+                targetAmounts.add(new Object[]{100000, createdAt, createdAt, id});
+
+                for (int day = 1; day <= 5; day++) {
+                    LocalDateTime spendAt = LocalDateTime.of(2024, month, day * 5, 12, 0);
+                    spendings.add(new Object[]{10000, SpendingCategory.FOOD.getCode(), spendAt, id, day == 5 ? spendAt : null});
+                }
+            }
+
+            if (userId == null) {
+                userId = id;
+            }
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO spending(amount, category, spend_at, user_id, deleted_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, NOW(), NOW())", spendings);
+        jdbcTemplate.batchUpdate("INSERT INTO target_amount(amount, is_read, created_at, updated_at, user_id) VALUES (?, 0, ?, ?, ?)", targetAmounts);
+        userRepository.findAll().forEach(user -> spendingSummaryRepository.upsertAllAggregatedSpendingsInQuery(user.getId()));
+
+        jdbcTemplate.execute("ANALYZE TABLE spending, spending_summary, target_amount");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM spending_summary");
+        jdbcTemplate.update("DELETE FROM spending");
+        jdbcTemplate.update("DELETE FROM target_amount");
+        jdbcTemplate.update("DELETE FROM user");
+    }
+
+    @Test
+    @DisplayName("월별 지출 조회는 경계값을 포함한 [월초, 다음 달 월초) 범위로 조회하며, (user_id, deleted_at, spend_at) 인덱스를 range scan 한다")
+    void findByYearAndMonthUsesSpendingIndex() {
+        // when
+        SqlCapture.clear();
+        int size = spendingRepository.findByYearAndMonth(userId, TARGET_MONTH.getYear(), TARGET_MONTH.getMonthValue()).size();
+        List<Map<String, Object>> plan = explain(SqlCapture.lastSelect(), userId, TARGET_MONTH.atDay(1).atStartOfDay(), TARGET_MONTH.plusMonths(1).atDay(1).atStartOfDay());
+
+        // then
+        assertEquals(4, size);
+        assertUsesIndex(plan, "idx_spending_user_id_deleted_at_spend_at");
+    }
+
+    @Test
+    @DisplayName("월별 지출 DTO 조회는 지출 일시 내림차순, 지출 ID 오름차순으로 정렬하며, (user_id, deleted_at, spend_at) 인덱스를 range scan 한다")
+    void findDetailsByYearAndMonthUsesSpendingIndex() {
+        // when
+        SqlCapture.clear();
+        List<SpendingDetail> details = spendingRepository.findDetailsByYearAndMonth(userId, TARGET_MONTH.getYear(), TARGET_MONTH.getMonthValue());
+        List<Map<String, Object>> plan = explain(SqlCapture.lastSelect(), userId, TARGET_MONTH.atDay(1).atStartOfDay(), TARGET_MONTH.plusMonths(1).atDay(1).atStartOfDay());
+
+        // then
+        assertEquals(4, details.size());
+        assertTrue(IntStream.range(0, details.size() - 1).allMatch(i -> details.get(i).spendAt().isAfter(details.get(i + 1).spendAt())));
+        assertUsesIndex(plan, "idx_spending_user_id_deleted_at_spend_at");
+    }
+
+    @Test
+    @DisplayName("일별 지출 조회는 (user_id, deleted_at, spend_at) 인덱스를 range scan 한다")
+    void findByYearAndMonthAndDayUsesSpendingIndex() {
+        // given
+        LocalDate date = TARGET_MONTH.atDay(10);
+
+        // when
+        SqlCapture.clear();
+        int size = spendingRepository.findByYearAndMonthAndDay(userId, date.getYear(), date.getMonthValue(), date.getDayOfMonth()).size();
+        List<Map<String, Object>> plan = explain(SqlCapture.lastSelect(), userId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+
+        // then
+        assertEquals(1, size);
+        assertUsesIndex(plan, "idx_spending_user_id_deleted_at_spend_at");
+    }
+
+    @Test
+    @DisplayName("월별 지출 합계 조회는 (user_id, spend_date, category, custom_category_key) unique 인덱스를 range scan 한다")
+    void findTotalSpendingAmountUsesSummaryIndex() {
+        // when
+        SqlCapture.clear();
+        long total = spendingSummaryRepository.findTotalSpendingAmount(userId, TARGET_MONTH.getYear(), TARGET_MONTH.getMonthValue()).orElseThrow().totalSpending();
+        List<Map<String, Object>> plan = explain(SqlCapture.lastSelect(), userId, TARGET_MONTH.atDay(1), TARGET_MONTH.plusMonths(1).atDay(1));
+
+        // then
+        assertEquals(40000, total);
+        assertUsesIndex(plan, "uk_spending_summary_user_id_spend_date_category");
+    }
+
+    @Test
+    @DisplayName("당월 목표 금액 조회는 (user_id, created_at) 인덱스를 range scan 한다")
+    void findByUserIdThatMonthUsesTargetAmountIndex() {
+        // when
+        SqlCapture.clear();
+        boolean present = targetAmountRepository.findByUserIdThatMonth(userId, TARGET_MONTH.atDay(15)).isPresent();
+        List<Map<String, Object>> plan = explain(SqlCapture.lastSelect(), userId, TARGET_MONTH.atDay(1).atStartOfDay(), TARGET_MONTH.plusMonths(1).atDay(1).atStartOfDay());
+
+        // then
+        assertTrue(present);
+        assertUsesIndex(plan, "idx_target_amount_user_id_created_at");
+    }
+
+    private List<Map<String, Object>> explain(String sql, Object... params) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, params);
+        log.debug("sql: {}, plan: {}", sql, plan);
+
+        return plan;
+    }
+
+    private void assertUsesIndex(List<Map<String, Object>> plan, String indexName) {
+        Map<String, Object> row = plan.stream()
+                .filter(it -> indexName.equals(it.get("key")))
+                .findFirst()
+                .orElseGet(() -> fail(indexName + " 인덱스를 사용하지 않습니다. plan: " + plan));
+
+        assertEquals("range", row.get("type"), "인덱스를 range scan 해야 합니다. plan: " + plan);
+    }
+
+    private User createUser(String name) {
+        return User.builder()
+                .username(name)
+                .name(name)
+                .password("test")
+                .phone("010-1234-5678")
+                .role(Role.USER)
+                .profileVisibility(ProfileVisibility.PUBLIC)
+                .notifySetting(NotifySetting.of(true, true, true))
+                .build();
+    }
+
+    /**
+     * Hibernate가 실행한 SQL을 기록하여, 실제 조회 쿼리의 실행 계획을 확인할 수 있도록 한다.
+     */
+    public static class SqlCapture implements StatementInspector {
+        private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        static void clear() {
+            statements.clear();
+        }
+
+        static String lastSelect() {
+            for (int i = statements.size() - 1; i >= 0; i--) {
+                if (statements.get(i).trim().toLowerCase().startsWith("select")) {
+                    return statements.get(i);
+                }
+            }
+            throw new IllegalStateException("실행된 SELECT 쿼리가 없습니다.");
+        }
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
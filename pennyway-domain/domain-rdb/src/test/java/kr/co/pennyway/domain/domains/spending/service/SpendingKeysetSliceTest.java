@@ -0,0 +1,127 @@
+package kr.co.pennyway.domain.domains.spending.service;
+
+import kr.co.pennyway.domain.common.fixture.UserFixture;
+import kr.co.pennyway.domain.config.ContainerMySqlTestConfig;
+import kr.co.pennyway.domain.config.JpaConfig;
+import kr.co.pennyway.domain.config.JpaTestConfig;
+import kr.co.pennyway.domain.domains.spending.domain.Spending;
+import kr.co.pennyway.domain.domains.spending.domain.SpendingCustomCategory;
+import kr.co.pennyway.domain.domains.spending.repository.SpendingCustomCategoryRepository;
+import kr.co.pennyway.domain.domains.spending.repository.SpendingRepository;
+import kr.co.pennyway.domain.domains.spending.type.SpendingCategory;
+import kr.co.pennyway.domain.domains.user.domain.User;
+import kr.co.pennyway.domain.domains.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create"})
+@ContextConfiguration(classes = JpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaTestConfig.class, SpendingRdbService.class})
+public class SpendingKeysetSliceTest extends ContainerMySqlTestConfig {
+    private static final LocalDateTime SAME_SPEND_AT = LocalDateTime.of(2024, 5, 10, 12, 0);
+
+    @Autowired
+    private SpendingRdbService spendingRdbService;
+    @Autowired
+    private SpendingRepository spendingRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SpendingCustomCategoryRepository spendingCustomCategoryRepository;
+
+    private User user;
+    private SpendingCustomCategory customCategory;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(UserFixture.GENERAL_USER.toUser());
+        customCategory = spendingCustomCategoryRepository.save(SpendingCustomCategory.of("커스텀", SpendingCategory.EDUCATION, user));
+
+        for (int i = 0; i < 4; i++) {
+            spendingRepository.save(spending(SpendingCategory.FOOD, null, SAME_SPEND_AT));
+            spendingRepository.save(spending(SpendingCategory.CUSTOM, customCategory, SAME_SPEND_AT));
+        }
+        for (int day = 1; day <= 3; day++) {
+            spendingRepository.save(spending(SpendingCategory.FOOD, null, SAME_SPEND_AT.minusDays(day)));
+            spendingRepository.save(spending(SpendingCategory.CUSTOM, customCategory, SAME_SPEND_AT.plusDays(day)));
+        }
+        spendingRepository.save(spending(SpendingCategory.TRAVEL, null, SAME_SPEND_AT));
+    }
+
+    @Test
+    @DisplayName("시스템 제공 카테고리의 커서 조회는 지출 일시가 같은 지출 내역을 누락하거나 중복하지 않고, offset 조회와 같은 순서로 조회한다")
+    void readSpendingsSliceByCategoryWithCursor() {
+        // given
+        List<Long> expected = spendingRdbService.readSpendingsSliceByCategory(user.getId(), SpendingCategory.FOOD, PageRequest.of(0, 100, defaultSort()))
+                .map(Spending::getId)
+                .getContent();
+
+        // when
+        List<Long> actual = new ArrayList<>();
+        Slice<Spending> slice = spendingRdbService.readSpendingsSliceByCategory(user.getId(), SpendingCategory.FOOD, null, null, 3);
+        actual.addAll(slice.map(Spending::getId).getContent());
+
+        while (slice.hasNext()) {
+            Spending last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            slice = spendingRdbService.readSpendingsSliceByCategory(user.getId(), SpendingCategory.FOOD, last.getSpendAt(), last.getId(), 3);
+            actual.addAll(slice.map(Spending::getId).getContent());
+        }
+
+        // then
+        assertEquals(7, actual.size());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("사용자 정의 카테고리의 커서 조회는 이전 페이지의 마지막 지출 내역 이후부터 페이지 크기만큼 조회한다")
+    void readSpendingsSliceByCategoryIdWithCursor() {
+        // given
+        Slice<Spending> first = spendingRdbService.readSpendingsSliceByCategoryId(user.getId(), customCategory.getId(), null, null, 5);
+        Spending last = first.getContent().get(first.getNumberOfElements() - 1);
+
+        // when
+        Slice<Spending> second = spendingRdbService.readSpendingsSliceByCategoryId(user.getId(), customCategory.getId(), last.getSpendAt(), last.getId(), 5);
+
+        // then
+        assertAll(
+                () -> assertTrue(first.hasNext()),
+                () -> assertEquals(5, first.getNumberOfElements()),
+                () -> assertEquals(SAME_SPEND_AT.plusDays(3), first.getContent().get(0).getSpendAt()),
+                () -> assertFalse(second.hasNext()),
+                () -> assertEquals(2, second.getNumberOfElements()),
+                () -> assertTrue(second.getContent().stream().allMatch(spending -> spending.getSpendAt().equals(SAME_SPEND_AT) && spending.getId() > last.getId()))
+        );
+    }
+
+    private Sort defaultSort() {
+        return Sort.by(Sort.Order.desc("spending.spendAt"), Sort.Order.asc("spending.id"));
+    }
+
+    private Spending spending(SpendingCategory category, SpendingCustomCategory customCategory, LocalDateTime spendAt) {
+        return Spending.builder()
+                .amount(10000)
+                .category(category)
+                .spendAt(spendAt)
+                .user(user)
+                .spendingCustomCategory(customCategory)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package kr.co.pennyway.domain.domains.spending.service;
+
+import kr.co.pennyway.domain.common.fixture.UserFixture;
+import kr.co.pennyway.domain.config.ContainerMySqlTestConfig;
+import kr.co.pennyway.domain.config.JpaConfig;
+import kr.co.pennyway.domain.config.JpaTestConfig;
+import kr.co.pennyway.domain.domains.spending.dto.CategoryTotalSpendingAmount;
+import kr.co.pennyway.domain.domains.spending.dto.TotalSpendingAmount;
+import kr.co.pennyway.domain.domains.spending.type.SpendingCategory;
+import kr.co.pennyway.domain.domains.user.domain.User;
+import kr.co.pennyway.domain.domains.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * spending_summary 백필 이전(<code>pennyway.spending.summary.read-enabled=false</code>)에는 합계 조회가 지출 내역을 집계하는지 검증한다.
+ */
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create", "pennyway.spending.summary.read-enabled=false"})
+@ContextConfiguration(classes = JpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaTestConfig.class, SpendingRdbService.class})
+public class SpendingSummaryReadFallbackTest extends ContainerMySqlTestConfig {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 5, 1);
+    private static final LocalDate SECOND_DAY = LocalDate.of(2024, 5, 2);
+
+    @Autowired
+    private SpendingRdbService spendingRdbService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(UserFixture.GENERAL_USER.toUser());
+    }
+
+    @Test
+    @DisplayName("요약 행이 없는 기존 지출 내역도 일별, 월별 합계에 포함된다")
+    void readTotalsFromSpendingsWithoutSummary() {
+        // given
+        insertSpending(10000, SpendingCategory.FOOD, FIRST_DAY);
+        insertSpending(20000, SpendingCategory.FOOD, FIRST_DAY);
+        insertSpending(30000, SpendingCategory.TRANSPORTATION, FIRST_DAY);
+        insertSpending(40000, SpendingCategory.FOOD, SECOND_DAY);
+
+        // when
+        List<CategoryTotalSpendingAmount> firstDayTotals = spendingRdbService.readCategoryTotalSpendingAmounts(user.getId(), FIRST_DAY);
+        TotalSpendingAmount monthlyTotal = spendingRdbService.readTotalSpendingAmountByUserId(user.getId(), FIRST_DAY).orElseThrow();
+
+        // then
+        assertAll(
+                () -> assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM spending_summary", Integer.class)),
+                () -> assertEquals(2, firstDayTotals.size()),
+                () -> assertTrue(firstDayTotals.stream().anyMatch(total -> total.category().icon().equals(SpendingCategory.FOOD) && total.totalSpending() == 30000)),
+                () -> assertEquals(100000, monthlyTotal.totalSpending()),
+                () -> assertEquals(List.of(new TotalSpendingAmount(2024, 5, 100000)), spendingRdbService.readTotalSpendingsAmountByUserId(user.getId()))
+        );
+    }
+
+    @Test
+    @DisplayName("지출 내역이 없는 월의 총 지출 금액은 빈 값을 반환한다")
+    void readEmptyMonthlyTotal() {
+        assertAll(
+                () -> assertTrue(spendingRdbService.readTotalSpendingAmountByUserId(user.getId(), FIRST_DAY).isEmpty()),
+                () -> assertTrue(spendingRdbService.readTotalSpendingsAmountByUserId(user.getId()).isEmpty())
+        );
+    }
+
+    private void insertSpending(int amount, SpendingCategory category, LocalDate date) {
+        jdbcTemplate.update("INSERT INTO spending(amount, category, spend_at, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, NOW(), NOW())",
+                amount, category.getCode(), date.atTime(12, 0), user.getId());
+    }
+}
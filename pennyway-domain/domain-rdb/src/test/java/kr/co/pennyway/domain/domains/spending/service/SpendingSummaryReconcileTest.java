@@ -0,0 +1,175 @@
+package kr.co.pennyway.domain.domains.spending.service;
+
+import kr.co.pennyway.domain.common.fixture.UserFixture;
+import kr.co.pennyway.domain.config.ContainerMySqlTestConfig;
+import kr.co.pennyway.domain.config.JpaConfig;
+import kr.co.pennyway.domain.config.JpaTestConfig;
+import kr.co.pennyway.domain.domains.spending.domain.Spending;
+import kr.co.pennyway.domain.domains.spending.domain.SpendingCustomCategory;
+import kr.co.pennyway.domain.domains.spending.dto.CategoryTotalSpendingAmount;
+import kr.co.pennyway.domain.domains.spending.dto.TotalSpendingAmount;
+import kr.co.pennyway.domain.domains.spending.repository.SpendingCustomCategoryRepository;
+import kr.co.pennyway.domain.domains.spending.type.SpendingCategory;
+import kr.co.pennyway.domain.domains.user.domain.User;
+import kr.co.pennyway.domain.domains.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create", "pennyway.spending.summary.read-enabled=true"})
+@ContextConfiguration(classes = JpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaTestConfig.class, SpendingRdbService.class})
+public class SpendingSummaryReconcileTest extends ContainerMySqlTestConfig {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 5, 1);
+    private static final LocalDate SECOND_DAY = LocalDate.of(2024, 5, 2);
+
+    @Autowired
+    private SpendingRdbService spendingRdbService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SpendingCustomCategoryRepository spendingCustomCategoryRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private SpendingCustomCategory customCategory;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(UserFixture.GENERAL_USER.toUser());
+        customCategory = spendingCustomCategoryRepository.save(SpendingCustomCategory.of("커스텀", SpendingCategory.EDUCATION, user));
+    }
+
+    @Test
+    @DisplayName("지출 내역을 저장하면 같은 트랜잭션에서 일별, 월별 합계가 갱신된다")
+    void createSpendingUpdatesSummary() {
+        // given
+        spendingRdbService.createSpending(spending(10000, SpendingCategory.FOOD, null, FIRST_DAY));
+        spendingRdbService.createSpending(spending(20000, SpendingCategory.FOOD, null, FIRST_DAY));
+        spendingRdbService.createSpending(spending(30000, SpendingCategory.CUSTOM, customCategory, FIRST_DAY));
+        spendingRdbService.createSpending(spending(40000, SpendingCategory.FOOD, null, SECOND_DAY));
+
+        // when
+        List<CategoryTotalSpendingAmount> firstDayTotals = spendingRdbService.readCategoryTotalSpendingAmounts(user.getId(), FIRST_DAY);
+        TotalSpendingAmount monthlyTotal = spendingRdbService.readTotalSpendingAmountByUserId(user.getId(), FIRST_DAY).orElseThrow();
+
+        // then
+        assertAll(
+                () -> assertEquals(2, firstDayTotals.size()),
+                () -> assertTrue(firstDayTotals.stream().anyMatch(total -> !total.category().isCustom() && total.totalSpending() == 30000)),
+                () -> assertTrue(firstDayTotals.stream().anyMatch(total -> total.category().id().equals(customCategory.getId()) && total.totalSpending() == 30000)),
+                () -> assertEquals(100000, monthlyTotal.totalSpending()),
+                () -> assertEquals(List.of(new TotalSpendingAmount(2024, 5, 100000)), spendingRdbService.readTotalSpendingsAmountByUserId(user.getId())),
+                () -> assertTrue(spendingRdbService.reconcileSpendingSummary(user.getId()).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("지출 일자를 수정하거나 삭제해도 요약은 지출 내역과 일치한다")
+    void updateAndDeleteKeepSummaryConsistent() {
+        // given
+        Spending moved = spendingRdbService.createSpending(spending(10000, SpendingCategory.FOOD, null, FIRST_DAY));
+        Spending deleted = spendingRdbService.createSpending(spending(20000, SpendingCategory.FOOD, null, FIRST_DAY));
+        Spending bulkDeleted = spendingRdbService.createSpending(spending(30000, SpendingCategory.FOOD, null, SECOND_DAY));
+
+        // when
+        moved.update(15000, SpendingCategory.FOOD, SECOND_DAY.atStartOfDay(), null, null, null);
+        spendingRdbService.refreshSpendingSummary(user.getId(), FIRST_DAY);
+        spendingRdbService.refreshSpendingSummary(user.getId(), SECOND_DAY);
+        spendingRdbService.deleteSpending(deleted);
+        spendingRdbService.deleteSpendingsInQuery(List.of(bulkDeleted.getId()));
+
+        // then
+        assertAll(
+                () -> assertTrue(spendingRdbService.readCategoryTotalSpendingAmounts(user.getId(), FIRST_DAY).isEmpty()),
+                () -> assertEquals(15000, spendingRdbService.readCategoryTotalSpendingAmounts(user.getId(), SECOND_DAY).get(0).totalSpending()),
+                () -> assertTrue(spendingRdbService.reconcileSpendingSummary(user.getId()).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("카테고리를 일괄 변경하면 같은 일자의 요약이 하나의 카테고리로 합쳐진다")
+    void migrateCategoryMergesSummary() {
+        // given
+        spendingRdbService.createSpending(spending(10000, SpendingCategory.FOOD, null, FIRST_DAY));
+        spendingRdbService.createSpending(spending(20000, SpendingCategory.CUSTOM, customCategory, FIRST_DAY));
+
+        // when
+        spendingRdbService.updateCategoryByCustomCategory(user.getId(), SpendingCategory.FOOD, customCategory.getId());
+
+        // then
+        List<CategoryTotalSpendingAmount> totals = spendingRdbService.readCategoryTotalSpendingAmounts(user.getId(), FIRST_DAY);
+        assertAll(
+                () -> assertEquals(1, totals.size()),
+                () -> assertEquals(30000, totals.get(0).totalSpending()),
+                () -> assertTrue(spendingRdbService.reconcileSpendingSummary(user.getId()).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("요약을 거치지 않고 저장된 지출 내역은 정합성 검사에서 발견되어 다시 집계된다")
+    void reconcileRepairsMissingSummary() {
+        // given
+        spendingRdbService.createSpending(spending(10000, SpendingCategory.FOOD, null, FIRST_DAY));
+        jdbcTemplate.update("INSERT INTO spending(amount, category, spend_at, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, NOW(), NOW())",
+                5000, SpendingCategory.FOOD.getCode(), SECOND_DAY.atTime(12, 0), user.getId());
+
+        // when
+        List<LocalDate> mismatched = spendingRdbService.reconcileSpendingSummary(user.getId());
+
+        // then
+        assertAll(
+                () -> assertEquals(List.of(SECOND_DAY), mismatched),
+                () -> assertEquals(15000, spendingRdbService.readTotalSpendingAmountByUserId(user.getId(), FIRST_DAY).orElseThrow().totalSpending()),
+                () -> assertTrue(spendingRdbService.reconcileSpendingSummary(user.getId()).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("같은 일자를 여러 번 다시 집계해도 요약 키마다 한 행만 유지되며, 중복 행은 unique 제약으로 저장할 수 없다")
+    void refreshSameDayDoesNotDuplicateSummary() {
+        // given
+        spendingRdbService.createSpending(spending(10000, SpendingCategory.FOOD, null, FIRST_DAY));
+        spendingRdbService.createSpending(spending(20000, SpendingCategory.CUSTOM, customCategory, FIRST_DAY));
+
+        // when
+        spendingRdbService.refreshSpendingSummary(user.getId(), FIRST_DAY);
+        spendingRdbService.refreshSpendingSummary(user.getId(), FIRST_DAY);
+        spendingRdbService.refreshAllSpendingSummaries(user.getId());
+
+        // then
+        assertAll(
+                () -> assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM spending_summary WHERE user_id = ?", Integer.class, user.getId())),
+                () -> assertEquals(30000, spendingRdbService.readTotalSpendingAmountByUserId(user.getId(), FIRST_DAY).orElseThrow().totalSpending()),
+                () -> assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                        "INSERT INTO spending_summary(user_id, spend_date, category, spending_custom_category_id, custom_category_key, total_amount, spending_count) VALUES (?, ?, ?, NULL, 0, 1, 1)",
+                        user.getId(), FIRST_DAY, SpendingCategory.FOOD.getCode()))
+        );
+    }
+
+    private Spending spending(int amount, SpendingCategory category, SpendingCustomCategory customCategory, LocalDate date) {
+        return Spending.builder()
+                .amount(amount)
+                .category(category)
+                .spendAt(date.atTime(12, 0))
+                .user(user)
+                .spendingCustomCategory(customCategory)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package kr.co.pennyway.domain.domains.user.repository;
 
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Predicate;
+import kr.co.pennyway.domain.common.repository.CountCache;
 import kr.co.pennyway.domain.common.repository.QueryHandler;
 import kr.co.pennyway.domain.config.ContainerMySqlTestConfig;
 import kr.co.pennyway.domain.config.JpaConfig;
@@ -35,6 +36,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.*;
 
 import static java.time.LocalDateTime.now;
@@ -132,6 +134,84 @@ public class UserExtendedRepositoryTest extends ContainerMySqlTestConfig {
         }
     }
 
+    @Test
+    @DisplayName("""
+            Entity findPage 전체 요소 개수 테스트: 전체 요소 개수는 COUNT 쿼리로 조회하며, 페이지 정보와 관계없이 조건에 해당하는 전체 사용자 수와 같다.
+            마지막 페이지처럼 조회 결과가 페이지 크기보다 작은 경우에도 전체 요소 개수가 같아야 한다.
+            """)
+    @Transactional
+    public void findPageTotalElements() {
+        // given
+        Predicate predicate = qUser.name.eq("양재서")
+                .and(qOauth.provider.eq(Provider.KAKAO));
+
+        QueryHandler queryHandler = query -> query.leftJoin(qOauth).on(qUser.id.eq(qOauth.user.id));
+        Sort sort = Sort.by(Sort.Order.desc("user.id"));
+        int expected = userRepository.findList(predicate, queryHandler, sort).size();
+
+        // when
+        Page<User> firstPage = userRepository.findPage(predicate, queryHandler, PageRequest.of(0, 5, sort));
+        Page<User> lastPage = userRepository.findPage(predicate, queryHandler, PageRequest.of(2, 5, sort));
+
+        // then
+        assertEquals("조건에 해당하는 사용자는 12명이어야 한다.", 12, expected);
+        assertEquals("첫 페이지의 전체 요소 개수는 조건에 해당하는 사용자 수와 같아야 한다.", (long) expected, firstPage.getTotalElements());
+        assertEquals("마지막 페이지의 전체 요소 개수는 조건에 해당하는 사용자 수와 같아야 한다.", (long) expected, lastPage.getTotalElements());
+        assertEquals("전체 페이지 수는 3이어야 한다.", 3, firstPage.getTotalPages());
+        assertEquals("마지막 페이지의 요소 개수는 2여야 한다.", 2, lastPage.getNumberOfElements());
+    }
+
+    @Test
+    @DisplayName("""
+            Entity findPage group by 테스트: group by가 있는 경우, 전체 요소 개수는 행의 개수가 아닌 그룹의 개수와 같다.
+            """)
+    @Transactional
+    public void findPageWithGroupBy() {
+        // given
+        Predicate predicate = qUser.name.eq("양재서");
+
+        QueryHandler queryHandler = query -> query.leftJoin(qOauth).on(qUser.id.eq(qOauth.user.id)).groupBy(qUser.id);
+        Sort sort = Sort.by(Sort.Order.desc("user.id"));
+
+        // when
+        Page<User> users = userRepository.findPage(predicate, queryHandler, PageRequest.of(0, 5, sort));
+
+        // then
+        assertEquals("전체 요소 개수는 그룹의 개수인 12여야 한다.", 12L, users.getTotalElements());
+        assertEquals("users의 크기는 5여야 한다.", 5, users.getNumberOfElements());
+    }
+
+    @Test
+    @DisplayName("""
+            Entity findPage CountCache 테스트: CountCache를 전달하면 TTL 동안 같은 조건의 COUNT 결과를 재사용하고, invalidateAll 이후에는 다시 조회한다.
+            """)
+    @Transactional
+    public void findPageWithCountCache() {
+        // given
+        Predicate predicate = qUser.name.eq("양재서");
+        Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Order.desc("user.id")));
+        CountCache countCache = CountCache.of(Duration.ofMinutes(1), 10);
+
+        userRepository.findPage(predicate, null, pageable, countCache);
+        userRepository.save(User.builder()
+                .username("jayang100")
+                .name("양재서")
+                .phone("010-1111-1100")
+                .role(Role.USER)
+                .profileVisibility(ProfileVisibility.PUBLIC)
+                .notifySetting(NotifySetting.of(true, true, true))
+                .build());
+
+        // when
+        Page<User> cached = userRepository.findPage(predicate, null, pageable, countCache);
+        countCache.invalidateAll();
+        Page<User> reloaded = userRepository.findPage(predicate, null, pageable, countCache);
+
+        // then
+        assertEquals("TTL 이내에는 보관된 전체 요소 개수를 반환해야 한다.", 12L, cached.getTotalElements());
+        assertEquals("invalidateAll 이후에는 새로 저장한 사용자가 포함되어야 한다.", 13L, reloaded.getTotalElements());
+    }
+
     @Test
     @DisplayName("""
             Dto selectList 테스트: 사용자 이름이 양재서인 사용자의 username, name, phone 그리고 연동된 Oauth 정보를 조회한다.
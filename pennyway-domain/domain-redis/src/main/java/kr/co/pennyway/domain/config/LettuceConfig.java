@@ -2,6 +2,7 @@ package kr.co.pennyway.domain.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.co.pennyway.domain.RedisPackageLocation;
+import kr.co.pennyway.domain.common.annotation.DomainReactiveRedisTemplate;
 import kr.co.pennyway.domain.common.annotation.DomainRedisCacheManager;
 import kr.co.pennyway.domain.common.annotation.DomainRedisConnectionFactory;
 import kr.co.pennyway.domain.common.annotation.DomainRedisTemplate;
@@ -15,6 +16,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
@@ -68,6 +70,21 @@ public class LettuceConfig {
         return template;
     }
 
+    /**
+     * {@link #stringKeyRedisTemplate(ObjectMapper)}와 같은 serializer를 사용하는 reactive template.
+     * 같은 key와 value를 두 template이 구분 없이 읽고 쓸 수 있으며, connection factory도 공유합니다.
+     */
+    @Bean
+    @DomainReactiveRedisTemplate
+    public ReactiveRedisTemplate<String, Object> stringKeyReactiveRedisTemplate(ObjectMapper redisObjectMapper) {
+        RedisSerializationContext<String, Object> serializationContext = RedisSerializationContext
+                .<String, Object>newSerializationContext(new GenericJackson2JsonRedisSerializer(redisObjectMapper))
+                .key(new StringRedisSerializer())
+                .build();
+
+        return new ReactiveRedisTemplate<>((LettuceConnectionFactory) redisConnectionFactory(), serializationContext);
+    }
+
     @Bean
     @DomainRedisCacheManager
     public RedisCacheManager redisCacheManager(@DomainRedisConnectionFactory RedisConnectionFactory cf) {
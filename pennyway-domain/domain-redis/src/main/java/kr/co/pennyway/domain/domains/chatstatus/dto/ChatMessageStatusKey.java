@@ -0,0 +1,16 @@
+package kr.co.pennyway.domain.domains.chatstatus.dto;
+
+/**
+ * 마지막으로 읽은 메시지 정보를 구분하는 (사용자, 채팅방) 키
+ *
+ * @param userId     사용자 ID
+ * @param chatRoomId 채팅방 ID
+ */
+public record ChatMessageStatusKey(
+        Long userId,
+        Long chatRoomId
+) {
+    public static ChatMessageStatusKey of(Long userId, Long chatRoomId) {
+        return new ChatMessageStatusKey(userId, chatRoomId);
+    }
+}
@@ -0,0 +1,60 @@
+package kr.co.pennyway.domain.domains.chatstatus.dto;
+
+/**
+ * 사용자가 채팅방에서 마지막으로 읽은 메시지 정보
+ *
+ * @param messageId 마지막으로 읽은 메시지의 TSID. 읽은 메시지가 없는 경우 0
+ * @param seq       마지막으로 읽은 메시지의 채팅방 내 순번. 읽은 메시지가 없는 경우 0이며, 순번이 도입되기 전에 저장된 정보라면 null
+ */
+public record LastReadMessage(
+        Long messageId,
+        Long seq
+) {
+    private static final String SEPARATOR = ":";
+    private static final LastReadMessage NONE = new LastReadMessage(0L, 0L);
+
+    public static LastReadMessage of(Long messageId, Long seq) {
+        return new LastReadMessage(messageId, seq);
+    }
+
+    /**
+     * 아직 읽은 메시지가 없는 상태를 반환합니다.
+     */
+    public static LastReadMessage none() {
+        return NONE;
+    }
+
+    /**
+     * 캐시에 저장된 값을 변환합니다.
+     * 순번이 도입되기 전의 값은 메시지 ID만 가지고 있으므로, 이 경우 seq는 null입니다.
+     *
+     * @param value String: {messageId}:{seq} 또는 {messageId} 형식의 문자열
+     * @throws NumberFormatException 형식이 올바르지 않은 경우
+     */
+    public static LastReadMessage fromCacheValue(String value) {
+        int index = value.indexOf(SEPARATOR);
+
+        if (index < 0) {
+            return new LastReadMessage(Long.parseLong(value), null);
+        }
+
+        return new LastReadMessage(Long.parseLong(value.substring(0, index)), Long.parseLong(value.substring(index + 1)));
+    }
+
+    /**
+     * 캐시에 저장할 문자열로 변환합니다.
+     *
+     * @return {messageId}:{seq} 형식의 문자열. seq가 없는 경우 {messageId}
+     */
+    public String toCacheValue() {
+        return hasSeq() ? messageId + SEPARATOR + seq : String.valueOf(messageId);
+    }
+
+    /**
+     * 채팅방 내 순번을 알고 있는지 여부를 반환합니다.
+     * 순번을 모르는 경우, 안 읽은 메시지 개수는 TSID 범위로 계산해야 합니다.
+     */
+    public boolean hasSeq() {
+        return seq != null;
+    }
+}
@@ -1,17 +1,67 @@
 package kr.co.pennyway.domain.domains.chatstatus.repository;
 
+import kr.co.pennyway.domain.domains.chatstatus.dto.ChatMessageStatusKey;
+import kr.co.pennyway.domain.domains.chatstatus.dto.LastReadMessage;
+import org.springframework.data.redis.core.Cursor;
+
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ChatMessageStatusCacheRepository {
     /**
-     * 캐시 데이터에서 마지막으로 읽은 메시지 ID를 조회합니다.
+     * 캐시 데이터에서 마지막으로 읽은 메시지 ID와 순번을 조회합니다.
+     */
+    Optional<LastReadMessage> findLastReadMessageId(Long userId, Long chatRoomId);
+
+    /**
+     * 캐시 데이터에서 여러 채팅방의 마지막으로 읽은 메시지 ID와 순번을 한 번에 조회합니다. (MGET)
+     *
+     * @return 채팅방 ID를 키로 하는 맵. 캐시에 존재하지 않는 채팅방은 포함되지 않습니다.
+     */
+    Map<Long, LastReadMessage> findLastReadMessageIds(Long userId, Collection<Long> chatRoomIds);
+
+    /**
+     * 캐시 데이터에 마지막으로 읽은 메시지 ID와 순번을 저장합니다.
+     * 저장된 메시지 ID보다 큰 경우에만 갱신하며, 갱신된 키는 RDB 반영 대상으로 변경 집합에 기록합니다.
+     */
+    void saveLastReadMessageId(Long userId, Long chatRoomId, LastReadMessage lastReadMessage);
+
+    /**
+     * 여러 (사용자, 채팅방)의 마지막으로 읽은 메시지 ID와 순번을 한 번의 파이프라인으로 저장합니다.
+     * 키마다 {@link #saveLastReadMessageId(Long, Long, LastReadMessage)}와 같은 스크립트를 실행하므로, 저장된 메시지 ID보다 큰 경우에만 갱신합니다.
+     *
+     * @param lastReadMessages (사용자, 채팅방)을 키로, 마지막으로 읽은 메시지 정보를 값으로 가지는 맵
+     */
+    void saveLastReadMessageIds(Map<ChatMessageStatusKey, LastReadMessage> lastReadMessages);
+
+    /**
+     * 캐시 데이터가 존재하지 않는 채팅방에 한해, 마지막으로 읽은 메시지 ID를 한 번의 파이프라인으로 저장합니다.
+     * 이미 값이 존재하는 경우 더 최신의 값일 수 있으므로 덮어쓰지 않습니다.
+     *
+     * @param lastReadMessages 채팅방 ID를 키로, 마지막으로 읽은 메시지 정보를 값으로 가지는 맵
+     */
+    void saveLastReadMessageIdsIfAbsent(Long userId, Map<Long, LastReadMessage> lastReadMessages);
+
+    /**
+     * 변경 집합을 RDB 반영용 스냅샷으로 옮깁니다.
+     * 이후 저장되는 변경 사항은 새로운 변경 집합에 기록되므로, 스냅샷을 처리하는 동안의 변경도 유실되지 않습니다.
+     *
+     * @return 스냅샷에 포함된 캐시 키 개수
+     */
+    long snapshotDirtyKeys();
+
+    /**
+     * 스냅샷에 포함된 캐시 키를 순회합니다. (SSCAN)
+     *
+     * @param count 한 번에 조회할 키 개수
      */
-    Optional<Long> findLastReadMessageId(Long userId, Long chatRoomId);
+    Cursor<String> scanDirtyKeySnapshot(int count);
 
     /**
-     * 캐시 데이터에 마지막으로 읽은 메시지 ID를 저장합니다.
+     * RDB 반영을 마친 스냅샷을 삭제합니다.
      */
-    void saveLastReadMessageId(Long userId, Long chatRoomId, Long messageId);
+    void deleteDirtyKeySnapshot();
 
     /**
      * 캐시 데이터를 삭제합니다.
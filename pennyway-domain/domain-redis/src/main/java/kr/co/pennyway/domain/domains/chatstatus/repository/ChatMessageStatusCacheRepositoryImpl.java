@@ -1,45 +1,164 @@
 package kr.co.pennyway.domain.domains.chatstatus.repository;
 
+import kr.co.pennyway.domain.domains.chatstatus.dto.ChatMessageStatusKey;
+import kr.co.pennyway.domain.domains.chatstatus.dto.LastReadMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.Optional;
+import java.util.*;
 
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class ChatMessageStatusCacheRepositoryImpl implements ChatMessageStatusCacheRepository {
     private static final String CACHE_KEY_PREFIX = "chat:last_read:";
+    private static final String DIRTY_KEYS_KEY = CACHE_KEY_PREFIX + "dirty";
+    private static final String DIRTY_KEYS_SNAPSHOT_KEY = DIRTY_KEYS_KEY + ":snapshot";
     private static final Duration CACHE_TTL = Duration.ofHours(1);
 
     private final RedisTemplate<String, String> redisTemplate;
 
     @Override
-    public Optional<Long> findLastReadMessageId(Long userId, Long chatRoomId) {
+    public Optional<LastReadMessage> findLastReadMessageId(Long userId, Long chatRoomId) {
         String value = redisTemplate.opsForValue().get(formatCacheKey(userId, chatRoomId));
-        return Optional.ofNullable(value).map(Long::parseLong);
+        return Optional.ofNullable(value).map(LastReadMessage::fromCacheValue);
     }
 
     @Override
-    public void saveLastReadMessageId(Long userId, Long chatRoomId, Long messageId) {
-        try {
-            String key = formatCacheKey(userId, chatRoomId);
-            String currentValue = redisTemplate.opsForValue().get(key);
+    public Map<Long, LastReadMessage> findLastReadMessageIds(Long userId, Collection<Long> chatRoomIds) {
+        if (chatRoomIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> orderedChatRoomIds = List.copyOf(chatRoomIds);
+        List<String> values = redisTemplate.opsForValue().multiGet(orderedChatRoomIds.stream().map(chatRoomId -> formatCacheKey(userId, chatRoomId)).toList());
+
+        Map<Long, LastReadMessage> result = new HashMap<>();
+        if (values == null) {
+            return result;
+        }
 
-            if (currentValue != null && Long.parseLong(currentValue) >= messageId) {
-                return;
+        for (int i = 0; i < orderedChatRoomIds.size(); i++) {
+            String value = values.get(i);
+
+            if (value != null) {
+                result.put(orderedChatRoomIds.get(i), LastReadMessage.fromCacheValue(value));
             }
+        }
+
+        return result;
+    }
+
+    @Override
+    public void saveLastReadMessageId(Long userId, Long chatRoomId, LastReadMessage lastReadMessage) {
+        String cacheKey = formatCacheKey(userId, chatRoomId);
+
+        try {
+            redisTemplate.execute(
+                    ChatMessageStatusLuaScripts.SAVE_IF_GREATER.getScript(),
+                    List.of(cacheKey, DIRTY_KEYS_KEY),
+                    lastReadMessage.toCacheValue(),
+                    lastReadMessage.messageId(),
+                    CACHE_TTL.toMillis(),
+                    cacheKey
+            );
+        } catch (Exception e) {
+            log.error("Failed to cache message status: userId={}, roomId={}, lastReadMessage={}", userId, chatRoomId, lastReadMessage, e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void saveLastReadMessageIds(Map<ChatMessageStatusKey, LastReadMessage> lastReadMessages) {
+        if (lastReadMessages.isEmpty()) {
+            return;
+        }
+
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        byte[] script = ChatMessageStatusLuaScripts.SAVE_IF_GREATER.getScript().getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        byte[] dirtyKeysKey = keySerializer.serialize(DIRTY_KEYS_KEY);
+        byte[] ttl = valueSerializer.serialize(CACHE_TTL.toMillis());
 
-            redisTemplate.opsForValue().set(key, messageId.toString());
-            redisTemplate.expire(key, CACHE_TTL);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                lastReadMessages.forEach((key, lastReadMessage) -> {
+                    String cacheKey = formatCacheKey(key.userId(), key.chatRoomId());
+
+                    connection.scriptingCommands().eval(
+                            script,
+                            ReturnType.INTEGER,
+                            2,
+                            keySerializer.serialize(cacheKey),
+                            dirtyKeysKey,
+                            valueSerializer.serialize(lastReadMessage.toCacheValue()),
+                            valueSerializer.serialize(lastReadMessage.messageId()),
+                            ttl,
+                            valueSerializer.serialize(cacheKey)
+                    );
+                });
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("Failed to cache message statuses: statuses={}", lastReadMessages, e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void saveLastReadMessageIdsIfAbsent(Long userId, Map<Long, LastReadMessage> lastReadMessages) {
+        if (lastReadMessages.isEmpty()) {
+            return;
+        }
+
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        RedisSerializer<String> valueSerializer = (RedisSerializer<String>) redisTemplate.getValueSerializer();
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                lastReadMessages.forEach((chatRoomId, lastReadMessage) -> connection.stringCommands().set(
+                        keySerializer.serialize(formatCacheKey(userId, chatRoomId)),
+                        valueSerializer.serialize(lastReadMessage.toCacheValue()),
+                        Expiration.from(CACHE_TTL),
+                        RedisStringCommands.SetOption.ifAbsent()
+                ));
+                return null;
+            });
         } catch (Exception e) {
-            log.error("Failed to cache message status: userId={}, roomId={}, messageId={}", userId, chatRoomId, messageId, e);
+            log.error("Failed to cache message statuses: userId={}, statuses={}", userId, lastReadMessages, e);
         }
     }
 
+    @Override
+    public long snapshotDirtyKeys() {
+        Long size = redisTemplate.execute(
+                ChatMessageStatusLuaScripts.SNAPSHOT_DIRTY_KEYS.getScript(),
+                List.of(DIRTY_KEYS_KEY, DIRTY_KEYS_SNAPSHOT_KEY)
+        );
+        return size == null ? 0L : size;
+    }
+
+    @Override
+    public Cursor<String> scanDirtyKeySnapshot(int count) {
+        return redisTemplate.opsForSet().scan(DIRTY_KEYS_SNAPSHOT_KEY, ScanOptions.scanOptions().count(count).build());
+    }
+
+    @Override
+    public void deleteDirtyKeySnapshot() {
+        redisTemplate.delete(DIRTY_KEYS_SNAPSHOT_KEY);
+    }
+
     @Override
     public void deleteLastReadMessageId(Long userId, Long chatRoomId) {
         redisTemplate.delete(formatCacheKey(userId, chatRoomId));
@@ -0,0 +1,51 @@
+package kr.co.pennyway.domain.domains.chatstatus.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 마지막으로 읽은 메시지 캐시(KEYS[1])를 원자적으로 갱신하기 위한 Lua 스크립트
+ */
+@RequiredArgsConstructor
+public enum ChatMessageStatusLuaScripts {
+    /**
+     * 저장된 메시지 ID보다 ARGV[2]가 큰 경우에만 ARGV[1]을 저장하고, TTL(ARGV[3], ms)을 갱신합니다.
+     * 값이 갱신된 경우 변경 집합(KEYS[2])에 ARGV[4]를 추가하여, 배치가 변경된 키만 RDB에 반영할 수 있도록 합니다.
+     * TSID는 Lua의 number(double)로 표현하면 정밀도가 손실되므로, 자릿수와 사전 순으로 비교합니다.
+     * 값이 갱신된 경우 1, 그렇지 않은 경우 0을 반환합니다.
+     */
+    SAVE_IF_GREATER(
+            "local current = redis.call('GET', KEYS[1]) " +
+                    "if current then " +
+                    "local currentId = string.match(current, '^\"?(%d+)') " +
+                    "if currentId and (#currentId > #ARGV[2] or (#currentId == #ARGV[2] and currentId >= ARGV[2])) then " +
+                    "return 0 " +
+                    "end " +
+                    "end " +
+                    "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3]) " +
+                    "redis.call('SADD', KEYS[2], ARGV[4]) " +
+                    "return 1",
+            Long.class
+    ),
+    /**
+     * 변경 집합(KEYS[1])을 스냅샷(KEYS[2])에 합친 후 비웁니다.
+     * 이전 배치가 실패하여 스냅샷이 남아있는 경우에도 유실 없이 함께 처리할 수 있도록, 덮어쓰지 않고 합집합으로 저장합니다.
+     * 스냅샷의 크기를 반환합니다.
+     */
+    SNAPSHOT_DIRTY_KEYS(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+                    "redis.call('SUNIONSTORE', KEYS[2], KEYS[2], KEYS[1]) " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "end " +
+                    "return redis.call('SCARD', KEYS[2])",
+            Long.class
+    );
+
+    private final String script;
+    private final Class<?> returnType;
+
+    @SuppressWarnings("unchecked")
+    public <T> RedisScript<T> getScript() {
+        return RedisScript.of(script, (Class<T>) returnType);
+    }
+}
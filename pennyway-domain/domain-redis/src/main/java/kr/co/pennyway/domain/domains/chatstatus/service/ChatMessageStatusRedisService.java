@@ -1,10 +1,15 @@
 package kr.co.pennyway.domain.domains.chatstatus.service;
 
 import kr.co.pennyway.common.annotation.DomainService;
+import kr.co.pennyway.domain.domains.chatstatus.dto.ChatMessageStatusKey;
+import kr.co.pennyway.domain.domains.chatstatus.dto.LastReadMessage;
 import kr.co.pennyway.domain.domains.chatstatus.repository.ChatMessageStatusCacheRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -13,14 +18,40 @@ import java.util.Optional;
 public class ChatMessageStatusRedisService {
     private final ChatMessageStatusCacheRepository chatMessageStatusCacheRepository;
 
-    public Optional<Long> readLastReadMessageId(Long userId, Long chatRoomId) {
+    public Optional<LastReadMessage> readLastReadMessageId(Long userId, Long chatRoomId) {
         return chatMessageStatusCacheRepository.findLastReadMessageId(userId, chatRoomId);
     }
 
-    public void saveLastReadMessageId(Long userId, Long chatRoomId, Long messageId) {
-        validateInputs(userId, chatRoomId, messageId);
+    public Map<Long, LastReadMessage> readLastReadMessageIds(Long userId, Collection<Long> chatRoomIds) {
+        return chatMessageStatusCacheRepository.findLastReadMessageIds(userId, chatRoomIds);
+    }
+
+    public void saveLastReadMessageIdsIfAbsent(Long userId, Map<Long, LastReadMessage> lastReadMessages) {
+        chatMessageStatusCacheRepository.saveLastReadMessageIdsIfAbsent(userId, lastReadMessages);
+    }
+
+    public void saveLastReadMessageId(Long userId, Long chatRoomId, LastReadMessage lastReadMessage) {
+        validateInputs(userId, chatRoomId, lastReadMessage.messageId());
+
+        chatMessageStatusCacheRepository.saveLastReadMessageId(userId, chatRoomId, lastReadMessage);
+    }
+
+    public void saveLastReadMessageIds(Map<ChatMessageStatusKey, LastReadMessage> lastReadMessages) {
+        lastReadMessages.forEach((key, lastReadMessage) -> validateInputs(key.userId(), key.chatRoomId(), lastReadMessage.messageId()));
+
+        chatMessageStatusCacheRepository.saveLastReadMessageIds(lastReadMessages);
+    }
+
+    public long snapshotDirtyKeys() {
+        return chatMessageStatusCacheRepository.snapshotDirtyKeys();
+    }
+
+    public Cursor<String> scanDirtyKeySnapshot(int count) {
+        return chatMessageStatusCacheRepository.scanDirtyKeySnapshot(count);
+    }
 
-        chatMessageStatusCacheRepository.saveLastReadMessageId(userId, chatRoomId, messageId);
+    public void deleteDirtyKeySnapshot() {
+        chatMessageStatusCacheRepository.deleteDirtyKeySnapshot();
     }
 
     private void validateInputs(Long userId, Long chatRoomId, Long lastReadMessageId) {
@@ -37,6 +37,24 @@ public class ChatMessage {
         this.sender = builder.getSender();
     }
 
+    private ChatMessage(Long chatRoomId, Long chatId, String content, MessageContentType contentType, MessageCategoryType categoryType, LocalDateTime createdAt, LocalDateTime deletedAt, Long sender) {
+        this.chatRoomId = chatRoomId;
+        this.chatId = chatId;
+        this.content = content;
+        this.contentType = contentType;
+        this.categoryType = categoryType;
+        this.createdAt = createdAt;
+        this.deletedAt = deletedAt;
+        this.sender = sender;
+    }
+
+    /**
+     * 다른 저장소에 보관된 채팅 메시지를 복원합니다.
+     * 생성 시각과 삭제 시각을 그대로 유지해야 하므로, {@link ChatMessageBuilder}를 거치지 않습니다.
+     */
+    public static ChatMessage restore(Long chatRoomId, Long chatId, String content, MessageContentType contentType, MessageCategoryType categoryType, LocalDateTime createdAt, LocalDateTime deletedAt, Long sender) {
+        return new ChatMessage(chatRoomId, chatId, content, contentType, categoryType, createdAt, deletedAt, sender);
+    }
 
     @Override
     public String toString() {
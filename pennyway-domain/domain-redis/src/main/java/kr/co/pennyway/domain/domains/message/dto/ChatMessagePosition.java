@@ -0,0 +1,16 @@
+package kr.co.pennyway.domain.domains.message.dto;
+
+/**
+ * 채팅방 내 메시지의 위치
+ *
+ * @param chatRoomId 채팅방 ID
+ * @param messageId  메시지의 TSID
+ */
+public record ChatMessagePosition(
+        Long chatRoomId,
+        Long messageId
+) {
+    public static ChatMessagePosition of(Long chatRoomId, Long messageId) {
+        return new ChatMessagePosition(chatRoomId, messageId);
+    }
+}
@@ -0,0 +1,17 @@
+package kr.co.pennyway.domain.domains.message.dto;
+
+import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
+
+/**
+ * 채팅방 목록 조회 시 필요한 채팅방 별 메시지 요약 정보
+ *
+ * @param chatRoomId  채팅방 ID
+ * @param lastMessage 채팅방의 마지막 메시지. 메시지가 없는 경우 null
+ * @param unreadCount 사용자가 마지막으로 읽은 메시지 이후의 안 읽은 메시지 개수
+ */
+public record ChatRoomMessageSummary(
+        Long chatRoomId,
+        ChatMessage lastMessage,
+        Long unreadCount
+) {
+}
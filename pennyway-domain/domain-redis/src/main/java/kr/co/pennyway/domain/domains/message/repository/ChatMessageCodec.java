@@ -0,0 +1,220 @@
+package kr.co.pennyway.domain.domains.message.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
+import kr.co.pennyway.domain.domains.message.type.MessageCategoryType;
+import kr.co.pennyway.domain.domains.message.type.MessageContentType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Redis ZSET member로 저장되는 {@link ChatMessage}의 payload를 인코딩/디코딩합니다.
+ *
+ * <p>v1 payload는 고정 길이 binary header와 content body로 구성되며, Base64(no padding) 문자열로 저장됩니다.
+ * chatRoomId는 ZSET key에 이미 포함되어 있으므로 저장하지 않습니다.
+ * <pre>
+ * [version:1][flags:1][chatId:8][sender:8][contentType:1][categoryType:1][createdAt:12]([deletedAt:12])[contentLength:4][content:N]
+ * </pre>
+ * content가 {@link #COMPRESSION_THRESHOLD} 바이트 이상이고 압축 결과가 더 작은 경우에만 Deflate로 압축합니다.
+ *
+ * <p>기존 JSON payload('{'로 시작)도 그대로 읽을 수 있으므로, 배포 중 두 형식이 섞여 있어도 안전합니다.
+ * 쓰기 형식은 {@link WriteFormat}으로 결정합니다. 이전 버전 노드는 v1 payload를 읽을 수 없으므로,
+ * 모든 노드에 읽기 지원이 배포된 이후에 {@link WriteFormat#V1}로 전환해야 합니다.
+ * enum은 ordinal로 저장하므로, {@link MessageContentType}과 {@link MessageCategoryType}에 새로운 값은 항상 마지막에 추가해야 합니다.
+ */
+public final class ChatMessageCodec {
+    static final byte VERSION_1 = 1;
+    static final int COMPRESSION_THRESHOLD = 256;
+
+    private static final int FLAG_COMPRESSED = 1;
+    private static final int FLAG_DELETED = 1 << 1;
+    private static final int FLAG_NULL_CONTENT = 1 << 2;
+
+    private static final int TIMESTAMP_BYTES = Long.BYTES + Integer.BYTES;
+    private static final int HEADER_BYTES = 2 + Long.BYTES * 2 + 2 + TIMESTAMP_BYTES;
+
+    private static final MessageContentType[] CONTENT_TYPES = MessageContentType.values();
+    private static final MessageCategoryType[] CATEGORY_TYPES = MessageCategoryType.values();
+
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    private final ObjectMapper objectMapper;
+    private final WriteFormat writeFormat;
+
+    public ChatMessageCodec(ObjectMapper objectMapper, WriteFormat writeFormat) {
+        this.objectMapper = objectMapper;
+        this.writeFormat = writeFormat;
+    }
+
+    /**
+     * 채팅 메시지를 {@link WriteFormat}에 따른 payload 문자열로 인코딩합니다.
+     */
+    public String encode(ChatMessage message) {
+        if (writeFormat == WriteFormat.LEGACY) {
+            try {
+                return objectMapper.writeValueAsString(message);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Failed to encode chat message", e);
+            }
+        }
+
+        return encodeV1(message);
+    }
+
+    private String encodeV1(ChatMessage message) {
+        byte[] body = message.getContent() == null ? new byte[0] : message.getContent().getBytes(StandardCharsets.UTF_8);
+
+        int flags = 0;
+        if (message.getContent() == null) {
+            flags |= FLAG_NULL_CONTENT;
+        }
+        if (message.getDeletedAt() != null) {
+            flags |= FLAG_DELETED;
+        }
+        if (body.length >= COMPRESSION_THRESHOLD) {
+            byte[] compressed = deflate(body);
+            if (compressed.length < body.length) {
+                body = compressed;
+                flags |= FLAG_COMPRESSED;
+            }
+        }
+
+        int capacity = HEADER_BYTES + ((flags & FLAG_DELETED) != 0 ? TIMESTAMP_BYTES : 0) + Integer.BYTES + body.length;
+        ByteBuffer buffer = ByteBuffer.allocate(capacity)
+                .put(VERSION_1)
+                .put((byte) flags)
+                .putLong(message.getChatId())
+                .putLong(message.getSender())
+                .put((byte) message.getContentType().ordinal())
+                .put((byte) message.getCategoryType().ordinal());
+
+        putTimestamp(buffer, message.getCreatedAt());
+        if (message.getDeletedAt() != null) {
+            putTimestamp(buffer, message.getDeletedAt());
+        }
+        buffer.putInt(body.length).put(body);
+
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    /**
+     * payload 문자열을 채팅 메시지로 디코딩합니다.
+     * 기존 JSON 형식과 v1 형식을 모두 지원합니다.
+     *
+     * @param chatRoomId Long: payload가 저장된 채팅방 ID
+     * @param payload    String: ZSET member에서 TSID key를 제외한 부분
+     * @throws IllegalArgumentException 지원하지 않는 형식이거나 payload가 손상된 경우
+     */
+    public ChatMessage decode(Long chatRoomId, String payload) {
+        if (isLegacyJson(payload)) {
+            try {
+                return objectMapper.readValue(payload, ChatMessage.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid legacy chat message payload", e);
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(DECODER.decode(payload));
+
+        byte version = buffer.get();
+        if (version != VERSION_1) {
+            throw new IllegalArgumentException("Unsupported chat message payload version: " + version);
+        }
+
+        int flags = buffer.get();
+        long chatId = buffer.getLong();
+        long sender = buffer.getLong();
+        MessageContentType contentType = CONTENT_TYPES[buffer.get()];
+        MessageCategoryType categoryType = CATEGORY_TYPES[buffer.get()];
+        LocalDateTime createdAt = getTimestamp(buffer);
+        LocalDateTime deletedAt = (flags & FLAG_DELETED) != 0 ? getTimestamp(buffer) : null;
+
+        byte[] body = new byte[buffer.getInt()];
+        buffer.get(body);
+
+        String content = null;
+        if ((flags & FLAG_NULL_CONTENT) == 0) {
+            content = new String((flags & FLAG_COMPRESSED) != 0 ? inflate(body) : body, StandardCharsets.UTF_8);
+        }
+
+        return ChatMessage.restore(chatRoomId, chatId, content, contentType, categoryType, createdAt, deletedAt, sender);
+    }
+
+    static boolean isLegacyJson(String payload) {
+        return !payload.isEmpty() && payload.charAt(0) == '{';
+    }
+
+    private void putTimestamp(ByteBuffer buffer, LocalDateTime dateTime) {
+        buffer.putLong(dateTime.toEpochSecond(ZoneOffset.UTC)).putInt(dateTime.getNano());
+    }
+
+    private LocalDateTime getTimestamp(ByteBuffer buffer) {
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    private byte[] deflate(byte[] source) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(source);
+            deflater.finish();
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream(source.length);
+            byte[] chunk = new byte[512];
+            while (!deflater.finished()) {
+                output.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] source) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(source);
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream(source.length * 2);
+            byte[] chunk = new byte[512];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(chunk);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated compressed chat message content");
+                }
+                output.write(chunk, 0, length);
+            }
+            return output.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Invalid compressed chat message content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * ZSET member로 저장할 payload 형식
+     */
+    public enum WriteFormat {
+        /**
+         * 기존 JSON 형식. 모든 버전의 노드가 읽을 수 있습니다.
+         */
+        LEGACY,
+        /**
+         * binary v1 형식. {@link ChatMessageCodec}의 읽기 지원이 배포된 노드만 읽을 수 있습니다.
+         */
+        V1
+    }
+}
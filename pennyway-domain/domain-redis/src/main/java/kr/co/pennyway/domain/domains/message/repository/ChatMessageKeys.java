@@ -0,0 +1,58 @@
+package kr.co.pennyway.domain.domains.message.repository;
+
+/**
+ * 채팅 메시지 저장소가 사용하는 Redis key와 ZSET member 형식을 정의합니다.
+ * 동기 저장소와 reactive 저장소가 같은 key에 같은 형식으로 저장하도록 공유합니다.
+ */
+final class ChatMessageKeys {
+    static final String SEPARATOR = "|";
+    private static final int COUNTER_DIGITS = 4;
+
+    private ChatMessageKeys() {
+    }
+
+    /**
+     * 채팅방의 조회용 Redis key를 생성합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return 생성된 Redis key
+     */
+    static String getChatRoomKey(Long roomId) {
+        return "chatroom:" + roomId + ":message";
+    }
+
+    /**
+     * 채팅방의 메시지 순번 카운터 Redis key를 생성합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return 생성된 Redis key
+     */
+    static String getSequenceKey(Long roomId) {
+        return "chatroom:" + roomId + ":seq";
+    }
+
+    /**
+     * 발신자의 클라이언트 메시지 ID 중복 확인용 Redis key를 생성합니다.
+     *
+     * @param roomId          채팅방 ID
+     * @param senderId        발신자 ID
+     * @param clientMessageId 클라이언트 메시지 ID
+     * @return 생성된 Redis key
+     */
+    static String getDedupeKey(Long roomId, Long senderId, String clientMessageId) {
+        return "chatroom:" + roomId + ":dedupe:" + senderId + ":" + clientMessageId;
+    }
+
+    /**
+     * TSID를 lexicographical sorting이 가능한 형태의 문자열로 변환
+     * format: {timestamp부분:16진수}:{counter부분:4자리}
+     */
+    static String formatTsidKey(long tsid) {
+        String tsidStr = String.valueOf(tsid);
+
+        String timestamp = tsidStr.substring(0, tsidStr.length() - COUNTER_DIGITS);
+        String counter = tsidStr.substring(tsidStr.length() - COUNTER_DIGITS);
+
+        return timestamp + ":" + counter;
+    }
+}
@@ -0,0 +1,86 @@
+package kr.co.pennyway.domain.domains.message.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 채팅 메시지 ZSET(KEYS[1])과 채팅방 순번 카운터(KEYS[2])를 원자적으로 다루기 위한 Lua 스크립트
+ * <p>
+ * 인자와 반환값은 RedisTemplate의 value serializer(JSON)를 거치므로, 문자열 인자는 따옴표로 감싸진 상태로 저장됩니다.
+ */
+@RequiredArgsConstructor
+public enum ChatMessageLuaScripts {
+    /**
+     * 순번을 발급하고 메시지를 저장합니다.
+     * 순번 카운터가 없는 채팅방은 기존 메시지 개수로 카운터를 초기화한 뒤 발급합니다.
+     */
+    SAVE(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+                    "redis.call('SET', KEYS[2], redis.call('ZCARD', KEYS[1])) " +
+                    "end " +
+                    "local seq = redis.call('INCR', KEYS[2]) " +
+                    "redis.call('ZADD', KEYS[1], 0, ARGV[1]) " +
+                    "return seq",
+            Long.class
+    ),
+    /**
+     * 클라이언트 메시지 ID 중복 확인 키(KEYS[3])가 없는 경우에만 {@link #SAVE}와 같이 메시지를 저장하고, 중복 확인 키에 TSID(ARGV[2])를 ARGV[3] ms 동안 기록합니다.
+     * 이미 중복 확인 키가 있다면 저장하지 않고 기존 메시지의 TSID를 반환하며, 새로 저장한 경우 ARGV[2]를 그대로 반환합니다.
+     */
+    SAVE_IF_ABSENT(
+            "local original = redis.call('GET', KEYS[3]) " +
+                    "if original then return original end " +
+                    "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+                    "redis.call('SET', KEYS[2], redis.call('ZCARD', KEYS[1])) " +
+                    "end " +
+                    "redis.call('INCR', KEYS[2]) " +
+                    "redis.call('ZADD', KEYS[1], 0, ARGV[1]) " +
+                    "redis.call('SET', KEYS[3], ARGV[2], 'PX', ARGV[3]) " +
+                    "return ARGV[2]",
+            String.class
+    ),
+    /**
+     * {@link #SAVE_IF_ABSENT}로 저장한 메시지(ARGV[1])와 중복 확인 키(KEYS[3])를 삭제합니다.
+     * 중복 확인 키가 ARGV[2]가 아닌 다른 메시지의 TSID를 가리키거나 만료되었다면 삭제하지 않고 0을 반환합니다.
+     * <p>
+     * 순번 카운터(KEYS[2])는 단조 증가해야 하므로 감소시키지 않습니다.
+     * 철회한 메시지의 순번 이후에 마지막으로 읽은 순번을 저장한 사용자가 최신 순번보다 앞서지 않도록 하기 위함이며,
+     * 그 대가로 남는 순번의 빈 자리는 안 읽은 메시지 수를 최대 1만큼 크게 계산할 뿐입니다.
+     */
+    REVOKE(
+            "if redis.call('GET', KEYS[3]) ~= ARGV[2] then return 0 end " +
+                    "redis.call('DEL', KEYS[3]) " +
+                    "redis.call('ZREM', KEYS[1], ARGV[1]) " +
+                    "return 1",
+            Long.class
+    ),
+    /**
+     * ARGV[1] 미만의 TSID key를 가진 메시지 개수가 ARGV[2]와 같은 경우에만 해당 메시지들을 삭제하고, 삭제한 개수를 반환합니다.
+     * 조회 이후 더 작은 TSID의 메시지가 늦게 저장되었거나, 조회 결과에서 제외된(디코딩 실패) 메시지가 범위에 있으면 삭제하지 않고 -1을 반환합니다.
+     */
+    DELETE_UP_TO_IF_COUNT_MATCHES(
+            "local count = redis.call('ZLEXCOUNT', KEYS[1], '-', '(' .. ARGV[1]) " +
+                    "if count ~= tonumber(ARGV[2]) then return -1 end " +
+                    "return redis.call('ZREMRANGEBYLEX', KEYS[1], '-', '(' .. ARGV[1])",
+            Long.class
+    ),
+    /**
+     * ARGV[1] 이상의 TSID key를 가진 메시지 개수를 최신 순번에서 빼서, 그 이전 메시지의 순번을 계산합니다.
+     * 순번 카운터가 없는 채팅방은 nil을 반환합니다.
+     */
+    FIND_SEQUENCE(
+            "local latest = redis.call('GET', KEYS[2]) " +
+                    "if not latest then return nil end " +
+                    "local after = redis.call('ZLEXCOUNT', KEYS[1], '[' .. ARGV[1], '+') " +
+                    "return math.max(tonumber(latest) - after, 0)",
+            Long.class
+    );
+
+    private final String script;
+    private final Class<?> returnType;
+
+    @SuppressWarnings("unchecked")
+    public <T> RedisScript<T> getScript() {
+        return RedisScript.of(script, (Class<T>) returnType);
+    }
+}
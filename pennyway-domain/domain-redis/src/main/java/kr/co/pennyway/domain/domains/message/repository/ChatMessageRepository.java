@@ -1,21 +1,51 @@
 package kr.co.pennyway.domain.domains.message.repository;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import kr.co.pennyway.domain.domains.chatstatus.dto.LastReadMessage;
 import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
+import kr.co.pennyway.domain.domains.message.dto.ChatMessagePosition;
+import kr.co.pennyway.domain.domains.message.dto.ChatRoomMessageSummary;
 import org.springframework.data.domain.SliceImpl;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface ChatMessageRepository {
     /**
      * 채팅 메시지를 Redis에 저장합니다.
      * 메시지는 JSON 형태로 직렬화되어 저장되며, TSID를 score로 사용하여 정렬됩니다.
+     * 저장과 동시에 같은 Lua 스크립트 안에서 채팅방 내 순번(seq)을 1 증가시킵니다.
      *
      * @param message {@link ChatMessage}: 저장할 채팅 메시지
      * @throws JsonProcessingException JSON 직렬화에 실패한 경우
      */
     ChatMessage save(ChatMessage message);
 
+    /**
+     * 같은 발신자가 같은 클라이언트 메시지 ID로 저장한 메시지가 없는 경우에만 채팅 메시지를 저장합니다.
+     * 중복 확인과 저장은 하나의 Lua 스크립트로 처리되므로, {@link #save(ChatMessage)}와 Redis 왕복 횟수가 같습니다.
+     * 중복 확인 키는 ttl 동안 유지되며, 그 이후의 재전송은 새로운 메시지로 저장됩니다.
+     *
+     * @param message         {@link ChatMessage}: 저장할 채팅 메시지
+     * @param clientMessageId String: 클라이언트가 메시지마다 발급한 ID (x-message-id 헤더)
+     * @param ttl             Duration: 중복 확인 키의 유지 기간
+     * @return 이미 저장된 메시지가 있는 경우 해당 메시지의 TSID. 새로 저장한 경우 {@link Optional#empty()}
+     */
+    Optional<Long> saveIfAbsent(ChatMessage message, String clientMessageId, Duration ttl);
+
+    /**
+     * {@link #saveIfAbsent(ChatMessage, String, Duration)}로 저장한 메시지와 중복 확인 키를 삭제합니다.
+     * 발행에 실패한 메시지를 재전송했을 때, 성공 응답만 반환하지 않고 다시 저장하고 발행할 수 있도록 하기 위해 사용합니다.
+     *
+     * @param message         {@link ChatMessage}: saveIfAbsent로 저장한 채팅 메시지
+     * @param clientMessageId String: 클라이언트가 메시지마다 발급한 ID
+     * @return 삭제한 경우 true. 중복 확인 키가 다른 메시지를 가리키거나 만료된 경우 false
+     */
+    boolean revoke(ChatMessage message, String clientMessageId);
+
     /**
      * 채팅방의 최근 메시지를 조회합니다.
      * 메시지는 시간 순으로 정렬되어 반환됩니다.
@@ -38,8 +68,21 @@ public interface ChatMessageRepository {
      */
     SliceImpl<ChatMessage> findMessagesBefore(Long roomId, Long lastMessageId, int size);
 
+    /**
+     * 특정 메시지 ID 이후의 메시지 중 가장 최근 메시지들을 조회합니다.
+     * 최근 시간 기준으로 정렬된 결과를 반환하며, lastMessageId에 해당하는 메시지는 포함되지 않습니다.
+     * lastMessageId 이후의 메시지가 size보다 많은 경우, 최근 size개만 반환하고 hasNext를 true로 설정합니다.
+     *
+     * @param roomId        Long: 채팅방 ID
+     * @param lastMessageId Long: 마지막으로 수신한 메시지의 TSID
+     * @param size          int: 조회할 최대 메시지 개수
+     * @return 최근 순으로 정렬된 메시지 목록과 조회되지 않은 이전 메시지 존재 여부
+     */
+    SliceImpl<ChatMessage> findLatestMessagesAfter(Long roomId, Long lastMessageId, int size);
+
     /**
      * 사용자가 마지막으로 읽은 메시지 이후의 안 읽은 메시지 개수를 조회합니다.
+     * 읽은 메시지가 없는 경우, 채팅방의 최신 순번을 그대로 반환합니다.
      *
      * @param roomId            채팅방 ID
      * @param lastReadMessageId 사용자가 마지막으로 읽은 메시지의 TSID. 이 값이 0일 경우 모든 메시지 개수를 조회합니다.
@@ -47,4 +90,61 @@ public interface ChatMessageRepository {
      * @throws IllegalArgumentException lastReadMessageId가 null이거나 음수인 경우
      */
     Long countUnreadMessages(Long roomId, Long lastReadMessageId);
+
+    /**
+     * 여러 채팅방의 마지막 메시지와 안 읽은 메시지 개수를 한 번의 Redis 파이프라인으로 조회합니다.
+     * 안 읽은 메시지 개수는 채팅방의 최신 순번(MGET)에서 마지막으로 읽은 메시지의 순번을 뺀 값입니다.
+     * 순번을 알 수 없는 채팅방(순번 도입 이전의 데이터)만 TSID 범위 카운트로 계산하며, 이 경우에만 추가 왕복이 1회 발생합니다.
+     *
+     * @param lastReadMessages 채팅방 ID를 키로, 사용자가 마지막으로 읽은 메시지 정보를 값으로 가지는 맵
+     * @return 채팅방 ID를 키로 하는 요약 정보. 입력 맵의 순회 순서를 유지합니다.
+     * @throws IllegalArgumentException lastReadMessageId가 null이거나 음수인 경우
+     */
+    Map<Long, ChatRoomMessageSummary> findChatRoomMessageSummaries(Map<Long, LastReadMessage> lastReadMessages);
+
+    /**
+     * 메시지의 채팅방 내 순번을 조회합니다.
+     * 최신 순번에서 해당 메시지 이후의 메시지 개수를 빼서 계산하므로, 메시지 자신이 Redis에 없더라도 조회할 수 있습니다.
+     * 단, 이후의 메시지 중 일부가 이미 아카이브로 이관되었다면 그 개수만큼 순번이 크게 계산됩니다.
+     *
+     * @param roomId    Long: 채팅방 ID
+     * @param messageId Long: 메시지의 TSID
+     * @return 메시지의 순번. 순번 카운터가 없는 채팅방인 경우 {@link Optional#empty()}
+     */
+    Optional<Long> findSequence(Long roomId, Long messageId);
+
+    /**
+     * 여러 메시지의 채팅방 내 순번을 한 번의 파이프라인으로 조회합니다.
+     * 순번은 {@link #findSequence(Long, Long)}와 같은 방식으로 계산합니다.
+     *
+     * @param positions 순번을 조회할 메시지의 위치
+     * @return 메시지 위치를 키로 하는 맵. 순번 카운터가 없는 채팅방의 메시지는 포함되지 않습니다.
+     */
+    Map<ChatMessagePosition, Long> findSequences(Collection<ChatMessagePosition> positions);
+
+    /**
+     * 채팅방의 hot window를 벗어난 메시지들을 오래된 순으로 조회합니다.
+     * 메시지 개수가 maxCount를 초과하거나, TSID가 cutoffMessageId보다 작은 메시지는 hot window를 벗어난 것으로 판단합니다.
+     *
+     * @param roomId          Long: 채팅방 ID
+     * @param maxCount        int: 채팅방 별로 Redis에 유지할 최대 메시지 개수. 0 이하인 경우 개수 제한을 적용하지 않습니다.
+     * @param cutoffMessageId Long: 이 TSID보다 오래된 메시지는 hot window를 벗어납니다. null인 경우 기간 제한을 적용하지 않습니다.
+     * @param limit           int: 조회할 최대 메시지 개수
+     * @return 오래된 순으로 정렬된 메시지 목록
+     */
+    List<ChatMessage> findMessagesOutsideHotWindow(Long roomId, int maxCount, Long cutoffMessageId, int limit);
+
+    /**
+     * 채팅방에서 messageId 이하의 TSID를 가진 메시지들을 모두 삭제합니다.
+     * 영구 저장소로의 이관이 완료된 메시지를 Redis에서 제거할 때 사용합니다.
+     * <p>
+     * 삭제 범위의 메시지 개수가 expectedCount와 다르면 이관되지 않은 메시지가 포함된 것이므로 아무것도 삭제하지 않습니다.
+     * 조회 이후 더 작은 TSID의 메시지가 늦게 저장된 경우나, 디코딩에 실패하여 조회 결과에서 제외된 메시지가 있는 경우가 이에 해당합니다.
+     *
+     * @param roomId        Long: 채팅방 ID
+     * @param messageId     Long: 삭제할 메시지 중 가장 최신 메시지의 TSID
+     * @param expectedCount int: 이관을 완료한 메시지 개수
+     * @return 삭제했다면 true, 삭제 범위의 메시지 개수가 달라 삭제하지 않았다면 false
+     */
+    boolean deleteMessagesUpTo(Long roomId, Long messageId, int expectedCount);
 }
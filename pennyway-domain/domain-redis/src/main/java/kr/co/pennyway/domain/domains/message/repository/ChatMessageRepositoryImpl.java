@@ -1,55 +1,94 @@
 package kr.co.pennyway.domain.domains.message.repository;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.pennyway.domain.domains.chatstatus.dto.LastReadMessage;
 import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
-import lombok.RequiredArgsConstructor;
+import kr.co.pennyway.domain.domains.message.dto.ChatMessagePosition;
+import kr.co.pennyway.domain.domains.message.dto.ChatRoomMessageSummary;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Range;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
-import java.util.Set;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+import static kr.co.pennyway.domain.domains.message.repository.ChatMessageKeys.*;
 
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class ChatMessageRepositoryImpl implements ChatMessageRepository {
-    private static final int COUNTER_DIGITS = 4;
-    private static final String SEPARATOR = "|";
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final ChatMessageCodec chatMessageCodec;
+
+    public ChatMessageRepositoryImpl(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${pennyway.chat.message.write-format:LEGACY}") ChatMessageCodec.WriteFormat writeFormat
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.chatMessageCodec = new ChatMessageCodec(objectMapper, writeFormat);
+    }
 
     @Override
     public ChatMessage save(ChatMessage message) {
-        try {
-            String messageJson = objectMapper.writeValueAsString(message);
-            String chatRoomKey = getChatRoomKey(message.getChatRoomId());
-
-            String tsidKey = formatTsidKey(message.getChatId());
+        String chatRoomKey = getChatRoomKey(message.getChatRoomId());
+        String tsidKey = formatTsidKey(message.getChatId());
 
-            redisTemplate.opsForZSet().add(chatRoomKey, tsidKey + SEPARATOR + messageJson, 0);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to save chat message: {}", message, e);
-            throw new RuntimeException("Failed to save chat message", e);
-        }
+        redisTemplate.execute(
+                ChatMessageLuaScripts.SAVE.getScript(),
+                List.of(chatRoomKey, getSequenceKey(message.getChatRoomId())),
+                tsidKey + SEPARATOR + chatMessageCodec.encode(message)
+        );
 
         return message;
     }
 
+    @Override
+    public Optional<Long> saveIfAbsent(ChatMessage message, String clientMessageId, Duration ttl) {
+        String chatRoomKey = getChatRoomKey(message.getChatRoomId());
+        String tsidKey = formatTsidKey(message.getChatId());
+
+        String chatId = redisTemplate.execute(
+                ChatMessageLuaScripts.SAVE_IF_ABSENT.getScript(),
+                List.of(chatRoomKey, getSequenceKey(message.getChatRoomId()), getDedupeKey(message.getChatRoomId(), message.getSender(), clientMessageId)),
+                tsidKey + SEPARATOR + chatMessageCodec.encode(message),
+                String.valueOf(message.getChatId()),
+                ttl.toMillis()
+        );
+
+        return Optional.ofNullable(chatId).map(Long::parseLong).filter(id -> !id.equals(message.getChatId()));
+    }
+
+    @Override
+    public boolean revoke(ChatMessage message, String clientMessageId) {
+        String tsidKey = formatTsidKey(message.getChatId());
+
+        Long revoked = redisTemplate.execute(
+                ChatMessageLuaScripts.REVOKE.getScript(),
+                List.of(getChatRoomKey(message.getChatRoomId()), getSequenceKey(message.getChatRoomId()), getDedupeKey(message.getChatRoomId(), message.getSender(), clientMessageId)),
+                tsidKey + SEPARATOR + chatMessageCodec.encode(message),
+                String.valueOf(message.getChatId())
+        );
+
+        return revoked != null && revoked == 1L;
+    }
+
     @Override
     public List<ChatMessage> findRecentMessages(Long roomId, int limit) {
         String chatRoomKey = getChatRoomKey(roomId);
 
         Set<String> messageJsonSet = redisTemplate.opsForZSet().reverseRangeByLex(chatRoomKey, Range.unbounded(), Limit.limit().count(limit));
 
-        return convertToMessages(messageJsonSet);
+        return convertToMessages(roomId, messageJsonSet);
     }
 
     @Override
@@ -62,7 +101,7 @@ public class ChatMessageRepositoryImpl implements ChatMessageRepository {
                 Range.of(Range.Bound.unbounded(), Range.Bound.exclusive(tsidKey)),
                 Limit.limit().count(size + 1)
         );
-        List<ChatMessage> messages = convertToMessages(messageJsonSet);
+        List<ChatMessage> messages = convertToMessages(roomId, messageJsonSet);
 
         boolean hasNext = messages.size() > size;
 
@@ -74,13 +113,33 @@ public class ChatMessageRepositoryImpl implements ChatMessageRepository {
     }
 
     @Override
-    public Long countUnreadMessages(Long roomId, Long lastReadMessageId) {
-        if (lastReadMessageId == null || lastReadMessageId < 0) {
-            throw new IllegalArgumentException("lastReadMessageId must not be null");
+    public SliceImpl<ChatMessage> findLatestMessagesAfter(Long roomId, Long lastMessageId, int size) {
+        String chatRoomKey = getChatRoomKey(roomId);
+        String tsidKey = formatTsidKey(lastMessageId + 1);
+
+        Set<String> messageJsonSet = redisTemplate.opsForZSet().reverseRangeByLex(
+                chatRoomKey,
+                Range.of(Range.Bound.inclusive(tsidKey), Range.Bound.unbounded()),
+                Limit.limit().count(size + 1)
+        );
+        List<ChatMessage> messages = convertToMessages(roomId, messageJsonSet);
+
+        boolean hasNext = messages.size() > size;
+
+        if (hasNext) {
+            messages = messages.subList(0, size);
         }
 
+        return new SliceImpl<>(messages, PageRequest.of(0, size), hasNext);
+    }
+
+    @Override
+    public Long countUnreadMessages(Long roomId, Long lastReadMessageId) {
+        validateLastReadMessageId(lastReadMessageId);
+
         if (lastReadMessageId == 0L) {
-            return redisTemplate.opsForZSet().zCard(getChatRoomKey(roomId));
+            Long latestSequence = findLatestSequence(roomId);
+            return latestSequence != null ? latestSequence : redisTemplate.opsForZSet().zCard(getChatRoomKey(roomId));
         }
 
         String chatRoomKey = getChatRoomKey(roomId);
@@ -88,55 +147,243 @@ public class ChatMessageRepositoryImpl implements ChatMessageRepository {
 
         Long totalCount = redisTemplate.opsForZSet().lexCount(chatRoomKey, Range.of(Range.Bound.inclusive(tsidKey), Range.Bound.unbounded()));
 
-        return totalCount > 0 ? totalCount - 1 : 0;
+        return toUnreadCount(totalCount);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Long, ChatRoomMessageSummary> findChatRoomMessageSummaries(Map<Long, LastReadMessage> lastReadMessages) {
+        if (lastReadMessages.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Map.Entry<Long, LastReadMessage>> entries = List.copyOf(lastReadMessages.entrySet());
+        entries.forEach(entry -> validateLastReadMessageId(entry.getValue().messageId()));
+
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+
+        // [모든 채팅방의 최신 순번(MGET), 채팅방 별 마지막 메시지...] 순서로 명령을 적재한다.
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().mGet(entries.stream().map(entry -> keySerializer.serialize(getSequenceKey(entry.getKey()))).toArray(byte[][]::new));
+
+            for (Map.Entry<Long, LastReadMessage> entry : entries) {
+                connection.zSetCommands().zRevRangeByLex(keySerializer.serialize(getChatRoomKey(entry.getKey())), Range.unbounded(), Limit.limit().count(1));
+            }
+            return null;
+        });
+
+        List<Object> latestSequences = (List<Object>) results.get(0);
+        Map<Long, ChatMessage> lastMessages = new HashMap<>();
+        Map<Long, Long> unreadCounts = new HashMap<>();
+        Map<Long, Long> unsequenced = new LinkedHashMap<>();
+
+        for (int i = 0; i < entries.size(); i++) {
+            Long roomId = entries.get(i).getKey();
+            LastReadMessage lastReadMessage = entries.get(i).getValue();
+            Long latestSequence = toSequence(latestSequences.get(i));
+            ChatMessage lastMessage = convertToMessages(roomId, (Set<String>) results.get(i + 1)).stream().findFirst().orElse(null);
+
+            lastMessages.put(roomId, lastMessage);
+
+            if (latestSequence != null && lastReadMessage.hasSeq()) {
+                unreadCounts.put(roomId, Math.max(latestSequence - lastReadMessage.seq(), 0));
+            } else if (latestSequence == null && lastMessage == null) {
+                unreadCounts.put(roomId, 0L);
+            } else {
+                unsequenced.put(roomId, lastReadMessage.messageId());
+            }
+        }
+
+        unreadCounts.putAll(countUnreadMessagesByRange(unsequenced));
+
+        Map<Long, ChatRoomMessageSummary> summaries = new LinkedHashMap<>();
+        for (Map.Entry<Long, LastReadMessage> entry : entries) {
+            Long roomId = entry.getKey();
+            summaries.put(roomId, new ChatRoomMessageSummary(roomId, lastMessages.get(roomId), unreadCounts.get(roomId)));
+        }
+
+        return summaries;
+    }
+
+    @Override
+    public Optional<Long> findSequence(Long roomId, Long messageId) {
+        Long sequence = redisTemplate.execute(
+                ChatMessageLuaScripts.FIND_SEQUENCE.getScript(),
+                List.of(getChatRoomKey(roomId), getSequenceKey(roomId)),
+                formatTsidKey(messageId + 1)
+        );
+
+        return Optional.ofNullable(sequence);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<ChatMessagePosition, Long> findSequences(Collection<ChatMessagePosition> positions) {
+        if (positions.isEmpty()) {
+            return Map.of();
+        }
+
+        List<ChatMessagePosition> orderedPositions = List.copyOf(positions);
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        RedisSerializer<String> valueSerializer = (RedisSerializer<String>) redisTemplate.getValueSerializer();
+        byte[] script = ChatMessageLuaScripts.FIND_SEQUENCE.getScript().getScriptAsString().getBytes(StandardCharsets.UTF_8);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ChatMessagePosition position : orderedPositions) {
+                connection.scriptingCommands().eval(
+                        script,
+                        ReturnType.INTEGER,
+                        2,
+                        keySerializer.serialize(getChatRoomKey(position.chatRoomId())),
+                        keySerializer.serialize(getSequenceKey(position.chatRoomId())),
+                        valueSerializer.serialize(formatTsidKey(position.messageId() + 1))
+                );
+            }
+            return null;
+        });
+
+        Map<ChatMessagePosition, Long> sequences = new HashMap<>();
+        for (int i = 0; i < orderedPositions.size(); i++) {
+            Long sequence = toSequence(results.get(i));
+
+            if (sequence != null) {
+                sequences.put(orderedPositions.get(i), sequence);
+            }
+        }
+
+        return sequences;
+    }
+
+    @Override
+    public List<ChatMessage> findMessagesOutsideHotWindow(Long roomId, int maxCount, Long cutoffMessageId, int limit) {
+        String chatRoomKey = getChatRoomKey(roomId);
+
+        long overflowCount = 0;
+        if (maxCount > 0) {
+            Long totalCount = redisTemplate.opsForZSet().zCard(chatRoomKey);
+            overflowCount = totalCount == null ? 0 : Math.max(0, totalCount - maxCount);
+        }
+
+        long expiredCount = 0;
+        if (cutoffMessageId != null) {
+            Long count = redisTemplate.opsForZSet().lexCount(chatRoomKey, Range.of(Range.Bound.unbounded(), Range.Bound.exclusive(formatTsidKey(cutoffMessageId))));
+            expiredCount = count == null ? 0 : count;
+        }
+
+        // 모든 score가 0이므로, rank 순서는 TSID 순서와 같다.
+        long count = Math.min(Math.max(overflowCount, expiredCount), limit);
+        if (count <= 0) {
+            return Collections.emptyList();
+        }
+
+        return convertToMessages(roomId, redisTemplate.opsForZSet().range(chatRoomKey, 0, count - 1));
+    }
+
+    @Override
+    public boolean deleteMessagesUpTo(Long roomId, Long messageId, int expectedCount) {
+        Long deletedCount = redisTemplate.execute(
+                ChatMessageLuaScripts.DELETE_UP_TO_IF_COUNT_MATCHES.getScript(),
+                List.of(getChatRoomKey(roomId)),
+                formatTsidKey(messageId + 1),
+                expectedCount
+        );
+
+        return deletedCount != null && deletedCount >= 0;
     }
 
     /**
-     * JSON 문자열 집합을 ChatMessage 객체 리스트로 변환합니다.
-     * 변환 실패한 메시지는 무시됩니다.
-     *
-     * @param messageJsonSet JSON 문자열 집합
-     * @return 변환된 ChatMessage 객체 리스트
+     * 순번을 알 수 없는 채팅방의 안 읽은 메시지 개수를 TSID 범위 카운트로 계산합니다.
+     * 순번 도입 이전에 저장된 마지막 읽음 정보를 위한 경로이며, 대상 채팅방이 없으면 Redis를 호출하지 않습니다.
      */
-    private List<ChatMessage> convertToMessages(Set<String> messageJsonSet) {
-        if (messageJsonSet == null || messageJsonSet.isEmpty()) {
-            return Collections.emptyList();
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> countUnreadMessagesByRange(Map<Long, Long> lastReadMessageIds) {
+        if (lastReadMessageIds.isEmpty()) {
+            return Map.of();
         }
 
-        return messageJsonSet.stream()
-                .map(value -> {
-                    try {
-                        String json = value.substring(value.indexOf(SEPARATOR) + 1);
-                        return objectMapper.readValue(json, ChatMessage.class);
-                    } catch (JsonProcessingException e) {
-                        log.error("Failed to parse chat message JSON: {}", value, e);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .toList();
+        List<Map.Entry<Long, Long>> entries = List.copyOf(lastReadMessageIds.entrySet());
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        RedisSerializer<String> valueSerializer = (RedisSerializer<String>) redisTemplate.getValueSerializer();
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<Long, Long> entry : entries) {
+                byte[] chatRoomKey = keySerializer.serialize(getChatRoomKey(entry.getKey()));
+
+                if (entry.getValue() == 0L) {
+                    connection.zSetCommands().zCard(chatRoomKey);
+                } else {
+                    byte[] tsidKey = valueSerializer.serialize(formatTsidKey(entry.getValue()));
+                    connection.zSetCommands().zLexCount(chatRoomKey, Range.of(Range.Bound.inclusive(tsidKey), Range.Bound.unbounded()));
+                }
+            }
+            return null;
+        });
+
+        Map<Long, Long> unreadCounts = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            Long count = (Long) results.get(i);
+            unreadCounts.put(entries.get(i).getKey(), entries.get(i).getValue() == 0L ? count : toUnreadCount(count));
+        }
+
+        return unreadCounts;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long findLatestSequence(Long roomId) {
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        byte[] value = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(keySerializer.serialize(getSequenceKey(roomId))));
+
+        return value == null ? null : Long.parseLong(new String(value, StandardCharsets.UTF_8));
     }
 
     /**
-     * 채팅방의 조회용 Redis key를 생성합니다.
-     *
-     * @param roomId 채팅방 ID
-     * @return 생성된 Redis key
+     * 파이프라인 결과로 역직렬화된 순번 카운터 값을 Long으로 변환합니다.
+     * INCR로 관리되는 정수 값이므로, value serializer를 거치면 숫자 타입으로 반환됩니다.
      */
-    private String getChatRoomKey(Long roomId) {
-        return "chatroom:" + roomId + ":message";
+    private Long toSequence(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+    }
+
+    private void validateLastReadMessageId(Long lastReadMessageId) {
+        if (lastReadMessageId == null || lastReadMessageId < 0) {
+            throw new IllegalArgumentException("lastReadMessageId must not be null");
+        }
     }
 
     /**
-     * TSID를 lexicographical sorting이 가능한 형태의 문자열로 변환
-     * format: {timestamp부분:16진수}:{counter부분:4자리}
+     * lastReadMessageId 이상의 메시지 개수에서, 마지막으로 읽은 메시지 자신을 제외합니다.
      */
-    private String formatTsidKey(long tsid) {
-        String tsidStr = String.valueOf(tsid);
+    private Long toUnreadCount(Long totalCount) {
+        return totalCount != null && totalCount > 0 ? totalCount - 1 : 0;
+    }
 
-        String timestamp = tsidStr.substring(0, tsidStr.length() - COUNTER_DIGITS);
-        String counter = tsidStr.substring(tsidStr.length() - COUNTER_DIGITS);
+    /**
+     * ZSET member 집합을 ChatMessage 객체 리스트로 변환합니다.
+     * 기존 JSON 형식과 {@link ChatMessageCodec}의 binary 형식을 모두 지원하며, 변환 실패한 메시지는 무시됩니다.
+     *
+     * @param roomId     채팅방 ID
+     * @param messageSet ZSET member 집합
+     * @return 변환된 ChatMessage 객체 리스트
+     */
+    private List<ChatMessage> convertToMessages(Long roomId, Set<String> messageSet) {
+        if (messageSet == null || messageSet.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        return timestamp + ":" + counter;
+        return messageSet.stream()
+                .map(value -> {
+                    try {
+                        return chatMessageCodec.decode(roomId, value.substring(value.indexOf(SEPARATOR) + 1));
+                    } catch (RuntimeException e) {
+                        log.error("Failed to parse chat message: {}", value, e);
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
@@ -0,0 +1,40 @@
+package kr.co.pennyway.domain.domains.message.repository;
+
+import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * {@link ChatMessageRepository}의 저장 연산을 Lettuce reactive API로 수행하는 저장소.
+ * 같은 Lua 스크립트와 key 형식을 사용하므로, 두 저장소로 저장한 메시지는 구분 없이 조회됩니다.
+ * 호출 스레드를 점유하지 않으며, 반환된 {@link Mono}를 구독해야 Redis 명령이 실행됩니다.
+ */
+public interface ReactiveChatMessageRepository {
+    /**
+     * {@link ChatMessageRepository#save(ChatMessage)}와 같이 순번을 발급하고 채팅 메시지를 저장합니다.
+     *
+     * @param message {@link ChatMessage}: 저장할 채팅 메시지
+     * @return 저장이 완료되면 저장한 채팅 메시지를 발행하는 {@link Mono}
+     */
+    Mono<ChatMessage> save(ChatMessage message);
+
+    /**
+     * {@link ChatMessageRepository#saveIfAbsent(ChatMessage, String, Duration)}와 같이 중복 확인 후 채팅 메시지를 저장합니다.
+     *
+     * @param message         {@link ChatMessage}: 저장할 채팅 메시지
+     * @param clientMessageId String: 클라이언트가 메시지마다 발급한 ID
+     * @param ttl             Duration: 중복 확인 키의 유지 기간
+     * @return 이미 저장된 메시지가 있는 경우 해당 메시지의 TSID를 발행하고, 새로 저장한 경우 값 없이 완료되는 {@link Mono}
+     */
+    Mono<Long> saveIfAbsent(ChatMessage message, String clientMessageId, Duration ttl);
+
+    /**
+     * {@link ChatMessageRepository#revoke(ChatMessage, String)}와 같이 saveIfAbsent로 저장한 메시지와 중복 확인 키를 삭제합니다.
+     *
+     * @param message         {@link ChatMessage}: saveIfAbsent로 저장한 채팅 메시지
+     * @param clientMessageId String: 클라이언트가 메시지마다 발급한 ID
+     * @return 삭제 여부를 발행하는 {@link Mono}
+     */
+    Mono<Boolean> revoke(ChatMessage message, String clientMessageId);
+}
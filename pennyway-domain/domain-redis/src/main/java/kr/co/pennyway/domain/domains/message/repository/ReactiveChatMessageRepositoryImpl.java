@@ -0,0 +1,69 @@
+package kr.co.pennyway.domain.domains.message.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.pennyway.domain.common.annotation.DomainReactiveRedisTemplate;
+import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static kr.co.pennyway.domain.domains.message.repository.ChatMessageKeys.*;
+
+@Repository
+public class ReactiveChatMessageRepositoryImpl implements ReactiveChatMessageRepository {
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final ChatMessageCodec chatMessageCodec;
+
+    public ReactiveChatMessageRepositoryImpl(
+            @DomainReactiveRedisTemplate ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${pennyway.chat.message.write-format:LEGACY}") ChatMessageCodec.WriteFormat writeFormat
+    ) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.chatMessageCodec = new ChatMessageCodec(objectMapper, writeFormat);
+    }
+
+    @Override
+    public Mono<ChatMessage> save(ChatMessage message) {
+        String tsidKey = formatTsidKey(message.getChatId());
+
+        return reactiveRedisTemplate.execute(
+                        ChatMessageLuaScripts.SAVE.<Long>getScript(),
+                        List.of(getChatRoomKey(message.getChatRoomId()), getSequenceKey(message.getChatRoomId())),
+                        List.of(tsidKey + SEPARATOR + chatMessageCodec.encode(message))
+                )
+                .then(Mono.just(message));
+    }
+
+    @Override
+    public Mono<Long> saveIfAbsent(ChatMessage message, String clientMessageId, Duration ttl) {
+        String tsidKey = formatTsidKey(message.getChatId());
+
+        return reactiveRedisTemplate.execute(
+                        ChatMessageLuaScripts.SAVE_IF_ABSENT.<String>getScript(),
+                        List.of(getChatRoomKey(message.getChatRoomId()), getSequenceKey(message.getChatRoomId()), getDedupeKey(message.getChatRoomId(), message.getSender(), clientMessageId)),
+                        List.of(tsidKey + SEPARATOR + chatMessageCodec.encode(message), String.valueOf(message.getChatId()), ttl.toMillis())
+                )
+                .next()
+                .map(Long::parseLong)
+                .filter(id -> !id.equals(message.getChatId()));
+    }
+
+    @Override
+    public Mono<Boolean> revoke(ChatMessage message, String clientMessageId) {
+        String tsidKey = formatTsidKey(message.getChatId());
+
+        return reactiveRedisTemplate.execute(
+                        ChatMessageLuaScripts.REVOKE.<Long>getScript(),
+                        List.of(getChatRoomKey(message.getChatRoomId()), getSequenceKey(message.getChatRoomId()), getDedupeKey(message.getChatRoomId(), message.getSender(), clientMessageId)),
+                        List.of(tsidKey + SEPARATOR + chatMessageCodec.encode(message), String.valueOf(message.getChatId()))
+                )
+                .next()
+                .map(revoked -> revoked == 1L)
+                .defaultIfEmpty(false);
+    }
+}
@@ -1,24 +1,54 @@
 package kr.co.pennyway.domain.domains.message.service;
 
 import kr.co.pennyway.common.annotation.DomainService;
+import kr.co.pennyway.domain.domains.chatstatus.dto.LastReadMessage;
 import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
+import kr.co.pennyway.domain.domains.message.dto.ChatMessagePosition;
+import kr.co.pennyway.domain.domains.message.dto.ChatRoomMessageSummary;
 import kr.co.pennyway.domain.domains.message.repository.ChatMessageRepository;
+import kr.co.pennyway.domain.domains.message.repository.ReactiveChatMessageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Slice;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @DomainService
 @RequiredArgsConstructor
 public class ChatMessageRedisService {
     private final ChatMessageRepository chatMessageRepository;
+    private final ReactiveChatMessageRepository reactiveChatMessageRepository;
 
     public ChatMessage create(ChatMessage chatMessage) {
         return chatMessageRepository.save(chatMessage);
     }
 
+    public Optional<Long> createIfAbsent(ChatMessage chatMessage, String clientMessageId, Duration ttl) {
+        return chatMessageRepository.saveIfAbsent(chatMessage, clientMessageId, ttl);
+    }
+
+    public boolean revoke(ChatMessage chatMessage, String clientMessageId) {
+        return chatMessageRepository.revoke(chatMessage, clientMessageId);
+    }
+
+    public Mono<ChatMessage> createAsync(ChatMessage chatMessage) {
+        return reactiveChatMessageRepository.save(chatMessage);
+    }
+
+    public Mono<Long> createIfAbsentAsync(ChatMessage chatMessage, String clientMessageId, Duration ttl) {
+        return reactiveChatMessageRepository.saveIfAbsent(chatMessage, clientMessageId, ttl);
+    }
+
+    public Mono<Boolean> revokeAsync(ChatMessage chatMessage, String clientMessageId) {
+        return reactiveChatMessageRepository.revoke(chatMessage, clientMessageId);
+    }
+
     public List<ChatMessage> readRecentMessages(Long roomId, int limit) {
         return chatMessageRepository.findRecentMessages(roomId, limit);
     }
@@ -26,8 +56,32 @@ public class ChatMessageRedisService {
     public Slice<ChatMessage> readMessagesBefore(Long roomId, Long lastMessageId, int size) {
         return chatMessageRepository.findMessagesBefore(roomId, lastMessageId, size);
     }
+
+    public Slice<ChatMessage> readLatestMessagesAfter(Long roomId, Long lastMessageId, int size) {
+        return chatMessageRepository.findLatestMessagesAfter(roomId, lastMessageId, size);
+    }
     
     public Long countUnreadMessages(Long roomId, Long lastReadMessageId) {
         return chatMessageRepository.countUnreadMessages(roomId, lastReadMessageId);
     }
+
+    public Map<Long, ChatRoomMessageSummary> readChatRoomMessageSummaries(Map<Long, LastReadMessage> lastReadMessages) {
+        return chatMessageRepository.findChatRoomMessageSummaries(lastReadMessages);
+    }
+
+    public Optional<Long> readSequence(Long roomId, Long messageId) {
+        return chatMessageRepository.findSequence(roomId, messageId);
+    }
+
+    public Map<ChatMessagePosition, Long> readSequences(Collection<ChatMessagePosition> positions) {
+        return chatMessageRepository.findSequences(positions);
+    }
+
+    public List<ChatMessage> readMessagesOutsideHotWindow(Long roomId, int maxCount, Long cutoffMessageId, int limit) {
+        return chatMessageRepository.findMessagesOutsideHotWindow(roomId, maxCount, cutoffMessageId, limit);
+    }
+
+    public boolean deleteMessagesUpTo(Long roomId, Long messageId, int expectedCount) {
+        return chatMessageRepository.deleteMessagesUpTo(roomId, messageId, expectedCount);
+    }
 }
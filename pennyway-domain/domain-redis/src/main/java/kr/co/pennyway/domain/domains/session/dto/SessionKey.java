@@ -0,0 +1,44 @@
+package kr.co.pennyway.domain.domains.session.dto;
+
+/**
+ * 사용자 세션을 식별하는 (사용자 ID, 디바이스 ID) 쌍
+ *
+ * @param userId   사용자 ID
+ * @param deviceId 디바이스 ID
+ */
+public record SessionKey(
+        Long userId,
+        String deviceId
+) {
+    private static final String SEPARATOR = ":";
+
+    public static SessionKey of(Long userId, String deviceId) {
+        return new SessionKey(userId, deviceId);
+    }
+
+    /**
+     * 접속 현황 인덱스에 저장된 값을 변환합니다.
+     * 디바이스 ID에 구분자가 포함될 수 있으므로, 첫 번째 구분자를 기준으로 나눕니다.
+     *
+     * @param member String: {userId}:{deviceId} 형식의 문자열
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static SessionKey fromMember(String member) {
+        int index = member.indexOf(SEPARATOR);
+
+        if (index <= 0) {
+            throw new IllegalArgumentException("Invalid session key: " + member);
+        }
+
+        return new SessionKey(Long.parseLong(member.substring(0, index)), member.substring(index + 1));
+    }
+
+    /**
+     * 접속 현황 인덱스에 저장할 문자열로 변환합니다.
+     *
+     * @return {userId}:{deviceId} 형식의 문자열
+     */
+    public String toMember() {
+        return userId + SEPARATOR + deviceId;
+    }
+}
@@ -0,0 +1,45 @@
+package kr.co.pennyway.domain.domains.session.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 접속 현황 인덱스(hash)를 관리하기 위한 Lua 스크립트.
+ * 세션과 동일하게 field 단위 TTL(HEXPIRE)을 사용하므로, 인덱스의 각 항목은 세션과 함께 만료됩니다.
+ */
+@RequiredArgsConstructor
+public enum PresenceLuaScripts {
+    /**
+     * KEYS[2..n] 인덱스에서 ARGV[1]을 제거한 후, KEYS[1] 인덱스에 추가하고 TTL(ARGV[2], 초)을 설정합니다.
+     */
+    ENTER(
+            "for i = 2, #KEYS do redis.call('HDEL', KEYS[i], ARGV[1]) end " +
+                    "redis.call('HSET', KEYS[1], ARGV[1], '1') " +
+                    "redis.call('HEXPIRE', KEYS[1], ARGV[2], 'FIELDS', '1', ARGV[1]) " +
+                    "return 1",
+            Long.class
+    ),
+    /**
+     * 모든 KEYS 인덱스에서 ARGV[1]을 제거하고, 제거된 항목 수를 반환합니다.
+     */
+    LEAVE(
+            "local removed = 0 " +
+                    "for i = 1, #KEYS do removed = removed + redis.call('HDEL', KEYS[i], ARGV[1]) end " +
+                    "return removed",
+            Long.class
+    ),
+    FIND_ALL(
+            "return redis.call('HKEYS', KEYS[1])",
+            List.class
+    );
+
+    private final String script;
+    private final Class<?> returnType;
+
+    @SuppressWarnings("unchecked")
+    public <T> RedisScript<T> getScript() {
+        return RedisScript.of(script, (Class<T>) returnType);
+    }
+}
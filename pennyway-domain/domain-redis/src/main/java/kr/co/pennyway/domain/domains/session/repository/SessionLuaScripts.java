@@ -12,6 +12,17 @@ public enum SessionLuaScripts {
                     "return redis.call('HEXPIRE', KEYS[1], ARGV[3], 'FIELDS', '1', ARGV[1])",
             List.class
     ),
+    /**
+     * ARGV[1] 세션을 ARGV[2]로 덮어쓰고 TTL(ARGV[3], 초)을 설정한 후, 이전 세션을 반환합니다.
+     * 이전 세션이 없으면 nil을 반환합니다.
+     */
+    UPSERT(
+            "local previous = redis.call('HGET', KEYS[1], ARGV[1]) " +
+                    "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "redis.call('HEXPIRE', KEYS[1], ARGV[3], 'FIELDS', '1', ARGV[1]) " +
+                    "return previous",
+            String.class
+    ),
     FIND(
             "return redis.call('HGET', KEYS[1], ARGV[1])",
             String.class
@@ -0,0 +1,33 @@
+package kr.co.pennyway.domain.domains.session.repository;
+
+import kr.co.pennyway.domain.domains.session.dto.SessionKey;
+import kr.co.pennyway.domain.domains.session.type.UserStatus;
+
+import java.util.Set;
+
+/**
+ * 채팅방 별로 어떤 세션이 채팅방 뷰를 보고 있는지를 기록하는 역인덱스 저장소.
+ * {@link UserStatus#ACTIVE_CHAT_ROOM} 이외의 상태는 인덱스에 기록하지 않습니다.
+ */
+public interface UserPresenceRepository {
+    /**
+     * 세션의 상태 변경을 인덱스에 반영합니다.
+     * 이전 상태의 인덱스에서 제거한 후, 새로운 상태의 인덱스에 추가하고 세션과 동일한 TTL을 설정합니다.
+     *
+     * @param previousStatus     이전 상태. 이전 세션이 없는 경우 null
+     * @param previousChatRoomId 이전에 보고 있던 채팅방 ID
+     * @param status             새로운 상태. 세션이 삭제된 경우 null
+     * @param chatRoomId         새로 보고 있는 채팅방 ID
+     */
+    void update(SessionKey key, UserStatus previousStatus, Long previousChatRoomId, UserStatus status, Long chatRoomId);
+
+    /**
+     * 세션 TTL이 갱신된 경우, 인덱스 항목의 TTL도 함께 갱신합니다.
+     */
+    void resetTtl(SessionKey key, UserStatus status, Long chatRoomId);
+
+    /**
+     * 채팅방 뷰를 보고 있는 사용자 ID를 조회합니다.
+     */
+    Set<Long> findChatRoomViewerIds(Long chatRoomId);
+}
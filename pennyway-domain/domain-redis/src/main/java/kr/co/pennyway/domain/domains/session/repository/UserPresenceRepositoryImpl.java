@@ -0,0 +1,69 @@
+package kr.co.pennyway.domain.domains.session.repository;
+
+import kr.co.pennyway.domain.domains.session.dto.SessionKey;
+import kr.co.pennyway.domain.domains.session.type.UserStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class UserPresenceRepositoryImpl implements UserPresenceRepository {
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void update(SessionKey key, UserStatus previousStatus, Long previousChatRoomId, UserStatus status, Long chatRoomId) {
+        String previousIndexKey = createIndexKey(previousStatus, previousChatRoomId);
+        String indexKey = createIndexKey(status, chatRoomId);
+
+        if (indexKey != null) {
+            List<String> keys = new ArrayList<>(2);
+            keys.add(indexKey);
+            if (previousIndexKey != null && !previousIndexKey.equals(indexKey)) {
+                keys.add(previousIndexKey);
+            }
+
+            redisTemplate.execute(PresenceLuaScripts.ENTER.getScript(), keys, key.toMember(), UserSessionTtl.SECONDS);
+        } else if (previousIndexKey != null) {
+            redisTemplate.execute(PresenceLuaScripts.LEAVE.getScript(), List.of(previousIndexKey), key.toMember());
+        }
+    }
+
+    @Override
+    public void resetTtl(SessionKey key, UserStatus status, Long chatRoomId) {
+        String indexKey = createIndexKey(status, chatRoomId);
+
+        if (indexKey != null) {
+            redisTemplate.execute(PresenceLuaScripts.ENTER.getScript(), List.of(indexKey), key.toMember(), UserSessionTtl.SECONDS);
+        }
+    }
+
+    @Override
+    public Set<Long> findChatRoomViewerIds(Long chatRoomId) {
+        List<String> members = redisTemplate.execute(PresenceLuaScripts.FIND_ALL.getScript(), List.of(createChatRoomViewersKey(chatRoomId)));
+
+        if (members == null) {
+            return Set.of();
+        }
+
+        return members.stream().map(member -> SessionKey.fromMember(member).userId()).collect(Collectors.toSet());
+    }
+
+    private String createIndexKey(UserStatus status, Long chatRoomId) {
+        if (UserStatus.ACTIVE_CHAT_ROOM.equals(status) && chatRoomId != null && chatRoomId > 0) {
+            return createChatRoomViewersKey(chatRoomId);
+        }
+        return null;
+    }
+
+    private String createChatRoomViewersKey(Long chatRoomId) {
+        return "chatroom:" + chatRoomId + ":viewers";
+    }
+}
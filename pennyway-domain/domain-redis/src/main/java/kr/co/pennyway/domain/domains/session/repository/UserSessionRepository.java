@@ -2,16 +2,32 @@ package kr.co.pennyway.domain.domains.session.repository;
 
 import kr.co.pennyway.domain.domains.session.domain.UserSession;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 
 public interface UserSessionRepository {
     void save(Long userId, String hashKey, UserSession value);
 
+    /**
+     * 세션을 저장하고 TTL을 초기화한 후, 덮어쓴 이전 세션을 반환합니다.
+     * 조회, 저장, TTL 설정을 하나의 스크립트로 원자적으로 수행합니다.
+     *
+     * @return 이전 세션. 이전 세션이 없는 경우 빈 Optional
+     */
+    Optional<UserSession> upsert(Long userId, String hashKey, UserSession value);
+
     Optional<UserSession> findUserSession(Long userId, String hashKey);
 
     Map<String, UserSession> findAllUserSessions(Long userId);
 
+    /**
+     * 여러 사용자의 세션을 하나의 파이프라인으로 조회합니다.
+     *
+     * @return 사용자 아이디 별 (deviceId, UserSession) 맵. 세션이 없는 사용자는 포함되지 않습니다.
+     */
+    Map<Long, Map<String, UserSession>> findAllUserSessions(Collection<Long> userIds);
+
     Long getSessionTtl(Long userId, String hashKey);
 
     boolean exists(Long userId, String hashKey);
@@ -5,18 +5,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.co.pennyway.domain.common.annotation.DomainRedisTemplate;
 import kr.co.pennyway.domain.domains.session.domain.UserSession;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Repository
 public class UserSessionRepositoryImpl implements UserSessionRepository {
-    private static final long ttlSeconds = 60 * 60 * 24 * 7; // 1주일 (초)
     private final ObjectMapper objectMapper;
     private final RedisTemplate<String, UserSession> redisTemplate;
 
@@ -27,7 +26,14 @@ public class UserSessionRepositoryImpl implements UserSessionRepository {
 
     @Override
     public void save(Long userId, String hashKey, UserSession value) {
-        executeScript(SessionLuaScripts.SAVE, userId, hashKey, serialize(value), ttlSeconds);
+        executeScript(SessionLuaScripts.SAVE, userId, hashKey, serialize(value), UserSessionTtl.SECONDS);
+    }
+
+    @Override
+    public Optional<UserSession> upsert(Long userId, String hashKey, UserSession value) {
+        Object previous = executeScript(SessionLuaScripts.UPSERT, userId, hashKey, serialize(value), UserSessionTtl.SECONDS);
+
+        return Optional.ofNullable(deserialize(previous));
     }
 
     @Override
@@ -44,6 +50,39 @@ public class UserSessionRepositoryImpl implements UserSessionRepository {
         return deserializeMap(result);
     }
 
+    @Override
+    public Map<Long, Map<String, UserSession>> findAllUserSessions(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> orderedUserIds = List.copyOf(userIds);
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        RedisSerializer<?> valueSerializer = redisTemplate.getValueSerializer();
+
+        // 스크립트 인자와 동일하게 hash field, value 모두 value serializer로 직렬화되어 있으므로, raw 결과를 직접 역직렬화한다.
+        List<Object> results = redisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+            connection.openPipeline();
+            orderedUserIds.forEach(userId -> connection.hashCommands().hGetAll(keySerializer.serialize(createKey(userId))));
+            return connection.closePipeline();
+        });
+
+        Map<Long, Map<String, UserSession>> sessions = new HashMap<>();
+        for (int i = 0; i < orderedUserIds.size(); i++) {
+            Map<byte[], byte[]> entries = (Map<byte[], byte[]>) results.get(i);
+
+            if (entries == null || entries.isEmpty()) {
+                continue;
+            }
+
+            Map<String, UserSession> userSessions = new HashMap<>();
+            entries.forEach((hashKey, value) -> userSessions.put((String) valueSerializer.deserialize(hashKey), deserialize(valueSerializer.deserialize(value))));
+            sessions.put(orderedUserIds.get(i), userSessions);
+        }
+
+        return sessions;
+    }
+
     @Override
     public Long getSessionTtl(Long userId, String hashKey) {
         return executeScript(SessionLuaScripts.GET_TTL, userId, hashKey);
@@ -56,7 +95,7 @@ public class UserSessionRepositoryImpl implements UserSessionRepository {
 
     @Override
     public void resetSessionTtl(Long userId, String hashKey) {
-        executeScript(SessionLuaScripts.RESET_TTL, userId, hashKey, ttlSeconds);
+        executeScript(SessionLuaScripts.RESET_TTL, userId, hashKey, UserSessionTtl.SECONDS);
     }
 
     @Override
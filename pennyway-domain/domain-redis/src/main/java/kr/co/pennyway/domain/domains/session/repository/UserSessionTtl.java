@@ -0,0 +1,12 @@
+package kr.co.pennyway.domain.domains.session.repository;
+
+/**
+ * 사용자 세션과 접속 현황 인덱스가 공유하는 TTL을 정의합니다.
+ * 인덱스의 각 항목은 세션과 함께 만료되어야 하므로, 두 저장소가 같은 값을 사용해야 합니다.
+ */
+final class UserSessionTtl {
+    static final long SECONDS = 60 * 60 * 24 * 7; // 1주일 (초)
+
+    private UserSessionTtl() {
+    }
+}
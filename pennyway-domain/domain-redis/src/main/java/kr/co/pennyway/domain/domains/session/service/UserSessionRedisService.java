@@ -2,22 +2,49 @@ package kr.co.pennyway.domain.domains.session.service;
 
 import kr.co.pennyway.common.annotation.DomainService;
 import kr.co.pennyway.domain.domains.session.domain.UserSession;
+import kr.co.pennyway.domain.domains.session.dto.SessionKey;
+import kr.co.pennyway.domain.domains.session.repository.UserPresenceRepository;
 import kr.co.pennyway.domain.domains.session.repository.UserSessionRepository;
 import kr.co.pennyway.domain.domains.session.type.UserStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @DomainService
 @RequiredArgsConstructor
 public class UserSessionRedisService {
     private final UserSessionRepository userSessionRepository;
+    private final UserPresenceRepository userPresenceRepository;
 
     public void create(Long userId, String deviceId, UserSession value) {
-        userSessionRepository.save(userId, deviceId, value);
+        Optional<UserSession> previous = userSessionRepository.upsert(userId, deviceId, value);
+
+        userPresenceRepository.update(
+                SessionKey.of(userId, deviceId),
+                previous.map(UserSession::getStatus).orElse(null),
+                previous.map(UserSession::getCurrentChatRoomId).orElse(null),
+                value.getStatus(),
+                value.getCurrentChatRoomId()
+        );
+    }
+
+    /**
+     * 사용자 세션을 {@link UserStatus#ACTIVE_APP} 상태로 생성하거나 덮어쓰고, TTL을 초기화합니다.
+     * 세션 존재 여부와 관계없이 하나의 스크립트로 처리하며, 이전 세션이 채팅방 뷰를 보고 있던 경우에만 접속 현황 인덱스를 추가로 갱신합니다.
+     *
+     * @return 활성화된 사용자 세션
+     */
+    public UserSession activate(Long userId, String deviceId, String deviceName) {
+        UserSession userSession = UserSession.of(userId, deviceId, deviceName);
+
+        create(userId, deviceId, userSession);
+
+        return userSession;
     }
 
     public Optional<UserSession> read(Long userId, String deviceId) {
@@ -28,6 +55,23 @@ public class UserSessionRedisService {
         return userSessionRepository.findAllUserSessions(userId);
     }
 
+    /**
+     * 여러 사용자의 세션을 한 번의 라운드 트립으로 조회합니다.
+     *
+     * @return 사용자 아이디 별 (deviceId, UserSession) 맵. 세션이 없는 사용자는 포함되지 않습니다.
+     */
+    public Map<Long, Map<String, UserSession>> readAllByUserIds(Collection<Long> userIds) {
+        return userSessionRepository.findAllUserSessions(userIds);
+    }
+
+    /**
+     * 채팅방 뷰를 보고 있는 사용자 ID를 접속 현황 인덱스에서 조회합니다.
+     * 사용자 세션을 모두 조회하지 않고, 채팅방 별 인덱스 하나만 조회합니다.
+     */
+    public Set<Long> readChatRoomViewerIds(Long chatRoomId) {
+        return userPresenceRepository.findChatRoomViewerIds(chatRoomId);
+    }
+
     public boolean isExists(Long userId, String deviceId) {
         return userSessionRepository.exists(userId, deviceId);
     }
@@ -56,10 +100,13 @@ public class UserSessionRedisService {
     private UserSession updateUserStatus(Long userId, String deviceId, Long chatRoomId, UserStatus status) {
         UserSession userSession = userSessionRepository.findUserSession(userId, deviceId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 세션을 찾을 수 없습니다."));
+        UserStatus previousStatus = userSession.getStatus();
+        Long previousChatRoomId = userSession.getCurrentChatRoomId();
 
         userSession.updateStatus(status, chatRoomId);
         userSessionRepository.save(userId, deviceId, userSession);
         userSessionRepository.resetSessionTtl(userId, deviceId);
+        userPresenceRepository.update(SessionKey.of(userId, deviceId), previousStatus, previousChatRoomId, userSession.getStatus(), userSession.getCurrentChatRoomId());
 
         return userSession;
     }
@@ -75,9 +122,13 @@ public class UserSessionRedisService {
         userSession.updateLastActiveAt();
         userSessionRepository.save(userId, deviceId, userSession);
         userSessionRepository.resetSessionTtl(userId, deviceId);
+        userPresenceRepository.resetTtl(SessionKey.of(userId, deviceId), userSession.getStatus(), userSession.getCurrentChatRoomId());
     }
 
     public void delete(Long userId, String deviceId) {
+        Optional<UserSession> previous = userSessionRepository.findUserSession(userId, deviceId);
+
         userSessionRepository.delete(userId, deviceId);
+        previous.ifPresent(session -> userPresenceRepository.update(SessionKey.of(userId, deviceId), session.getStatus(), session.getCurrentChatRoomId(), null, null));
     }
 }
@@ -0,0 +1,157 @@
+package kr.co.pennyway.domains.chatstatus;
+
+import kr.co.pennyway.config.ContainerRedisTestConfig;
+import kr.co.pennyway.config.RedisDataTestConfig;
+import kr.co.pennyway.domain.config.LettuceConfig;
+import kr.co.pennyway.domain.config.RedisConfig;
+import kr.co.pennyway.domain.domains.chatstatus.dto.ChatMessageStatusKey;
+import kr.co.pennyway.domain.domains.chatstatus.dto.LastReadMessage;
+import kr.co.pennyway.domain.domains.chatstatus.repository.ChatMessageStatusCacheRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ContextConfiguration(classes = {RedisConfig.class, LettuceConfig.class})
+@DataRedisTest(properties = "spring.config.location=classpath:application-domain-redis.yml")
+@Import({ChatMessageStatusCacheRepositoryImpl.class, RedisDataTestConfig.class})
+@ActiveProfiles("test")
+public class ChatMessageStatusCacheRepositoryImplTest extends ContainerRedisTestConfig {
+    private static final String CACHE_KEY = "chat:last_read:1:1";
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private ChatMessageStatusCacheRepositoryImpl chatMessageStatusCacheRepository;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(Objects.requireNonNull(redisTemplate.keys("chat:last_read:*")));
+    }
+
+    @Test
+    @DisplayName("저장된 값이 없으면 마지막으로 읽은 메시지 ID와 TTL을 함께 저장한다")
+    void saveWhenAbsent() {
+        // when
+        chatMessageStatusCacheRepository.saveLastReadMessageId(1L, 1L, LastReadMessage.of(100L, 3L));
+
+        // then
+        assertEquals(LastReadMessage.of(100L, 3L), chatMessageStatusCacheRepository.findLastReadMessageId(1L, 1L).orElseThrow());
+        assertTrue(redisTemplate.getExpire(CACHE_KEY, TimeUnit.SECONDS) > 0, "TTL이 설정되어야 합니다");
+    }
+
+    @Test
+    @DisplayName("더 작거나 같은 메시지 ID는 저장된 값을 덮어쓰지 않는다")
+    void ignoreSmallerMessageId() {
+        // given
+        chatMessageStatusCacheRepository.saveLastReadMessageId(1L, 1L, LastReadMessage.of(200L, 5L));
+
+        // when
+        chatMessageStatusCacheRepository.saveLastReadMessageId(1L, 1L, LastReadMessage.of(100L, 3L));
+        chatMessageStatusCacheRepository.saveLastReadMessageId(1L, 1L, LastReadMessage.of(200L, 4L));
+
+        // then
+        assertEquals(LastReadMessage.of(200L, 5L), chatMessageStatusCacheRepository.findLastReadMessageId(1L, 1L).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("TSID처럼 큰 메시지 ID도 정밀도 손실 없이 비교한다")
+    void compareLargeMessageIdsWithoutPrecisionLoss() {
+        // given
+        long messageId = 9_007_199_254_740_993L; // 2^53 + 1
+        chatMessageStatusCacheRepository.saveLastReadMessageId(1L, 1L, LastReadMessage.of(messageId, 1L));
+
+        // when
+        chatMessageStatusCacheRepository.saveLastReadMessageId(1L, 1L, LastReadMessage.of(messageId + 1, 2L));
+
+        // then
+        assertEquals(LastReadMessage.of(messageId + 1, 2L), chatMessageStatusCacheRepository.findLastReadMessageId(1L, 1L).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("순번이 없는 기존 형식의 값보다 큰 메시지 ID가 들어오면 갱신한다")
+    void overwriteLegacyValue() {
+        // given
+        redisTemplate.opsForValue().set(CACHE_KEY, "100");
+
+        // when
+        chatMessageStatusCacheRepository.saveLastReadMessageId(1L, 1L, LastReadMessage.of(101L, 7L));
+
+        // then
+        assertEquals(LastReadMessage.of(101L, 7L), chatMessageStatusCacheRepository.findLastReadMessageId(1L, 1L).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("여러 키를 파이프라인으로 저장할 때도 더 큰 메시지 ID만 저장하고, 갱신된 키를 변경 집합에 기록한다")
+    void saveLastReadMessageIdsInPipeline() {
+        // given
+        chatMessageStatusCacheRepository.saveLastReadMessageId(1L, 1L, LastReadMessage.of(200L, 5L));
+        chatMessageStatusCacheRepository.snapshotDirtyKeys();
+        chatMessageStatusCacheRepository.deleteDirtyKeySnapshot();
+
+        // when
+        chatMessageStatusCacheRepository.saveLastReadMessageIds(Map.of(
+                ChatMessageStatusKey.of(1L, 1L), LastReadMessage.of(100L, 3L),
+                ChatMessageStatusKey.of(2L, 1L), LastReadMessage.of(300L, 7L),
+                ChatMessageStatusKey.of(1L, 2L), LastReadMessage.of(400L, null)
+        ));
+
+        // then
+        Set<String> keys = new HashSet<>();
+        chatMessageStatusCacheRepository.snapshotDirtyKeys();
+        try (Cursor<String> cursor = chatMessageStatusCacheRepository.scanDirtyKeySnapshot(10)) {
+            cursor.forEachRemaining(keys::add);
+        }
+
+        assertAll(
+                () -> assertEquals(LastReadMessage.of(200L, 5L), chatMessageStatusCacheRepository.findLastReadMessageId(1L, 1L).orElseThrow()),
+                () -> assertEquals(LastReadMessage.of(300L, 7L), chatMessageStatusCacheRepository.findLastReadMessageId(2L, 1L).orElseThrow()),
+                () -> assertEquals(LastReadMessage.of(400L, null), chatMessageStatusCacheRepository.findLastReadMessageId(1L, 2L).orElseThrow()),
+                () -> assertTrue(redisTemplate.getExpire("chat:last_read:1:2", TimeUnit.SECONDS) > 0, "TTL이 설정되어야 합니다"),
+                () -> assertEquals(Set.of("chat:last_read:1:2", "chat:last_read:2:1"), keys)
+        );
+    }
+
+    @Test
+    @DisplayName("값이 갱신된 키만 변경 집합에 기록하고, 스냅샷으로 옮긴 후에는 새로운 변경 집합에 기록한다")
+    void snapshotDirtyKeys() {
+        // given
+        chatMessageStatusCacheRepository.saveLastReadMessageId(1L, 1L, LastReadMessage.of(200L, 5L));
+        chatMessageStatusCacheRepository.saveLastReadMessageId(1L, 2L, LastReadMessage.of(300L, 1L));
+        chatMessageStatusCacheRepository.snapshotDirtyKeys();
+
+        // when
+        chatMessageStatusCacheRepository.saveLastReadMessageId(1L, 1L, LastReadMessage.of(100L, 3L)); // 갱신되지 않음
+        chatMessageStatusCacheRepository.saveLastReadMessageId(2L, 1L, LastReadMessage.of(100L, 3L));
+        long size = chatMessageStatusCacheRepository.snapshotDirtyKeys();
+
+        // then
+        Set<String> keys = new HashSet<>();
+        try (Cursor<String> cursor = chatMessageStatusCacheRepository.scanDirtyKeySnapshot(10)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        assertEquals(3L, size, "처리되지 않은 스냅샷은 새로운 변경 사항과 합쳐져야 합니다");
+        assertEquals(Set.of("chat:last_read:1:1", "chat:last_read:2:1", "chat:last_read:1:2"), keys);
+
+        // when
+        chatMessageStatusCacheRepository.deleteDirtyKeySnapshot();
+
+        // then
+        assertEquals(0L, chatMessageStatusCacheRepository.snapshotDirtyKeys());
+    }
+}
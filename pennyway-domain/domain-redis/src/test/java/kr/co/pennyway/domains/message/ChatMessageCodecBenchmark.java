@@ -0,0 +1,100 @@
+package kr.co.pennyway.domains.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.pennyway.domain.config.RedisConfig;
+import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
+import kr.co.pennyway.domain.domains.message.domain.ChatMessageBuilder;
+import kr.co.pennyway.domain.domains.message.repository.ChatMessageCodec;
+import kr.co.pennyway.domain.domains.message.type.MessageCategoryType;
+import kr.co.pennyway.domain.domains.message.type.MessageContentType;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 메시지 ZSET member의 기존 JSON 형식과 {@link ChatMessageCodec}의 binary 형식을 비교합니다.
+ * 메모리는 RedisTemplate의 value serializer를 거친 member 크기를 기준으로 100만 건당 사용량을 추정하며, 인코딩/디코딩은 건당 평균 소요 시간을 측정합니다.
+ * Redis 내부의 ZSET 노드 오버헤드는 두 형식에 동일하게 적용되므로 비교에서 제외합니다.
+ */
+@Slf4j
+@Disabled
+public class ChatMessageCodecBenchmark {
+    private static final long MESSAGES = 1_000_000L;
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int MEASURE_ITERATIONS = 500_000;
+    private static final String TSID_KEY_PREFIX = "20240501123456:7890|";
+
+    private final ObjectMapper objectMapper = new RedisConfig().redisObjectMapper();
+    private final GenericJackson2JsonRedisSerializer valueSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+    private final ChatMessageCodec chatMessageCodec = new ChatMessageCodec(objectMapper, ChatMessageCodec.WriteFormat.V1);
+
+    private volatile Object sink;
+
+    @Test
+    @DisplayName("메시지 100만 건당 메모리 사용량과 인코딩/디코딩 시간을 비교한다")
+    public void compareJsonAndBinary() throws Exception {
+        for (int contentLength : new int[]{20, 200, 2_000}) {
+            ChatMessage message = createMessage("지출".repeat(contentLength / 2));
+
+            String json = objectMapper.writeValueAsString(message);
+            String binary = chatMessageCodec.encode(message);
+
+            long jsonBytes = valueSerializer.serialize(TSID_KEY_PREFIX + json).length;
+            long binaryBytes = valueSerializer.serialize(TSID_KEY_PREFIX + binary).length;
+
+            double jsonEncode = measure(() -> objectMapper.writeValueAsString(message));
+            double binaryEncode = measure(() -> chatMessageCodec.encode(message));
+            double jsonDecode = measure(() -> chatMessageCodec.decode(1L, json));
+            double binaryDecode = measure(() -> chatMessageCodec.decode(1L, binary));
+
+            log.info("""
+                            content 길이: {}자
+                            member 크기: json {}B / binary {}B
+                            100만 건당 메모리: json {}MB / binary {}MB
+                            encode: json {}ns/op / binary {}ns/op
+                            decode: json {}ns/op / binary {}ns/op
+                            ===================================""",
+                    contentLength,
+                    jsonBytes, binaryBytes,
+                    toMegaBytes(jsonBytes * MESSAGES), toMegaBytes(binaryBytes * MESSAGES),
+                    Math.round(jsonEncode), Math.round(binaryEncode),
+                    Math.round(jsonDecode), Math.round(binaryDecode)
+            );
+
+            assertThat(binaryBytes).isLessThan(jsonBytes);
+        }
+    }
+
+    private double measure(Callable<Object> operation) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink = operation.call();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            sink = operation.call();
+        }
+        return (double) (System.nanoTime() - start) / MEASURE_ITERATIONS;
+    }
+
+    private long toMegaBytes(long bytes) {
+        return bytes / (1024 * 1024);
+    }
+
+    private ChatMessage createMessage(String content) {
+        return ChatMessageBuilder.builder()
+                .chatRoomId(1L)
+                .chatId(1234567890123456789L)
+                .content(content)
+                .contentType(MessageContentType.TEXT)
+                .categoryType(MessageCategoryType.NORMAL)
+                .sender(2L)
+                .build();
+    }
+}
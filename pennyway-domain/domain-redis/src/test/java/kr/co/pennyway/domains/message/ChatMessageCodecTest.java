@@ -0,0 +1,143 @@
+package kr.co.pennyway.domains.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.pennyway.domain.config.RedisConfig;
+import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
+import kr.co.pennyway.domain.domains.message.domain.ChatMessageBuilder;
+import kr.co.pennyway.domain.domains.message.repository.ChatMessageCodec;
+import kr.co.pennyway.domain.domains.message.type.MessageCategoryType;
+import kr.co.pennyway.domain.domains.message.type.MessageContentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChatMessageCodecTest {
+    private final ObjectMapper objectMapper = new RedisConfig().redisObjectMapper();
+    private final ChatMessageCodec chatMessageCodec = new ChatMessageCodec(objectMapper, ChatMessageCodec.WriteFormat.V1);
+
+    @Test
+    @DisplayName("binary 형식으로 인코딩한 메시지를 디코딩하면 모든 필드가 복원된다")
+    void encodeAndDecode() {
+        // given
+        ChatMessage message = createMessage("Hello, 페니웨이!");
+
+        // when
+        ChatMessage decoded = chatMessageCodec.decode(1L, chatMessageCodec.encode(message));
+
+        // then
+        assertMessageEquals(message, decoded);
+    }
+
+    @Test
+    @DisplayName("임계값 이상의 content는 압축되어 저장되고, 디코딩 시 원본으로 복원된다")
+    void compressLargeContent() {
+        // given
+        String content = "지출 내역을 공유합니다. ".repeat(100);
+        ChatMessage message = createMessage(content);
+
+        // when
+        String payload = chatMessageCodec.encode(message);
+
+        // then
+        assertTrue(Base64.getDecoder().decode(payload).length < content.getBytes(StandardCharsets.UTF_8).length, "압축된 payload는 원본 content보다 작아야 합니다");
+        assertEquals(content, chatMessageCodec.decode(1L, payload).getContent());
+    }
+
+    @Test
+    @DisplayName("삭제 시각과 null content도 보존된다")
+    void preserveDeletedAtAndNullContent() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123456789);
+        LocalDateTime deletedAt = createdAt.plusMinutes(5);
+        ChatMessage message = ChatMessage.restore(1L, 100L, null, MessageContentType.IMAGE, MessageCategoryType.SHARE, createdAt, deletedAt, 3L);
+
+        // when
+        ChatMessage decoded = chatMessageCodec.decode(1L, chatMessageCodec.encode(message));
+
+        // then
+        assertMessageEquals(message, decoded);
+    }
+
+    @Test
+    @DisplayName("기존 JSON 형식의 payload도 디코딩할 수 있다")
+    void decodeLegacyJson() throws Exception {
+        // given
+        ChatMessage message = createMessage("Legacy");
+        String legacyPayload = objectMapper.writeValueAsString(message);
+
+        // when
+        ChatMessage decoded = chatMessageCodec.decode(1L, legacyPayload);
+
+        // then
+        assertMessageEquals(message, decoded);
+    }
+
+    @Test
+    @DisplayName("쓰기 형식이 LEGACY면 이전 버전 노드가 읽을 수 있는 기존 JSON 형식으로 인코딩한다")
+    void encodeLegacyJsonWhenWriteFormatIsLegacy() throws Exception {
+        // given
+        ChatMessageCodec legacyCodec = new ChatMessageCodec(objectMapper, ChatMessageCodec.WriteFormat.LEGACY);
+        ChatMessage message = createMessage("Legacy");
+
+        // when
+        String payload = legacyCodec.encode(message);
+
+        // then
+        assertEquals(objectMapper.writeValueAsString(message), payload);
+        assertMessageEquals(message, objectMapper.readValue(payload, ChatMessage.class));
+        assertMessageEquals(message, chatMessageCodec.decode(1L, payload));
+    }
+
+    @Test
+    @DisplayName("binary 형식은 기존 JSON 형식보다 작다")
+    void binaryIsSmallerThanJson() throws Exception {
+        // given
+        ChatMessage message = createMessage("오늘 점심 얼마 썼어?");
+
+        // when
+        int jsonBytes = objectMapper.writeValueAsString(message).getBytes(StandardCharsets.UTF_8).length;
+        int binaryBytes = chatMessageCodec.encode(message).getBytes(StandardCharsets.UTF_8).length;
+
+        // then
+        assertTrue(binaryBytes < jsonBytes, "binary: " + binaryBytes + ", json: " + jsonBytes);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 버전의 payload는 예외를 던진다")
+    void rejectUnsupportedVersion() {
+        // given
+        String payload = Base64.getEncoder().withoutPadding().encodeToString(new byte[]{99, 0});
+
+        // when - then
+        assertThrows(IllegalArgumentException.class, () -> chatMessageCodec.decode(1L, payload));
+    }
+
+    private ChatMessage createMessage(String content) {
+        return ChatMessageBuilder.builder()
+                .chatRoomId(1L)
+                .chatId(1234567890123456789L)
+                .content(content)
+                .contentType(MessageContentType.TEXT)
+                .categoryType(MessageCategoryType.NORMAL)
+                .sender(2L)
+                .build();
+    }
+
+    private void assertMessageEquals(ChatMessage expected, ChatMessage actual) {
+        assertAll(
+                () -> assertEquals(expected.getChatRoomId(), actual.getChatRoomId()),
+                () -> assertEquals(expected.getChatId(), actual.getChatId()),
+                () -> assertEquals(expected.getContent(), actual.getContent()),
+                () -> assertEquals(expected.getContentType(), actual.getContentType()),
+                () -> assertEquals(expected.getCategoryType(), actual.getCategoryType()),
+                () -> assertEquals(expected.getCreatedAt(), actual.getCreatedAt()),
+                () -> assertEquals(expected.getDeletedAt(), actual.getDeletedAt()),
+                () -> assertEquals(expected.getSender(), actual.getSender())
+        );
+    }
+}
@@ -5,8 +5,12 @@ import kr.co.pennyway.config.ContainerRedisTestConfig;
 import kr.co.pennyway.config.RedisDataTestConfig;
 import kr.co.pennyway.domain.config.LettuceConfig;
 import kr.co.pennyway.domain.config.RedisConfig;
+import kr.co.pennyway.domain.domains.chatstatus.dto.LastReadMessage;
 import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
 import kr.co.pennyway.domain.domains.message.domain.ChatMessageBuilder;
+import kr.co.pennyway.domain.domains.message.dto.ChatMessagePosition;
+import kr.co.pennyway.domain.domains.message.dto.ChatRoomMessageSummary;
+import kr.co.pennyway.domain.domains.message.repository.ChatMessageCodec;
 import kr.co.pennyway.domain.domains.message.repository.ChatMessageRepositoryImpl;
 import kr.co.pennyway.domain.domains.message.type.MessageCategoryType;
 import kr.co.pennyway.domain.domains.message.type.MessageContentType;
@@ -24,10 +28,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -51,7 +54,7 @@ public class ChatMessageRepositoryImplTest extends ContainerRedisTestConfig {
 
     @BeforeEach
     void setUp() {
-        chatMessageRepositoryImpl = new ChatMessageRepositoryImpl(redisTemplate, objectMapper);
+        chatMessageRepositoryImpl = new ChatMessageRepositoryImpl(redisTemplate, objectMapper, ChatMessageCodec.WriteFormat.V1);
         chatMessage = ChatMessageBuilder.builder()
                 .chatRoomId(1L)
                 .chatId(createChatId(1))
@@ -73,6 +76,94 @@ public class ChatMessageRepositoryImplTest extends ContainerRedisTestConfig {
         assertFalse(messages.isEmpty(), "저장된 메시지는 조회할 수 있어야 합니다");
     }
 
+    @Test
+    @DisplayName("같은 발신자가 같은 클라이언트 메시지 ID로 재전송한 메시지는 저장하지 않고 기존 TSID를 반환한다")
+    void saveIfAbsentIgnoresRetriedMessage() {
+        // given
+        ChatMessage retried = ChatMessageBuilder.builder()
+                .chatRoomId(1L)
+                .chatId(createChatId(2))
+                .content("Hello")
+                .contentType(MessageContentType.TEXT)
+                .categoryType(MessageCategoryType.NORMAL)
+                .sender(1L)
+                .build();
+
+        // when
+        Optional<Long> first = chatMessageRepositoryImpl.saveIfAbsent(chatMessage, "client-1", Duration.ofMinutes(1));
+        Optional<Long> second = chatMessageRepositoryImpl.saveIfAbsent(retried, "client-1", Duration.ofMinutes(1));
+
+        // then
+        assertAll(
+                () -> assertTrue(first.isEmpty(), "처음 전송한 메시지는 저장되어야 합니다"),
+                () -> assertEquals(Optional.of(chatMessage.getChatId()), second, "재전송한 메시지는 기존 메시지의 TSID를 반환해야 합니다"),
+                () -> assertEquals(1, chatMessageRepositoryImpl.findRecentMessages(1L, 10).size()),
+                () -> assertEquals(Optional.of(1L), chatMessageRepositoryImpl.findSequence(1L, chatMessage.getChatId()), "재전송한 메시지는 순번을 발급하지 않아야 합니다")
+        );
+    }
+
+    @Test
+    @DisplayName("클라이언트 메시지 ID가 같더라도 발신자가 다르면 각각 저장한다")
+    void saveIfAbsentSeparatesSenders() {
+        // given
+        ChatMessage otherSender = ChatMessageBuilder.builder()
+                .chatRoomId(1L)
+                .chatId(createChatId(2))
+                .content("Hello")
+                .contentType(MessageContentType.TEXT)
+                .categoryType(MessageCategoryType.NORMAL)
+                .sender(2L)
+                .build();
+
+        // when
+        chatMessageRepositoryImpl.saveIfAbsent(chatMessage, "client-1", Duration.ofMinutes(1));
+        Optional<Long> result = chatMessageRepositoryImpl.saveIfAbsent(otherSender, "client-1", Duration.ofMinutes(1));
+
+        // then
+        assertAll(
+                () -> assertTrue(result.isEmpty()),
+                () -> assertEquals(2, chatMessageRepositoryImpl.findRecentMessages(1L, 10).size())
+        );
+    }
+
+    @Test
+    @DisplayName("저장한 메시지를 철회하면 메시지가 삭제되어, 같은 클라이언트 메시지 ID로 재전송한 메시지를 다시 저장한다")
+    void revokeAllowsRetryToBeSaved() {
+        // given
+        ChatMessage retried = createMessage(1L, createChatId(2));
+        chatMessageRepositoryImpl.saveIfAbsent(chatMessage, "client-1", Duration.ofMinutes(1));
+
+        // when
+        boolean revoked = chatMessageRepositoryImpl.revoke(chatMessage, "client-1");
+        Optional<Long> result = chatMessageRepositoryImpl.saveIfAbsent(retried, "client-1", Duration.ofMinutes(1));
+
+        // then
+        assertAll(
+                () -> assertTrue(revoked),
+                () -> assertTrue(result.isEmpty(), "철회 이후 재전송한 메시지는 저장되어야 합니다"),
+                () -> assertEquals(List.of(retried.getChatId()), chatMessageRepositoryImpl.findRecentMessages(1L, 10).stream().map(ChatMessage::getChatId).toList()),
+                () -> assertEquals(Optional.of(2L), chatMessageRepositoryImpl.findSequence(1L, retried.getChatId()), "순번 카운터는 철회 후에도 감소하지 않아, 재전송한 메시지는 새 순번을 받아야 합니다")
+        );
+    }
+
+    @Test
+    @DisplayName("중복 확인 키가 다른 메시지를 가리키면 철회하지 않는다")
+    void revokeIgnoresOtherMessage() {
+        // given
+        ChatMessage retried = createMessage(1L, createChatId(2));
+        chatMessageRepositoryImpl.saveIfAbsent(chatMessage, "client-1", Duration.ofMinutes(1));
+
+        // when
+        boolean revoked = chatMessageRepositoryImpl.revoke(retried, "client-1");
+
+        // then
+        assertAll(
+                () -> assertFalse(revoked),
+                () -> assertEquals(Optional.of(chatMessage.getChatId()), chatMessageRepositoryImpl.saveIfAbsent(retried, "client-1", Duration.ofMinutes(1))),
+                () -> assertEquals(1, chatMessageRepositoryImpl.findRecentMessages(1L, 10).size())
+        );
+    }
+
     @Test
     @DisplayName("최근 메시지를 지정한 개수만큼 조회한다")
     void successFindRecentMessages() {
@@ -109,6 +200,42 @@ public class ChatMessageRepositoryImplTest extends ContainerRedisTestConfig {
         );
     }
 
+    @Test
+    @DisplayName("특정 메시지 이후의 메시지 중 가장 최근 메시지들을 조회한다")
+    void successFindLatestMessagesAfter() {
+        // given
+        List<ChatMessage> messages = saveMessagesInOrder(1L, 10);
+
+        // when
+        Slice<ChatMessage> messageSlice = chatMessageRepositoryImpl.findLatestMessagesAfter(1L, messages.get(6).getChatId(), 2);
+
+        // then
+        assertAll(
+                () -> assertEquals(2, messageSlice.getContent().size(), "요청한 크기만큼 메시지가 조회되어야 합니다"),
+                () -> assertEquals("Message 10", messageSlice.getContent().get(0).getContent()),
+                () -> assertEquals("Message 9", messageSlice.getContent().get(1).getContent()),
+                () -> assertTrue(messageSlice.hasNext(), "조회되지 않은 메시지(Message 8)가 존재해야 합니다.")
+        );
+    }
+
+    @Test
+    @DisplayName("특정 메시지 이후의 메시지 조회 결과에 기준 메시지는 포함되지 않는다")
+    void findLatestMessagesAfterExcludesLastMessage() {
+        // given
+        List<ChatMessage> messages = saveMessagesInOrder(1L, 5);
+
+        // when
+        Slice<ChatMessage> messageSlice = chatMessageRepositoryImpl.findLatestMessagesAfter(1L, messages.get(2).getChatId(), 10);
+
+        // then
+        assertAll(
+                () -> assertEquals(2, messageSlice.getContent().size()),
+                () -> assertEquals("Message 5", messageSlice.getContent().get(0).getContent()),
+                () -> assertEquals("Message 4", messageSlice.getContent().get(1).getContent()),
+                () -> assertFalse(messageSlice.hasNext())
+        );
+    }
+
     @Test
     @DisplayName("Enum 타입들이 올바르게 저장 및 조회된다")
     void successSaveAndFindEnumTypes() {
@@ -349,6 +476,282 @@ public class ChatMessageRepositoryImplTest extends ContainerRedisTestConfig {
         assertEquals(1L, unreadCount, "마지막으로 읽은 메시지(ID: 3) 이후의 메시지 개수(7)가 반환되어야 합니다");
     }
 
+    @Test
+    @DisplayName("여러 채팅방의 마지막 메시지와 안 읽은 메시지 개수를 한 번에 조회한다")
+    void successFindChatRoomMessageSummaries() {
+        // given
+        List<ChatMessage> room1Messages = saveMessagesInOrder(1L, 5);
+        List<ChatMessage> room2Messages = saveMessagesInOrder(2L, 3);
+
+        Map<Long, LastReadMessage> lastReadMessages = new LinkedHashMap<>();
+        lastReadMessages.put(1L, LastReadMessage.of(room1Messages.get(2).getChatId(), 3L));
+        lastReadMessages.put(2L, LastReadMessage.none());
+        lastReadMessages.put(999L, LastReadMessage.none());
+
+        // when
+        Map<Long, ChatRoomMessageSummary> summaries = chatMessageRepositoryImpl.findChatRoomMessageSummaries(lastReadMessages);
+
+        // then
+        assertAll(
+                () -> assertEquals(List.of(1L, 2L, 999L), List.copyOf(summaries.keySet()), "입력 순서가 유지되어야 합니다"),
+                () -> assertEquals("Message 5", summaries.get(1L).lastMessage().getContent()),
+                () -> assertEquals(2L, summaries.get(1L).unreadCount(), "마지막으로 읽은 메시지 이후의 메시지 개수(4, 5)가 반환되어야 합니다"),
+                () -> assertEquals(room2Messages.get(2).getChatId(), summaries.get(2L).lastMessage().getChatId()),
+                () -> assertEquals(3L, summaries.get(2L).unreadCount(), "읽은 메시지가 없으면 전체 메시지 개수가 반환되어야 합니다"),
+                () -> assertNull(summaries.get(999L).lastMessage(), "메시지가 없는 채팅방의 마지막 메시지는 null이어야 합니다"),
+                () -> assertEquals(0L, summaries.get(999L).unreadCount())
+        );
+    }
+
+    @Test
+    @DisplayName("일괄 조회 결과는 채팅방 별 단건 조회 결과와 일치한다")
+    void chatRoomMessageSummariesMatchSingleQueries() {
+        // given
+        List<ChatMessage> messages = saveMessagesInOrder(1L, 10);
+        Long lastReadMessageId = messages.get(6).getChatId();
+
+        Long seq = chatMessageRepositoryImpl.findSequence(1L, lastReadMessageId).orElseThrow();
+
+        // when
+        ChatRoomMessageSummary summary = chatMessageRepositoryImpl.findChatRoomMessageSummaries(Map.of(1L, LastReadMessage.of(lastReadMessageId, seq))).get(1L);
+
+        // then
+        assertAll(
+                () -> assertEquals(chatMessageRepositoryImpl.findRecentMessages(1L, 1).get(0).getChatId(), summary.lastMessage().getChatId()),
+                () -> assertEquals(chatMessageRepositoryImpl.countUnreadMessages(1L, lastReadMessageId), summary.unreadCount())
+        );
+    }
+
+    @Test
+    @DisplayName("최대 개수를 초과한 메시지는 오래된 순으로 hot window를 벗어난다")
+    void successFindMessagesOutsideHotWindowByCount() {
+        // given
+        List<ChatMessage> messages = saveMessagesInOrder(1L, 5);
+
+        // when
+        List<ChatMessage> result = chatMessageRepositoryImpl.findMessagesOutsideHotWindow(1L, 3, null, 10);
+
+        // then
+        assertAll(
+                () -> assertEquals(2, result.size()),
+                () -> assertEquals(messages.get(0).getChatId(), result.get(0).getChatId(), "가장 오래된 메시지부터 조회되어야 합니다"),
+                () -> assertEquals(messages.get(1).getChatId(), result.get(1).getChatId())
+        );
+    }
+
+    @Test
+    @DisplayName("기준 TSID보다 오래된 메시지는 hot window를 벗어나며, limit 만큼만 조회된다")
+    void successFindMessagesOutsideHotWindowByAge() {
+        // given
+        List<ChatMessage> messages = saveMessagesInOrder(1L, 5);
+
+        // when
+        List<ChatMessage> expired = chatMessageRepositoryImpl.findMessagesOutsideHotWindow(1L, 0, messages.get(3).getChatId(), 10);
+        List<ChatMessage> limited = chatMessageRepositoryImpl.findMessagesOutsideHotWindow(1L, 0, messages.get(3).getChatId(), 2);
+
+        // then
+        assertAll(
+                () -> assertEquals(3, expired.size(), "기준 메시지 이전의 메시지(1, 2, 3)가 조회되어야 합니다"),
+                () -> assertEquals(2, limited.size()),
+                () -> assertTrue(chatMessageRepositoryImpl.findMessagesOutsideHotWindow(1L, 10, null, 10).isEmpty(), "hot window 안의 메시지는 조회되지 않아야 합니다")
+        );
+    }
+
+    @Test
+    @DisplayName("지정한 TSID 이하의 메시지만 삭제된다")
+    void successDeleteMessagesUpTo() {
+        // given
+        List<ChatMessage> messages = saveMessagesInOrder(1L, 5);
+
+        // when
+        boolean deleted = chatMessageRepositoryImpl.deleteMessagesUpTo(1L, messages.get(1).getChatId(), 2);
+
+        // then
+        List<ChatMessage> remaining = chatMessageRepositoryImpl.findRecentMessages(1L, 10);
+        assertAll(
+                () -> assertTrue(deleted),
+                () -> assertEquals(3, remaining.size()),
+                () -> assertEquals("Message 3", remaining.get(remaining.size() - 1).getContent())
+        );
+    }
+
+    @Test
+    @DisplayName("조회 이후 더 작은 TSID의 메시지가 늦게 저장되면, 이관하지 않은 메시지가 삭제되지 않도록 아무것도 삭제하지 않는다")
+    void deleteMessagesUpToSkipsWhenLateMessageInserted() {
+        // given
+        long base = createChatId(0);
+        for (long i = 1; i <= 3; i++) {
+            chatMessageRepositoryImpl.save(createMessage(1L, base + i * 10));
+        }
+        List<ChatMessage> archived = chatMessageRepositoryImpl.findMessagesOutsideHotWindow(1L, 1, null, 10);
+        chatMessageRepositoryImpl.save(createMessage(1L, base + 15));
+
+        // when
+        boolean deleted = chatMessageRepositoryImpl.deleteMessagesUpTo(1L, archived.get(archived.size() - 1).getChatId(), archived.size());
+
+        // then
+        assertAll(
+                () -> assertEquals(2, archived.size()),
+                () -> assertFalse(deleted),
+                () -> assertEquals(4, chatMessageRepositoryImpl.findRecentMessages(1L, 10).size(), "어떤 메시지도 삭제되지 않아야 합니다")
+        );
+    }
+
+    @Test
+    @DisplayName("삭제 범위에 디코딩할 수 없는 메시지가 있으면, 조회 결과에서 제외된 메시지가 삭제되지 않도록 아무것도 삭제하지 않는다")
+    void deleteMessagesUpToSkipsWhenUndecodableMessageInRange() {
+        // given
+        long base = createChatId(0);
+        chatMessageRepositoryImpl.save(createMessage(1L, base + 10));
+        chatMessageRepositoryImpl.save(createMessage(1L, base + 30));
+        chatMessageRepositoryImpl.save(createMessage(1L, base + 40));
+
+        String tsid = String.valueOf(base + 20);
+        redisTemplate.opsForZSet().add("chatroom:1:message", tsid.substring(0, tsid.length() - 4) + ":" + tsid.substring(tsid.length() - 4) + "|!invalid!", 0);
+
+        List<ChatMessage> archived = chatMessageRepositoryImpl.findMessagesOutsideHotWindow(1L, 1, null, 10);
+
+        // when
+        boolean deleted = chatMessageRepositoryImpl.deleteMessagesUpTo(1L, archived.get(archived.size() - 1).getChatId(), archived.size());
+
+        // then
+        assertAll(
+                () -> assertEquals(2, archived.size(), "디코딩할 수 없는 메시지는 조회 결과에서 제외되어야 합니다"),
+                () -> assertFalse(deleted),
+                () -> assertEquals(4L, redisTemplate.opsForZSet().zCard("chatroom:1:message"), "어떤 메시지도 삭제되지 않아야 합니다")
+        );
+    }
+
+    @Test
+    @DisplayName("기존 JSON 형식으로 저장된 메시지와 binary 형식으로 저장된 메시지를 함께 조회할 수 있다")
+    void successReadLegacyJsonAndBinaryMessages() throws Exception {
+        // given
+        ChatMessage legacyMessage = ChatMessageBuilder.builder()
+                .chatRoomId(1L)
+                .chatId(createChatId(1))
+                .content("Legacy")
+                .contentType(MessageContentType.TEXT)
+                .categoryType(MessageCategoryType.NORMAL)
+                .sender(2L)
+                .build();
+        String legacyTsid = String.valueOf(legacyMessage.getChatId());
+        String legacyTsidKey = legacyTsid.substring(0, legacyTsid.length() - 4) + ":" + legacyTsid.substring(legacyTsid.length() - 4);
+        redisTemplate.opsForZSet().add("chatroom:1:message", legacyTsidKey + "|" + objectMapper.writeValueAsString(legacyMessage), 0);
+
+        ChatMessage binaryMessage = ChatMessageBuilder.builder()
+                .chatRoomId(1L)
+                .chatId(createChatId(2))
+                .content("가".repeat(500))
+                .contentType(MessageContentType.TEXT)
+                .categoryType(MessageCategoryType.SYSTEM)
+                .sender(3L)
+                .build();
+        chatMessageRepositoryImpl.save(binaryMessage);
+
+        // when
+        List<ChatMessage> messages = chatMessageRepositoryImpl.findRecentMessages(1L, 10);
+
+        // then
+        assertAll(
+                () -> assertEquals(2, messages.size()),
+                () -> assertEquals(binaryMessage.getContent(), messages.get(0).getContent()),
+                () -> assertEquals(MessageCategoryType.SYSTEM, messages.get(0).getCategoryType()),
+                () -> assertEquals(3L, messages.get(0).getSender()),
+                () -> assertEquals(1L, messages.get(0).getChatRoomId(), "chatRoomId는 key로부터 복원되어야 합니다"),
+                () -> assertEquals("Legacy", messages.get(1).getContent()),
+                () -> assertEquals(legacyMessage.getChatId(), messages.get(1).getChatId())
+        );
+    }
+
+    @Test
+    @DisplayName("메시지를 저장할 때마다 채팅방 별 순번이 1씩 증가한다")
+    void successIssueSequencePerRoom() {
+        // given
+        List<ChatMessage> room1Messages = saveMessagesInOrder(1L, 5);
+        List<ChatMessage> room2Messages = saveMessagesInOrder(2L, 2);
+
+        // when - then
+        assertAll(
+                () -> assertEquals(Optional.of(1L), chatMessageRepositoryImpl.findSequence(1L, room1Messages.get(0).getChatId())),
+                () -> assertEquals(Optional.of(4L), chatMessageRepositoryImpl.findSequence(1L, room1Messages.get(3).getChatId())),
+                () -> assertEquals(Optional.of(2L), chatMessageRepositoryImpl.findSequence(2L, room2Messages.get(1).getChatId()), "채팅방 별로 순번이 독립적이어야 합니다"),
+                () -> assertEquals(5L, chatMessageRepositoryImpl.countUnreadMessages(1L, 0L), "읽은 메시지가 없으면 최신 순번이 반환되어야 합니다")
+        );
+    }
+
+    @Test
+    @DisplayName("여러 메시지의 순번을 한 번에 조회하며, 순번 카운터가 없는 채팅방의 메시지는 결과에 포함하지 않는다")
+    void successFindSequencesInPipeline() {
+        // given
+        List<ChatMessage> room1Messages = saveMessagesInOrder(1L, 5);
+        List<ChatMessage> room2Messages = saveMessagesInOrder(2L, 2);
+        ChatMessagePosition first = ChatMessagePosition.of(1L, room1Messages.get(0).getChatId());
+        ChatMessagePosition fourth = ChatMessagePosition.of(1L, room1Messages.get(3).getChatId());
+        ChatMessagePosition other = ChatMessagePosition.of(2L, room2Messages.get(1).getChatId());
+        ChatMessagePosition unknown = ChatMessagePosition.of(3L, room1Messages.get(0).getChatId());
+
+        // when
+        Map<ChatMessagePosition, Long> sequences = chatMessageRepositoryImpl.findSequences(List.of(first, fourth, other, unknown));
+
+        // then
+        assertEquals(Map.of(first, 1L, fourth, 4L, other, 2L), sequences);
+    }
+
+    @Test
+    @DisplayName("순번 카운터가 없는 채팅방은 기존 메시지 개수로 카운터를 초기화한 뒤 순번을 발급한다")
+    void successBootstrapSequenceFromExistingMessages() {
+        // given
+        List<ChatMessage> legacyMessages = saveMessagesInOrder(1L, 3);
+        redisTemplate.delete("chatroom:1:seq");
+        assertTrue(chatMessageRepositoryImpl.findSequence(1L, legacyMessages.get(0).getChatId()).isEmpty(), "카운터가 없으면 순번을 알 수 없어야 합니다");
+
+        // when
+        ChatMessage message = chatMessageRepositoryImpl.save(ChatMessageBuilder.builder()
+                .chatRoomId(1L)
+                .chatId(createChatId(4))
+                .content("Message 4")
+                .contentType(MessageContentType.TEXT)
+                .categoryType(MessageCategoryType.NORMAL)
+                .sender(1L)
+                .build());
+
+        // then
+        assertAll(
+                () -> assertEquals(Optional.of(4L), chatMessageRepositoryImpl.findSequence(1L, message.getChatId())),
+                () -> assertEquals(Optional.of(2L), chatMessageRepositoryImpl.findSequence(1L, legacyMessages.get(1).getChatId()))
+        );
+    }
+
+    @Test
+    @DisplayName("순번을 알 수 없는 마지막 읽음 정보는 TSID 범위로 안 읽은 메시지 개수를 계산한다")
+    void successCountUnreadMessagesWithoutSequence() {
+        // given
+        List<ChatMessage> messages = saveMessagesInOrder(1L, 5);
+
+        // when
+        ChatRoomMessageSummary summary = chatMessageRepositoryImpl.findChatRoomMessageSummaries(Map.of(1L, LastReadMessage.of(messages.get(1).getChatId(), null))).get(1L);
+
+        // then
+        assertEquals(3L, summary.unreadCount(), "마지막으로 읽은 메시지(ID: 2) 이후의 메시지 개수(3, 4, 5)가 반환되어야 합니다");
+    }
+
+    @Test
+    @DisplayName("아카이브로 이관되어 Redis에서 제거된 메시지도 순번은 유지된다")
+    void sequenceSurvivesArchivedMessages() {
+        // given
+        List<ChatMessage> messages = saveMessagesInOrder(1L, 5);
+        chatMessageRepositoryImpl.deleteMessagesUpTo(1L, messages.get(2).getChatId(), 3);
+
+        // when
+        ChatRoomMessageSummary summary = chatMessageRepositoryImpl.findChatRoomMessageSummaries(Map.of(1L, LastReadMessage.none())).get(1L);
+
+        // then
+        assertAll(
+                () -> assertEquals(Optional.of(4L), chatMessageRepositoryImpl.findSequence(1L, messages.get(3).getChatId())),
+                () -> assertEquals(5L, summary.unreadCount(), "이관된 메시지도 안 읽은 메시지로 집계되어야 합니다")
+        );
+    }
+
     private List<ChatMessage> saveMessagesInOrder(Long roomId, int messageCount) {
         List<ChatMessage> messages = new ArrayList<>();
 
@@ -367,9 +770,20 @@ public class ChatMessageRepositoryImplTest extends ContainerRedisTestConfig {
         return messages;
     }
 
+    private ChatMessage createMessage(Long roomId, long chatId) {
+        return ChatMessageBuilder.builder()
+                .chatRoomId(roomId)
+                .chatId(chatId)
+                .content("Message " + chatId)
+                .contentType(MessageContentType.TEXT)
+                .categoryType(MessageCategoryType.NORMAL)
+                .sender(1L)
+                .build();
+    }
+
     @AfterEach
     void tearDown() {
-        Set<String> keys = redisTemplate.keys("chatroom:*:message");
+        Set<String> keys = redisTemplate.keys("chatroom:*");
         if (keys != null && !keys.isEmpty()) {
             redisTemplate.delete(keys);
         }
@@ -0,0 +1,105 @@
+package kr.co.pennyway.domains.session;
+
+import kr.co.pennyway.config.ContainerRedisTestConfig;
+import kr.co.pennyway.domain.config.LettuceConfig;
+import kr.co.pennyway.domain.config.RedisConfig;
+import kr.co.pennyway.domain.domains.session.dto.SessionKey;
+import kr.co.pennyway.domain.domains.session.repository.UserPresenceRepository;
+import kr.co.pennyway.domain.domains.session.repository.UserPresenceRepositoryImpl;
+import kr.co.pennyway.domain.domains.session.type.UserStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("접속 현황 인덱스 Redis 저장소 테스트")
+@ContextConfiguration(classes = {RedisConfig.class, LettuceConfig.class})
+@DataRedisTest(properties = "spring.config.location=classpath:application-domain-redis.yml")
+@Import({UserPresenceRepositoryImpl.class})
+@ActiveProfiles("test")
+public class UserPresenceRepositoryTest extends ContainerRedisTestConfig {
+    @Autowired
+    private UserPresenceRepository userPresenceRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(Objects.requireNonNull(redisTemplate.keys("chatroom:*")));
+    }
+
+    @Test
+    @DisplayName("채팅방 뷰로 진입하면 채팅방 인덱스에 기록되고, 다른 채팅방으로 이동하면 이전 인덱스에서 제거된다")
+    void moveBetweenChatRooms() {
+        // given
+        SessionKey key = SessionKey.of(1L, "device:1");
+        userPresenceRepository.update(key, UserStatus.ACTIVE_APP, -1L, UserStatus.ACTIVE_CHAT_ROOM, 10L);
+
+        // when
+        userPresenceRepository.update(key, UserStatus.ACTIVE_CHAT_ROOM, 10L, UserStatus.ACTIVE_CHAT_ROOM, 20L);
+
+        // then
+        assertTrue(userPresenceRepository.findChatRoomViewerIds(10L).isEmpty());
+        assertEquals(Set.of(1L), userPresenceRepository.findChatRoomViewerIds(20L));
+    }
+
+    @Test
+    @DisplayName("채팅방 뷰에서 채팅방 리스트 뷰로 이동하면 채팅방 인덱스에서 제거되고, 리스트 뷰는 인덱스에 기록하지 않는다")
+    void leaveToChatRoomList() {
+        // given
+        SessionKey key = SessionKey.of(1L, "device1");
+        userPresenceRepository.update(key, UserStatus.ACTIVE_APP, -1L, UserStatus.ACTIVE_CHAT_ROOM, 10L);
+
+        // when
+        userPresenceRepository.update(key, UserStatus.ACTIVE_CHAT_ROOM, 10L, UserStatus.ACTIVE_CHAT_ROOM_LIST, -1L);
+
+        // then
+        assertTrue(userPresenceRepository.findChatRoomViewerIds(10L).isEmpty());
+        assertEquals(Set.of(), Objects.requireNonNull(redisTemplate.keys("chatroom:*")));
+    }
+
+    @Test
+    @DisplayName("인덱스 항목은 세션과 동일한 TTL로 만료된다")
+    void entryExpiresWithSession() {
+        // given
+        userPresenceRepository.update(SessionKey.of(1L, "device1"), null, null, UserStatus.ACTIVE_CHAT_ROOM, 10L);
+
+        // when
+        List<Long> ttl = redisTemplate.execute(
+                RedisScript.of("return redis.call('HTTL', KEYS[1], 'FIELDS', '1', ARGV[1])", List.class),
+                List.of("chatroom:10:viewers"),
+                "1:device1"
+        );
+
+        // then
+        assertTrue(ttl != null && ttl.get(0) > 0, "인덱스 항목에 TTL이 설정되어야 합니다");
+    }
+
+    @Test
+    @DisplayName("세션이 삭제되면 인덱스에서 제거된다")
+    void removeOnDelete() {
+        // given
+        SessionKey key = SessionKey.of(1L, "device1");
+        userPresenceRepository.update(key, null, null, UserStatus.ACTIVE_CHAT_ROOM, 10L);
+
+        // when
+        userPresenceRepository.update(key, UserStatus.ACTIVE_CHAT_ROOM, 10L, null, null);
+
+        // then
+        assertTrue(userPresenceRepository.findChatRoomViewerIds(10L).isEmpty());
+    }
+}
@@ -0,0 +1,133 @@
+package kr.co.pennyway.domains.session;
+
+import kr.co.pennyway.config.ContainerRedisTestConfig;
+import kr.co.pennyway.domain.config.LettuceConfig;
+import kr.co.pennyway.domain.config.RedisConfig;
+import kr.co.pennyway.domain.domains.session.domain.UserSession;
+import kr.co.pennyway.domain.domains.session.repository.UserSessionRepository;
+import kr.co.pennyway.domain.domains.session.repository.UserSessionRepositoryImpl;
+import kr.co.pennyway.domain.domains.session.type.UserStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 재배포 직후 다수의 클라이언트가 동시에 재연결하는 상황에서, CONNECT 시점의 세션 활성화 방식을 비교합니다.
+ * <p>
+ * - 기존 방식: 존재 여부 확인(EXISTS) 후, 세션이 있으면 조회/저장/TTL 초기화, 없으면 저장
+ * - upsert: 하나의 스크립트로 조회/저장/TTL 초기화
+ * <p>
+ * 절반은 이미 세션이 있는 사용자(재연결), 절반은 세션이 없는 사용자(신규 연결)로 구성하며, 처리량과 연결 당 지연 시간을 비교합니다.
+ */
+@Slf4j
+@Disabled
+@ContextConfiguration(classes = {RedisConfig.class, LettuceConfig.class})
+@DataRedisTest(properties = "spring.config.location=classpath:application-domain-redis.yml")
+@Import({UserSessionRepositoryImpl.class})
+@ActiveProfiles("test")
+public class UserSessionActivationBenchmark extends ContainerRedisTestConfig {
+    private static final int CONNECTIONS = 20_000;
+    private static final int CONCURRENCY = 64;
+    private static final String DEVICE_ID = "device";
+
+    @Autowired
+    private UserSessionRepository userSessionRepository;
+
+    @Test
+    @DisplayName("동시 재연결 시 기존 방식과 upsert의 처리량과 지연 시간을 비교한다")
+    void compareLegacyAndUpsert() throws Exception {
+        runReconnectStorm("warm-up", 0L, this::activateWithUpsert);
+
+        Result legacy = runReconnectStorm("legacy", 1_000_000L, this::activateLegacy);
+        Result upsert = runReconnectStorm("upsert", 2_000_000L, this::activateWithUpsert);
+
+        log.info("""
+                        연결 수: {}, 동시성: {}
+                        legacy: {} conn/s, p50 {}µs, p99 {}µs
+                        upsert: {} conn/s, p50 {}µs, p99 {}µs""",
+                CONNECTIONS, CONCURRENCY,
+                legacy.throughput(), legacy.percentile(0.5), legacy.percentile(0.99),
+                upsert.throughput(), upsert.percentile(0.5), upsert.percentile(0.99));
+    }
+
+    private void activateLegacy(Long userId) {
+        if (userSessionRepository.exists(userId, DEVICE_ID)) {
+            UserSession userSession = userSessionRepository.findUserSession(userId, DEVICE_ID).orElseThrow();
+            userSession.updateStatus(UserStatus.ACTIVE_APP, -1L);
+            userSessionRepository.save(userId, DEVICE_ID, userSession);
+            userSessionRepository.resetSessionTtl(userId, DEVICE_ID);
+        } else {
+            userSessionRepository.save(userId, DEVICE_ID, UserSession.of(userId, DEVICE_ID, "benchmark"));
+        }
+    }
+
+    private void activateWithUpsert(Long userId) {
+        userSessionRepository.upsert(userId, DEVICE_ID, UserSession.of(userId, DEVICE_ID, "benchmark"));
+    }
+
+    private Result runReconnectStorm(String name, long userIdOffset, Activation activation) throws Exception {
+        // 절반의 사용자는 이전 연결의 세션이 남아있는 상태로 시작한다.
+        for (long i = 0; i < CONNECTIONS / 2; i++) {
+            userSessionRepository.save(userIdOffset + i, DEVICE_ID, UserSession.of(userIdOffset + i, DEVICE_ID, "benchmark"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(CONNECTIONS));
+        CountDownLatch done = new CountDownLatch(CONNECTIONS);
+
+        long startedAt = System.nanoTime();
+        for (long i = 0; i < CONNECTIONS; i++) {
+            long userId = userIdOffset + i;
+            executor.execute(() -> {
+                long begin = System.nanoTime();
+                try {
+                    activation.activate(userId);
+                    latencies.add(System.nanoTime() - begin);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        for (long i = 0; i < CONNECTIONS; i++) {
+            userSessionRepository.delete(userIdOffset + i, DEVICE_ID);
+        }
+
+        log.debug("{} 완료: {}ms", name, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return new Result(new ArrayList<>(latencies), elapsed);
+    }
+
+    @FunctionalInterface
+    private interface Activation {
+        void activate(Long userId);
+    }
+
+    private record Result(List<Long> latencies, long elapsedNanos) {
+        long throughput() {
+            return latencies.size() * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        long percentile(double percentile) {
+            List<Long> sorted = latencies.stream().sorted().toList();
+            if (sorted.isEmpty()) {
+                return -1;
+            }
+
+            return TimeUnit.NANOSECONDS.toMicros(sorted.get(Math.max(0, (int) Math.ceil(percentile * sorted.size()) - 1)));
+        }
+    }
+}
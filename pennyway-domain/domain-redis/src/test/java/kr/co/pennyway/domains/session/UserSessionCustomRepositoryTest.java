@@ -175,6 +175,30 @@ public class UserSessionCustomRepositoryTest extends ContainerRedisTestConfig {
         assertTrue(foundSession.getLastActiveAt().isAfter(initialLastActiveAt));
     }
 
+    @Test
+    @DisplayName("upsert는 세션이 없으면 생성하고, 있으면 덮어쓴 후 이전 세션을 반환한다")
+    void upsertTest() {
+        // when
+        Optional<UserSession> created = userSessionRepository.upsert(userId, deviceId, userSession);
+
+        UserSession chatRoomSession = UserSession.of(userId, deviceId, deviceName);
+        chatRoomSession.updateStatus(UserStatus.ACTIVE_CHAT_ROOM, 123L);
+        userSessionRepository.save(userId, deviceId, chatRoomSession);
+
+        Optional<UserSession> overwritten = userSessionRepository.upsert(userId, deviceId, UserSession.of(userId, deviceId, "NewDevice"));
+
+        // then
+        assertFalse(created.isPresent());
+        assertTrue(overwritten.isPresent());
+        assertEquals(UserStatus.ACTIVE_CHAT_ROOM, overwritten.get().getStatus());
+        assertEquals(123L, overwritten.get().getCurrentChatRoomId());
+
+        UserSession foundSession = userSessionRepository.findUserSession(userId, deviceId).get();
+        assertEquals(UserStatus.ACTIVE_APP, foundSession.getStatus());
+        assertEquals("NewDevice", foundSession.getDeviceName());
+        assertTrue(userSessionRepository.getSessionTtl(userId, deviceId) > 0);
+    }
+
     @AfterEach
     void tearDown() {
         userSessionRepository.delete(userId, deviceId);
@@ -20,6 +20,10 @@ public class UserSessionService {
         userSessionRedisService.create(userId, deviceId, value);
     }
 
+    public UserSession activate(Long userId, String deviceId, String deviceName) {
+        return userSessionRedisService.activate(userId, deviceId, deviceName);
+    }
+
     public Optional<UserSession> read(Long userId, String deviceId) {
         return userSessionRedisService.read(userId, deviceId);
     }
@@ -17,8 +17,13 @@ public class ChatMemberBanService {
 
     private final ChatMemberRdbService chatMemberRdbService;
 
+    /**
+     * 채팅방 관리자가 멤버를 추방합니다.
+     *
+     * @return 추방된 채팅방 멤버
+     */
     @Transactional
-    public void execute(ChatMemberBanCommand command) {
+    public ChatMember execute(ChatMemberBanCommand command) {
         ChatMember admin = chatMemberRdbService.readChatMember(command.userId(), command.chatRoomId())
                 .orElseThrow(() -> new ChatMemberErrorException(ChatMemberErrorCode.NOT_FOUND));
 
@@ -32,5 +37,7 @@ public class ChatMemberBanService {
         targetMember.ban();
 
         chatMemberRdbService.update(targetMember);
+
+        return targetMember;
     }
 }
@@ -1,24 +1,99 @@
 package kr.co.pennyway.domain.context.chat.service;
 
 import kr.co.pennyway.common.annotation.DomainService;
+import kr.co.pennyway.domain.domains.chatarchive.domain.ChatMessageArchive;
+import kr.co.pennyway.domain.domains.chatarchive.service.ChatMessageArchiveRdbService;
+import kr.co.pennyway.domain.domains.chatstatus.dto.LastReadMessage;
 import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
+import kr.co.pennyway.domain.domains.message.dto.ChatRoomMessageSummary;
 import kr.co.pennyway.domain.domains.message.service.ChatMessageRedisService;
+import kr.co.pennyway.domain.domains.message.type.MessageCategoryType;
+import kr.co.pennyway.domain.domains.message.type.MessageContentType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @DomainService
 @RequiredArgsConstructor
 public class ChatMessageService {
     private final ChatMessageRedisService chatMessageRedisService;
+    private final ChatMessageArchiveRdbService chatMessageArchiveRdbService;
 
     public ChatMessage create(ChatMessage chatMessage) {
         return chatMessageRedisService.create(chatMessage);
     }
 
+    /**
+     * 같은 발신자가 같은 클라이언트 메시지 ID로 전송한 메시지가 없는 경우에만 채팅 메시지를 저장합니다.
+     * 네트워크 불안정으로 클라이언트가 같은 메시지를 재전송하더라도, ttl 동안은 한 번만 저장됩니다.
+     *
+     * @param chatMessage     {@link ChatMessage}: 저장할 채팅 메시지
+     * @param clientMessageId String: 클라이언트가 메시지마다 발급한 ID
+     * @param ttl             Duration: 중복 확인 기간
+     * @return 이미 저장된 메시지가 있는 경우 해당 메시지의 TSID. 새로 저장한 경우 {@link Optional#empty()}
+     */
+    public Optional<Long> createIfAbsent(ChatMessage chatMessage, String clientMessageId, Duration ttl) {
+        return chatMessageRedisService.createIfAbsent(chatMessage, clientMessageId, ttl);
+    }
+
+    /**
+     * {@link #createIfAbsent(ChatMessage, String, Duration)}로 저장한 메시지와 중복 확인 키를 삭제합니다.
+     * 저장 이후 발행에 실패한 경우 호출하여, 클라이언트의 재전송이 성공 응답만 받지 않고 다시 저장되고 발행되도록 합니다.
+     * 중복 확인 키가 다른 메시지를 가리키는 경우에는 삭제하지 않습니다.
+     *
+     * @param chatMessage     {@link ChatMessage}: createIfAbsent로 저장한 채팅 메시지
+     * @param clientMessageId String: 클라이언트가 메시지마다 발급한 ID
+     * @return 삭제한 경우 true
+     */
+    public boolean revoke(ChatMessage chatMessage, String clientMessageId) {
+        return chatMessageRedisService.revoke(chatMessage, clientMessageId);
+    }
+
+    /**
+     * {@link #create(ChatMessage)}의 non-blocking 버전입니다.
+     * 호출 스레드를 점유하지 않으며, 반환된 {@link Mono}를 구독해야 저장됩니다.
+     *
+     * @param chatMessage {@link ChatMessage}: 저장할 채팅 메시지
+     * @return 저장이 완료되면 저장한 채팅 메시지를 발행하는 {@link Mono}
+     */
+    public Mono<ChatMessage> createAsync(ChatMessage chatMessage) {
+        return chatMessageRedisService.createAsync(chatMessage);
+    }
+
+    /**
+     * {@link #createIfAbsent(ChatMessage, String, Duration)}의 non-blocking 버전입니다.
+     * 호출 스레드를 점유하지 않으며, 반환된 {@link Mono}를 구독해야 저장됩니다.
+     *
+     * @param chatMessage     {@link ChatMessage}: 저장할 채팅 메시지
+     * @param clientMessageId String: 클라이언트가 메시지마다 발급한 ID
+     * @param ttl             Duration: 중복 확인 기간
+     * @return 이미 저장된 메시지가 있는 경우 해당 메시지의 TSID를 발행하고, 새로 저장한 경우 값 없이 완료되는 {@link Mono}
+     */
+    public Mono<Long> createIfAbsentAsync(ChatMessage chatMessage, String clientMessageId, Duration ttl) {
+        return chatMessageRedisService.createIfAbsentAsync(chatMessage, clientMessageId, ttl);
+    }
+
+    /**
+     * {@link #revoke(ChatMessage, String)}의 non-blocking 버전입니다.
+     *
+     * @param chatMessage     {@link ChatMessage}: createIfAbsentAsync로 저장한 채팅 메시지
+     * @param clientMessageId String: 클라이언트가 메시지마다 발급한 ID
+     * @return 삭제 여부를 발행하는 {@link Mono}
+     */
+    public Mono<Boolean> revokeAsync(ChatMessage chatMessage, String clientMessageId) {
+        return chatMessageRedisService.revokeAsync(chatMessage, clientMessageId);
+    }
+
     /**
      * 채팅방의 최근 메시지를 조회합니다.
      *
@@ -34,6 +109,9 @@ public class ChatMessageService {
      * 특정 메시지 ID 이전의 메시지들을 페이징하여 조회합니다.
      * 최근 시간 기준으로 정렬된 결과를 반환하며, lastMessageId에 해당하는 메시지는 포함되지 않습니다.
      * 만약, lastMessageId에 해당하는 메시지가 필요한 경우 인자는 lastMessageId + 1로 설정해야 합니다.
+     * <p>
+     * Redis에는 hot window에 해당하는 최근 메시지만 유지되므로, Redis의 메시지가 부족한 경우 나머지는 MySQL 아카이브에서 이어서 조회합니다.
+     * 이관 직후 아직 Redis에서 제거되지 않은 메시지가 있더라도, 아카이브는 Redis 결과의 가장 오래된 메시지 이전부터 조회하므로 중복되지 않습니다.
      *
      * @param roomId        Long: 채팅방 ID
      * @param lastMessageId Long: 마지막으로 조회한 메시지의 TSID
@@ -41,7 +119,38 @@ public class ChatMessageService {
      * @return 페이징된 메시지 목록
      */
     public Slice<ChatMessage> readMessageBefore(Long roomId, Long lastMessageId, int size) {
-        return chatMessageRedisService.readMessagesBefore(roomId, lastMessageId, size);
+        Slice<ChatMessage> recentMessages = chatMessageRedisService.readMessagesBefore(roomId, lastMessageId, size);
+
+        if (recentMessages.hasNext()) {
+            return recentMessages;
+        }
+
+        List<ChatMessage> messages = new ArrayList<>(recentMessages.getContent());
+        Long cursor = messages.isEmpty() ? lastMessageId : messages.get(messages.size() - 1).getChatId();
+        int remaining = size - messages.size();
+
+        if (remaining <= 0) {
+            return new SliceImpl<>(messages, PageRequest.of(0, size), chatMessageArchiveRdbService.isExistsMessageBefore(roomId, cursor));
+        }
+
+        Slice<ChatMessageArchive> archivedMessages = chatMessageArchiveRdbService.readMessagesBefore(roomId, cursor, remaining);
+        archivedMessages.getContent().forEach(archive -> messages.add(toChatMessage(archive)));
+
+        return new SliceImpl<>(messages, PageRequest.of(0, size), archivedMessages.hasNext());
+    }
+
+    /**
+     * 특정 메시지 ID 이후에 생성된 메시지 중 가장 최근 메시지들을 조회합니다.
+     * 재연결한 클라이언트가 놓친 메시지를 보충하기 위한 용도로, Redis의 hot window 안에서만 조회합니다.
+     * 놓친 메시지가 size보다 많은 경우 hasNext가 true이며, 나머지는 {@link #readMessageBefore(Long, Long, int)}로 이어서 조회해야 합니다.
+     *
+     * @param roomId        Long: 채팅방 ID
+     * @param lastMessageId Long: 마지막으로 수신한 메시지의 TSID
+     * @param size          int: 조회할 최대 메시지 개수
+     * @return 최근 시간 순으로 정렬된 메시지 목록
+     */
+    public Slice<ChatMessage> readLatestMessagesAfter(Long roomId, Long lastMessageId, int size) {
+        return chatMessageRedisService.readLatestMessagesAfter(roomId, lastMessageId, size);
     }
 
     /**
@@ -54,4 +163,28 @@ public class ChatMessageService {
     public Long countUnreadMessages(Long roomId, Long lastReadMessageId) {
         return chatMessageRedisService.countUnreadMessages(roomId, lastReadMessageId);
     }
+
+    /**
+     * 여러 채팅방의 마지막 메시지와 안 읽은 메시지 개수를 한 번에 조회합니다.
+     * 안 읽은 메시지 개수는 채팅방의 최신 순번과 마지막으로 읽은 메시지의 순번의 차이이며, 채팅방 수와 관계없이 Redis 왕복은 1회만 발생합니다.
+     *
+     * @param lastReadMessages Map<Long, LastReadMessage>: 채팅방 ID를 키로, 사용자가 마지막으로 읽은 메시지 정보를 값으로 가지는 맵
+     * @return 채팅방 ID를 키로 하는 {@link ChatRoomMessageSummary} 맵
+     */
+    public Map<Long, ChatRoomMessageSummary> readChatRoomMessageSummaries(Map<Long, LastReadMessage> lastReadMessages) {
+        return chatMessageRedisService.readChatRoomMessageSummaries(lastReadMessages);
+    }
+
+    private ChatMessage toChatMessage(ChatMessageArchive archive) {
+        return ChatMessage.restore(
+                archive.getChatRoomId(),
+                archive.getChatId(),
+                archive.getContent(),
+                MessageContentType.fromString(archive.getContentType()),
+                MessageCategoryType.fromString(archive.getCategoryType()),
+                archive.getCreatedAt(),
+                archive.getDeletedAt(),
+                archive.getSender()
+        );
+    }
 }
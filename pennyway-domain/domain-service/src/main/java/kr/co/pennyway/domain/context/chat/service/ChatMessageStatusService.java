@@ -1,26 +1,64 @@
 package kr.co.pennyway.domain.context.chat.service;
 
 import kr.co.pennyway.common.annotation.DomainService;
+import kr.co.pennyway.domain.domains.chatstatus.domain.ChatMessageStatus;
+import kr.co.pennyway.domain.domains.chatstatus.dto.ChatMessageStatusKey;
+import kr.co.pennyway.domain.domains.chatstatus.dto.LastReadMessage;
 import kr.co.pennyway.domain.domains.chatstatus.service.ChatMessageStatusRdbService;
 import kr.co.pennyway.domain.domains.chatstatus.service.ChatMessageStatusRedisService;
+import kr.co.pennyway.domain.domains.message.dto.ChatMessagePosition;
+import kr.co.pennyway.domain.domains.message.service.ChatMessageRedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.*;
+
 @Slf4j
 @DomainService
 @RequiredArgsConstructor
 public class ChatMessageStatusService {
     private final ChatMessageStatusRdbService rdbService;
     private final ChatMessageStatusRedisService redisService;
+    private final ChatMessageRedisService chatMessageRedisService;
 
     /**
      * 마지막으로 읽은 메시지 ID를 저장합니다.
+     * 안 읽은 메시지 개수를 순번의 차이로 계산할 수 있도록, 메시지의 채팅방 내 순번을 함께 저장합니다.
      *
      * @throws IllegalArgumentException 사용자 ID, 채팅방 ID, 메시지 ID가 null이거나 0보다 작을 경우
      */
     public void saveLastReadMessageId(Long userId, Long roomId, Long messageId) {
-        redisService.saveLastReadMessageId(userId, roomId, messageId);
+        Long seq = messageId == null || messageId <= 0 ? null : chatMessageRedisService.readSequence(roomId, messageId).orElse(null);
+
+        redisService.saveLastReadMessageId(userId, roomId, LastReadMessage.of(messageId, seq));
+    }
+
+    /**
+     * 여러 (사용자, 채팅방)의 마지막으로 읽은 메시지 ID를 한 번에 저장합니다.
+     * 메시지의 순번 조회와 저장을 각각 하나의 파이프라인으로 처리하므로, 저장할 키의 개수와 무관하게 Redis 왕복은 두 번입니다.
+     *
+     * @param lastReadMessageIds (사용자, 채팅방)을 키로, 마지막으로 읽은 메시지 ID를 값으로 가지는 맵
+     * @throws IllegalArgumentException 사용자 ID, 채팅방 ID, 메시지 ID가 null이거나 0보다 작을 경우
+     */
+    public void saveLastReadMessageIds(Map<ChatMessageStatusKey, Long> lastReadMessageIds) {
+        if (lastReadMessageIds.isEmpty()) {
+            return;
+        }
+
+        Set<ChatMessagePosition> positions = new HashSet<>();
+        lastReadMessageIds.forEach((key, messageId) -> {
+            if (messageId != null && messageId > 0) {
+                positions.add(ChatMessagePosition.of(key.chatRoomId(), messageId));
+            }
+        });
+        Map<ChatMessagePosition, Long> sequences = chatMessageRedisService.readSequences(positions);
+
+        Map<ChatMessageStatusKey, LastReadMessage> lastReadMessages = new HashMap<>();
+        lastReadMessageIds.forEach((key, messageId) ->
+                lastReadMessages.put(key, LastReadMessage.of(messageId, sequences.get(ChatMessagePosition.of(key.chatRoomId(), messageId)))));
+
+        redisService.saveLastReadMessageIds(lastReadMessages);
     }
 
     /**
@@ -34,10 +72,52 @@ public class ChatMessageStatusService {
                 .orElseGet(() -> rdbService
                         .readByUserIdAndChatRoomId(userId, chatRoomId)
                         .map(status -> {
-                            Long lastReadId = status.getLastReadMessageId();
-                            redisService.saveLastReadMessageId(userId, chatRoomId, lastReadId);
-                            return lastReadId;
+                            LastReadMessage lastReadMessage = toLastReadMessage(status);
+                            redisService.saveLastReadMessageId(userId, chatRoomId, lastReadMessage);
+                            return lastReadMessage;
                         })
-                        .orElse(0L));
+                        .orElse(LastReadMessage.none()))
+                .messageId();
+    }
+
+    /**
+     * 여러 채팅방의 마지막으로 읽은 메시지 ID와 순번을 한 번에 조회합니다.
+     * 캐시(MGET)에 존재하지 않는 채팅방만 단일 IN 쿼리로 조회한 뒤, 조회 결과를 캐시에 채워 넣습니다.
+     *
+     * @return 채팅방 ID를 키로 하는 맵. 입력 순서를 유지하며, 마지막으로 읽은 메시지가 없을 경우 {@link LastReadMessage#none()}을 값으로 가집니다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, LastReadMessage> readLastReadMessageIds(Long userId, List<Long> chatRoomIds) {
+        if (chatRoomIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, LastReadMessage> cached = redisService.readLastReadMessageIds(userId, chatRoomIds);
+
+        Set<Long> missed = new HashSet<>();
+        for (Long chatRoomId : chatRoomIds) {
+            if (!cached.containsKey(chatRoomId)) {
+                missed.add(chatRoomId);
+            }
+        }
+
+        Map<Long, LastReadMessage> loaded = new HashMap<>();
+        if (!missed.isEmpty()) {
+            for (ChatMessageStatus status : rdbService.readAllByUserIdAndChatRoomIds(userId, missed)) {
+                loaded.put(status.getChatRoomId(), toLastReadMessage(status));
+            }
+            redisService.saveLastReadMessageIdsIfAbsent(userId, loaded);
+        }
+
+        Map<Long, LastReadMessage> result = new LinkedHashMap<>();
+        for (Long chatRoomId : chatRoomIds) {
+            result.put(chatRoomId, cached.getOrDefault(chatRoomId, loaded.getOrDefault(chatRoomId, LastReadMessage.none())));
+        }
+
+        return result;
+    }
+
+    private LastReadMessage toLastReadMessage(ChatMessageStatus status) {
+        return LastReadMessage.of(status.getLastReadMessageId(), status.getLastReadMessageSeq());
     }
 }
@@ -4,7 +4,6 @@ import kr.co.pennyway.common.annotation.DomainService;
 import kr.co.pennyway.domain.context.chat.dto.ChatPushNotificationContext;
 import kr.co.pennyway.domain.domains.device.domain.DeviceToken;
 import kr.co.pennyway.domain.domains.device.service.DeviceTokenRdbService;
-import kr.co.pennyway.domain.domains.member.domain.ChatMember;
 import kr.co.pennyway.domain.domains.member.service.ChatMemberRdbService;
 import kr.co.pennyway.domain.domains.session.domain.UserSession;
 import kr.co.pennyway.domain.domains.session.service.UserSessionRedisService;
@@ -38,6 +37,7 @@ public class ChatNotificationCoordinatorService {
      * - 채팅방에 참여 중인 사용자 중에서 채팅 알림을 받지 않는 사용자들은 제외합니다.
      * - 채팅방에 참여 중인 사용자 중에서 채팅방의 알림을 받지 않는 사용자들은 제외합니다.
      * </pre>
+     * 채팅방 인원 수와 관계없이 RDB 쿼리 4회(전송자, 참여자, 알림 설정, 디바이스 토큰)와 Redis 조회 2회(채팅방 뷰 인덱스, 세션 파이프라인)로 수행됩니다.
      *
      * @param senderId   Long 전송자 아이디. Must not be null.
      * @param chatRoomId Long 채팅방 아이디. Must not be null.
@@ -60,7 +60,7 @@ public class ChatNotificationCoordinatorService {
     /**
      * <pre>
      * [STEP]
-     * 1. 채팅방에 참여 중인 사용자 세션들을 가져옴 (사용자 별로 여러 세션이 존재할 수 있음)
+     * 1. 채팅방 뷰를 보고 있는 사용자를 접속 현황 인덱스로 제외한 후, 남은 사용자 세션들을 한 번의 파이프라인으로 가져옴 (사용자 별로 여러 세션이 존재할 수 있음)
      * 2. 사용자 세션 중에서 전송자는 제외하고, 채팅방에 참여 중 혹은 채팅방 리스트 뷰를 보고 있지 않은 사용자들만 필터링
      * 3. 사용자 세션을 사용자 아이디 별로 그룹핑
      * 4. 사용자 세션 중 하나라도 해당 채팅방에 참여 중인 경우, 해당 사용자의 전체 세션 제외
@@ -69,14 +69,23 @@ public class ChatNotificationCoordinatorService {
      * @return 사용자 아이디 별로 사용자 세션들을 그룹핑한 맵
      */
     private Map<Long, Set<UserSession>> getUserSessionGroupByUserId(Long senderId, Long chatRoomId) {
-        Set<Long> userIds = chatMemberRdbService.readUserIdsByChatRoomId(chatRoomId);
-
-        List<Map<String, UserSession>> userSessions = userIds.stream()
+        Set<Long> userIds = chatMemberRdbService.readUserIdsByChatRoomId(chatRoomId).stream()
                 .filter(userId -> !userId.equals(senderId))
-                .map(userSessionRedisService::readAll)
-                .toList();
+                .collect(Collectors.toSet());
+
+        if (userIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        userIds.removeAll(userSessionRedisService.readChatRoomViewerIds(chatRoomId));
 
-        Map<Long, Set<UserSession>> sessions = userSessions.stream()
+        if (userIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, Map<String, UserSession>> userSessions = userSessionRedisService.readAllByUserIds(userIds);
+
+        Map<Long, Set<UserSession>> sessions = userSessions.values().stream()
                 .flatMap(userSessionMap -> userSessionMap.entrySet().stream())
                 .filter(entry -> isTargetStatus(entry, chatRoomId))
                 .collect(Collectors.groupingBy(entry -> entry.getValue().getUserId(), Collectors.mapping(Map.Entry::getValue, Collectors.toSet())));
@@ -103,52 +112,59 @@ public class ChatNotificationCoordinatorService {
     }
 
     /**
-     * <pre>
-     * [STEP]
-     * 1. 사용자 아이디로 채팅 알림 off 여부 판단. 만약 false면, 해당 사용자는 모두 제외
-     * 2. 사용자 아이디로 채팅방의 알림 off 여부 판단. 만약 false면, 해당 사용자는 모두 제외
-     * 3. 사용자 아이디로 디바이스 토큰을 가져옴
-     * </pre>
+     * 사용자 아이디로 채팅 알림과 채팅방 알림이 모두 켜져 있는 사용자만 남깁니다.
+     * user.notify_setting과 chat_member.notify_enabled를 조인한 단일 쿼리로 판별합니다.
      *
      * @return 푸시 알림을 받아야 하는 사용자 세션들
      */
     private Set<UserSession> filterNotificationEnabledUserSessions(Map<Long, Set<UserSession>> participants, Long chatRoomId) {
+        if (participants.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> notifyEnabledUserIds = chatMemberRdbService.readChatNotifyEnabledUserIds(chatRoomId, participants.keySet());
+
         return participants.entrySet().stream()
-                .filter(entry -> isChatNotifyEnabled(entry.getKey())) // N개 쿼리 발생
-                .filter(entry -> isChatRoomNotifyEnabled(entry.getKey(), chatRoomId)) // N개 쿼리 발생
+                .filter(entry -> notifyEnabledUserIds.contains(entry.getKey()))
                 .flatMap(entry -> entry.getValue().stream())
                 .collect(Collectors.toUnmodifiableSet());
     }
 
-    private boolean isChatNotifyEnabled(Long userId) {
-        Optional<User> user = userRdbService.readUser(userId);
-
-        return user.isPresent() && user.get().getNotifySetting().isChatNotify();
-    }
-
-    private boolean isChatRoomNotifyEnabled(Long userId, Long chatRoomId) {
-        Optional<ChatMember> chatMember = chatMemberRdbService.readChatMember(userId, chatRoomId);
-
-        return chatMember.isPresent() && chatMember.get().isNotifyEnabled();
-    }
-
     /**
      * 사용자 세션들 중에서 기기별 활성화된 디바이스 토큰들을 가져옵니다.
+     * (userId, deviceId) 쌍 전체를 한 번의 쿼리로 조회한 뒤, 세션 별로 하나의 토큰만 선택합니다.
      *
      * @return 활성화된 디바이스 토큰들
      */
-    private List<String> getDeviceTokens(Iterable<UserSession> targets) {
-        List<String> deviceTokens = new ArrayList<>();
+    private List<String> getDeviceTokens(Set<UserSession> targets) {
+        if (targets.isEmpty()) {
+            return new ArrayList<>();
+        }
 
+        Set<Long> userIds = new HashSet<>();
+        Set<String> deviceIds = new HashSet<>();
         for (UserSession target : targets) {
-            deviceTokenRdbService.readAllByUserId(target.getUserId()).stream()
-                    .filter(DeviceToken::isActivated)
-                    .filter(deviceToken -> deviceToken.getDeviceId().equals(target.getDeviceId()))
-                    .findFirst()
-                    .map(DeviceToken::getToken)
-                    .ifPresent(deviceTokens::add);
+            userIds.add(target.getUserId());
+            deviceIds.add(target.getDeviceId());
+        }
+
+        Map<DeviceKey, String> tokens = new HashMap<>();
+        for (DeviceToken deviceToken : deviceTokenRdbService.readAllActivatedByUserIdsAndDeviceIds(userIds, deviceIds)) {
+            tokens.putIfAbsent(new DeviceKey(deviceToken.getUser().getId(), deviceToken.getDeviceId()), deviceToken.getToken());
+        }
+
+        List<String> deviceTokens = new ArrayList<>();
+        for (UserSession target : targets) {
+            String token = tokens.get(new DeviceKey(target.getUserId(), target.getDeviceId()));
+
+            if (token != null) {
+                deviceTokens.add(token);
+            }
         }
 
         return deviceTokens;
     }
+
+    private record DeviceKey(Long userId, String deviceId) {
+    }
 }
@@ -2,6 +2,7 @@ package kr.co.pennyway.domain.context.finance.service;
 
 import kr.co.pennyway.common.annotation.DomainService;
 import kr.co.pennyway.domain.domains.spending.domain.Spending;
+import kr.co.pennyway.domain.domains.spending.dto.SpendingDetail;
 import kr.co.pennyway.domain.domains.spending.dto.TotalSpendingAmount;
 import kr.co.pennyway.domain.domains.spending.service.SpendingRdbService;
 import kr.co.pennyway.domain.domains.spending.type.SpendingCategory;
@@ -12,6 +13,8 @@ import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,8 +35,8 @@ public class SpendingService {
     }
 
     @Transactional(readOnly = true)
-    public List<Spending> readSpendings(Long userId, int year, int month) {
-        return spendingRdbService.readSpendings(userId, year, month);
+    public List<SpendingDetail> readSpendingDetails(Long userId, int year, int month) {
+        return spendingRdbService.readSpendingDetails(userId, year, month);
     }
 
     @Transactional(readOnly = true)
@@ -56,6 +59,16 @@ public class SpendingService {
         return spendingRdbService.readSpendingsSliceByCategory(userId, spendingCategory, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<Spending> readSpendingsSliceByCategoryId(Long userId, Long categoryId, LocalDateTime lastSpendAt, Long lastSpendingId, int size) {
+        return spendingRdbService.readSpendingsSliceByCategoryId(userId, categoryId, lastSpendAt, lastSpendingId, size);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<Spending> readSpendingsSliceByCategory(Long userId, SpendingCategory spendingCategory, LocalDateTime lastSpendAt, Long lastSpendingId, int size) {
+        return spendingRdbService.readSpendingsSliceByCategory(userId, spendingCategory, lastSpendAt, lastSpendingId, size);
+    }
+
     @Transactional(readOnly = true)
     public Optional<TotalSpendingAmount> readTotalSpendingAmount(Long userId, LocalDate date) {
         return spendingRdbService.readTotalSpendingAmountByUserId(userId, date);
@@ -77,23 +90,45 @@ public class SpendingService {
     }
 
     @Transactional
-    public void updateCategoryByCustomCategory(SpendingCategory fromCategory, Long toId) {
-        spendingRdbService.updateCategoryByCustomCategory(fromCategory, toId);
+    public void updateCategoryByCustomCategory(Long userId, SpendingCategory fromCategory, Long toId) {
+        spendingRdbService.updateCategoryByCustomCategory(userId, fromCategory, toId);
+    }
+
+    @Transactional
+    public void updateCategoryByCategory(Long userId, SpendingCategory fromCategory, SpendingCategory toCategory) {
+        spendingRdbService.updateCategoryByCategory(userId, fromCategory, toCategory);
+    }
+
+    @Transactional
+    public void updateCustomCategoryByCustomCategory(Long userId, Long fromId, Long toId) {
+        spendingRdbService.updateCustomCategoryByCustomCategory(userId, fromId, toId);
     }
 
     @Transactional
-    public void updateCategoryByCategory(SpendingCategory fromCategory, SpendingCategory toCategory) {
-        spendingRdbService.updateCategoryByCategory(fromCategory, toCategory);
+    public void updateCustomCategoryByCategory(Long userId, Long fromId, SpendingCategory toCategory) {
+        spendingRdbService.updateCustomCategoryByCategory(userId, fromId, toCategory);
     }
 
+    /**
+     * 변경 감지로 수정한 지출 내역의 일별 요약을 다시 집계한다.
+     * 지출 일자가 변경된 경우, 변경 전후 일자를 모두 전달해야 한다.
+     *
+     * @param userId Long : 지출 내역의 사용자 ID
+     * @param dates  LocalDate... : 다시 집계할 지출 일자
+     */
     @Transactional
-    public void updateCustomCategoryByCustomCategory(Long fromId, Long toId) {
-        spendingRdbService.updateCustomCategoryByCustomCategory(fromId, toId);
+    public void refreshSpendingSummary(Long userId, LocalDate... dates) {
+        Arrays.stream(dates).distinct().forEach(date -> spendingRdbService.refreshSpendingSummary(userId, date));
     }
 
+    /**
+     * 사용자의 지출 요약이 지출 내역과 일치하는지 확인하고, 불일치한 일자를 다시 집계한다.
+     *
+     * @return 불일치가 발견된 일자 목록
+     */
     @Transactional
-    public void updateCustomCategoryByCategory(Long fromId, SpendingCategory toCategory) {
-        spendingRdbService.updateCustomCategoryByCategory(fromId, toCategory);
+    public List<LocalDate> reconcileSpendingSummary(Long userId) {
+        return spendingRdbService.reconcileSpendingSummary(userId);
     }
 
     @Transactional
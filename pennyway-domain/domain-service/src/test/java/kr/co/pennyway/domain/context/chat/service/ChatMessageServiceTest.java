@@ -0,0 +1,107 @@
+package kr.co.pennyway.domain.context.chat.service;
+
+import kr.co.pennyway.domain.domains.chatarchive.domain.ChatMessageArchive;
+import kr.co.pennyway.domain.domains.chatarchive.service.ChatMessageArchiveRdbService;
+import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
+import kr.co.pennyway.domain.domains.message.domain.ChatMessageBuilder;
+import kr.co.pennyway.domain.domains.message.service.ChatMessageRedisService;
+import kr.co.pennyway.domain.domains.message.type.MessageCategoryType;
+import kr.co.pennyway.domain.domains.message.type.MessageContentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ChatMessageServiceTest {
+    @InjectMocks
+    private ChatMessageService chatMessageService;
+
+    @Mock
+    private ChatMessageRedisService chatMessageRedisService;
+
+    @Mock
+    private ChatMessageArchiveRdbService chatMessageArchiveRdbService;
+
+    @Test
+    @DisplayName("Redis에 다음 페이지가 남아있으면 아카이브를 조회하지 않는다")
+    void readOnlyRedisWhenHasNext() {
+        // given
+        given(chatMessageRedisService.readMessagesBefore(1L, 100L, 2)).willReturn(new SliceImpl<>(List.of(createMessage(99L), createMessage(98L)), PageRequest.of(0, 2), true));
+
+        // when
+        Slice<ChatMessage> result = chatMessageService.readMessageBefore(1L, 100L, 2);
+
+        // then
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.hasNext());
+        verify(chatMessageArchiveRdbService, never()).readMessagesBefore(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Redis의 메시지가 부족하면, 가장 오래된 메시지 이전부터 아카이브에서 이어서 조회한다")
+    void fallThroughToArchive() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ChatMessageArchive archive = ChatMessageArchive.of(97L, 1L, 2L, "archived", "TEXT", "NORMAL", createdAt, null);
+
+        given(chatMessageRedisService.readMessagesBefore(1L, 100L, 3)).willReturn(new SliceImpl<>(List.of(createMessage(99L), createMessage(98L)), PageRequest.of(0, 3), false));
+        given(chatMessageArchiveRdbService.readMessagesBefore(1L, 98L, 1)).willReturn(new SliceImpl<>(List.of(archive), PageRequest.of(0, 1), true));
+
+        // when
+        Slice<ChatMessage> result = chatMessageService.readMessageBefore(1L, 100L, 3);
+
+        // then
+        ChatMessage restored = result.getContent().get(2);
+        assertAll(
+                () -> assertEquals(List.of(99L, 98L, 97L), result.getContent().stream().map(ChatMessage::getChatId).toList()),
+                () -> assertTrue(result.hasNext(), "아카이브에 남은 메시지가 있으면 다음 페이지가 존재해야 합니다"),
+                () -> assertEquals("archived", restored.getContent()),
+                () -> assertEquals(MessageContentType.TEXT, restored.getContentType()),
+                () -> assertEquals(MessageCategoryType.NORMAL, restored.getCategoryType()),
+                () -> assertEquals(createdAt, restored.getCreatedAt(), "생성 시각이 보존되어야 합니다")
+        );
+    }
+
+    @Test
+    @DisplayName("Redis에서 요청한 크기만큼 조회했지만 다음 페이지가 없으면, 아카이브에 이전 메시지가 있는지만 확인한다")
+    void checkArchiveExistenceWhenRedisPageIsFull() {
+        // given
+        given(chatMessageRedisService.readMessagesBefore(1L, 100L, 1)).willReturn(new SliceImpl<>(List.of(createMessage(99L)), PageRequest.of(0, 1), false));
+        given(chatMessageArchiveRdbService.isExistsMessageBefore(1L, 99L)).willReturn(true);
+
+        // when
+        Slice<ChatMessage> result = chatMessageService.readMessageBefore(1L, 100L, 1);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.hasNext());
+        verify(chatMessageArchiveRdbService, never()).readMessagesBefore(anyLong(), anyLong(), anyInt());
+    }
+
+    private ChatMessage createMessage(Long chatId) {
+        return ChatMessageBuilder.builder()
+                .chatRoomId(1L)
+                .chatId(chatId)
+                .content("Message " + chatId)
+                .contentType(MessageContentType.TEXT)
+                .categoryType(MessageCategoryType.NORMAL)
+                .sender(1L)
+                .build();
+    }
+}
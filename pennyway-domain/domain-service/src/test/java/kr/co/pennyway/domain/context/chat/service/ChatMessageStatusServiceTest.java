@@ -1,8 +1,12 @@
 package kr.co.pennyway.domain.context.chat.service;
 
 import kr.co.pennyway.domain.domains.chatstatus.domain.ChatMessageStatus;
+import kr.co.pennyway.domain.domains.chatstatus.dto.ChatMessageStatusKey;
+import kr.co.pennyway.domain.domains.chatstatus.dto.LastReadMessage;
 import kr.co.pennyway.domain.domains.chatstatus.service.ChatMessageStatusRdbService;
 import kr.co.pennyway.domain.domains.chatstatus.service.ChatMessageStatusRedisService;
+import kr.co.pennyway.domain.domains.message.dto.ChatMessagePosition;
+import kr.co.pennyway.domain.domains.message.service.ChatMessageRedisService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,10 +17,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -31,6 +40,9 @@ public class ChatMessageStatusServiceTest {
     @Mock
     private ChatMessageStatusRedisService redisService;
 
+    @Mock
+    private ChatMessageRedisService chatMessageRedisService;
+
     private static Stream<Arguments> provideInvalidInputs() {
         return Stream.of(
                 Arguments.of(null, 1L, 1L),
@@ -50,7 +62,7 @@ public class ChatMessageStatusServiceTest {
         Long chatRoomId = 1L;
         Long messageId = 100L;
 
-        given(redisService.readLastReadMessageId(userId, chatRoomId)).willReturn(Optional.of(messageId));
+        given(redisService.readLastReadMessageId(userId, chatRoomId)).willReturn(Optional.of(LastReadMessage.of(messageId, 10L)));
 
         // when
         Long result = chatMessageStatusService.readLastReadMessageId(userId, chatRoomId);
@@ -62,14 +74,14 @@ public class ChatMessageStatusServiceTest {
     }
 
     @Test
-    @DisplayName("캐시 미스 시 DB에서 조회하고 캐시를 갱신한다")
+    @DisplayName("캐시 미스 시 DB에서 조회하고, 순번과 함께 캐시를 갱신한다")
     void getLastReadMessageIdFromDB() {
         // given
         Long userId = 1L;
         Long chatRoomId = 1L;
         Long messageId = 100L;
 
-        ChatMessageStatus status = new ChatMessageStatus(userId, chatRoomId, messageId);
+        ChatMessageStatus status = new ChatMessageStatus(userId, chatRoomId, messageId, 10L);
 
         given(redisService.readLastReadMessageId(userId, chatRoomId)).willReturn(Optional.empty());
         given(rdbService.readByUserIdAndChatRoomId(userId, chatRoomId)).willReturn(Optional.of(status));
@@ -81,7 +93,7 @@ public class ChatMessageStatusServiceTest {
         assertEquals(messageId, result);
         verify(redisService).readLastReadMessageId(userId, chatRoomId);
         verify(rdbService).readByUserIdAndChatRoomId(userId, chatRoomId);
-        verify(redisService).saveLastReadMessageId(userId, chatRoomId, messageId);
+        verify(redisService).saveLastReadMessageId(userId, chatRoomId, LastReadMessage.of(messageId, 10L));
     }
 
     @Test
@@ -105,21 +117,108 @@ public class ChatMessageStatusServiceTest {
     }
 
     @Test
-    @DisplayName("새 메시지 저장 시 정상적으로 처리된다")
+    @DisplayName("여러 채팅방의 마지막 읽은 메시지 ID가 모두 캐시에 있으면 DB를 조회하지 않는다")
+    void getLastReadMessageIdsFromCache() {
+        // given
+        Long userId = 1L;
+        List<Long> chatRoomIds = List.of(1L, 2L);
+
+        Map<Long, LastReadMessage> cached = Map.of(1L, LastReadMessage.of(100L, 10L), 2L, LastReadMessage.of(200L, 20L));
+        given(redisService.readLastReadMessageIds(userId, chatRoomIds)).willReturn(cached);
+
+        // when
+        Map<Long, LastReadMessage> result = chatMessageStatusService.readLastReadMessageIds(userId, chatRoomIds);
+
+        // then
+        assertEquals(cached, result);
+        verifyNoInteractions(rdbService);
+        verify(redisService, never()).saveLastReadMessageIdsIfAbsent(anyLong(), anyMap());
+    }
+
+    @Test
+    @DisplayName("캐시 미스된 채팅방만 단일 IN 쿼리로 조회하고, 조회 결과로 캐시를 채운다")
+    void getLastReadMessageIdsWithFallback() {
+        // given
+        Long userId = 1L;
+        List<Long> chatRoomIds = List.of(1L, 2L, 3L);
+
+        given(redisService.readLastReadMessageIds(userId, chatRoomIds)).willReturn(Map.of(1L, LastReadMessage.of(100L, 10L)));
+        given(rdbService.readAllByUserIdAndChatRoomIds(userId, Set.of(2L, 3L))).willReturn(List.of(new ChatMessageStatus(userId, 2L, 200L, 20L)));
+
+        // when
+        Map<Long, LastReadMessage> result = chatMessageStatusService.readLastReadMessageIds(userId, chatRoomIds);
+
+        // then
+        assertAll(
+                () -> assertEquals(List.of(1L, 2L, 3L), List.copyOf(result.keySet()), "입력 순서가 유지되어야 합니다"),
+                () -> assertEquals(LastReadMessage.of(100L, 10L), result.get(1L)),
+                () -> assertEquals(LastReadMessage.of(200L, 20L), result.get(2L)),
+                () -> assertEquals(LastReadMessage.none(), result.get(3L), "DB에도 데이터가 없는 경우 읽은 메시지가 없는 상태를 반환해야 합니다")
+        );
+        verify(rdbService, times(1)).readAllByUserIdAndChatRoomIds(userId, Set.of(2L, 3L));
+        verify(redisService).saveLastReadMessageIdsIfAbsent(userId, Map.of(2L, LastReadMessage.of(200L, 20L)));
+    }
+
+    @Test
+    @DisplayName("새 메시지 저장 시 메시지의 채팅방 내 순번을 함께 저장한다")
     void saveNewMessageStatus() {
         // given
         Long userId = 1L;
         Long chatRoomId = 1L;
         Long messageId = 100L;
 
+        given(chatMessageRedisService.readSequence(chatRoomId, messageId)).willReturn(Optional.of(7L));
+
         // when
         chatMessageStatusService.saveLastReadMessageId(userId, chatRoomId, messageId);
 
         // then
-        verify(redisService).saveLastReadMessageId(userId, chatRoomId, messageId);
+        verify(redisService).saveLastReadMessageId(userId, chatRoomId, LastReadMessage.of(messageId, 7L));
         verifyNoInteractions(rdbService);
     }
 
+    @Test
+    @DisplayName("채팅방의 순번 카운터가 없으면 순번 없이 메시지 ID만 저장한다")
+    void saveMessageStatusWithoutSequence() {
+        // given
+        Long userId = 1L;
+        Long chatRoomId = 1L;
+        Long messageId = 100L;
+
+        given(chatMessageRedisService.readSequence(chatRoomId, messageId)).willReturn(Optional.empty());
+
+        // when
+        chatMessageStatusService.saveLastReadMessageId(userId, chatRoomId, messageId);
+
+        // then
+        verify(redisService).saveLastReadMessageId(userId, chatRoomId, LastReadMessage.of(messageId, null));
+    }
+
+    @Test
+    @DisplayName("여러 읽음 처리를 저장할 때, 같은 메시지의 순번은 한 번만 조회하고 한 번에 저장한다")
+    void saveLastReadMessageIdsInBatch() {
+        // given
+        ChatMessagePosition shared = ChatMessagePosition.of(1L, 100L);
+        ChatMessagePosition unsequenced = ChatMessagePosition.of(2L, 200L);
+
+        given(chatMessageRedisService.readSequences(Set.of(shared, unsequenced))).willReturn(Map.of(shared, 7L));
+
+        // when
+        chatMessageStatusService.saveLastReadMessageIds(Map.of(
+                ChatMessageStatusKey.of(1L, 1L), 100L,
+                ChatMessageStatusKey.of(2L, 1L), 100L,
+                ChatMessageStatusKey.of(1L, 2L), 200L
+        ));
+
+        // then
+        verify(redisService).saveLastReadMessageIds(Map.of(
+                ChatMessageStatusKey.of(1L, 1L), LastReadMessage.of(100L, 7L),
+                ChatMessageStatusKey.of(2L, 1L), LastReadMessage.of(100L, 7L),
+                ChatMessageStatusKey.of(1L, 2L), LastReadMessage.of(200L, null)
+        ));
+        verify(chatMessageRedisService, never()).readSequence(anyLong(), anyLong());
+    }
+
     @Test
     @DisplayName("cache repository에서 예외 발생 시 적절히 처리된다 (현재는 예외를 던짐)")
     void handleRepositoryException() {
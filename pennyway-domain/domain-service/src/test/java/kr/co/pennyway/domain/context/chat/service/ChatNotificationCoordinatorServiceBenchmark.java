@@ -0,0 +1,126 @@
+package kr.co.pennyway.domain.context.chat.service;
+
+import kr.co.pennyway.domain.context.common.fixture.UserFixture;
+import kr.co.pennyway.domain.domains.device.domain.DeviceToken;
+import kr.co.pennyway.domain.domains.device.service.DeviceTokenRdbService;
+import kr.co.pennyway.domain.domains.member.service.ChatMemberRdbService;
+import kr.co.pennyway.domain.domains.session.domain.UserSession;
+import kr.co.pennyway.domain.domains.session.service.UserSessionRedisService;
+import kr.co.pennyway.domain.domains.session.type.UserStatus;
+import kr.co.pennyway.domain.domains.user.domain.NotifySetting;
+import kr.co.pennyway.domain.domains.user.domain.User;
+import kr.co.pennyway.domain.domains.user.service.UserRdbService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 채팅방 인원 수에 따른 {@link ChatNotificationCoordinatorService#determineRecipients(Long, Long)}의 지연 시간을 측정합니다.
+ * 모든 RDB/Redis 호출은 왕복 1회당 {@link #ROUND_TRIP_MICROS}µs의 지연을 가지도록 모킹하며, 측정 결과와 함께 왕복 횟수를 출력합니다.
+ * 집합 단위 조회로 전환한 이후에는 인원 수와 무관하게 왕복 횟수가 일정하므로, p99 또한 일정하게 유지되어야 합니다.
+ */
+@Slf4j
+@Disabled
+public class ChatNotificationCoordinatorServiceBenchmark {
+    private static final long SENDER_ID = 1L;
+    private static final long CHAT_ROOM_ID = 1L;
+    private static final long ROUND_TRIP_MICROS = 300L;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURE_ITERATIONS = 1_000;
+    private static final int[] ROOM_SIZES = {10, 100, 300};
+
+    private final AtomicLong roundTrips = new AtomicLong();
+
+    @Test
+    @DisplayName("채팅방 인원 수가 증가해도 p99 지연 시간은 일정하게 유지된다")
+    public void p99StaysFlatAsRoomSizeGrows() {
+        for (int roomSize : ROOM_SIZES) {
+            ChatNotificationCoordinatorService service = createService(roomSize);
+
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                service.determineRecipients(SENDER_ID, CHAT_ROOM_ID);
+            }
+
+            roundTrips.set(0);
+            long[] elapsed = new long[MEASURE_ITERATIONS];
+            for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                long start = System.nanoTime();
+                int recipients = service.determineRecipients(SENDER_ID, CHAT_ROOM_ID).deviceTokens().size();
+                elapsed[i] = System.nanoTime() - start;
+
+                assertThat(recipients).isEqualTo(roomSize - 1);
+            }
+
+            Arrays.sort(elapsed);
+            log.info("""
+                            채팅방 인원 수: {}
+                            메시지 당 왕복 횟수: {}
+                            p50: {}µs
+                            p99: {}µs
+                            ===================================""",
+                    roomSize,
+                    roundTrips.get() / MEASURE_ITERATIONS,
+                    TimeUnit.NANOSECONDS.toMicros(percentile(elapsed, 0.50)),
+                    TimeUnit.NANOSECONDS.toMicros(percentile(elapsed, 0.99))
+            );
+        }
+    }
+
+    private ChatNotificationCoordinatorService createService(int roomSize) {
+        UserRdbService userService = mock(UserRdbService.class);
+        ChatMemberRdbService chatMemberService = mock(ChatMemberRdbService.class);
+        DeviceTokenRdbService deviceTokenService = mock(DeviceTokenRdbService.class);
+        UserSessionRedisService userSessionService = mock(UserSessionRedisService.class);
+
+        Set<Long> memberIds = LongStream.rangeClosed(1, roomSize).boxed().collect(Collectors.toSet());
+        Map<Long, User> users = memberIds.stream()
+                .collect(Collectors.toMap(id -> id, id -> UserFixture.GENERAL_USER.toUserWithCustomSetting(id, "user" + id, "사용자" + id, NotifySetting.of(true, true, true))));
+        Map<Long, Map<String, UserSession>> sessions = memberIds.stream()
+                .collect(Collectors.toMap(id -> id, id -> {
+                    UserSession session = UserSession.of(id, "deviceId" + id, "Device " + id);
+                    session.updateStatus(UserStatus.ACTIVE_APP, null);
+                    return Map.of(session.getDeviceId(), session);
+                }));
+        Map<Long, DeviceToken> deviceTokens = memberIds.stream()
+                .collect(Collectors.toMap(id -> id, id -> DeviceToken.of("token" + id, "deviceId" + id, "Device " + id, users.get(id))));
+
+        given(userService.readUser(SENDER_ID)).willAnswer(invocation -> roundTrip(Optional.of(users.get(SENDER_ID))));
+        given(chatMemberService.readUserIdsByChatRoomId(CHAT_ROOM_ID)).willAnswer(invocation -> roundTrip(memberIds));
+        given(userSessionService.readChatRoomViewerIds(CHAT_ROOM_ID)).willAnswer(invocation -> roundTrip(Set.of()));
+        given(userSessionService.readAllByUserIds(anyCollection())).willAnswer(invocation -> {
+            Collection<Long> userIds = invocation.getArgument(0);
+            return roundTrip(userIds.stream().collect(Collectors.toMap(id -> id, sessions::get)));
+        });
+        given(chatMemberService.readChatNotifyEnabledUserIds(eq(CHAT_ROOM_ID), anySet())).willAnswer(invocation -> roundTrip(invocation.getArgument(1)));
+        given(deviceTokenService.readAllActivatedByUserIdsAndDeviceIds(anySet(), anySet())).willAnswer(invocation -> {
+            Set<Long> userIds = invocation.getArgument(0);
+            return roundTrip(userIds.stream().map(deviceTokens::get).toList());
+        });
+
+        return new ChatNotificationCoordinatorService(userService, chatMemberService, deviceTokenService, userSessionService);
+    }
+
+    private <T> T roundTrip(T result) {
+        roundTrips.incrementAndGet();
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(ROUND_TRIP_MICROS));
+        return result;
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
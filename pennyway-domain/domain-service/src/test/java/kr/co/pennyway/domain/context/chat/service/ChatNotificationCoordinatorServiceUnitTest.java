@@ -33,7 +33,7 @@ import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -127,7 +127,49 @@ public class ChatNotificationCoordinatorServiceUnitTest {
         // then
         assertThat(context.deviceTokens()).isEmpty();
 
-        verify(userSessionService, never()).readAll(anyLong());
+        verify(userSessionService, never()).readAllByUserIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("접속 현황 인덱스에서 채팅방 뷰를 보고 있는 사용자는 세션을 조회하지 않고 제외된다.")
+    public void excludeChatRoomViewersBeforeReadingSessions() {
+        // given
+        Long chatRoomId = 1L;
+
+        User sender = UserFixture.GENERAL_USER.toUserWithCustomSetting(1L, "sender", "발신자", NotifySetting.of(true, true, true));
+        given(userService.readUser(anyLong())).willReturn(Optional.of(sender));
+        given(chatMemberService.readUserIdsByChatRoomId(chatRoomId)).willReturn(new HashSet<>(List.of(1L, 2L, 3L)));
+        given(userSessionService.readChatRoomViewerIds(chatRoomId)).willReturn(Set.of(2L));
+        given(userSessionService.readAllByUserIds(Set.of(3L))).willReturn(Map.of());
+
+        // when
+        ChatPushNotificationContext context = service.determineRecipients(sender.getId(), chatRoomId);
+
+        // then
+        assertThat(context.deviceTokens()).isEmpty();
+
+        verify(userSessionService).readAllByUserIds(Set.of(3L));
+    }
+
+    @Test
+    @DisplayName("사용자 세션이 없는 참여자는 활성화된 디바이스 토큰이 있더라도 푸시 알림 대상에서 제외된다.")
+    public void excludeParticipantWithoutSession() {
+        // given
+        Long chatRoomId = 1L;
+
+        User sender = UserFixture.GENERAL_USER.toUserWithCustomSetting(1L, "sender", "발신자", NotifySetting.of(true, true, true));
+        given(userService.readUser(anyLong())).willReturn(Optional.of(sender));
+        given(chatMemberService.readUserIdsByChatRoomId(chatRoomId)).willReturn(new HashSet<>(List.of(1L, 2L)));
+        given(userSessionService.readAllByUserIds(anyCollection())).willReturn(Map.of());
+
+        // when
+        ChatPushNotificationContext context = service.determineRecipients(sender.getId(), chatRoomId);
+
+        // then
+        assertThat(context.deviceTokens()).isEmpty();
+
+        verify(chatMemberService, never()).readChatNotifyEnabledUserIds(anyLong(), anySet());
+        verify(deviceTokenService, never()).readAllActivatedByUserIdsAndDeviceIds(anySet(), anySet());
     }
 
     @Test
@@ -547,48 +589,59 @@ class ChatNotificationTestFlow {
         // 모든 수신자 ID 반환
         given(chatMemberService.readUserIdsByChatRoomId(chatRoomId)).willReturn(recipientIds);
 
-        // 사용자별 세션 정보 반환
-        sessions.forEach((userId, userSessions) -> {
-            if (userId.equals(senderId)) {
-                return;
-            }
+        // 사용자별 세션 정보 반환 (전송자를 제외한 참여자가 있는 경우에만 조회)
+        if (recipientIds.stream().anyMatch(userId -> !userId.equals(senderId))) {
+            given(userSessionService.readAllByUserIds(anyCollection())).willAnswer(invocation -> {
+                Collection<Long> userIds = invocation.getArgument(0);
+                Map<Long, Map<String, UserSession>> result = new HashMap<>();
+
+                userIds.forEach(userId -> {
+                    List<UserSession> userSessions = sessions.get(userId);
+                    if (userSessions != null && !userSessions.isEmpty()) {
+                        log.debug("User ID: {}, Sessions: {}", userId, userSessions);
+                        result.put(userId, userSessions.stream().collect(Collectors.toMap(UserSession::getDeviceId, session -> session)));
+                    }
+                });
 
-            log.debug("User ID: {}, Sessions: {}", userId, userSessions);
-            given(userSessionService.readAll(userId)).willReturn(userSessions.stream()
-                    .collect(Collectors.toMap(UserSession::getDeviceId, session -> session)));
-        });
+                return result;
+            });
+        }
 
-        // 4. 수신자의 채팅방 알림 설정과 디바이스 토큰은 필요한 경우에만 모킹
-        recipients.forEach((userId, recipient) -> {
-            // 발신자는 제외
-            if (userId.equals(senderId)) {
-                return;
-            }
+        // 4. 수신자의 알림 설정과 디바이스 토큰은 필요한 경우에만 모킹
+        Set<Long> candidates = recipients.keySet().stream()
+                .filter(userId -> !userId.equals(senderId))
+                .filter(this::isRequireMoking)
+                .collect(Collectors.toSet());
 
-            if (!isRequireMoking(userId)) {
-                return;
-            }
+        if (candidates.isEmpty()) {
+            return this;
+        }
 
-            given(userService.readUser(userId)).willReturn(Optional.ofNullable(recipient));
+        // 채팅 알림 설정, 채팅방 알림 설정이 모두 활성화된 사용자만 반환
+        Set<Long> notifyEnabledUserIds = candidates.stream()
+                .filter(userId -> recipients.get(userId).getNotifySetting().isChatNotify())
+                .filter(userId -> chatMembers.get(userId).isNotifyEnabled())
+                .collect(Collectors.toSet());
 
-            // 채팅 알림 설정이 비활성화된 사용자는 제외
-            if (!recipient.getNotifySetting().isChatNotify()) {
-                return;
-            }
+        given(chatMemberService.readChatNotifyEnabledUserIds(eq(chatRoomId), anySet())).willAnswer(invocation -> {
+            Set<Long> userIds = invocation.getArgument(1);
+            return userIds.stream().filter(notifyEnabledUserIds::contains).collect(Collectors.toSet());
+        });
 
-            ChatMember chatMember = chatMembers.get(userId);
-            given(chatMemberService.readChatMember(userId, chatRoomId)).willReturn(Optional.of(chatMember));
+        if (notifyEnabledUserIds.isEmpty()) {
+            return this;
+        }
 
-            // 채팅방 알림 설정이 비활성화된 사용자는 제외
-            if (!chatMember.isNotifyEnabled()) {
-                return;
-            }
+        // 요청한 사용자 아이디, 디바이스 아이디에 해당하는 활성화된 디바이스 토큰 반환
+        given(deviceTokenService.readAllActivatedByUserIdsAndDeviceIds(anySet(), anySet())).willAnswer(invocation -> {
+            Set<Long> userIds = invocation.getArgument(0);
+            Set<String> deviceIds = invocation.getArgument(1);
 
-            List<DeviceToken> tokens = deviceTokens.get(userId);
-            if (tokens != null && !tokens.isEmpty()) {
-                log.debug("User ID: {}, Device Tokens: {}", userId, tokens);
-                given(deviceTokenService.readAllByUserId(userId)).willReturn(tokens);
-            }
+            return userIds.stream()
+                    .flatMap(userId -> deviceTokens.getOrDefault(userId, List.of()).stream())
+                    .filter(DeviceToken::isActivated)
+                    .filter(deviceToken -> deviceIds.contains(deviceToken.getDeviceId()))
+                    .toList();
         });
 
         return this;
@@ -0,0 +1,68 @@
+package kr.co.pennyway.infra.client.coordinator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅 서버 노드의 heartbeat를 Redis hash 하나에 저장한다.
+ * <p>
+ * hash field는 노드의 URL, value는 {@link ChatServerStatus#serialize()} 값이며, field마다 TTL(HPEXPIRE)을 지정하여
+ * heartbeat가 끊긴 노드는 별도의 정리 작업 없이 제거된다. (Redis 7.4 이상)
+ */
+@Slf4j
+public class ChatServerHeartbeatRepository {
+    private static final String KEY = "chat-server:heartbeat";
+    private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of(
+            """
+                    redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+                    redis.call('HPEXPIRE', KEYS[1], ARGV[3], 'FIELDS', 1, ARGV[1])
+                    return 1
+                    """,
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public ChatServerHeartbeatRepository(StringRedisTemplate redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 노드의 상태를 저장하고 TTL을 갱신한다.
+     * TTL 안에 다시 저장하지 않으면 노드는 조회 대상에서 제외된다.
+     */
+    public void save(ChatServerStatus status) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(KEY), status.url(), status.serialize(), String.valueOf(ttl.toMillis()));
+    }
+
+    /**
+     * TTL이 만료되지 않은 모든 노드의 상태를 조회한다.
+     * 형식이 올바르지 않은 값은 무시한다.
+     */
+    public List<ChatServerStatus> findAll() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(KEY);
+        List<ChatServerStatus> statuses = new ArrayList<>(entries.size());
+
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            try {
+                statuses.add(ChatServerStatus.deserialize((String) entry.getKey(), (String) entry.getValue()));
+            } catch (IllegalArgumentException e) {
+                log.warn("채팅 서버 상태를 읽을 수 없습니다. url={}, value={}", entry.getKey(), entry.getValue());
+            }
+        }
+
+        return statuses;
+    }
+
+    public void delete(String url) {
+        redisTemplate.opsForHash().delete(KEY, url);
+    }
+}
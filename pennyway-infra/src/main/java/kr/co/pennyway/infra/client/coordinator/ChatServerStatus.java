@@ -0,0 +1,59 @@
+package kr.co.pennyway.infra.client.coordinator;
+
+import java.util.Objects;
+
+/**
+ * 채팅 서버 노드가 주기적으로 보고하는 부하 상태
+ *
+ * @param url               클라이언트가 접속할 채팅 서버 URL
+ * @param connections       현재 연결된 세션 수
+ * @param inboundQueueDepth 클라이언트 inbound 채널에서 처리를 기다리는 메시지 수
+ * @param weight            노드의 처리 용량 가중치. 사양이 높은 노드일수록 큰 값을 가진다.
+ * @param heartbeatAt       상태를 보고한 시각 (epoch millis)
+ */
+public record ChatServerStatus(String url, int connections, int inboundQueueDepth, int weight, long heartbeatAt) {
+    /**
+     * 대기 중인 inbound 메시지 하나가 연결 몇 개에 해당하는 부하인지 나타낸다.
+     * 대기열이 쌓이기 시작한 노드는 연결 수가 적더라도 이미 처리 한계에 가까우므로, 연결보다 큰 비중을 둔다.
+     */
+    private static final int INBOUND_QUEUE_DEPTH_FACTOR = 10;
+    private static final String DELIMITER = ":";
+
+    public ChatServerStatus {
+        Objects.requireNonNull(url, "url must not be null");
+        if (weight < 1) {
+            throw new IllegalArgumentException("weight must be greater than 0");
+        }
+    }
+
+    public static ChatServerStatus of(String url, int connections, int inboundQueueDepth, int weight, long heartbeatAt) {
+        return new ChatServerStatus(url, connections, inboundQueueDepth, weight, heartbeatAt);
+    }
+
+    /**
+     * Redis에 저장된 값을 상태로 변환한다.
+     *
+     * @param url   채팅 서버 URL (hash field)
+     * @param value {@link #serialize()}로 저장된 값 (hash value)
+     */
+    public static ChatServerStatus deserialize(String url, String value) {
+        String[] tokens = value.split(DELIMITER);
+
+        if (tokens.length != 4) {
+            throw new IllegalArgumentException("invalid chat server status: " + value);
+        }
+
+        return new ChatServerStatus(url, Integer.parseInt(tokens[0]), Integer.parseInt(tokens[1]), Integer.parseInt(tokens[2]), Long.parseLong(tokens[3]));
+    }
+
+    public String serialize() {
+        return connections + DELIMITER + inboundQueueDepth + DELIMITER + weight + DELIMITER + heartbeatAt;
+    }
+
+    /**
+     * 노드의 처리 용량 대비 부하. 값이 작을수록 여유가 있다.
+     */
+    public double load() {
+        return (connections + (double) inboundQueueDepth * INBOUND_QUEUE_DEPTH_FACTOR) / weight;
+    }
+}
@@ -0,0 +1,96 @@
+package kr.co.pennyway.infra.client.coordinator;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 채팅 서버 노드가 Redis에 보고한 heartbeat를 바탕으로, 가장 부하가 적은 노드의 URL을 반환하는 {@link CoordinatorService} 구현체입니다.
+ * <p>
+ * 보고 시각이 heartbeat TTL보다 오래된 노드는 제외합니다. (hash field TTL이 만료되기 전의 짧은 구간이나, 시계가 어긋난 노드를 걸러냅니다.)
+ * 최소 부하와의 차이가 {@link #TIE_TOLERANCE} 이내인 노드들은 같은 부하로 보고 가중치(weight)에 비례한 확률로 선택하여,
+ * 여러 API 서버가 같은 heartbeat를 보고 한 노드로 연결을 몰아주지 않도록 합니다.
+ * 살아있는 노드가 없거나 Redis를 조회할 수 없으면 미리 정의된 채팅 서버 URL을 반환합니다.
+ */
+@Slf4j
+public class LoadAwareCoordinatorService implements CoordinatorService {
+    /**
+     * 최소 부하 대비 이 비율 이내의 노드는 동일한 부하로 간주한다.
+     */
+    private static final double TIE_TOLERANCE = 0.1;
+    /**
+     * 부하가 작을 때 비율만으로는 동률 구간이 지나치게 좁아지므로, 최소한 연결 하나만큼의 차이는 동일한 부하로 간주한다.
+     */
+    private static final double MIN_TIE_MARGIN = 1.0;
+
+    private final ChatServerHeartbeatRepository chatServerHeartbeatRepository;
+    private final String fallbackChatServerUrl;
+    private final Duration heartbeatTtl;
+    private final Clock clock;
+    private final IntUnaryOperator random;
+
+    public LoadAwareCoordinatorService(ChatServerHeartbeatRepository chatServerHeartbeatRepository, String fallbackChatServerUrl, Duration heartbeatTtl) {
+        this(chatServerHeartbeatRepository, fallbackChatServerUrl, heartbeatTtl, Clock.systemUTC(), bound -> ThreadLocalRandom.current().nextInt(bound));
+    }
+
+    public LoadAwareCoordinatorService(ChatServerHeartbeatRepository chatServerHeartbeatRepository, String fallbackChatServerUrl, Duration heartbeatTtl, Clock clock, IntUnaryOperator random) {
+        this.chatServerHeartbeatRepository = chatServerHeartbeatRepository;
+        this.fallbackChatServerUrl = fallbackChatServerUrl;
+        this.heartbeatTtl = heartbeatTtl;
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    public WebSocket.ChatServerUrl readChatServerUrl(Map<String, String> headers, Object payload) {
+        List<ChatServerStatus> alive;
+
+        try {
+            alive = readAliveChatServers();
+        } catch (Exception e) {
+            log.warn("채팅 서버 상태를 조회할 수 없어 기본 채팅 서버 URL을 반환합니다.", e);
+            return WebSocket.ChatServerUrl.of(fallbackChatServerUrl);
+        }
+
+        if (alive.isEmpty()) {
+            log.warn("heartbeat를 보고한 채팅 서버가 없어 기본 채팅 서버 URL을 반환합니다.");
+            return WebSocket.ChatServerUrl.of(fallbackChatServerUrl);
+        }
+
+        return WebSocket.ChatServerUrl.of(selectLeastLoaded(alive).url());
+    }
+
+    private List<ChatServerStatus> readAliveChatServers() {
+        long expiredBefore = clock.millis() - heartbeatTtl.toMillis();
+
+        return chatServerHeartbeatRepository.findAll().stream()
+                .filter(status -> status.heartbeatAt() >= expiredBefore)
+                .toList();
+    }
+
+    private ChatServerStatus selectLeastLoaded(List<ChatServerStatus> alive) {
+        double minLoad = alive.stream().mapToDouble(ChatServerStatus::load).min().orElseThrow();
+        double threshold = minLoad + Math.max(MIN_TIE_MARGIN, minLoad * TIE_TOLERANCE);
+
+        List<ChatServerStatus> candidates = alive.stream()
+                .filter(status -> status.load() <= threshold)
+                .toList();
+
+        int totalWeight = candidates.stream().mapToInt(ChatServerStatus::weight).sum();
+        int point = random.applyAsInt(totalWeight);
+
+        for (ChatServerStatus candidate : candidates) {
+            point -= candidate.weight();
+            if (point < 0) {
+                return candidate;
+            }
+        }
+
+        return candidates.get(candidates.size() - 1);
+    }
+}
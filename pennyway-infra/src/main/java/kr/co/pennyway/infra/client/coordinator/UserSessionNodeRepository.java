@@ -0,0 +1,94 @@
+package kr.co.pennyway.infra.client.coordinator;
+
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * STOMP 세션이 연결된 채팅 서버 노드를 사용자 단위로 저장한다.
+ * <p>
+ * 사용자마다 hash 하나(simp-user:{userName})를 사용하며, field는 세션 ID, value는 노드 ID이다.
+ * field마다 TTL(HPEXPIRE)을 지정하여, 노드가 비정상 종료되어 세션을 제거하지 못하더라도 TTL이 지나면 제거된다. (Redis 7.4 이상)
+ */
+public class UserSessionNodeRepository {
+    private static final String KEY_PREFIX = "simp-user:";
+    private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of(
+            """
+                    redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+                    redis.call('HPEXPIRE', KEYS[1], ARGV[3], 'FIELDS', 1, ARGV[1])
+                    return 1
+                    """,
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public UserSessionNodeRepository(StringRedisTemplate redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 세션이 연결된 노드를 저장하고 TTL을 갱신한다.
+     * TTL 안에 다시 저장하지 않으면 세션은 조회 대상에서 제외된다.
+     */
+    public void save(String userName, String sessionId, String nodeId) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(createKey(userName)), sessionId, nodeId, String.valueOf(ttl.toMillis()));
+    }
+
+    /**
+     * 여러 세션의 노드를 한 번의 pipeline으로 저장하고 TTL을 갱신한다.
+     *
+     * @param sessions 세션 ID를 key, 사용자 이름을 value로 하는 Map
+     */
+    public void saveAll(Map<String, String> sessions, String nodeId) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        byte[] script = SAVE_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        byte[] node = nodeId.getBytes(StandardCharsets.UTF_8);
+        byte[] ttlMillis = String.valueOf(ttl.toMillis()).getBytes(StandardCharsets.UTF_8);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            sessions.forEach((sessionId, userName) -> connection.scriptingCommands().eval(
+                    script,
+                    ReturnType.INTEGER,
+                    1,
+                    createKey(userName).getBytes(StandardCharsets.UTF_8),
+                    sessionId.getBytes(StandardCharsets.UTF_8),
+                    node,
+                    ttlMillis
+            ));
+            return null;
+        });
+    }
+
+    /**
+     * @return 세션 ID를 key, 노드 ID를 value로 하는 Map
+     */
+    public Map<String, String> findAll(String userName) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(createKey(userName));
+        Map<String, String> sessions = new HashMap<>(entries.size());
+
+        entries.forEach((sessionId, nodeId) -> sessions.put((String) sessionId, (String) nodeId));
+
+        return sessions;
+    }
+
+    public void delete(String userName, String sessionId) {
+        redisTemplate.opsForHash().delete(createKey(userName), sessionId);
+    }
+
+    private String createKey(String userName) {
+        return KEY_PREFIX + userName;
+    }
+}
@@ -0,0 +1,34 @@
+package kr.co.pennyway.infra.client.google.fcm;
+
+/**
+ * FCM 푸시 알림 전송 결과
+ *
+ * @param successCount : 전송에 성공한 디바이스 토큰 수
+ * @param failureCount : 전송에 실패한 디바이스 토큰 수 (대기열 거절 포함)
+ */
+public record FcmDispatchResult(
+        int successCount,
+        int failureCount
+) {
+    private static final FcmDispatchResult EMPTY = new FcmDispatchResult(0, 0);
+
+    public static FcmDispatchResult empty() {
+        return EMPTY;
+    }
+
+    public static FcmDispatchResult success(int count) {
+        return new FcmDispatchResult(count, 0);
+    }
+
+    public static FcmDispatchResult failure(int count) {
+        return new FcmDispatchResult(0, count);
+    }
+
+    public FcmDispatchResult merge(FcmDispatchResult other) {
+        return new FcmDispatchResult(successCount + other.successCount, failureCount + other.failureCount);
+    }
+
+    public int totalCount() {
+        return successCount + failureCount;
+    }
+}
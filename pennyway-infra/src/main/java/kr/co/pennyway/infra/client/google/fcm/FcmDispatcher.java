@@ -0,0 +1,198 @@
+package kr.co.pennyway.infra.client.google.fcm;
+
+import com.google.api.core.ApiFuture;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.co.pennyway.infra.common.properties.FcmDispatchProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * FCM 전송 요청을 하나의 bounded 스레드 풀에서 처리하는 전송 엔진
+ * <p>
+ * 전송 요청은 고정 크기 대기열에 쌓이며, 대기열이 가득 차면 호출 스레드는 {@link FcmDispatchProperties#getEnqueueTimeout()} 만큼 대기한다.
+ * 그래도 공간이 없다면 요청을 거절하고 실패로 집계한다.
+ * 작업 스레드는 동시에 응답을 기다리는 요청 수가 {@link FcmDispatchProperties#getMaxInFlight()}를 넘지 않도록 제한하며,
+ * 전송 완료 콜백은 공유 listener 스레드 풀에서 처리한다.
+ * </p>
+ * <pre>
+ * fcm.dispatch.queue.size      : 전송 대기열 크기
+ * fcm.dispatch.in-flight       : 응답 대기 중인 전송 요청 수
+ * fcm.dispatch.latency         : 전송 요청부터 응답까지의 지연 시간
+ * fcm.dispatch.tokens{result}  : 성공(success), 실패(failure), 거절(rejected)된 디바이스 토큰 수
+ * </pre>
+ */
+@Slf4j
+public class FcmDispatcher implements AutoCloseable {
+    private final FirebaseMessaging firebaseMessaging;
+    private final ThreadPoolExecutor dispatchExecutor;
+    private final ExecutorService listenerExecutor;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+
+    private final Timer sendLatency;
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter rejectedCounter;
+
+    public FcmDispatcher(FirebaseMessaging firebaseMessaging, FcmDispatchProperties properties, MeterRegistry meterRegistry) {
+        this.firebaseMessaging = firebaseMessaging;
+        this.maxInFlight = properties.getMaxInFlight();
+        this.inFlight = new Semaphore(maxInFlight);
+        this.dispatchExecutor = new ThreadPoolExecutor(
+                properties.getWorkerThreads(),
+                properties.getWorkerThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("fcm-dispatch-"),
+                new BlockingEnqueuePolicy(properties.getEnqueueTimeout().toMillis())
+        );
+        this.listenerExecutor = Executors.newFixedThreadPool(properties.getListenerThreads(), new CustomizableThreadFactory("fcm-listener-"));
+
+        Gauge.builder("fcm.dispatch.queue.size", dispatchExecutor, executor -> executor.getQueue().size())
+                .description("FCM 전송 대기열 크기")
+                .register(meterRegistry);
+        Gauge.builder("fcm.dispatch.in-flight", inFlight, permits -> maxInFlight - permits.availablePermits())
+                .description("FCM 응답 대기 중인 전송 요청 수")
+                .register(meterRegistry);
+        this.sendLatency = Timer.builder("fcm.dispatch.latency")
+                .description("FCM 전송 지연 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.successCounter = tokenCounter(meterRegistry, "success");
+        this.failureCounter = tokenCounter(meterRegistry, "failure");
+        this.rejectedCounter = tokenCounter(meterRegistry, "rejected");
+    }
+
+    /**
+     * 단일 디바이스 토큰에 메시지를 전송한다.
+     */
+    public CompletableFuture<FcmDispatchResult> send(Message message) {
+        return submit(() -> firebaseMessaging.sendAsync(message), messageId -> FcmDispatchResult.success(1), 1);
+    }
+
+    /**
+     * 다중 디바이스 토큰에 메시지를 전송한다.
+     *
+     * @param tokenCount : 메시지에 포함된 디바이스 토큰 수. FCM multicast 제한(500개)을 넘지 않아야 한다.
+     */
+    public CompletableFuture<FcmDispatchResult> sendMulticast(MulticastMessage message, int tokenCount) {
+        return submit(
+                () -> firebaseMessaging.sendEachForMulticastAsync(message),
+                (BatchResponse response) -> new FcmDispatchResult(response.getSuccessCount(), response.getFailureCount()),
+                tokenCount
+        );
+    }
+
+    private <T> CompletableFuture<FcmDispatchResult> submit(Supplier<ApiFuture<T>> sender, Function<T, FcmDispatchResult> resultMapper, int tokenCount) {
+        CompletableFuture<FcmDispatchResult> result = new CompletableFuture<>();
+
+        try {
+            dispatchExecutor.execute(() -> dispatch(sender, resultMapper, tokenCount, result));
+        } catch (RejectedExecutionException e) {
+            log.warn("FCM 전송 대기열이 가득 차 전송 요청을 거절합니다. tokenCount={}", tokenCount);
+            rejectedCounter.increment(tokenCount);
+            result.complete(FcmDispatchResult.failure(tokenCount));
+        }
+
+        return result;
+    }
+
+    private <T> void dispatch(Supplier<ApiFuture<T>> sender, Function<T, FcmDispatchResult> resultMapper, int tokenCount, CompletableFuture<FcmDispatchResult> result) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            complete(result, FcmDispatchResult.failure(tokenCount));
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        ApiFuture<T> response;
+
+        try {
+            response = sender.get();
+        } catch (RuntimeException e) {
+            inFlight.release();
+            log.error("Failed to send message: {}", e.getMessage());
+            complete(result, FcmDispatchResult.failure(tokenCount));
+            return;
+        }
+
+        response.addListener(() -> {
+            inFlight.release();
+            sendLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+            try {
+                complete(result, resultMapper.apply(response.get()));
+            } catch (ExecutionException e) {
+                log.error("Failed to send message: {}", e.getCause().getMessage());
+                complete(result, FcmDispatchResult.failure(tokenCount));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                complete(result, FcmDispatchResult.failure(tokenCount));
+            }
+        }, listenerExecutor);
+    }
+
+    private void complete(CompletableFuture<FcmDispatchResult> result, FcmDispatchResult dispatchResult) {
+        successCounter.increment(dispatchResult.successCount());
+        failureCounter.increment(dispatchResult.failureCount());
+        result.complete(dispatchResult);
+    }
+
+    @Override
+    public void close() {
+        dispatchExecutor.shutdown();
+
+        try {
+            if (!dispatchExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("FCM 전송 대기열에 처리되지 않은 요청이 남아있습니다. size={}", dispatchExecutor.getQueue().size());
+                dispatchExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dispatchExecutor.shutdownNow();
+        }
+
+        listenerExecutor.shutdown();
+    }
+
+    private static Counter tokenCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("fcm.dispatch.tokens")
+                .description("FCM 전송 결과 별 디바이스 토큰 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기열이 가득 찬 경우, 호출 스레드를 일정 시간 대기시켜 생산 속도를 조절하는 거절 정책
+     */
+    private record BlockingEnqueuePolicy(long timeoutMillis) implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("FCM dispatcher is shut down");
+            }
+
+            try {
+                if (!executor.getQueue().offer(task, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    throw new RejectedExecutionException("FCM dispatch queue is full");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for FCM dispatch queue", e);
+            }
+        }
+    }
+}
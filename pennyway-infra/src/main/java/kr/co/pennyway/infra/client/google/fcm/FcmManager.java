@@ -1,27 +1,36 @@
 package kr.co.pennyway.infra.client.google.fcm;
 
-import com.google.api.core.ApiFuture;
 import com.google.firebase.messaging.*;
 import kr.co.pennyway.infra.common.event.NotificationEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RequiredArgsConstructor
 public class FcmManager {
-    private final FirebaseMessaging firebaseMessaging;
+    /**
+     * FCM multicast 메시지 한 건에 포함할 수 있는 최대 디바이스 토큰 수
+     */
+    public static final int MAX_MULTICAST_TOKENS = 500;
+
+    private final FcmDispatcher fcmDispatcher;
 
     /**
      * {@link NotificationEvent}를 받아서 메시지를 전송한다.
      * <p>
      * 디바이스 토큰이 1개인 경우에는 단일 메시지를, 2개 이상인 경우에는 다중 메시지를 전송한다.
+     * 다중 메시지는 {@link #MAX_MULTICAST_TOKENS}개 단위로 나누어 전송하며, 반환값은 모든 전송 결과를 합산한 값이다.
      * 만약 디바이스 토큰이 존재하지 않는 경우에는 메시지 전송을 하지 않는다.
      * </p>
      */
-    public ApiFuture<?> sendMessage(NotificationEvent event) {
+    public CompletableFuture<FcmDispatchResult> sendMessage(NotificationEvent event) {
         if (event.deviceTokensSize() == 0) {
             log.info("메시지 전송을 위한 디바이스 토큰이 존재하지 않습니다.");
-            return null;
+            return CompletableFuture.completedFuture(FcmDispatchResult.empty());
         }
 
         if (event.deviceTokensSize() == 1) {
@@ -31,18 +40,37 @@ public class FcmManager {
         }
     }
 
-    private ApiFuture<String> sendSingleMessage(NotificationEvent event) {
+    private CompletableFuture<FcmDispatchResult> sendSingleMessage(NotificationEvent event) {
         log.info("단일 메시지 전송 : {}", event);
         Message message = event.buildSingleMessage().setApnsConfig(getApnsConfig(event)).build();
 
-        return firebaseMessaging.sendAsync(message);
+        return fcmDispatcher.send(message);
     }
 
-    private ApiFuture<BatchResponse> sendMulticastMessage(NotificationEvent event) {
+    private CompletableFuture<FcmDispatchResult> sendMulticastMessage(NotificationEvent event) {
         log.info("다중 메시지 전송 : {}", event);
-        MulticastMessage messages = event.buildMulticastMessage().setApnsConfig(getApnsConfig(event)).build();
+        ApnsConfig apnsConfig = getApnsConfig(event);
+
+        CompletableFuture<FcmDispatchResult> result = CompletableFuture.completedFuture(FcmDispatchResult.empty());
+        for (List<String> chunk : partition(event.deviceTokens())) {
+            CompletableFuture<FcmDispatchResult> chunkResult = (chunk.size() == 1)
+                    ? fcmDispatcher.send(event.buildSingleMessage(chunk.get(0)).setApnsConfig(apnsConfig).build())
+                    : fcmDispatcher.sendMulticast(event.buildMulticastMessage(chunk).setApnsConfig(apnsConfig).build(), chunk.size());
+
+            result = result.thenCombine(chunkResult, FcmDispatchResult::merge);
+        }
+
+        return result;
+    }
+
+    private List<List<String>> partition(List<String> deviceTokens) {
+        List<List<String>> chunks = new ArrayList<>((deviceTokens.size() + MAX_MULTICAST_TOKENS - 1) / MAX_MULTICAST_TOKENS);
+
+        for (int from = 0; from < deviceTokens.size(); from += MAX_MULTICAST_TOKENS) {
+            chunks.add(deviceTokens.subList(from, Math.min(from + MAX_MULTICAST_TOKENS, deviceTokens.size())));
+        }
 
-        return firebaseMessaging.sendEachForMulticastAsync(messages);
+        return chunks;
     }
 
     private ApnsConfig getApnsConfig(NotificationEvent event) {
@@ -0,0 +1,36 @@
+package kr.co.pennyway.infra.common.event;
+
+/**
+ * 채팅방 멤버십 변경 이벤트
+ * <p>
+ * 채팅 서버는 이 이벤트를 받아 노드에 캐시된 사용자의 참여 채팅방 목록을 갱신합니다.
+ *
+ * @param chatRoomId Long : 변경된 채팅방 ID
+ * @param userId     Long : 멤버십이 변경된 사용자 ID. 채팅방이 삭제된 경우 null
+ * @param type       {@link Type} : 변경 유형
+ */
+public record ChatRoomMembershipEvent(
+        Long chatRoomId,
+        Long userId,
+        Type type
+) {
+    public static ChatRoomMembershipEvent joined(Long chatRoomId, Long userId) {
+        return new ChatRoomMembershipEvent(chatRoomId, userId, Type.JOINED);
+    }
+
+    public static ChatRoomMembershipEvent left(Long chatRoomId, Long userId) {
+        return new ChatRoomMembershipEvent(chatRoomId, userId, Type.LEFT);
+    }
+
+    public static ChatRoomMembershipEvent banned(Long chatRoomId, Long userId) {
+        return new ChatRoomMembershipEvent(chatRoomId, userId, Type.BANNED);
+    }
+
+    public static ChatRoomMembershipEvent deleted(Long chatRoomId) {
+        return new ChatRoomMembershipEvent(chatRoomId, null, Type.ROOM_DELETED);
+    }
+
+    public enum Type {
+        JOINED, LEFT, BANNED, ROOM_DELETED
+    }
+}
@@ -0,0 +1,34 @@
+package kr.co.pennyway.infra.common.event;
+
+import kr.co.pennyway.infra.client.broker.MessageBrokerAdapter;
+import kr.co.pennyway.infra.common.properties.ChatExchangeProperties;
+import kr.co.pennyway.infra.common.properties.ChatMembershipEventExchangeProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 채팅방 멤버십 변경 이벤트를 모든 채팅 서버 노드에 전파합니다.
+ * 커밋되기 전에 전파하면 채팅 서버가 변경 이전의 멤버십을 다시 조회해 캐시할 수 있으므로, 커밋 이후에 전파합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ChatRoomMembershipEventHandler {
+    private final MessageBrokerAdapter messageBrokerAdapter;
+    private final ChatExchangeProperties chatExchangeProperties;
+    private final ChatMembershipEventExchangeProperties chatMembershipEventExchangeProperties;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ChatRoomMembershipEvent event) {
+        log.debug("handle: {}", event);
+
+        messageBrokerAdapter.convertAndSend(
+                chatExchangeProperties.getExchange(),
+                chatMembershipEventExchangeProperties.getRoutingKey(),
+                event
+        );
+    }
+}
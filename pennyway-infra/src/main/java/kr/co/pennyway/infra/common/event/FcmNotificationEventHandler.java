@@ -1,16 +1,15 @@
 package kr.co.pennyway.infra.common.event;
 
-import com.google.api.core.ApiFuture;
 import kr.co.pennyway.infra.client.google.fcm.FcmManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.concurrent.Executors;
-
 /**
  * FCM 푸시 알림을 처리하는 핸들러
+ * <p>
+ * 전송과 완료 처리는 {@link kr.co.pennyway.infra.client.google.fcm.FcmDispatcher}의 공유 스레드 풀에서 수행된다.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -22,18 +21,12 @@ public class FcmNotificationEventHandler implements NotificationEventHandler {
     @TransactionalEventListener
     public void handleEvent(NotificationEvent event) {
         log.info("handleEvent: {}", event);
-        ApiFuture<?> response = fcmManager.sendMessage(event);
-
-        if (response == null) {
-            return;
-        }
 
-        response.addListener(() -> {
-            try {
-                log.info("Successfully sent message: " + response.get());
-            } catch (Exception e) {
-                log.error("Failed to send message: " + e.getMessage());
-            }
-        }, Executors.newCachedThreadPool()); // FIXME: 알림이 매우 많은 경우 out of memory 발생 가능성 있음 (Thread pool size 제한 필요)
+        fcmManager.sendMessage(event)
+                .thenAccept(result -> {
+                    if (result.totalCount() > 0) {
+                        log.info("Successfully sent message: success={}, failure={}", result.successCount(), result.failureCount());
+                    }
+                });
     }
 }
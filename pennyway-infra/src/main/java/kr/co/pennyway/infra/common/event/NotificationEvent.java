@@ -56,7 +56,14 @@ public record NotificationEvent(
      * 단일 메시지를 전송하기 위한 Message.Builder를 생성한다.
      */
     public Message.Builder buildSingleMessage() {
-        Message.Builder builder = Message.builder().setNotification(toNotification()).setToken(deviceTokens.get(0));
+        return buildSingleMessage(deviceTokens.get(0));
+    }
+
+    /**
+     * 주어진 디바이스 토큰으로 단일 메시지를 전송하기 위한 Message.Builder를 생성한다.
+     */
+    public Message.Builder buildSingleMessage(String deviceToken) {
+        Message.Builder builder = Message.builder().setNotification(toNotification()).setToken(deviceToken);
 
         if (data != null) {
             builder.putAllData(data);
@@ -69,6 +76,14 @@ public record NotificationEvent(
      * 다중 메시지를 전송하기 위한 MulticastMessage.Builder를 생성한다.
      */
     public MulticastMessage.Builder buildMulticastMessage() {
+        return buildMulticastMessage(deviceTokens);
+    }
+
+    /**
+     * 주어진 디바이스 토큰 목록으로 다중 메시지를 전송하기 위한 MulticastMessage.Builder를 생성한다.
+     * FCM은 한 번에 최대 500개의 토큰만 허용하므로, 호출자는 토큰 목록을 나누어 전달해야 한다.
+     */
+    public MulticastMessage.Builder buildMulticastMessage(List<String> deviceTokens) {
         MulticastMessage.Builder builder = MulticastMessage.builder().setNotification(toNotification()).addAllTokens(deviceTokens);
 
         if (data != null) {
@@ -0,0 +1,22 @@
+package kr.co.pennyway.infra.common.properties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 채팅방 멤버십 변경 이벤트는 모든 채팅 서버 노드가 수신해야 하므로, 공유 큐 없이 routing key만 정의합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "pennyway.rabbitmq.chat-membership-event")
+public class ChatMembershipEventExchangeProperties {
+    private final String routingKey;
+
+    @Override
+    public String toString() {
+        return "ChatMembershipEventExchangeProperties{" +
+                "routingKey='" + routingKey + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,41 @@
+package kr.co.pennyway.infra.common.properties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 채팅 메시지 푸시 알림 릴레이를 위한 consistent-hash exchange 설정
+ * <p>
+ * 채팅 exchange의 메시지를 routing key(chat.room.{id}) 기준으로 {@link #partitions}개의 파티션 큐에 분배합니다.
+ * RabbitMQ에 rabbitmq_consistent_hash_exchange 플러그인이 활성화되어 있어야 합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "pennyway.rabbitmq.chat-relay")
+public class ChatRelayExchangeProperties {
+    private final String exchange;
+    private final int partitions;
+
+    /**
+     * 파티션 큐 이름 목록({queue}.0 ~ {queue}.{partitions - 1})을 반환합니다.
+     *
+     * @param queue String : 파티션 큐 이름의 prefix
+     */
+    public List<String> getPartitionQueueNames(String queue) {
+        return IntStream.range(0, partitions)
+                .mapToObj(partition -> queue + "." + partition)
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return "ChatRelayExchangeProperties{" +
+                "exchange='" + exchange + '\'' +
+                ", partitions=" + partitions +
+                '}';
+    }
+}
@@ -0,0 +1,28 @@
+package kr.co.pennyway.infra.common.properties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 다른 채팅 서버 노드에 연결된 세션으로 사용자 destination 메시지를 전달할 때 사용하는 routing key 설정
+ * <p>
+ * 노드마다 {@code routingKeyPrefix + nodeId}로 자신의 큐를 바인딩하므로, 메시지는 세션이 연결된 노드에만 전달됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "pennyway.rabbitmq.chat-user-destination")
+public class ChatUserDestinationExchangeProperties {
+    private final String routingKeyPrefix;
+
+    public String getRoutingKey(String nodeId) {
+        return routingKeyPrefix + nodeId;
+    }
+
+    @Override
+    public String toString() {
+        return "ChatUserDestinationExchangeProperties{" +
+                "routingKeyPrefix='" + routingKeyPrefix + '\'' +
+                '}';
+    }
+}
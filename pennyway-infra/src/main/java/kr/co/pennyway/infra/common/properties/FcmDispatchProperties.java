@@ -0,0 +1,40 @@
+package kr.co.pennyway.infra.common.properties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * FCM 푸시 알림 전송 엔진의 스레드 풀, 큐 크기 설정
+ *
+ * <pre>
+ * workerThreads  : 전송 요청을 FCM에 넘기는 작업 스레드 수
+ * listenerThreads: 전송 완료(ApiFuture) 콜백을 처리하는 스레드 수
+ * queueCapacity  : 전송 대기열 크기. 가득 차면 호출 스레드는 enqueueTimeout 만큼 대기한다.
+ * maxInFlight    : 동시에 응답을 기다릴 수 있는 최대 전송 요청 수
+ * enqueueTimeout : 대기열이 가득 찼을 때 최대 대기 시간. 초과하면 전송 요청을 거절한다.
+ * </pre>
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "pennyway.fcm.dispatch")
+public class FcmDispatchProperties {
+    private final int workerThreads;
+    private final int listenerThreads;
+    private final int queueCapacity;
+    private final int maxInFlight;
+    private final Duration enqueueTimeout;
+
+    @Override
+    public String toString() {
+        return "FcmDispatchProperties{" +
+                "workerThreads=" + workerThreads +
+                ", listenerThreads=" + listenerThreads +
+                ", queueCapacity=" + queueCapacity +
+                ", maxInFlight=" + maxInFlight +
+                ", enqueueTimeout=" + enqueueTimeout +
+                '}';
+    }
+}
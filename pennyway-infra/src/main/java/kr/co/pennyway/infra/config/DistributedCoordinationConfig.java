@@ -1,20 +1,48 @@
 package kr.co.pennyway.infra.config;
 
+import kr.co.pennyway.infra.client.coordinator.ChatServerHeartbeatRepository;
 import kr.co.pennyway.infra.client.coordinator.CoordinatorService;
-import kr.co.pennyway.infra.client.coordinator.DefaultCoordinatorService;
+import kr.co.pennyway.infra.client.coordinator.LoadAwareCoordinatorService;
+import kr.co.pennyway.infra.client.coordinator.UserSessionNodeRepository;
+import kr.co.pennyway.infra.common.annotation.InfraRedisConnectionFactory;
 import kr.co.pennyway.infra.common.importer.PennywayInfraConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
 
 public class DistributedCoordinationConfig implements PennywayInfraConfig {
     private final String chatServerUrl;
+    private final Duration heartbeatTtl;
 
-    public DistributedCoordinationConfig(@Value("${distributed-coordination.chat-server.url}") String chatServerUrl) {
+    public DistributedCoordinationConfig(
+            @Value("${distributed-coordination.chat-server.url}") String chatServerUrl,
+            @Value("${distributed-coordination.chat-server.heartbeat-ttl}") Duration heartbeatTtl
+    ) {
         this.chatServerUrl = chatServerUrl;
+        this.heartbeatTtl = heartbeatTtl;
+    }
+
+    @Bean
+    public ChatServerHeartbeatRepository chatServerHeartbeatRepository(@InfraRedisConnectionFactory RedisConnectionFactory redisConnectionFactory) {
+        return new ChatServerHeartbeatRepository(new StringRedisTemplate(redisConnectionFactory), heartbeatTtl);
+    }
+
+    /**
+     * 세션은 노드가 살아있는 동안만 유효하므로, heartbeat와 같은 TTL을 사용한다.
+     */
+    @Bean
+    public UserSessionNodeRepository userSessionNodeRepository(@InfraRedisConnectionFactory RedisConnectionFactory redisConnectionFactory) {
+        return new UserSessionNodeRepository(new StringRedisTemplate(redisConnectionFactory), heartbeatTtl);
     }
 
+    /**
+     * heartbeat를 보고한 채팅 서버가 없으면 chatServerUrl을 반환하므로, 단일 채팅 서버 환경에서도 그대로 사용할 수 있다.
+     */
     @Bean
-    public CoordinatorService defaultCoordinatorService() {
-        return new DefaultCoordinatorService(chatServerUrl);
+    public CoordinatorService loadAwareCoordinatorService(ChatServerHeartbeatRepository chatServerHeartbeatRepository) {
+        return new LoadAwareCoordinatorService(chatServerHeartbeatRepository, chatServerUrl, heartbeatTtl);
     }
 }
@@ -4,13 +4,19 @@ import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.messaging.FirebaseMessaging;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import jakarta.annotation.PostConstruct;
+import kr.co.pennyway.infra.client.google.fcm.FcmDispatcher;
 import kr.co.pennyway.infra.client.google.fcm.FcmManager;
 import kr.co.pennyway.infra.common.event.FcmNotificationEventHandler;
 import kr.co.pennyway.infra.common.event.NotificationEventHandler;
 import kr.co.pennyway.infra.common.importer.PennywayInfraConfig;
+import kr.co.pennyway.infra.common.properties.FcmDispatchProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.ClassPathResource;
@@ -19,6 +25,7 @@ import java.io.IOException;
 
 @Slf4j
 @Profile({"local", "dev", "prod"})
+@EnableConfigurationProperties(FcmDispatchProperties.class)
 public class FcmConfig implements PennywayInfraConfig {
     private final ClassPathResource firebaseResource;
     private final String projectId;
@@ -46,9 +53,17 @@ public class FcmConfig implements PennywayInfraConfig {
         return FirebaseMessaging.getInstance(FirebaseApp.getInstance());
     }
 
+    /**
+     * MeterRegistry 빈이 없는 모듈(actuator 미사용)에서는 Micrometer의 global registry에 메트릭을 등록한다.
+     */
     @Bean
-    FcmManager fcmManager(FirebaseMessaging firebaseMessaging) {
-        return new FcmManager(firebaseMessaging);
+    FcmDispatcher fcmDispatcher(FirebaseMessaging firebaseMessaging, FcmDispatchProperties fcmDispatchProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new FcmDispatcher(firebaseMessaging, fcmDispatchProperties, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    @Bean
+    FcmManager fcmManager(FcmDispatcher fcmDispatcher) {
+        return new FcmManager(fcmDispatcher);
     }
 
     @Bean
@@ -7,18 +7,19 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import kr.co.pennyway.infra.client.broker.MessageBrokerAdapter;
 import kr.co.pennyway.infra.common.event.ChatRoomJoinEventHandler;
+import kr.co.pennyway.infra.common.event.ChatRoomMembershipEventHandler;
 import kr.co.pennyway.infra.common.event.SpendingChatShareEventHandler;
 import kr.co.pennyway.infra.common.importer.PennywayInfraConfig;
 import kr.co.pennyway.infra.common.properties.ChatExchangeProperties;
 import kr.co.pennyway.infra.common.properties.ChatJoinEventExchangeProperties;
+import kr.co.pennyway.infra.common.properties.ChatMembershipEventExchangeProperties;
+import kr.co.pennyway.infra.common.properties.ChatRelayExchangeProperties;
+import kr.co.pennyway.infra.common.properties.ChatUserDestinationExchangeProperties;
 import kr.co.pennyway.infra.common.properties.RabbitMqProperties;
 import kr.co.pennyway.infra.common.properties.SpendingChatShareExchangeProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.core.Binding;
-import org.springframework.amqp.core.BindingBuilder;
-import org.springframework.amqp.core.Queue;
-import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
@@ -34,24 +35,59 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @EnableRabbit
 @RequiredArgsConstructor
-@EnableConfigurationProperties({ChatExchangeProperties.class, ChatJoinEventExchangeProperties.class, RabbitMqProperties.class, SpendingChatShareExchangeProperties.class})
+@EnableConfigurationProperties({ChatExchangeProperties.class, ChatJoinEventExchangeProperties.class, ChatMembershipEventExchangeProperties.class, ChatRelayExchangeProperties.class, ChatUserDestinationExchangeProperties.class, RabbitMqProperties.class, SpendingChatShareExchangeProperties.class})
 public class MessageBrokerConfig implements PennywayInfraConfig {
     private final RabbitMqProperties rabbitMqProperties;
     private final ChatExchangeProperties chatExchangeProperties;
     private final ChatJoinEventExchangeProperties chatJoinEventExchangeProperties;
     private final SpendingChatShareExchangeProperties spendingChatShareExchangeProperties;
+    private final ChatRelayExchangeProperties chatRelayExchangeProperties;
 
     @Bean
     public TopicExchange chatExchange() {
         return new TopicExchange(chatExchangeProperties.getExchange());
     }
 
+    /**
+     * 채팅 메시지를 채팅방 단위로 파티셔닝하기 위한 consistent-hash exchange.
+     * 같은 채팅방의 메시지는 항상 같은 파티션 큐로 전달되므로, 파티션마다 하나의 소비자만 두면 채팅방 내 순서가 보장됩니다.
+     */
+    @Bean
+    public CustomExchange chatRelayExchange() {
+        return new CustomExchange(chatRelayExchangeProperties.getExchange(), "x-consistent-hash", true, false);
+    }
+
     @Bean
-    public Queue chatQueue() {
-        return new Queue(chatExchangeProperties.getQueue(), true);
+    public Binding chatRelayExchangeBinding(CustomExchange chatRelayExchange, TopicExchange chatExchange) {
+        return BindingBuilder
+                .bind(chatRelayExchange)
+                .to(chatExchange)
+                .with(chatExchangeProperties.getRoutingKey());
+    }
+
+    /**
+     * 파티션 큐와 consistent-hash exchange 바인딩을 선언합니다.
+     * 노드가 여러 대여도 파티션마다 하나의 소비자만 메시지를 처리하도록 single active consumer로 선언하며,
+     * 바인딩 키는 해시 링에서의 가중치이므로 모든 파티션에 동일하게 "1"을 사용합니다.
+     */
+    @Bean
+    public Declarables chatRelayPartitions(CustomExchange chatRelayExchange) {
+        List<Declarable> declarables = new ArrayList<>();
+
+        for (String queueName : chatRelayExchangeProperties.getPartitionQueueNames(chatExchangeProperties.getQueue())) {
+            Queue queue = QueueBuilder.durable(queueName).singleActiveConsumer().build();
+
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(chatRelayExchange).with("1").noargs());
+        }
+
+        return new Declarables(declarables);
     }
 
     @Bean
@@ -64,14 +100,6 @@ public class MessageBrokerConfig implements PennywayInfraConfig {
         return new Queue(spendingChatShareExchangeProperties.getQueue(), true);
     }
 
-    @Bean
-    public Binding chatBinding(Queue chatQueue, TopicExchange chatExchange) {
-        return BindingBuilder
-                .bind(chatQueue)
-                .to(chatExchange)
-                .with(chatExchangeProperties.getRoutingKey());
-    }
-
     @Bean
     public Binding chatJoinEventBinding(Queue chatJoinEventQueue, TopicExchange chatExchange) {
         return BindingBuilder
@@ -172,4 +200,9 @@ public class MessageBrokerConfig implements PennywayInfraConfig {
     public SpendingChatShareEventHandler spendingChatShareEventHandler(MessageBrokerAdapter messageBrokerAdapter, ChatExchangeProperties chatExchangeProperties, SpendingChatShareExchangeProperties spendingChatShareExchangeProperties) {
         return new SpendingChatShareEventHandler(messageBrokerAdapter, chatExchangeProperties, spendingChatShareExchangeProperties);
     }
+
+    @Bean
+    public ChatRoomMembershipEventHandler chatRoomMembershipEventHandler(MessageBrokerAdapter messageBrokerAdapter, ChatExchangeProperties chatExchangeProperties, ChatMembershipEventExchangeProperties chatMembershipEventExchangeProperties) {
+        return new ChatRoomMembershipEventHandler(messageBrokerAdapter, chatExchangeProperties, chatMembershipEventExchangeProperties);
+    }
 }
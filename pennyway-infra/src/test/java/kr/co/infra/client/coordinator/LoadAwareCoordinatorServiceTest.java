@@ -0,0 +1,114 @@
+package kr.co.infra.client.coordinator;
+
+import kr.co.pennyway.infra.client.coordinator.ChatServerHeartbeatRepository;
+import kr.co.pennyway.infra.client.coordinator.ChatServerStatus;
+import kr.co.pennyway.infra.client.coordinator.LoadAwareCoordinatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class LoadAwareCoordinatorServiceTest {
+    private static final String FALLBACK_URL = "ws://fallback/chat";
+    private static final long NOW = 1_000_000L;
+
+    private ChatServerHeartbeatRepository chatServerHeartbeatRepository;
+    private AtomicInteger randomPoint;
+    private LoadAwareCoordinatorService coordinatorService;
+
+    @BeforeEach
+    void setUp() {
+        chatServerHeartbeatRepository = mock(ChatServerHeartbeatRepository.class);
+        randomPoint = new AtomicInteger();
+        coordinatorService = new LoadAwareCoordinatorService(
+                chatServerHeartbeatRepository,
+                FALLBACK_URL,
+                Duration.ofSeconds(15),
+                Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC),
+                bound -> Math.min(randomPoint.get(), bound - 1)
+        );
+    }
+
+    @Test
+    @DisplayName("가장 부하가 적은 노드의 URL을 반환한다.")
+    void selectLeastLoaded() {
+        given(chatServerHeartbeatRepository.findAll()).willReturn(List.of(
+                ChatServerStatus.of("ws://a/chat", 100, 0, 1, NOW),
+                ChatServerStatus.of("ws://b/chat", 20, 0, 1, NOW),
+                ChatServerStatus.of("ws://c/chat", 50, 0, 1, NOW)
+        ));
+
+        assertEquals("ws://b/chat", coordinatorService.readChatServerUrl(null, null).url());
+    }
+
+    @Test
+    @DisplayName("inbound 대기열이 쌓인 노드는 연결 수가 적더라도 부하가 큰 것으로 판단한다.")
+    void inboundQueueDepthIncreasesLoad() {
+        given(chatServerHeartbeatRepository.findAll()).willReturn(List.of(
+                ChatServerStatus.of("ws://a/chat", 10, 20, 1, NOW),
+                ChatServerStatus.of("ws://b/chat", 100, 0, 1, NOW)
+        ));
+
+        assertEquals("ws://b/chat", coordinatorService.readChatServerUrl(null, null).url());
+    }
+
+    @Test
+    @DisplayName("처리 용량 가중치가 큰 노드는 연결 수가 많더라도 선택될 수 있다.")
+    void weightDividesLoad() {
+        given(chatServerHeartbeatRepository.findAll()).willReturn(List.of(
+                ChatServerStatus.of("ws://a/chat", 60, 0, 1, NOW),
+                ChatServerStatus.of("ws://b/chat", 100, 0, 4, NOW)
+        ));
+
+        assertEquals("ws://b/chat", coordinatorService.readChatServerUrl(null, null).url());
+    }
+
+    @Test
+    @DisplayName("부하가 비슷한 노드들은 가중치에 비례한 확률로 선택한다.")
+    void weightedRandomForTies() {
+        given(chatServerHeartbeatRepository.findAll()).willReturn(List.of(
+                ChatServerStatus.of("ws://a/chat", 100, 0, 1, NOW),
+                ChatServerStatus.of("ws://b/chat", 210, 0, 2, NOW)
+        ));
+
+        randomPoint.set(0);
+        assertEquals("ws://a/chat", coordinatorService.readChatServerUrl(null, null).url());
+
+        randomPoint.set(1);
+        assertEquals("ws://b/chat", coordinatorService.readChatServerUrl(null, null).url());
+
+        randomPoint.set(2);
+        assertEquals("ws://b/chat", coordinatorService.readChatServerUrl(null, null).url());
+    }
+
+    @Test
+    @DisplayName("heartbeat TTL이 지난 노드는 제외한다.")
+    void excludeExpiredHeartbeat() {
+        given(chatServerHeartbeatRepository.findAll()).willReturn(List.of(
+                ChatServerStatus.of("ws://a/chat", 0, 0, 1, NOW - Duration.ofSeconds(16).toMillis()),
+                ChatServerStatus.of("ws://b/chat", 100, 0, 1, NOW - Duration.ofSeconds(5).toMillis())
+        ));
+
+        assertEquals("ws://b/chat", coordinatorService.readChatServerUrl(null, null).url());
+    }
+
+    @Test
+    @DisplayName("살아있는 노드가 없거나 Redis를 조회할 수 없으면 기본 채팅 서버 URL을 반환한다.")
+    void fallbackWhenNoAliveServer() {
+        given(chatServerHeartbeatRepository.findAll()).willReturn(List.of());
+        assertEquals(FALLBACK_URL, coordinatorService.readChatServerUrl(null, null).url());
+
+        given(chatServerHeartbeatRepository.findAll()).willThrow(new IllegalStateException("redis down"));
+        assertEquals(FALLBACK_URL, coordinatorService.readChatServerUrl(null, null).url());
+    }
+}
@@ -0,0 +1,129 @@
+package kr.co.infra.client.google.fcm;
+
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pennyway.infra.client.google.fcm.FcmDispatchResult;
+import kr.co.pennyway.infra.client.google.fcm.FcmDispatcher;
+import kr.co.pennyway.infra.client.google.fcm.FcmManager;
+import kr.co.pennyway.infra.common.event.NotificationEvent;
+import kr.co.pennyway.infra.common.properties.FcmDispatchProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+public class FcmManagerTest {
+    private FirebaseMessaging firebaseMessaging;
+    private SimpleMeterRegistry meterRegistry;
+    private FcmDispatcher fcmDispatcher;
+    private FcmManager fcmManager;
+
+    @BeforeEach
+    void setUp() {
+        firebaseMessaging = mock(FirebaseMessaging.class);
+        meterRegistry = new SimpleMeterRegistry();
+        fcmDispatcher = new FcmDispatcher(firebaseMessaging, new FcmDispatchProperties(2, 1, 1, 1, Duration.ofMillis(100)), meterRegistry);
+        fcmManager = new FcmManager(fcmDispatcher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fcmDispatcher.close();
+    }
+
+    @Test
+    @DisplayName("디바이스 토큰이 없으면 FCM을 호출하지 않는다.")
+    void sendMessageWithoutDeviceTokens() throws Exception {
+        FcmDispatchResult result = fcmManager.sendMessage(createEvent(0)).get(1, TimeUnit.SECONDS);
+
+        assertEquals(0, result.totalCount());
+        verifyNoInteractions(firebaseMessaging);
+    }
+
+    @Test
+    @DisplayName("디바이스 토큰이 1개라면 단일 메시지를 전송하고, 성공 메트릭을 기록한다.")
+    void sendSingleMessage() throws Exception {
+        given(firebaseMessaging.sendAsync(any(Message.class))).willReturn(ApiFutures.immediateFuture("message-id"));
+
+        FcmDispatchResult result = fcmManager.sendMessage(createEvent(1)).get(1, TimeUnit.SECONDS);
+
+        assertEquals(1, result.successCount());
+        assertEquals(1.0, meterRegistry.get("fcm.dispatch.tokens").tag("result", "success").counter().count());
+        assertEquals(1L, meterRegistry.get("fcm.dispatch.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("디바이스 토큰이 500개를 초과하면 500개 단위로 나누어 다중 메시지를 전송한다.")
+    void sendMulticastMessageInChunks() throws Exception {
+        BatchResponse fullChunk = batchResponse(498, 2);
+        given(firebaseMessaging.sendEachForMulticastAsync(any(MulticastMessage.class))).willReturn(ApiFutures.immediateFuture(fullChunk));
+        given(firebaseMessaging.sendAsync(any(Message.class))).willReturn(ApiFutures.immediateFuture("message-id"));
+
+        FcmDispatchResult result = fcmManager.sendMessage(createEvent(1001)).get(1, TimeUnit.SECONDS);
+
+        verify(firebaseMessaging, times(2)).sendEachForMulticastAsync(any(MulticastMessage.class));
+        verify(firebaseMessaging, times(1)).sendAsync(any(Message.class));
+        assertEquals(498 * 2 + 1, result.successCount());
+        assertEquals(2 * 2, result.failureCount());
+    }
+
+    @Test
+    @DisplayName("FCM 전송이 실패하면 해당 토큰 수만큼 실패로 집계한다.")
+    void sendMessageFailure() throws Exception {
+        given(firebaseMessaging.sendAsync(any(Message.class))).willReturn(ApiFutures.immediateFailedFuture(new IllegalStateException("fcm error")));
+
+        FcmDispatchResult result = fcmManager.sendMessage(createEvent(1)).get(1, TimeUnit.SECONDS);
+
+        assertEquals(1, result.failureCount());
+        assertEquals(1.0, meterRegistry.get("fcm.dispatch.tokens").tag("result", "failure").counter().count());
+    }
+
+    @Test
+    @DisplayName("전송 대기열이 가득 차면 대기 시간 이후 요청을 거절하고, 거절 메트릭을 기록한다.")
+    void rejectWhenQueueIsFull() throws Exception {
+        // max-in-flight가 1이므로, 첫 번째 요청이 완료되기 전까지 작업 스레드는 다음 요청을 처리하지 못한다.
+        SettableApiFuture<String> pending = SettableApiFuture.create();
+        given(firebaseMessaging.sendAsync(any(Message.class))).willReturn(pending);
+
+        CompletableFuture<FcmDispatchResult> first = fcmManager.sendMessage(createEvent(1));
+        CompletableFuture<FcmDispatchResult> blocked = fcmManager.sendMessage(createEvent(1));
+        CompletableFuture<FcmDispatchResult> queued = fcmManager.sendMessage(createEvent(1));
+        CompletableFuture<FcmDispatchResult> rejected = fcmManager.sendMessage(createEvent(1));
+
+        assertEquals(1, rejected.get(1, TimeUnit.SECONDS).failureCount());
+        assertEquals(1.0, meterRegistry.get("fcm.dispatch.tokens").tag("result", "rejected").counter().count());
+
+        pending.set("message-id");
+        assertEquals(1, first.get(1, TimeUnit.SECONDS).successCount());
+        assertEquals(1, blocked.get(1, TimeUnit.SECONDS).successCount());
+        assertEquals(1, queued.get(1, TimeUnit.SECONDS).successCount());
+    }
+
+    private NotificationEvent createEvent(int deviceTokenCount) {
+        List<String> deviceTokens = IntStream.range(0, deviceTokenCount).mapToObj(i -> "token-" + i).toList();
+        return NotificationEvent.of("title", "content", deviceTokens, null);
+    }
+
+    private BatchResponse batchResponse(int successCount, int failureCount) {
+        BatchResponse response = mock(BatchResponse.class);
+        given(response.getSuccessCount()).willReturn(successCount);
+        given(response.getFailureCount()).willReturn(failureCount);
+        return response;
+    }
+}
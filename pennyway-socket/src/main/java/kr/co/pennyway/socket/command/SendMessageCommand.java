@@ -20,6 +20,8 @@ public record SendMessageCommand(
         Map<String, Object> messageIdHeader,
         @Nullable Map<String, Object> headers
 ) {
+    private static final String MESSAGE_ID_HEADER = "x-message-id";
+
     public SendMessageCommand {
         if (chatRoomId <= 0) {
             throw new IllegalArgumentException("채팅방 아이디는 0 혹은 음수일 수 없습니다.");
@@ -38,6 +40,21 @@ public record SendMessageCommand(
         }
     }
 
+    /**
+     * 클라이언트가 메시지마다 발급한 ID를 반환합니다.
+     *
+     * @return `x-message-id` 헤더 값. 헤더가 없거나 비어있는 경우 null
+     */
+    @Nullable
+    public String clientMessageId() {
+        if (messageIdHeader == null || messageIdHeader.get(MESSAGE_ID_HEADER) == null) {
+            return null;
+        }
+
+        String clientMessageId = messageIdHeader.get(MESSAGE_ID_HEADER).toString();
+        return clientMessageId.isBlank() ? null : clientMessageId;
+    }
+
     /**
      * 시스템 메시지를 생성합니다.
      *
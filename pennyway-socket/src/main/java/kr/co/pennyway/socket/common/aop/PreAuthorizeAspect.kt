@@ -9,14 +9,38 @@ import org.aspectj.lang.ProceedingJoinPoint
 import org.aspectj.lang.annotation.Around
 import org.aspectj.lang.annotation.Aspect
 import org.aspectj.lang.reflect.MethodSignature
+import org.springframework.aop.support.AopUtils
+import org.springframework.beans.factory.SmartInitializingSingleton
 import org.springframework.context.ApplicationContext
+import org.springframework.context.expression.BeanFactoryResolver
 import org.springframework.stereotype.Component
+import org.springframework.stereotype.Controller
+import org.springframework.util.ReflectionUtils
 import java.lang.reflect.Method
 import java.security.Principal
+import java.util.concurrent.ConcurrentHashMap
 
 @Aspect
 @Component
-class PreAuthorizeAspect(private val applicationContext: ApplicationContext) {
+class PreAuthorizeAspect(private val applicationContext: ApplicationContext) : SmartInitializingSingleton {
+    private val beanResolver = BeanFactoryResolver(applicationContext)
+    private val authorizers = ConcurrentHashMap<Method, AuthorizerMetadata>()
+
+    /**
+     * 애플리케이션 시작 시점에 {@link Controller}의 {@link PreAuthorize} 메서드를 찾아 표현식을 미리 파싱합니다.
+     * 잘못된 표현식은 첫 요청이 아닌 기동 시점에 실패합니다.
+     */
+    override fun afterSingletonsInstantiated() {
+        applicationContext.getBeansWithAnnotation(Controller::class.java).values
+            .asSequence()
+            .map { bean -> AopUtils.getTargetClass(bean) }
+            .flatMap { type -> ReflectionUtils.getUniqueDeclaredMethods(type).asSequence() }
+            .filter { method -> method.isAnnotationPresent(PreAuthorize::class.java) }
+            .forEach { method -> authorizers.computeIfAbsent(method, ::resolveMetadata) }
+
+        log.info("PreAuthorize 표현식 {}개를 등록했습니다.", authorizers.size)
+    }
+
     /**
      * {@link PreAuthorize} 어노테이션이 붙은 메서드를 가로채고 인증/인가를 수행합니다.
      *
@@ -36,31 +60,34 @@ class PreAuthorizeAspect(private val applicationContext: ApplicationContext) {
     }
 
     private fun validateAccess(method: Method, joinPoint: ProceedingJoinPoint) {
-        val preAuthorize = method.requireAnnotation<PreAuthorize>()
+        val authorizer = authorizers[method] ?: authorizers.computeIfAbsent(method, ::resolveMetadata)
         val principal = joinPoint.args.findPrincipal()
 
         evaluateAccess(
             principal = principal,
-            preAuthorize = preAuthorize,
-            method = method,
+            authorizer = authorizer,
             args = joinPoint.args
         )
     }
 
     private fun evaluateAccess(
         principal: Principal?,
-        preAuthorize: PreAuthorize,
-        method: Method,
+        authorizer: AuthorizerMetadata,
         args: Array<Any>
     ) = PreAuthorizeSpELParser
         .evaluate(
-            expression = preAuthorize.value,
-            method = method,
+            expression = authorizer.expression,
+            parameterNames = authorizer.parameterNames,
             args = args,
-            applicationContext = applicationContext
+            beanResolver = beanResolver
         )
         .also { result -> handleEvaluationResult(result, principal) }
 
+    private fun resolveMetadata(method: Method): AuthorizerMetadata = AuthorizerMetadata(
+        expression = PreAuthorizeSpELParser.compile(method.requireAnnotation<PreAuthorize>().value),
+        parameterNames = method.parameters.map { it.name }.toTypedArray()
+    )
+
     private fun handleEvaluationResult(
         result: PreAuthorizeSpELParser.EvaluationResult,
         principal: Principal?
@@ -77,6 +104,14 @@ class PreAuthorizeAspect(private val applicationContext: ApplicationContext) {
         }
     }
 
+    /**
+     * 메서드 별로 한 번만 계산되는 인가 정보
+     */
+    private class AuthorizerMetadata(
+        val expression: PreAuthorizeSpELParser.CompiledExpression,
+        val parameterNames: Array<String>
+    )
+
     private companion object {
         inline fun <reified T : Annotation> Method.requireAnnotation(): T =
             getAnnotation(T::class.java)
@@ -3,6 +3,9 @@ package kr.co.pennyway.socket.common.constants;
 public enum StompNativeHeaderFields {
     DEVICE_ID("device-id"),
     DEVICE_NAME("device-name"),
+    LAST_MESSAGE_ID("last-message-id"),
+    CATCH_UP("catch-up"),
+    CATCH_UP_TRUNCATED("catch-up-truncated"),
     ;
 
     private final String value;
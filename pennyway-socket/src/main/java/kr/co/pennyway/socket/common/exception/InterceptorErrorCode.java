@@ -13,6 +13,9 @@ public enum InterceptorErrorCode implements BaseErrorCode {
 
     // 403
     UNAUTHORIZED_TO_SUBSCRIBE(StatusCode.FORBIDDEN, ReasonCode.ACCESS_TO_THE_REQUESTED_RESOURCE_IS_FORBIDDEN, "해당 주제에 대한 구독 권한이 없습니다", StompCommand.SUBSCRIBE, StompCommand.UNSUBSCRIBE),
+
+    // 429
+    TOO_MANY_REQUESTS(StatusCode.TOO_MANY_REQUESTS, ReasonCode.REQUEST_RATE_LIMIT_EXCEEDED, "요청 한도를 초과했습니다", StompCommand.SEND),
     ;
 
     private final StatusCode statusCode;
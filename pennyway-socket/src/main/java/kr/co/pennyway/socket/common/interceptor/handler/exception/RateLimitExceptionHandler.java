@@ -0,0 +1,37 @@
+package kr.co.pennyway.socket.common.interceptor.handler.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.pennyway.socket.common.dto.ServerSideMessage;
+import kr.co.pennyway.socket.common.exception.InterceptorErrorCode;
+import kr.co.pennyway.socket.common.exception.InterceptorErrorException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.stereotype.Component;
+
+/**
+ * 처리율 제한을 초과한 클라이언트에게 ERROR 프레임을 반환합니다.
+ * ERROR 프레임을 받은 클라이언트는 연결이 종료되므로, 재연결 시 SUBSCRIBE의 last-message-id로 누락된 메시지를 보충해야 합니다.
+ */
+@Slf4j
+@Component
+public class RateLimitExceptionHandler extends AbstractStompExceptionHandler {
+    public RateLimitExceptionHandler(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public boolean canHandle(Throwable cause) {
+        return cause instanceof InterceptorErrorException ex && InterceptorErrorCode.TOO_MANY_REQUESTS.equals(ex.getErrorCode());
+    }
+
+    @Override
+    protected StompCommand getStompCommand() {
+        return StompCommand.ERROR;
+    }
+
+    @Override
+    protected ServerSideMessage getServerSideMessage(Throwable cause) {
+        InterceptorErrorException ex = (InterceptorErrorException) cause;
+        return ServerSideMessage.of(ex.causedBy().getCode(), ex.getErrorCode().getExplainError());
+    }
+}
@@ -1,10 +1,7 @@
 package kr.co.pennyway.socket.common.interceptor.handler.inbound;
 
-import kr.co.pennyway.domain.context.account.service.UserService;
 import kr.co.pennyway.domain.context.account.service.UserSessionService;
-import kr.co.pennyway.domain.domains.session.domain.UserSession;
-import kr.co.pennyway.domain.domains.session.type.UserStatus;
-import kr.co.pennyway.domain.domains.user.domain.User;
+import kr.co.pennyway.domain.domains.user.type.Role;
 import kr.co.pennyway.infra.common.exception.JwtErrorCode;
 import kr.co.pennyway.infra.common.exception.JwtErrorException;
 import kr.co.pennyway.infra.common.jwt.AuthConstants;
@@ -14,7 +11,10 @@ import kr.co.pennyway.socket.common.constants.StompNativeHeaderFields;
 import kr.co.pennyway.socket.common.exception.InterceptorErrorCode;
 import kr.co.pennyway.socket.common.exception.InterceptorErrorException;
 import kr.co.pennyway.socket.common.interceptor.marker.ConnectCommandHandler;
+import kr.co.pennyway.socket.common.registry.ChatRoomMembershipCache;
 import kr.co.pennyway.socket.common.security.authenticate.UserPrincipal;
+import kr.co.pennyway.socket.common.security.authenticate.UserProfile;
+import kr.co.pennyway.socket.common.security.authenticate.UserProfileReader;
 import kr.co.pennyway.socket.common.security.jwt.AccessTokenClaimKeys;
 import kr.co.pennyway.socket.common.security.jwt.AccessTokenProvider;
 import lombok.RequiredArgsConstructor;
@@ -27,14 +27,16 @@ import org.springframework.stereotype.Component;
 import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ConnectAuthenticateHandler implements ConnectCommandHandler {
     private final AccessTokenProvider accessTokenProvider;
-    private final UserService userService;
+    private final UserProfileReader userProfileReader;
     private final UserSessionService userSessionService;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
 
     @Override
     public boolean isSupport(StompCommand command) {
@@ -47,12 +49,14 @@ public class ConnectAuthenticateHandler implements ConnectCommandHandler {
 
         JwtClaims claims = accessTokenProvider.getJwtClaimsFromToken(accessToken);
         Long userId = JwtClaimsParserUtil.getClaimsValue(claims, AccessTokenClaimKeys.USER_ID.getValue(), Long::parseLong);
+        Role role = JwtClaimsParserUtil.getClaimsValue(claims, AccessTokenClaimKeys.ROLE.getValue(), Role::fromString);
         LocalDateTime expiresDate = accessTokenProvider.getExpiryDate(accessToken);
 
         existsHeader(accessor);
 
-        UserPrincipal principal = (UserPrincipal) authenticateUser(accessor, userId, expiresDate);
+        UserPrincipal principal = (UserPrincipal) authenticateUser(accessor, userId, role, expiresDate);
         activateUserSession(principal);
+        chatRoomMembershipCache.register(principal.getUserId(), accessor.getSessionId());
     }
 
     private String extractAccessToken(StompHeaderAccessor accessor) {
@@ -80,13 +84,20 @@ public class ConnectAuthenticateHandler implements ConnectCommandHandler {
         }
     }
 
-    private Principal authenticateUser(StompHeaderAccessor accessor, Long userId, LocalDateTime expiresDate) {
+    /**
+     * 사용자 ID와 권한은 access token에서, 그 외의 정보는 {@link UserProfileReader}의 캐시에서 조회하여 Principal을 생성합니다.
+     */
+    private Principal authenticateUser(StompHeaderAccessor accessor, Long userId, Role role, LocalDateTime expiresDate) {
         String deviceId = accessor.getFirstNativeHeader(StompNativeHeaderFields.DEVICE_ID.getValue());
         String deviceName = accessor.getFirstNativeHeader(StompNativeHeaderFields.DEVICE_NAME.getValue());
 
-        User user = userService.readUser(userId)
+        if (role == null) {
+            throw new JwtErrorException(JwtErrorCode.MALFORMED_TOKEN);
+        }
+
+        UserProfile profile = Optional.ofNullable(userProfileReader.read(userId))
                 .orElseThrow(() -> new JwtErrorException(JwtErrorCode.MALFORMED_TOKEN));
-        Principal principal = UserPrincipal.of(user, expiresDate, deviceId, deviceName);
+        Principal principal = UserPrincipal.of(userId, role, profile, expiresDate, deviceId, deviceName);
 
         log.info("[인증 핸들러] 사용자 인증 완료: {}", principal);
 
@@ -95,15 +106,11 @@ public class ConnectAuthenticateHandler implements ConnectCommandHandler {
         return principal;
     }
 
+    /**
+     * 세션 존재 여부와 관계없이 하나의 스크립트로 세션을 생성하거나 ACTIVE_APP 상태로 덮어쓰고, TTL을 초기화합니다.
+     */
     private void activateUserSession(UserPrincipal principal) {
-        if (userSessionService.isExists(principal.getUserId(), principal.getDeviceId())) {
-            log.info("[인증 핸들러] 사용자 세션을 갱신합니다. userId: {}, deviceId: {}", principal.getUserId(), principal.getDeviceId());
-            userSessionService.updateUserStatus(principal.getUserId(), principal.getDeviceId(), UserStatus.ACTIVE_APP);
-            log.info("[인증 핸들러] 사용자 세션을 갱신했습니다. userId: {}, deviceId: {}", principal.getUserId(), principal.getDeviceId());
-        } else {
-            log.info("[인증 핸들러] 사용자 세션을 생성합니다. userId: {}, deviceId: {}", principal.getUserId(), principal.getDeviceId());
-            userSessionService.create(principal.getUserId(), principal.getDeviceId(), UserSession.of(principal.getUserId(), principal.getDeviceId(), principal.getDeviceName()));
-            log.info("[인증 핸들러] 사용자 세션을 생성했습니다. userId: {}, deviceId: {}", principal.getUserId(), principal.getDeviceId());
-        }
+        userSessionService.activate(principal.getUserId(), principal.getDeviceId(), principal.getDeviceName());
+        log.info("[인증 핸들러] 사용자 세션을 활성화했습니다. userId: {}, deviceId: {}", principal.getUserId(), principal.getDeviceId());
     }
 }
@@ -3,6 +3,7 @@ package kr.co.pennyway.socket.common.interceptor.handler.inbound;
 import kr.co.pennyway.domain.context.account.service.UserSessionService;
 import kr.co.pennyway.domain.domains.session.type.UserStatus;
 import kr.co.pennyway.socket.common.interceptor.marker.DisconnectCommandHandler;
+import kr.co.pennyway.socket.common.registry.ChatRoomMembershipCache;
 import kr.co.pennyway.socket.common.security.authenticate.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class DisconnectHandler implements DisconnectCommandHandler {
     private final UserSessionService userSessionService;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
 
     @Override
     public boolean isSupport(StompCommand command) {
@@ -26,6 +28,7 @@ public class DisconnectHandler implements DisconnectCommandHandler {
     public void handle(Message<?> message, StompHeaderAccessor accessor) {
         UserPrincipal principal = (UserPrincipal) accessor.getUser();
 
+        chatRoomMembershipCache.unregister(principal.getUserId(), accessor.getSessionId());
         userSessionService.updateUserStatus(principal.getUserId(), principal.getDeviceId(), UserStatus.INACTIVE);
     }
 }
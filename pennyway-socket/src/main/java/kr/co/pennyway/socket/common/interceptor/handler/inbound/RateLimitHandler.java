@@ -0,0 +1,44 @@
+package kr.co.pennyway.socket.common.interceptor.handler.inbound;
+
+import kr.co.pennyway.socket.common.exception.InterceptorErrorCode;
+import kr.co.pennyway.socket.common.exception.InterceptorErrorException;
+import kr.co.pennyway.socket.common.interceptor.marker.StompCommandHandler;
+import kr.co.pennyway.socket.common.ratelimit.StompRateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * SEND 프레임에 처리율 제한을 적용하고, 연결이 종료되면 세션의 bucket을 제거합니다.
+ * 한도를 초과한 요청은 컨트롤러에 전달하지 않고 {@link InterceptorErrorCode#TOO_MANY_REQUESTS} 예외를 던집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitHandler implements StompCommandHandler {
+    private final StompRateLimiter stompRateLimiter;
+
+    @Override
+    public boolean isSupport(StompCommand command) {
+        return StompCommand.SEND.equals(command) || StompCommand.DISCONNECT.equals(command);
+    }
+
+    @Override
+    public void handle(Message<?> message, StompHeaderAccessor accessor) {
+        if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+            stompRateLimiter.removeSession(accessor.getSessionId());
+            return;
+        }
+
+        Principal user = accessor.getUser();
+
+        if (!stompRateLimiter.tryAcquire(accessor.getSessionId(), (user != null) ? user.getName() : null, accessor.getDestination())) {
+            throw new InterceptorErrorException(InterceptorErrorCode.TOO_MANY_REQUESTS);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package kr.co.pennyway.socket.common.properties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 재연결 시 놓친 메시지 보충 설정
+ * <p>
+ * 구독 한 번에 재전송하는 메시지는 최대 maxReplaySize개이며, 이를 초과하는 이전 메시지는 클라이언트가 REST API로 조회해야 합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "pennyway.socket.chat.catch-up")
+public class ChatCatchUpProperties {
+    private final int maxReplaySize;
+
+    @Override
+    public String toString() {
+        return "ChatCatchUpProperties{" +
+                "maxReplaySize=" + maxReplaySize +
+                '}';
+    }
+}
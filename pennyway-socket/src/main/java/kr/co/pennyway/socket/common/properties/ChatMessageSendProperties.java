@@ -0,0 +1,59 @@
+package kr.co.pennyway.socket.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 채팅 메시지 전송 설정
+ * <p>
+ * 같은 발신자가 dedupeTtl 안에 같은 x-message-id로 재전송한 메시지는 한 번만 저장하고 발행합니다.
+ * mode는 클라이언트 요청을 처리하는 방식이며, clientInboundChannel 스레드 풀 크기와 전송 지연 시간을 비교하기 위해 전환할 수 있습니다.
+ * maxInFlight는 ASYNC 모드에서 동시에 처리하는 전송 수의 상한이며, 상한에 도달하면 clientInboundChannel 스레드가 대기합니다.
+ * Kotlin 코드에서 참조하므로 Lombok 대신 생성자와 getter를 직접 정의합니다.
+ */
+@ConfigurationProperties(prefix = "pennyway.socket.chat.send")
+public class ChatMessageSendProperties {
+    private final Duration dedupeTtl;
+    private final Mode mode;
+    private final int maxInFlight;
+
+    public ChatMessageSendProperties(Duration dedupeTtl, Mode mode, int maxInFlight) {
+        this.dedupeTtl = dedupeTtl;
+        this.mode = mode;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public Duration getDedupeTtl() {
+        return dedupeTtl;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    @Override
+    public String toString() {
+        return "ChatMessageSendProperties{" +
+                "dedupeTtl=" + dedupeTtl +
+                ", mode=" + mode +
+                ", maxInFlight=" + maxInFlight +
+                '}';
+    }
+
+    public enum Mode {
+        /**
+         * clientInboundChannel 스레드에서 저장, 발행, 성공 응답을 순서대로 처리합니다.
+         */
+        BLOCKING,
+        /**
+         * 저장은 Redis reactive API로, 발행과 성공 응답은 코루틴으로 처리하여 clientInboundChannel 스레드를 즉시 반환합니다.
+         * 같은 세션의 메시지는 전송한 순서대로 처리합니다.
+         */
+        ASYNC
+    }
+}
@@ -0,0 +1,32 @@
+package kr.co.pennyway.socket.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 채팅방 참여 여부 캐시 설정
+ * <p>
+ * ttl은 캐싱한 참여 여부를 RDB에 다시 확인하지 않고 신뢰하는 최대 시간입니다.
+ * 퇴장, 추방 이벤트가 유실되더라도 ttl이 지나면 권한이 회수됩니다.
+ * Kotlin 코드에서 참조하므로 Lombok 대신 생성자와 getter를 직접 정의합니다.
+ */
+@ConfigurationProperties(prefix = "pennyway.socket.chat.membership")
+public class ChatRoomMembershipProperties {
+    private final Duration ttl;
+
+    public ChatRoomMembershipProperties(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    @Override
+    public String toString() {
+        return "ChatRoomMembershipProperties{" +
+                "ttl=" + ttl +
+                '}';
+    }
+}
@@ -0,0 +1,46 @@
+package kr.co.pennyway.socket.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 채팅 서버 노드의 heartbeat 설정
+ * <p>
+ * advertisedUrl은 API 서버가 클라이언트에게 전달하는 이 노드의 접속 URL이며, weight는 다른 노드 대비 처리 용량을 나타냅니다.
+ * interval은 heartbeat TTL(distributed-coordination.chat-server.heartbeat-ttl)보다 충분히 짧아야 합니다.
+ * Kotlin 코드에서 참조하므로 Lombok 대신 생성자와 getter를 직접 정의합니다.
+ */
+@ConfigurationProperties(prefix = "pennyway.socket.chat.heartbeat")
+public class ChatServerHeartbeatProperties {
+    private final String advertisedUrl;
+    private final Duration interval;
+    private final int weight;
+
+    public ChatServerHeartbeatProperties(String advertisedUrl, Duration interval, int weight) {
+        this.advertisedUrl = advertisedUrl;
+        this.interval = interval;
+        this.weight = weight;
+    }
+
+    public String getAdvertisedUrl() {
+        return advertisedUrl;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    @Override
+    public String toString() {
+        return "ChatServerHeartbeatProperties{" +
+                "advertisedUrl='" + advertisedUrl + '\'' +
+                ", interval=" + interval +
+                ", weight=" + weight +
+                '}';
+    }
+}
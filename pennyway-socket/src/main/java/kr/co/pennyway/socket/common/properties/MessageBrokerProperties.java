@@ -18,6 +18,11 @@ public class MessageBrokerProperties {
     private final String publishExchange;
     private final int heartbeatSendInterval;
     private final int heartbeatReceiveInterval;
+    private final Mode mode;
+
+    public boolean isMultiplexed() {
+        return Mode.MULTIPLEXED.equals(mode);
+    }
 
     @Override
     public String toString() {
@@ -32,6 +37,21 @@ public class MessageBrokerProperties {
                 ", publishExchange='" + publishExchange + '\'' +
                 ", heartbeatSendInterval=" + heartbeatSendInterval +
                 ", heartbeatReceiveInterval=" + heartbeatReceiveInterval +
+                ", mode=" + mode +
                 '}';
     }
+
+    /**
+     * 클라이언트 구독을 처리하는 브로커 방식
+     */
+    public enum Mode {
+        /**
+         * 클라이언트 세션마다 외부 브로커와 STOMP 연결을 맺고, 구독을 그대로 위임합니다.
+         */
+        RELAY,
+        /**
+         * 클라이언트 구독은 인메모리 브로커가 처리하고, 노드당 하나의 AMQP 소비자가 로컬 구독자가 있는 채팅방의 메시지만 전달받아 팬아웃합니다.
+         */
+        MULTIPLEXED
+    }
 }
@@ -0,0 +1,45 @@
+package kr.co.pennyway.socket.common.properties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * STOMP SEND 프레임 처리율 제한 설정
+ * <p>
+ * rules는 선언 순서대로 destination과 비교하며, 처음으로 일치하는 규칙 하나만 적용합니다.
+ * pattern은 application destination prefix를 제외한 destination에 대한 '.' 구분자 Ant 패턴입니다. (ex. chat.message.*)
+ * 세션과 사용자 단위의 token bucket을 각각 적용하며, 둘 중 하나라도 토큰이 부족하면 요청을 거부합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "pennyway.socket.rate-limit")
+public class RateLimitProperties {
+    private final boolean enabled;
+    private final List<Rule> rules;
+
+    @Override
+    public String toString() {
+        return "RateLimitProperties{" +
+                "enabled=" + enabled +
+                ", rules=" + rules +
+                '}';
+    }
+
+    /**
+     * @param pattern      destination 패턴
+     * @param sessionLimit 세션 단위 token bucket
+     * @param userLimit    사용자 단위 token bucket. 한 사용자가 여러 기기로 접속한 경우 모든 세션이 공유합니다.
+     */
+    public record Rule(String pattern, Bandwidth sessionLimit, Bandwidth userLimit) {
+    }
+
+    /**
+     * @param capacity        순간적으로 허용하는 최대 요청 수
+     * @param refillPerSecond 초당 충전되는 토큰 수
+     */
+    public record Bandwidth(long capacity, double refillPerSecond) {
+    }
+}
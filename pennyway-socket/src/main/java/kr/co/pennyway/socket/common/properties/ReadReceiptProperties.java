@@ -0,0 +1,35 @@
+package kr.co.pennyway.socket.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 읽음 처리(마지막으로 읽은 메시지 ID) 쓰기 병합 설정
+ * <p>
+ * flushInterval이 0이면 병합하지 않고 요청마다 즉시 저장합니다.
+ * Kotlin 코드에서 참조하므로 Lombok 대신 생성자와 getter를 직접 정의합니다.
+ */
+@ConfigurationProperties(prefix = "pennyway.socket.chat.read-receipt")
+public class ReadReceiptProperties {
+    private final Duration flushInterval;
+
+    public ReadReceiptProperties(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public boolean isCoalescingEnabled() {
+        return flushInterval != null && !flushInterval.isZero() && !flushInterval.isNegative();
+    }
+
+    @Override
+    public String toString() {
+        return "ReadReceiptProperties{" +
+                "flushInterval=" + flushInterval +
+                '}';
+    }
+}
@@ -0,0 +1,29 @@
+package kr.co.pennyway.socket.common.properties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 사용자 destination 레지스트리 설정
+ * <p>
+ * nodeId는 세션이 연결된 노드를 식별하며, 노드마다 달라야 합니다.
+ * remoteCacheTtl 동안은 다른 노드에 연결된 세션 목록을 Redis에서 다시 조회하지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "pennyway.socket.chat.user-registry")
+public class UserRegistryProperties {
+    private final String nodeId;
+    private final Duration remoteCacheTtl;
+
+    @Override
+    public String toString() {
+        return "UserRegistryProperties{" +
+                "nodeId='" + nodeId + '\'' +
+                ", remoteCacheTtl=" + remoteCacheTtl +
+                '}';
+    }
+}
@@ -0,0 +1,137 @@
+package kr.co.pennyway.socket.common.ratelimit;
+
+import kr.co.pennyway.socket.common.properties.MessageBrokerProperties;
+import kr.co.pennyway.socket.common.properties.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * STOMP SEND 프레임에 destination 패턴별로 세션, 사용자 단위 token bucket을 적용합니다.
+ * <p>
+ * 모든 bucket은 노드 메모리에만 유지하므로, 요청마다 Redis 등 외부 저장소를 조회하지 않습니다.
+ * 사용자 단위 bucket은 같은 노드에 연결된 세션끼리만 공유하며, 여러 노드에 나뉘어 접속한 사용자는 노드 수만큼 한도가 늘어납니다.
+ * 세션 bucket은 연결 종료 시 제거하고, 토큰이 가득 찬 사용자 bucket은 주기적으로 제거합니다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties({RateLimitProperties.class, MessageBrokerProperties.class})
+public class StompRateLimiter implements DisposableBean {
+    private static final long SWEEP_INTERVAL_SECONDS = 60;
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Integer, TokenBucket>> sessionBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher(".");
+
+    private final boolean enabled;
+    private final List<RateLimitProperties.Rule> rules;
+    private final String destinationPrefix;
+    private final LongSupplier nanoClock;
+    private final ScheduledExecutorService scheduler;
+
+    @Autowired
+    public StompRateLimiter(RateLimitProperties rateLimitProperties, MessageBrokerProperties messageBrokerProperties) {
+        this(rateLimitProperties, messageBrokerProperties.getPublishExchange(), System::nanoTime);
+    }
+
+    StompRateLimiter(RateLimitProperties rateLimitProperties, String applicationDestinationPrefix, LongSupplier nanoClock) {
+        this.enabled = rateLimitProperties.isEnabled();
+        this.rules = rateLimitProperties.getRules() != null ? List.copyOf(rateLimitProperties.getRules()) : List.of();
+        this.destinationPrefix = applicationDestinationPrefix + "/";
+        this.nanoClock = nanoClock;
+
+        if (enabled) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("stomp-rate-limit-sweep-"));
+            this.scheduler.scheduleWithFixedDelay(this::sweep, SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * destination에 해당하는 규칙의 세션, 사용자 bucket에서 토큰을 하나씩 소비합니다.
+     * 일치하는 규칙이 없는 destination은 제한하지 않습니다.
+     *
+     * @return 요청을 허용하는 경우 true
+     */
+    public boolean tryAcquire(String sessionId, String userName, String destination) {
+        if (!enabled || destination == null || !destination.startsWith(destinationPrefix)) {
+            return true;
+        }
+
+        int ruleIndex = findRuleIndex(destination.substring(destinationPrefix.length()));
+        if (ruleIndex < 0) {
+            return true;
+        }
+
+        RateLimitProperties.Rule rule = rules.get(ruleIndex);
+        long now = nanoClock.getAsLong();
+
+        TokenBucket sessionBucket = sessionBuckets.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(ruleIndex, key -> createBucket(rule.sessionLimit(), now));
+        if (!sessionBucket.tryConsume(now)) {
+            log.warn("[Rate Limit] 세션 요청 한도 초과: sessionId={}, destination={}", sessionId, destination);
+            return false;
+        }
+
+        if (userName == null) {
+            return true;
+        }
+
+        TokenBucket userBucket = userBuckets.computeIfAbsent(ruleIndex + ":" + userName, key -> createBucket(rule.userLimit(), now));
+        if (!userBucket.tryConsume(now)) {
+            sessionBucket.refund();
+            log.warn("[Rate Limit] 사용자 요청 한도 초과: user={}, destination={}", userName, destination);
+            return false;
+        }
+
+        return true;
+    }
+
+    public void removeSession(String sessionId) {
+        sessionBuckets.remove(sessionId);
+    }
+
+    /**
+     * 토큰이 가득 찬 사용자 bucket을 제거합니다.
+     */
+    void sweep() {
+        long now = nanoClock.getAsLong();
+        userBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    int userBucketCount() {
+        return userBuckets.size();
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private int findRuleIndex(String destination) {
+        for (int i = 0; i < rules.size(); i++) {
+            if (pathMatcher.match(rules.get(i).pattern(), destination)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private TokenBucket createBucket(RateLimitProperties.Bandwidth bandwidth, long now) {
+        return new TokenBucket(bandwidth.capacity(), bandwidth.refillPerSecond(), now);
+    }
+}
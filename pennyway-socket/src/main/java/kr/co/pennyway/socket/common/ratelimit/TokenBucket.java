@@ -0,0 +1,66 @@
+package kr.co.pennyway.socket.common.ratelimit;
+
+/**
+ * 노드 로컬 token bucket
+ * <p>
+ * 별도의 충전 스레드 없이, 토큰을 소비할 때 마지막 충전 시각 이후 경과한 시간만큼 토큰을 충전합니다.
+ * 시각은 호출하는 쪽에서 {@link System#nanoTime()} 기준으로 전달합니다.
+ */
+public final class TokenBucket {
+    private final long capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity와 refillPerSecond는 0보다 커야 합니다.");
+        }
+
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * 토큰을 하나 소비합니다.
+     *
+     * @return 토큰이 남아있어 소비한 경우 true
+     */
+    public synchronized boolean tryConsume(long nowNanos) {
+        refill(nowNanos);
+
+        if (tokens < 1) {
+            return false;
+        }
+
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * 소비했던 토큰을 되돌립니다.
+     * 여러 bucket을 함께 적용할 때, 다른 bucket에서 거부된 요청의 토큰을 반환하기 위해 사용합니다.
+     */
+    public synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    /**
+     * 토큰이 가득 찬 bucket은 새로 생성한 bucket과 같으므로, 제거해도 처리율 제한 결과가 달라지지 않습니다.
+     */
+    public synchronized boolean isFull(long nowNanos) {
+        refill(nowNanos);
+        return tokens >= capacity;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
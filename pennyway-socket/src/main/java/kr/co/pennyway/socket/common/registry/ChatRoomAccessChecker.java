@@ -1,6 +1,5 @@
 package kr.co.pennyway.socket.common.registry;
 
-import kr.co.pennyway.domain.context.chat.service.ChatMemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -11,7 +10,7 @@ import java.security.Principal;
 @Component("chatRoomAccessChecker")
 @RequiredArgsConstructor
 public class ChatRoomAccessChecker implements ResourceAccessChecker {
-    private final ChatMemberService chatMemberService;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
 
     @Override
     public boolean hasPermission(String path, Principal principal) {
@@ -34,6 +33,6 @@ public class ChatRoomAccessChecker implements ResourceAccessChecker {
     }
 
     private boolean isChatRoomAccessPermit(Long chatRoomId, Principal principal) {
-        return chatMemberService.isExists(chatRoomId, Long.parseLong(principal.getName()));
+        return chatRoomMembershipCache.isMember(chatRoomId, Long.parseLong(principal.getName()));
     }
 }
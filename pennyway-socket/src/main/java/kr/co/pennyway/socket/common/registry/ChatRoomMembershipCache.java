@@ -0,0 +1,168 @@
+package kr.co.pennyway.socket.common.registry;
+
+import kr.co.pennyway.domain.context.chat.service.ChatMemberService;
+import kr.co.pennyway.socket.common.properties.ChatRoomMembershipProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 현재 노드에 연결된 사용자의 참여 채팅방 목록을 캐싱합니다.
+ * <p>
+ * CONNECT 시점에 사용자의 참여 채팅방 목록을 한 번 조회하고, 해당 사용자의 모든 세션이 종료되면 제거합니다.
+ * 참여 중인 채팅방만 캐싱하며, 각 항목은 {@link ChatRoomMembershipProperties#getTtl()}이 지나면 RDB에서 다시 확인합니다.
+ * 채팅방 참여, 퇴장, 추방, 삭제는 브로커 이벤트로 전달받아 즉시 반영하고, 이벤트가 유실되더라도 권한은 ttl 이내에 회수됩니다.
+ * <p>
+ * 사용자 단위의 모든 변경은 {@link ConcurrentHashMap#compute} 안에서 수행하되, RDB 조회는 bin 잠금을 잡지 않도록 compute 밖에서 수행합니다.
+ * RDB 조회 중에 퇴장 이벤트가 반영된 경우, 조회 결과로 캐시를 되살리지 않도록 변경 버전을 비교합니다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(ChatRoomMembershipProperties.class)
+public class ChatRoomMembershipCache {
+    private final ConcurrentHashMap<Long, Membership> memberships = new ConcurrentHashMap<>();
+
+    private final ChatMemberService chatMemberService;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public ChatRoomMembershipCache(ChatMemberService chatMemberService, ChatRoomMembershipProperties chatRoomMembershipProperties) {
+        this(chatMemberService, chatRoomMembershipProperties.getTtl(), System::nanoTime);
+    }
+
+    ChatRoomMembershipCache(ChatMemberService chatMemberService, Duration ttl, LongSupplier nanoClock) {
+        Assert.isTrue(ttl != null && !ttl.isNegative() && !ttl.isZero(), "ttl must be positive!");
+
+        this.chatMemberService = chatMemberService;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 사용자의 세션을 등록합니다.
+     * 해당 사용자의 첫 번째 세션인 경우 빈 항목을 먼저 등록한 뒤, 참여 채팅방 목록을 조회하여 채웁니다.
+     * 조회가 끝나기 전의 권한 확인은 {@link #isMember(Long, Long)}에서 RDB로 확인합니다.
+     */
+    public void register(Long userId, String sessionId) {
+        Membership created = new Membership();
+        long version = created.version;
+
+        Membership registered = memberships.compute(userId, (key, membership) -> {
+            Membership target = (membership != null) ? membership : created;
+            target.sessionIds.add(sessionId);
+            return target;
+        });
+
+        if (registered != created) {
+            return;
+        }
+
+        try {
+            load(userId, created, version);
+        } catch (RuntimeException e) {
+            unregister(userId, sessionId);
+            throw e;
+        }
+    }
+
+    /**
+     * 사용자의 세션을 해제합니다.
+     * 해당 사용자의 마지막 세션인 경우 캐시에서 제거합니다.
+     */
+    public void unregister(Long userId, String sessionId) {
+        memberships.computeIfPresent(userId, (key, membership) -> {
+            membership.sessionIds.remove(sessionId);
+            return membership.sessionIds.isEmpty() ? null : membership;
+        });
+    }
+
+    /**
+     * 사용자가 채팅방에 참여 중인지 확인합니다.
+     * 캐시에 없거나 만료된 경우에만 RDB를 조회하며, 참여 중인 경우에만 캐싱합니다.
+     */
+    public boolean isMember(Long chatRoomId, Long userId) {
+        Membership membership = memberships.get(userId);
+
+        if (membership == null) {
+            return chatMemberService.isExists(chatRoomId, userId);
+        }
+
+        Long expiresAt = membership.chatRooms.get(chatRoomId);
+        if (expiresAt != null && expiresAt - nanoClock.getAsLong() > 0) {
+            return true;
+        }
+
+        long version = membership.version;
+        boolean exists = chatMemberService.isExists(chatRoomId, userId);
+
+        memberships.computeIfPresent(userId, (key, current) -> {
+            if (!exists) {
+                current.chatRooms.remove(chatRoomId);
+            } else if (current == membership && current.version == version) {
+                current.chatRooms.put(chatRoomId, expiresAt());
+            }
+            return current;
+        });
+
+        return exists;
+    }
+
+    public void join(Long chatRoomId, Long userId) {
+        memberships.computeIfPresent(userId, (key, membership) -> {
+            membership.chatRooms.put(chatRoomId, expiresAt());
+            return membership;
+        });
+    }
+
+    public void leave(Long chatRoomId, Long userId) {
+        memberships.computeIfPresent(userId, (key, membership) -> revoke(membership, chatRoomId));
+    }
+
+    public void deleteChatRoom(Long chatRoomId) {
+        memberships.keySet().forEach(userId -> memberships.computeIfPresent(userId, (key, membership) -> revoke(membership, chatRoomId)));
+    }
+
+    /**
+     * 참여 채팅방 목록을 compute 밖에서 조회한 뒤, 조회하는 동안 항목이 교체되거나 퇴장 이벤트가 반영되지 않은 경우에만 캐싱합니다.
+     */
+    private void load(Long userId, Membership membership, long version) {
+        long expiresAt = expiresAt();
+        Set<Long> chatRoomIds = chatMemberService.readChatRoomIdsByUserId(userId);
+
+        memberships.computeIfPresent(userId, (key, current) -> {
+            if (current == membership && current.version == version) {
+                chatRoomIds.forEach(chatRoomId -> current.chatRooms.putIfAbsent(chatRoomId, expiresAt));
+            }
+            return current;
+        });
+    }
+
+    private Membership revoke(Membership membership, Long chatRoomId) {
+        membership.version++;
+        membership.chatRooms.remove(chatRoomId);
+        return membership;
+    }
+
+    private long expiresAt() {
+        return nanoClock.getAsLong() + ttlNanos;
+    }
+
+    /**
+     * 사용자 단위의 캐시 항목.
+     * 필드의 변경은 {@link #memberships}의 compute 안에서만 수행하며, 조회는 잠금 없이 수행합니다.
+     */
+    private static final class Membership {
+        private final Set<String> sessionIds = ConcurrentHashMap.newKeySet();
+        private final Map<Long, Long> chatRooms = new ConcurrentHashMap<>();
+        private volatile long version;
+    }
+}
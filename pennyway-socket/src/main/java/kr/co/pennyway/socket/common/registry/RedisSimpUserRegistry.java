@@ -0,0 +1,162 @@
+package kr.co.pennyway.socket.common.registry;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.user.*;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.*;
+
+/**
+ * 여러 채팅 서버 노드에 연결된 세션을 함께 조회하는 {@link SimpUserRegistry}
+ * <p>
+ * 현재 노드의 세션은 {@link DefaultSimpUserRegistry}가 관리하고, 다른 노드의 세션은 {@link UserSessionLocator}를 통해 Redis에서 조회합니다.
+ * {@link #getUser(String)}는 다른 노드의 세션까지 포함하므로, 사용자 destination 메시지는 세션이 연결된 노드와 무관하게
+ * 모든 세션의 destination({@code /queue/xxx-user{sessionId}})으로 변환됩니다.
+ * 단, 다른 노드가 없고 현재 노드에 세션이 있다면 Redis를 조회하지 않습니다.
+ * <p>
+ * 구독 정보는 노드 간에 공유하지 않으므로, {@link #getUsers()}, {@link #getUserCount()}, {@link #findSubscriptions(SimpSubscriptionMatcher)}는
+ * 현재 노드의 세션만 대상으로 합니다.
+ */
+public class RedisSimpUserRegistry implements SimpUserRegistry, SmartApplicationListener {
+    private final DefaultSimpUserRegistry localUserRegistry;
+    private final UserSessionLocator userSessionLocator;
+
+    public RedisSimpUserRegistry(DefaultSimpUserRegistry localUserRegistry, UserSessionLocator userSessionLocator) {
+        this.localUserRegistry = localUserRegistry;
+        this.userSessionLocator = userSessionLocator;
+    }
+
+    @Override
+    public int getOrder() {
+        return localUserRegistry.getOrder();
+    }
+
+    @Override
+    public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+        return localUserRegistry.supportsEventType(eventType);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        localUserRegistry.onApplicationEvent(event);
+
+        if (event instanceof SessionConnectedEvent connectedEvent && connectedEvent.getUser() != null) {
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(connectedEvent.getMessage().getHeaders());
+            userSessionLocator.register(connectedEvent.getUser().getName(), sessionId);
+        } else if (event instanceof SessionDisconnectEvent disconnectEvent) {
+            userSessionLocator.unregister(disconnectEvent.getSessionId());
+        }
+    }
+
+    @Override
+    @Nullable
+    public SimpUser getUser(String userName) {
+        SimpUser localUser = localUserRegistry.getUser(userName);
+
+        if (localUser != null && localUser.hasSessions() && !userSessionLocator.hasRemoteNodes()) {
+            return localUser;
+        }
+
+        Map<String, String> remoteSessions = userSessionLocator.findRemoteSessions(userName);
+
+        if (remoteSessions.isEmpty()) {
+            return localUser;
+        }
+
+        return new ClusterSimpUser(userName, localUser, remoteSessions.keySet());
+    }
+
+    @Override
+    public Set<SimpUser> getUsers() {
+        return localUserRegistry.getUsers();
+    }
+
+    @Override
+    public int getUserCount() {
+        return localUserRegistry.getUserCount();
+    }
+
+    @Override
+    public Set<SimpSubscription> findSubscriptions(SimpSubscriptionMatcher matcher) {
+        return localUserRegistry.findSubscriptions(matcher);
+    }
+
+    private static final class ClusterSimpUser implements SimpUser {
+        private final String name;
+        @Nullable
+        private final SimpUser localUser;
+        private final Map<String, SimpSession> sessions = new LinkedHashMap<>();
+
+        private ClusterSimpUser(String name, @Nullable SimpUser localUser, Set<String> remoteSessionIds) {
+            this.name = name;
+            this.localUser = localUser;
+
+            if (localUser != null) {
+                localUser.getSessions().forEach(session -> sessions.put(session.getId(), session));
+            }
+            remoteSessionIds.forEach(sessionId -> sessions.putIfAbsent(sessionId, new RemoteSimpSession(sessionId, this)));
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        @Nullable
+        public Principal getPrincipal() {
+            return (localUser != null) ? localUser.getPrincipal() : null;
+        }
+
+        @Override
+        public boolean hasSessions() {
+            return !sessions.isEmpty();
+        }
+
+        @Override
+        @Nullable
+        public SimpSession getSession(String sessionId) {
+            return sessions.get(sessionId);
+        }
+
+        @Override
+        public Set<SimpSession> getSessions() {
+            return new HashSet<>(sessions.values());
+        }
+
+        @Override
+        public String toString() {
+            return "name=" + name + ", sessions=" + sessions.keySet();
+        }
+    }
+
+    /**
+     * 다른 노드에 연결된 세션. 구독 정보는 알 수 없으므로 비어있다.
+     */
+    private record RemoteSimpSession(String id, SimpUser user) implements SimpSession {
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public SimpUser getUser() {
+            return user;
+        }
+
+        @Override
+        public Set<SimpSubscription> getSubscriptions() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public String toString() {
+            return "id=" + id;
+        }
+    }
+}
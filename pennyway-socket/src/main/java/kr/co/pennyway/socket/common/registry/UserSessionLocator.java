@@ -0,0 +1,224 @@
+package kr.co.pennyway.socket.common.registry;
+
+import kr.co.pennyway.infra.client.coordinator.ChatServerHeartbeatRepository;
+import kr.co.pennyway.infra.client.coordinator.UserSessionNodeRepository;
+import kr.co.pennyway.socket.common.properties.ChatServerHeartbeatProperties;
+import kr.co.pennyway.socket.common.properties.UserRegistryProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자의 STOMP 세션이 어느 노드에 연결되어 있는지 관리합니다.
+ * <p>
+ * 현재 노드의 세션은 메모리와 Redis에 함께 기록하고, heartbeat 주기마다 Redis의 TTL을 갱신합니다.
+ * 다른 노드의 세션은 Redis에서 조회하되, 사용자 destination 메시지마다 Redis를 조회하지 않도록
+ * {@link UserRegistryProperties#getRemoteCacheTtl()} 동안 캐싱합니다.
+ * Redis 장애 시에는 다른 노드의 세션이 없는 것으로 간주하여, 현재 노드의 세션에는 그대로 전달합니다.
+ * <p>
+ * heartbeat 주기마다 살아있는 노드 수를 확인하여, 현재 노드 외에 다른 노드가 없다면 {@link #hasRemoteNodes()}가 false를 반환합니다.
+ * TTL 갱신은 웹 서버가 연결을 받을 수 있게 된 이후 {@link SmartLifecycle#start()}에서 시작합니다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties({UserRegistryProperties.class, ChatServerHeartbeatProperties.class})
+public class UserSessionLocator implements SmartLifecycle {
+    private final ConcurrentHashMap<String, String> localSessions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, RemoteSessions> remoteSessions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> remoteSessionNodes = new ConcurrentHashMap<>();
+
+    private final UserSessionNodeRepository userSessionNodeRepository;
+    private final ChatServerHeartbeatRepository chatServerHeartbeatRepository;
+    private final String nodeId;
+    private final long remoteCacheTtlNanos;
+    private final long intervalMillis;
+
+    private volatile ScheduledExecutorService scheduler;
+    private volatile boolean remoteNodes = true;
+
+    public UserSessionLocator(
+            UserSessionNodeRepository userSessionNodeRepository,
+            ChatServerHeartbeatRepository chatServerHeartbeatRepository,
+            UserRegistryProperties userRegistryProperties,
+            ChatServerHeartbeatProperties chatServerHeartbeatProperties
+    ) {
+        this.userSessionNodeRepository = userSessionNodeRepository;
+        this.chatServerHeartbeatRepository = chatServerHeartbeatRepository;
+        this.nodeId = userRegistryProperties.getNodeId();
+        this.remoteCacheTtlNanos = userRegistryProperties.getRemoteCacheTtl().toNanos();
+        this.intervalMillis = chatServerHeartbeatProperties.getInterval().toMillis();
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("user-session-refresh-"));
+        executor.scheduleWithFixedDelay(this::refresh, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        this.scheduler = executor;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void register(String userName, String sessionId) {
+        localSessions.put(sessionId, userName);
+
+        try {
+            userSessionNodeRepository.save(userName, sessionId, nodeId);
+        } catch (Exception e) {
+            log.error("세션 노드 저장 실패: userName={}, sessionId={}", userName, sessionId, e);
+        }
+    }
+
+    /**
+     * DISCONNECT 이벤트는 세션 당 두 번 이상 발생할 수 있으므로, 이미 해제된 세션은 무시합니다.
+     */
+    public void unregister(String sessionId) {
+        String userName = localSessions.remove(sessionId);
+
+        if (userName == null) {
+            return;
+        }
+
+        try {
+            userSessionNodeRepository.delete(userName, sessionId);
+        } catch (Exception e) {
+            log.error("세션 노드 삭제 실패: userName={}, sessionId={}", userName, sessionId, e);
+        }
+    }
+
+    public boolean isLocal(String sessionId) {
+        return localSessions.containsKey(sessionId);
+    }
+
+    /**
+     * 현재 노드 외에 heartbeat가 살아있는 노드가 있는지 반환합니다.
+     * 노드 수를 확인하기 전이거나 확인에 실패했다면, 다른 노드가 있는 것으로 간주합니다.
+     */
+    public boolean hasRemoteNodes() {
+        return remoteNodes;
+    }
+
+    /**
+     * 사용자의 세션 중 다른 노드에 연결된 세션을 조회합니다.
+     *
+     * @return 세션 ID를 key, 노드 ID를 value로 하는 Map
+     */
+    public Map<String, String> findRemoteSessions(String userName) {
+        long now = System.nanoTime();
+        RemoteSessions cached = remoteSessions.get(userName);
+
+        if (cached != null && now - cached.loadedAt < remoteCacheTtlNanos) {
+            return cached.sessions;
+        }
+
+        RemoteSessions loaded = new RemoteSessions(loadRemoteSessions(userName), now);
+        RemoteSessions previous = remoteSessions.put(userName, loaded);
+
+        if (previous != null) {
+            previous.sessions.keySet().forEach(remoteSessionNodes::remove);
+        }
+        remoteSessionNodes.putAll(loaded.sessions);
+
+        return loaded.sessions;
+    }
+
+    /**
+     * {@link #findRemoteSessions(String)}로 조회한 세션이 연결된 노드를 반환합니다.
+     *
+     * @return 다른 노드에 연결된 세션이 아니라면 null
+     */
+    public String findRemoteNode(String sessionId) {
+        return remoteSessionNodes.get(sessionId);
+    }
+
+    private Map<String, String> loadRemoteSessions(String userName) {
+        Map<String, String> sessions;
+
+        try {
+            sessions = userSessionNodeRepository.findAll(userName);
+        } catch (Exception e) {
+            log.warn("세션 노드 조회 실패: userName={}", userName, e);
+            return Map.of();
+        }
+
+        Map<String, String> remote = new HashMap<>();
+        sessions.forEach((sessionId, node) -> {
+            if (!nodeId.equals(node) && !localSessions.containsKey(sessionId)) {
+                remote.put(sessionId, node);
+            }
+        });
+
+        return remote.isEmpty() ? Map.of() : Map.copyOf(remote);
+    }
+
+    /**
+     * 현재 노드에 연결된 세션의 TTL을 한 번의 pipeline으로 갱신하고, 만료된 캐시를 제거합니다.
+     * 살아있는 노드 수도 함께 확인합니다.
+     */
+    public void refresh() {
+        long now = System.nanoTime();
+        remoteSessions.forEach((userName, cached) -> {
+            if (now - cached.loadedAt >= remoteCacheTtlNanos && remoteSessions.remove(userName, cached)) {
+                cached.sessions.keySet().forEach(remoteSessionNodes::remove);
+            }
+        });
+
+        try {
+            remoteNodes = chatServerHeartbeatRepository.findAll().size() > 1;
+        } catch (Exception e) {
+            remoteNodes = true;
+            log.warn("채팅 서버 노드 조회 실패", e);
+        }
+
+        try {
+            userSessionNodeRepository.saveAll(Map.copyOf(localSessions), nodeId);
+        } catch (Exception e) {
+            log.warn("세션 노드 갱신 실패: sessionCount={}", localSessions.size(), e);
+        }
+    }
+
+    /**
+     * 종료되는 노드로 메시지가 전달되지 않도록, TTL 만료를 기다리지 않고 Redis에서 세션을 제거합니다.
+     * 연결이 모두 끊기기 전까지는 현재 노드의 세션으로 전달된 메시지를 처리해야 하므로, 메모리의 세션은 유지합니다.
+     */
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+
+        if (executor != null) {
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(intervalMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        scheduler = null;
+
+        localSessions.forEach((sessionId, userName) -> {
+            try {
+                userSessionNodeRepository.delete(userName, sessionId);
+            } catch (Exception e) {
+                log.warn("세션 노드 삭제 실패: userName={}, sessionId={}", userName, sessionId, e);
+            }
+        });
+    }
+
+    private record RemoteSessions(Map<String, String> sessions, long loadedAt) {
+    }
+}
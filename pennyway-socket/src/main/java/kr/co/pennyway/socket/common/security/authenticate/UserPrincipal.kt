@@ -28,6 +28,28 @@ data class UserPrincipal(
     private fun isExpired(): Boolean = LocalDateTime.now().isAfter(expiresAt)
 
     companion object {
+        /**
+         * access token의 claim과 [UserProfile]로 생성한다.
+         */
+        @JvmStatic
+        fun of(
+            userId: Long,
+            role: Role,
+            profile: UserProfile,
+            expiresAt: LocalDateTime,
+            deviceId: String,
+            deviceName: String
+        ): UserPrincipal = UserPrincipal(
+            userId = userId,
+            _name = profile.name(),
+            username = profile.username(),
+            role = role,
+            isChatNotify = profile.chatNotify(),
+            expiresAt = expiresAt,
+            deviceId = deviceId,
+            deviceName = deviceName
+        )
+
         @JvmStatic
         fun of(
             user: User,
@@ -0,0 +1,16 @@
+package kr.co.pennyway.socket.common.security.authenticate;
+
+import kr.co.pennyway.domain.domains.user.domain.User;
+
+/**
+ * {@link UserPrincipal}을 생성할 때 필요한 사용자 정보 중, access token에 포함되지 않는 정보
+ *
+ * @param name        사용자 이름
+ * @param username    사용자 아이디
+ * @param chatNotify  채팅 알림 수신 여부
+ */
+public record UserProfile(String name, String username, boolean chatNotify) {
+    public static UserProfile from(User user) {
+        return new UserProfile(user.getName(), user.getUsername(), user.getNotifySetting().isChatNotify());
+    }
+}
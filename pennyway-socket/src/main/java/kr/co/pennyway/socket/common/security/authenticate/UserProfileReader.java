@@ -0,0 +1,27 @@
+package kr.co.pennyway.socket.common.security.authenticate;
+
+import kr.co.pennyway.domain.context.account.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * CONNECT 시점에 {@link UserPrincipal}을 생성하기 위한 사용자 정보를 조회합니다.
+ * <p>
+ * 재배포 직후처럼 다수의 클라이언트가 동시에 재연결하는 경우 RDB 조회가 몰리지 않도록, security user 캐시(Redis)에 저장하여 노드 간에 공유합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserProfileReader {
+    private final UserService userService;
+
+    /**
+     * @return 사용자 정보. 사용자가 존재하지 않으면 null
+     */
+    @Cacheable(value = "socketUserProfile", key = "#userId", unless = "#result == null", cacheManager = "securityUserCacheManager")
+    public UserProfile read(Long userId) {
+        return userService.readUser(userId)
+                .map(UserProfile::from)
+                .orElse(null);
+    }
+}
@@ -1,8 +1,10 @@
 package kr.co.pennyway.socket.common.util;
 
 import kr.co.pennyway.socket.common.security.authenticate.UserPrincipal
-import org.springframework.context.ApplicationContext
-import org.springframework.context.expression.BeanFactoryResolver
+import org.springframework.expression.BeanResolver
+import org.springframework.expression.Expression
+import org.springframework.expression.spel.SpelCompilerMode
+import org.springframework.expression.spel.SpelParserConfiguration
 import org.springframework.expression.spel.standard.SpelExpressionParser
 import org.springframework.expression.spel.support.StandardEvaluationContext
 import java.lang.reflect.Method
@@ -13,15 +15,19 @@ import java.security.Principal
  * 이 클래스는 WebSocket 연결에서 사용되는 다양한 인증/인가 함수를 제공하고,
  * SpEL 표현식을 평가하는 기능을 제공합니다.
  *
+ * 표현식은 {@link #compile}로 한 번만 파싱하여 재사용하고, 평가 시마다 독립된 EvaluationContext를 생성하므로
+ * 여러 inbound channel 스레드에서 잠금 없이 동시에 평가할 수 있습니다.
+ *
  * @author YANG JAESEO
- * @version 1.1.0
+ * @version 1.2.0
  * @since 2024.12.25
  */
 object PreAuthorizeSpELParser {
-    private val parser = SpelExpressionParser()
-    private val context = StandardEvaluationContext().apply {
-        initializeContext()
-    }
+    private val parser = SpelExpressionParser(
+        SpelParserConfiguration(SpelCompilerMode.MIXED, PreAuthorizeSpELParser::class.java.classLoader)
+    )
+    private val authenticationExpression: Expression = parser.parseExpression("#isAuthenticated(#principal)")
+    private val functions: Map<String, Method> = SpELFunction.values().associate { it.level to it.resolveMethod() }
 
     sealed interface EvaluationResult {
         object Permitted : EvaluationResult
@@ -31,62 +37,67 @@ object PreAuthorizeSpELParser {
         }
     }
 
-    private fun StandardEvaluationContext.initializeContext() = apply {
-        SpELFunction.values().forEach { function -> registerSpELFunction(function) }
-    }
+    /**
+     * 파싱이 완료된 인가 표현식.
+     * 불변 객체이므로 여러 스레드에서 공유할 수 있습니다.
+     */
+    class CompiledExpression internal constructor(
+        val expressionString: String,
+        internal val authorization: Expression,
+        internal val isAuthenticationRequired: Boolean
+    )
 
-    private fun StandardEvaluationContext.registerSpELFunction(function: SpELFunction) {
-        runCatching {
-            PreAuthorizeSpELParser::class.java
-                .getDeclaredMethod(function.methodName, *function.parameterTypes)
-                .let { method -> registerFunction(function.level, method) }
-        }.onFailure { e ->
-            throw RuntimeException("Error registering SpEL function: ${function.level}", e)
-        }
-    }
+    /**
+     * 주어진 SpEL 표현식을 파싱합니다.
+     *
+     * @throws org.springframework.expression.ParseException 표현식 문법이 올바르지 않은 경우
+     */
+    fun compile(expression: String): CompiledExpression = CompiledExpression(
+        expressionString = expression,
+        authorization = parser.parseExpression(expression),
+        isAuthenticationRequired = expression.contains(SpELFunction.IS_AUTHENTICATED.level)
+    )
 
     /**
-     * 주어진 SpEL 표현식을 평가합니다.
+     * 파싱된 SpEL 표현식을 평가합니다.
+     *
+     * @param parameterNames 메서드 파라미터 이름. args와 같은 순서여야 합니다.
+     * @param args 메서드 인자
+     * @param beanResolver `@bean` 참조를 해석할 BeanResolver
      */
-    @Synchronized
     fun evaluate(
-        expression: String,
-        method: Method,
-        args: Array<out Any>,
-        applicationContext: ApplicationContext
-    ): EvaluationResult = context.run {
-        setupContext(method, args, applicationContext)
-        evaluateExpression(expression)
-    }
+        expression: CompiledExpression,
+        parameterNames: Array<String>,
+        args: Array<out Any?>,
+        beanResolver: BeanResolver
+    ): EvaluationResult = createContext(parameterNames, args, beanResolver)
+        .evaluateExpression(expression)
 
     /**
      * SpEL 평가를 위해, 사용자의 Principal 객체와 메서드의 인자들을 EvaluationContext에 추가합니다.
      */
-    private fun setupContext(
-        method: Method,
-        args: Array<out Any>,
-        applicationContext: ApplicationContext
-    ) {
-        with(context) {
-            context.setBeanResolver(BeanFactoryResolver(applicationContext))
-
-            method.parameters.forEachIndexed { index, parameter ->
-                setVariable(parameter.name, args[index])
-            }
+    private fun createContext(
+        parameterNames: Array<String>,
+        args: Array<out Any?>,
+        beanResolver: BeanResolver
+    ): StandardEvaluationContext = StandardEvaluationContext().apply {
+        setBeanResolver(beanResolver)
+        functions.forEach { (name, method) -> registerFunction(name, method) }
+
+        parameterNames.forEachIndexed { index, name ->
+            setVariable(name, args[index])
         }
     }
 
     private fun StandardEvaluationContext.evaluateExpression(
-        expression: String
+        expression: CompiledExpression
     ): EvaluationResult {
-        val isAuthenticationRequired = expression.contains(SpELFunction.IS_AUTHENTICATED.level)
-
         val authenticationResult = when {
-            isAuthenticationRequired -> evaluateAuthentication()
+            expression.isAuthenticationRequired -> evaluateAuthentication()
             else -> true
         }
 
-        val authorizationResult = evaluateAuthorization(expression)
+        val authorizationResult = evaluateAuthorization(expression.authorization)
 
         return when {
             authenticationResult.not() -> EvaluationResult.Denied.Unauthenticated
@@ -96,12 +107,17 @@ object PreAuthorizeSpELParser {
     }
 
     private fun StandardEvaluationContext.evaluateAuthentication(): Boolean =
-        parser.parseExpression("#isAuthenticated(#principal)")
-            .getValue(this, Boolean::class.java) ?: false
+        authenticationExpression.getValue(this, Boolean::class.java) ?: false
+
+    private fun StandardEvaluationContext.evaluateAuthorization(expression: Expression): Boolean =
+        expression.getValue(this, Boolean::class.java) ?: false
 
-    private fun StandardEvaluationContext.evaluateAuthorization(expression: String): Boolean =
-        parser.parseExpression(expression)
-            .getValue(this, Boolean::class.java) ?: false
+    private fun SpELFunction.resolveMethod(): Method =
+        runCatching {
+            PreAuthorizeSpELParser::class.java.getDeclaredMethod(methodName, *parameterTypes)
+        }.getOrElse { e ->
+            throw RuntimeException("Error registering SpEL function: $level", e)
+        }
 
     /**
      * 모든 사용자에게 접근을 허용합니다.
@@ -126,4 +142,4 @@ object PreAuthorizeSpELParser {
         PERMIT_ALL("permitAll", "permitAll"),
         IS_AUTHENTICATED("isAuthenticated", "isAuthenticated", Principal::class.java);
     }
-}
\ No newline at end of file
+}
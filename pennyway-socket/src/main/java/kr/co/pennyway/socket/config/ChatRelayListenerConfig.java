@@ -0,0 +1,84 @@
+package kr.co.pennyway.socket.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import kr.co.pennyway.infra.common.properties.ChatExchangeProperties;
+import kr.co.pennyway.infra.common.properties.ChatRelayExchangeProperties;
+import kr.co.pennyway.socket.relay.ChatMessageRelayEventListener;
+import kr.co.pennyway.socket.service.ChatMessageRelayService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.rabbit.listener.SimpleRabbitListenerEndpoint;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 채팅 메시지 푸시 알림 릴레이 리스너를 파티션 큐마다 하나씩 등록합니다.
+ * <p>
+ * 파티션마다 소비자를 하나만 두어 채팅방 내 메시지 순서를 보장하고, 파티션 수만큼 병렬로 처리합니다.
+ * 파티션별 처리 시간(chat.relay.processing)과 함께, 소비자 지연을 확인할 수 있도록 파티션 큐에 쌓인 메시지 수(chat.relay.queue.depth)를 기록합니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties({ChatExchangeProperties.class, ChatRelayExchangeProperties.class})
+public class ChatRelayListenerConfig implements RabbitListenerConfigurer {
+    private final ChatExchangeProperties chatExchangeProperties;
+    private final ChatRelayExchangeProperties chatRelayExchangeProperties;
+    private final ChatMessageRelayService chatMessageRelayService;
+    private final ObjectMapper objectMapper;
+    private final AmqpAdmin amqpAdmin;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final SimpleRabbitListenerContainerFactory simpleRabbitListenerContainerFactory;
+
+    @Bean
+    public ChatMessageRelayEventListener chatMessageRelayEventListener() {
+        return new ChatMessageRelayEventListener(chatMessageRelayService, objectMapper, getMeterRegistry());
+    }
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        ChatMessageRelayEventListener listener = chatMessageRelayEventListener();
+
+        for (String queueName : chatRelayExchangeProperties.getPartitionQueueNames(chatExchangeProperties.getQueue())) {
+            SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+            endpoint.setId("chat-relay-" + queueName);
+            endpoint.setQueueNames(queueName);
+            endpoint.setConcurrency("1");
+            endpoint.setMessageListener(message -> listener.handleSendEvent(queueName, message));
+
+            registrar.registerEndpoint(endpoint, simpleRabbitListenerContainerFactory);
+
+            Gauge.builder("chat.relay.queue.depth", () -> readMessageCount(queueName))
+                    .description("채팅 메시지 푸시 알림 릴레이 파티션 큐에 대기 중인 메시지 수")
+                    .tag("partition", queueName)
+                    .register(getMeterRegistry());
+        }
+    }
+
+    private double readMessageCount(String queueName) {
+        try {
+            QueueInformation information = amqpAdmin.getQueueInfo(queueName);
+            return (information != null) ? information.getMessageCount() : Double.NaN;
+        } catch (Exception e) {
+            log.warn("파티션 큐 정보를 조회할 수 없습니다. queue={}", queueName, e);
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * MeterRegistry 빈이 없는 경우(actuator 미사용) Micrometer의 global registry에 메트릭을 등록한다.
+     */
+    private MeterRegistry getMeterRegistry() {
+        return meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+}
@@ -0,0 +1,29 @@
+package kr.co.pennyway.socket.config;
+
+import kr.co.pennyway.socket.common.registry.RedisSimpUserRegistry;
+import kr.co.pennyway.socket.common.registry.UserSessionLocator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.simp.user.DefaultSimpUserRegistry;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+/**
+ * {@code @EnableWebSocketMessageBroker} 대신 사용하는 메시지 브로커 설정으로, 사용자 레지스트리를 {@link RedisSimpUserRegistry}로 교체합니다.
+ * 그 외의 설정은 {@link WebSocketMessageBrokerConfig}와 같은 {@code WebSocketMessageBrokerConfigurer} 빈에 위임합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ClusterUserRegistryConfig extends DelegatingWebSocketMessageBrokerConfiguration {
+    private UserSessionLocator userSessionLocator;
+
+    @Autowired
+    public void setUserSessionLocator(UserSessionLocator userSessionLocator) {
+        this.userSessionLocator = userSessionLocator;
+    }
+
+    @Override
+    protected SimpUserRegistry createLocalUserRegistry(@Nullable Integer order) {
+        return new RedisSimpUserRegistry((DefaultSimpUserRegistry) super.createLocalUserRegistry(order), userSessionLocator);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @EnablePennywayInfraConfig({
         PennywayInfraConfigGroup.MESSAGE_BROKER_CONFIG,
+        PennywayInfraConfigGroup.DISTRIBUTED_COORDINATION_CONFIG,
         PennywayInfraConfigGroup.GUID_GENERATOR_CONFIG,
         PennywayInfraConfigGroup.FCM
 })
@@ -0,0 +1,44 @@
+package kr.co.pennyway.socket.config;
+
+import kr.co.pennyway.infra.common.properties.ChatUserDestinationExchangeProperties;
+import kr.co.pennyway.socket.common.registry.UserSessionLocator;
+import org.springframework.amqp.core.*;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "message-broker.external", name = "mode", havingValue = "multiplexed")
+@EnableConfigurationProperties({ChatUserDestinationExchangeProperties.class})
+public class MultiplexedBrokerConfig {
+    /**
+     * 노드마다 하나씩 사용하는 채팅방 팬아웃 큐.
+     * 노드가 종료되면 함께 삭제되도록 exclusive, auto-delete 큐로 선언합니다.
+     */
+    @Bean
+    public Queue chatFanoutQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("chat.fanout."));
+    }
+
+    /**
+     * 다른 노드에서 현재 노드의 세션으로 전달하는 사용자 destination 메시지를 수신하는 큐.
+     */
+    @Bean
+    public Queue userDestinationQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("chat.user."));
+    }
+
+    @Bean
+    public Binding userDestinationBinding(
+            @Qualifier("userDestinationQueue") Queue userDestinationQueue,
+            TopicExchange chatExchange,
+            UserSessionLocator userSessionLocator,
+            ChatUserDestinationExchangeProperties chatUserDestinationExchangeProperties
+    ) {
+        return BindingBuilder.bind(userDestinationQueue)
+                .to(chatExchange)
+                .with(chatUserDestinationExchangeProperties.getRoutingKey(userSessionLocator.getNodeId()));
+    }
+}
@@ -4,10 +4,17 @@ import kr.co.pennyway.socket.common.interceptor.StompExceptionInterceptor;
 import kr.co.pennyway.socket.common.interceptor.StompInboundInterceptor;
 import kr.co.pennyway.socket.common.properties.ChatServerProperties;
 import kr.co.pennyway.socket.common.properties.MessageBrokerProperties;
+import kr.co.pennyway.socket.relay.ChatMessageCatchUpRelay;
+import kr.co.pennyway.socket.relay.MultiplexedChatRoomRelay;
+import kr.co.pennyway.socket.relay.MultiplexedUserDestinationRelay;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.lang.NonNull;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -17,8 +24,8 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.simp.stomp.StompReactorNettyCodec;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.tcp.reactor.ReactorNettyTcpClient;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.AntPathMatcher;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 import reactor.netty.tcp.TcpClient;
@@ -26,7 +33,6 @@ import reactor.netty.tcp.TcpClient;
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
-@EnableWebSocketMessageBroker
 @EnableConfigurationProperties({ChatServerProperties.class, MessageBrokerProperties.class})
 public class WebSocketMessageBrokerConfig implements WebSocketMessageBrokerConfigurer {
     private final ChatServerProperties chatServerProperties;
@@ -34,6 +40,16 @@ public class WebSocketMessageBrokerConfig implements WebSocketMessageBrokerConfi
 
     private final StompInboundInterceptor stompInboundInterceptor;
     private final StompExceptionInterceptor stompExceptionInterceptor;
+    private final ChatMessageCatchUpRelay chatMessageCatchUpRelay;
+    private final ObjectProvider<MultiplexedChatRoomRelay> multiplexedChatRoomRelay;
+    private final ObjectProvider<MultiplexedUserDestinationRelay> multiplexedUserDestinationRelay;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -41,22 +57,21 @@ public class WebSocketMessageBrokerConfig implements WebSocketMessageBrokerConfi
                 .setAllowedOriginPatterns(chatServerProperties.getAllowedOriginPatterns().toArray(new String[0]));
 
         registry.setErrorHandler(stompExceptionInterceptor);
+        // 같은 세션에서 전송한 메시지가 clientInboundChannel의 executor에서 순서가 바뀌지 않도록 합니다.
+        registry.setPreserveReceiveOrder(true);
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableStompBrokerRelay("/queue", "/topic", "/exchange", "/amq/queue")
-                .setAutoStartup(true)
-                .setTcpClient(createTcpClient())
-                .setSystemLogin(messageBrokerProperties.getSystemId())
-                .setSystemPasscode(messageBrokerProperties.getSystemPassword())
-                .setClientLogin(messageBrokerProperties.getClientId())
-                .setClientPasscode(messageBrokerProperties.getClientPassword())
-                .setRelayHost(messageBrokerProperties.getHost())
-                .setRelayPort(messageBrokerProperties.getPort())
-                .setSystemHeartbeatSendInterval(messageBrokerProperties.getHeartbeatSendInterval())
-                .setSystemHeartbeatReceiveInterval(messageBrokerProperties.getHeartbeatReceiveInterval());
+        if (messageBrokerProperties.isMultiplexed()) {
+            enableMultiplexedBroker(config);
+            multiplexedUserDestinationRelay.ifAvailable(relay -> config.configureBrokerChannel().interceptors(relay));
+        } else {
+            enableBrokerRelay(config);
+        }
 
+        // 같은 세션으로 전달되는 메시지가 clientOutboundChannel의 executor에서 순서가 바뀌지 않도록 합니다.
+        config.setPreservePublishOrder(true);
         config.setUserDestinationPrefix(messageBrokerProperties.getUserPrefix());
         config.setPathMatcher(new AntPathMatcher("."));
         config.setApplicationDestinationPrefixes(messageBrokerProperties.getPublishExchange());
@@ -64,7 +79,8 @@ public class WebSocketMessageBrokerConfig implements WebSocketMessageBrokerConfi
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompInboundInterceptor);
+        multiplexedChatRoomRelay.ifAvailable(relay -> registration.interceptors(relay));
+        registration.interceptors(stompInboundInterceptor, chatMessageCatchUpRelay);
     }
 
     @Override
@@ -76,7 +92,33 @@ public class WebSocketMessageBrokerConfig implements WebSocketMessageBrokerConfi
                 log.debug("Outbound message: {}", accessor);
                 return message;
             }
-        });
+        }, chatMessageCatchUpRelay);
+    }
+
+    /**
+     * 클라이언트 세션마다 외부 브로커와 STOMP 연결을 맺고, 구독을 외부 브로커에 위임합니다.
+     */
+    private void enableBrokerRelay(MessageBrokerRegistry config) {
+        config.enableStompBrokerRelay("/queue", "/topic", "/exchange", "/amq/queue")
+                .setAutoStartup(true)
+                .setTcpClient(createTcpClient())
+                .setSystemLogin(messageBrokerProperties.getSystemId())
+                .setSystemPasscode(messageBrokerProperties.getSystemPassword())
+                .setClientLogin(messageBrokerProperties.getClientId())
+                .setClientPasscode(messageBrokerProperties.getClientPassword())
+                .setRelayHost(messageBrokerProperties.getHost())
+                .setRelayPort(messageBrokerProperties.getPort())
+                .setSystemHeartbeatSendInterval(messageBrokerProperties.getHeartbeatSendInterval())
+                .setSystemHeartbeatReceiveInterval(messageBrokerProperties.getHeartbeatReceiveInterval());
+    }
+
+    /**
+     * 클라이언트 구독은 인메모리 브로커가 처리하고, 외부 브로커의 메시지는 {@link MultiplexedChatRoomRelay}가 노드당 하나의 AMQP 소비자로 전달받아 팬아웃합니다.
+     */
+    private void enableMultiplexedBroker(MessageBrokerRegistry config) {
+        config.enableSimpleBroker("/queue", "/topic", "/exchange", "/amq/queue")
+                .setHeartbeatValue(new long[]{messageBrokerProperties.getHeartbeatSendInterval(), messageBrokerProperties.getHeartbeatReceiveInterval()})
+                .setTaskScheduler(messageBrokerTaskScheduler);
     }
 
     private ReactorNettyTcpClient<byte[]> createTcpClient() {
@@ -9,6 +9,7 @@ import kr.co.pennyway.socket.service.LastMessageIdSaveService
 import org.springframework.messaging.handler.annotation.DestinationVariable
 import org.springframework.messaging.handler.annotation.Header
 import org.springframework.messaging.handler.annotation.MessageMapping
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor
 import org.springframework.stereotype.Controller
 import org.springframework.validation.annotation.Validated
 
@@ -28,9 +29,10 @@ class ChatMessageController(
         @DestinationVariable chatRoomId: Long,
         @Validated payload: ChatMessageDto.Request,
         principal: UserPrincipal,
-        @Header("x-message-id") messageId: String?
+        @Header("x-message-id") messageId: String?,
+        @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) sessionId: String
     ) {
-        chatMessageSendService.execute(
+        chatMessageSendService.dispatch(
             SendMessageCommand.createUserMessage(
                 chatRoomId,
                 payload.content(),
@@ -38,7 +40,8 @@ class ChatMessageController(
                 principal.userId,
                 principal.name,
                 messageId?.let { mapOf("x-message-id" to it) }
-            )
+            ),
+            sessionId
         )
     }
 
@@ -0,0 +1,268 @@
+package kr.co.pennyway.socket.relay;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.pennyway.domain.context.chat.service.ChatMessageService;
+import kr.co.pennyway.domain.domains.message.domain.ChatMessage;
+import kr.co.pennyway.infra.common.properties.ChatExchangeProperties;
+import kr.co.pennyway.socket.common.constants.StompNativeHeaderFields;
+import kr.co.pennyway.socket.common.dto.ChatMessageDto;
+import kr.co.pennyway.socket.common.properties.ChatCatchUpProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.Slice;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.function.SingletonSupplier;
+import org.springframework.web.socket.WebSocketHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 재연결한 클라이언트가 놓친 채팅 메시지를 구독 직후 해당 구독으로 재전송합니다.
+ * <p>
+ * 클라이언트는 채팅방 SUBSCRIBE 프레임의 {@code last-message-id} 헤더에 마지막으로 수신한 메시지의 TSID를 담아 보냅니다.
+ * 브로커가 구독을 처리한 이후 Redis의 채팅방 메시지 중 해당 TSID 이후의 메시지를 최대 {@link ChatCatchUpProperties#getMaxReplaySize()}개 조회하여,
+ * 오래된 순으로 {@code catch-up: true} 헤더와 함께 전송합니다.
+ * 놓친 메시지가 최대 개수를 초과하면 첫 번째 재전송 메시지에 {@code catch-up-truncated: true} 헤더를 추가하며, 클라이언트는 그 이전 메시지를 REST API로 조회해야 합니다.
+ * <p>
+ * 재전송이 끝나기 전에 같은 구독으로 전달되는 실시간 메시지는 clientOutboundChannel에서 보류했다가 재전송 이후에 전달하므로, 클라이언트는 항상 TSID 순서로 메시지를 수신합니다.
+ * 재전송 메시지와 보류한 메시지는 clientOutboundChannel의 executor를 거치면 스레드 간 순서가 보장되지 않으므로, {@code subProtocolWebSocketHandler}를 통해 세션에 순서대로 직접 기록합니다.
+ * 구독이 등록된 이후에 조회하므로 누락되는 메시지는 없지만, 조회 직전에 발행된 메시지는 재전송과 실시간 전달로 중복 수신될 수 있으므로 클라이언트는 chatId로 중복을 제거해야 합니다.
+ * relay 모드에서는 외부 브로커의 구독 등록이 비동기로 이루어지므로, 구독 등록 직전 수 ms 사이에 발행된 메시지는 보장하지 않습니다.
+ * <p>
+ * clientInboundChannel과 clientOutboundChannel에 모두 등록되며, clientInboundChannel에서는 권한 검사와 destination 변환 이후에 동작하도록 {@link kr.co.pennyway.socket.common.interceptor.StompInboundInterceptor} 다음에 등록해야 합니다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties({ChatExchangeProperties.class, ChatCatchUpProperties.class})
+public class ChatMessageCatchUpRelay implements ExecutorChannelInterceptor {
+    private static final String CHAT_ROOM_ROUTING_KEY_PREFIX = "chat.room.";
+
+    private final ConcurrentHashMap<String, PendingReplay> pendingReplays = new ConcurrentHashMap<>();
+
+    private final ChatMessageService chatMessageService;
+    private final ChatCatchUpProperties chatCatchUpProperties;
+    private final ObjectMapper objectMapper;
+    private final Supplier<MessageHandler> sessionWriter;
+    private final String destinationPrefix;
+
+    @Autowired
+    public ChatMessageCatchUpRelay(
+            ChatMessageService chatMessageService,
+            ChatExchangeProperties chatExchangeProperties,
+            ChatCatchUpProperties chatCatchUpProperties,
+            ObjectMapper objectMapper,
+            @Qualifier("subProtocolWebSocketHandler") ObjectProvider<WebSocketHandler> subProtocolWebSocketHandler
+    ) {
+        this(chatMessageService, chatExchangeProperties, chatCatchUpProperties, objectMapper, SingletonSupplier.of(() -> (MessageHandler) subProtocolWebSocketHandler.getObject()));
+    }
+
+    ChatMessageCatchUpRelay(
+            ChatMessageService chatMessageService,
+            ChatExchangeProperties chatExchangeProperties,
+            ChatCatchUpProperties chatCatchUpProperties,
+            ObjectMapper objectMapper,
+            Supplier<MessageHandler> sessionWriter
+    ) {
+        this.chatMessageService = chatMessageService;
+        this.chatCatchUpProperties = chatCatchUpProperties;
+        this.objectMapper = objectMapper;
+        this.sessionWriter = sessionWriter;
+        this.destinationPrefix = "/exchange/" + chatExchangeProperties.getExchange() + "/" + CHAT_ROOM_ROUTING_KEY_PREFIX;
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+
+        if (SimpMessageType.SUBSCRIBE.equals(SimpMessageHeaderAccessor.getMessageType(headers))) {
+            StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+
+            if (accessor != null && accessor.getSessionId() != null) {
+                toCatchUpRequest(accessor).ifPresent(request -> pendingReplays.put(toKey(accessor.getSessionId(), accessor.getSubscriptionId()), new PendingReplay(request)));
+            }
+            return message;
+        }
+
+        if (pendingReplays.isEmpty() || !SimpMessageType.MESSAGE.equals(SimpMessageHeaderAccessor.getMessageType(headers))
+                || SimpMessageHeaderAccessor.getFirstNativeHeader(StompNativeHeaderFields.CATCH_UP.getValue(), headers) != null) {
+            return message;
+        }
+
+        PendingReplay pendingReplay = pendingReplays.get(toKey(SimpMessageHeaderAccessor.getSessionId(headers), SimpMessageHeaderAccessor.getSubscriptionId(headers)));
+        return (pendingReplay != null && pendingReplay.hold(message)) ? null : message;
+    }
+
+    @Override
+    public void afterSendCompletion(@NonNull Message<?> message, @NonNull MessageChannel channel, boolean sent, Exception ex) {
+        if (sent && ex == null) {
+            return;
+        }
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor != null && StompCommand.SUBSCRIBE.equals(accessor.getCommand()) && accessor.getSessionId() != null) {
+            release(toKey(accessor));
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(@NonNull Message<?> message, @NonNull MessageChannel channel, @NonNull MessageHandler handler, Exception ex) {
+        if (!(handler instanceof AbstractBrokerMessageHandler)) {
+            return;
+        }
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SUBSCRIBE.equals(accessor.getCommand()) || accessor.getSessionId() == null) {
+            return;
+        }
+
+        String key = toKey(accessor);
+        PendingReplay pendingReplay = pendingReplays.get(key);
+        if (pendingReplay == null) {
+            return;
+        }
+
+        try {
+            if (ex == null) {
+                replay(accessor, pendingReplay.request);
+            }
+        } catch (Exception e) {
+            log.error("[Catch-up] 놓친 메시지 재전송 실패: sessionId={}, destination={}", accessor.getSessionId(), accessor.getDestination(), e);
+        } finally {
+            release(key);
+        }
+    }
+
+    private void replay(StompHeaderAccessor subscription, CatchUpRequest request) throws JsonProcessingException {
+        Slice<ChatMessage> messages = chatMessageService.readLatestMessagesAfter(request.chatRoomId(), request.lastMessageId(), chatCatchUpProperties.getMaxReplaySize());
+        List<ChatMessage> contents = messages.getContent();
+        MessageHandler writer = sessionWriter.get();
+
+        for (int i = contents.size() - 1; i >= 0; i--) {
+            boolean truncated = messages.hasNext() && i == contents.size() - 1;
+            writer.handleMessage(createReplayMessage(subscription, contents.get(i), truncated));
+        }
+
+        log.debug("[Catch-up] 놓친 메시지 {}건 재전송: sessionId={}, chatRoomId={}, truncated={}", contents.size(), subscription.getSessionId(), request.chatRoomId(), messages.hasNext());
+    }
+
+    private Message<byte[]> createReplayMessage(StompHeaderAccessor subscription, ChatMessage message, boolean truncated) throws JsonProcessingException {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(subscription.getSessionId());
+        accessor.setSubscriptionId(subscription.getSubscriptionId());
+        accessor.setDestination(subscription.getDestination());
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setNativeHeader(StompNativeHeaderFields.CATCH_UP.getValue(), "true");
+        if (truncated) {
+            accessor.setNativeHeader(StompNativeHeaderFields.CATCH_UP_TRUNCATED.getValue(), "true");
+        }
+        accessor.setLeaveMutable(true);
+
+        return MessageBuilder.createMessage(objectMapper.writeValueAsBytes(ChatMessageDto.Response.from(message)), accessor.getMessageHeaders());
+    }
+
+    /**
+     * 보류한 실시간 메시지를 전달한 이후에 대기 목록에서 제거합니다.
+     * 제거를 먼저 하면, 그 사이에 전달된 실시간 메시지가 보류 중인 메시지를 앞지를 수 있습니다.
+     */
+    private void release(String key) {
+        PendingReplay pendingReplay = pendingReplays.get(key);
+
+        if (pendingReplay == null) {
+            return;
+        }
+
+        try {
+            pendingReplay.release(sessionWriter.get());
+        } catch (Exception e) {
+            log.error("[Catch-up] 보류한 메시지 전달 실패: key={}", key, e);
+        } finally {
+            pendingReplays.remove(key, pendingReplay);
+        }
+    }
+
+    private Optional<CatchUpRequest> toCatchUpRequest(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        String lastMessageId = accessor.getFirstNativeHeader(StompNativeHeaderFields.LAST_MESSAGE_ID.getValue());
+
+        if (lastMessageId == null || destination == null || !destination.startsWith(destinationPrefix)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new CatchUpRequest(Long.parseLong(destination.substring(destinationPrefix.length())), Long.parseLong(lastMessageId)));
+        } catch (NumberFormatException e) {
+            log.warn("[Catch-up] 잘못된 재전송 요청: destination={}, lastMessageId={}", destination, lastMessageId);
+            return Optional.empty();
+        }
+    }
+
+    private String toKey(StompHeaderAccessor accessor) {
+        return toKey(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    private String toKey(String sessionId, String subscriptionId) {
+        return sessionId + ":" + subscriptionId;
+    }
+
+    private record CatchUpRequest(Long chatRoomId, Long lastMessageId) {
+    }
+
+    private static final class PendingReplay {
+        private final CatchUpRequest request;
+        private final List<Message<?>> heldMessages = new ArrayList<>();
+        private boolean released;
+
+        private PendingReplay(CatchUpRequest request) {
+            this.request = request;
+        }
+
+        /**
+         * 재전송이 끝나지 않은 경우 실시간 메시지를 보류합니다.
+         *
+         * @return 메시지를 보류한 경우 true
+         */
+        synchronized boolean hold(Message<?> message) {
+            if (released) {
+                return false;
+            }
+
+            heldMessages.add(message);
+            return true;
+        }
+
+        /**
+         * 보류한 메시지를 세션에 순서대로 기록합니다.
+         * 기록이 끝날 때까지 다른 스레드의 {@link #hold(Message)}는 대기하므로, 이후의 실시간 메시지가 보류한 메시지를 앞지르지 않습니다.
+         */
+        synchronized void release(MessageHandler writer) {
+            released = true;
+            try {
+                heldMessages.forEach(writer::handleMessage);
+            } finally {
+                heldMessages.clear();
+            }
+        }
+    }
+}
@@ -1,31 +1,56 @@
 package kr.co.pennyway.socket.relay;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kr.co.pennyway.domain.domains.message.type.MessageCategoryType;
 import kr.co.pennyway.socket.common.dto.ChatMessageDto;
 import kr.co.pennyway.socket.service.ChatMessageRelayService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.annotation.Exchange;
-import org.springframework.amqp.rabbit.annotation.Queue;
-import org.springframework.amqp.rabbit.annotation.QueueBinding;
-import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.stereotype.Component;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
 
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 파티션 큐의 메시지를 받아 푸시 알림을 릴레이합니다.
+ * 파티션마다 하나의 소비자가 호출하므로, 같은 채팅방의 메시지는 순서대로 처리됩니다.
+ * 리스너 컨테이너는 {@link kr.co.pennyway.socket.config.ChatRelayListenerConfig}에서 파티션마다 등록합니다.
+ */
 @Slf4j
-@Component
-@RequiredArgsConstructor
 public class ChatMessageRelayEventListener {
     private final ChatMessageRelayService chatMessageRelayService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> processingTimers = new ConcurrentHashMap<>();
+
+    public ChatMessageRelayEventListener(ChatMessageRelayService chatMessageRelayService, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.chatMessageRelayService = chatMessageRelayService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 파티션 큐에서 수신한 메시지를 처리하고, 파티션별 처리 시간을 기록합니다.
+     *
+     * @param partition String : 메시지를 수신한 파티션 큐 이름
+     * @throws AmqpRejectAndDontRequeueException 메시지를 역직렬화할 수 없는 경우, 재전달하지 않고 폐기합니다.
+     */
+    public void handleSendEvent(String partition, Message message) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            handleSendEvent(objectMapper.readValue(message.getBody(), ChatMessageDto.Response.class));
+        } catch (IOException e) {
+            log.error("릴레이할 채팅 메시지를 역직렬화할 수 없습니다. partition={}", partition, e);
+            throw new AmqpRejectAndDontRequeueException("Invalid chat message payload", e);
+        } finally {
+            sample.stop(processingTimers.computeIfAbsent(partition, this::createProcessingTimer));
+        }
+    }
 
-    @RabbitListener(
-            containerFactory = "simpleRabbitListenerContainerFactory",
-            bindings = @QueueBinding(
-                    value = @Queue("${pennyway.rabbitmq.chat.queue}"),
-                    exchange = @Exchange(value = "${pennyway.rabbitmq.chat.exchange}", type = "topic"),
-                    key = "${pennyway.rabbitmq.chat.routing-key}"
-            ),
-            concurrency = "1"
-    )
     public void handleSendEvent(ChatMessageDto.Response event) {
         log.info("ChatMessageSendEventListener.handleSendEvent: {}", event);
 
@@ -35,4 +60,12 @@ public class ChatMessageRelayEventListener {
 
         chatMessageRelayService.execute(event.senderId(), event.chatRoomId(), event.content());
     }
+
+    private Timer createProcessingTimer(String partition) {
+        return Timer.builder("chat.relay.processing")
+                .description("채팅 메시지 푸시 알림 릴레이 처리 시간")
+                .tag("partition", partition)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
 }
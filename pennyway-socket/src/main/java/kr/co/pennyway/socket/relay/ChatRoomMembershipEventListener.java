@@ -0,0 +1,41 @@
+package kr.co.pennyway.socket.relay;
+
+import kr.co.pennyway.infra.common.event.ChatRoomMembershipEvent;
+import kr.co.pennyway.socket.common.registry.ChatRoomMembershipCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 멤버십 변경 이벤트를 수신하여 노드의 {@link ChatRoomMembershipCache}에 반영합니다.
+ * 모든 노드가 이벤트를 수신해야 하므로, 노드마다 익명 큐를 바인딩합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomMembershipEventListener {
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+
+    @RabbitListener(
+            containerFactory = "simpleRabbitListenerContainerFactory",
+            bindings = @QueueBinding(
+                    value = @Queue(exclusive = "true", autoDelete = "true"),
+                    exchange = @Exchange(value = "${pennyway.rabbitmq.chat.exchange}", type = "topic"),
+                    key = "${pennyway.rabbitmq.chat-membership-event.routing-key}"
+            ),
+            concurrency = "1"
+    )
+    public void handle(ChatRoomMembershipEvent event) {
+        log.debug("handle: {}", event);
+
+        switch (event.type()) {
+            case JOINED -> chatRoomMembershipCache.join(event.chatRoomId(), event.userId());
+            case LEFT, BANNED -> chatRoomMembershipCache.leave(event.chatRoomId(), event.userId());
+            case ROOM_DELETED -> chatRoomMembershipCache.deleteChatRoom(event.chatRoomId());
+        }
+    }
+}
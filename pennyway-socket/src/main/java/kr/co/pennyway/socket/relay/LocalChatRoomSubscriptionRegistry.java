@@ -0,0 +1,83 @@
+package kr.co.pennyway.socket.relay;
+
+import java.util.*;
+
+/**
+ * 현재 노드에 연결된 세션들의 채팅방 구독 현황을 routing key 단위로 관리합니다.
+ * <p>
+ * routing key별 구독 수를 함께 관리하여, 첫 번째 구독자가 생기거나 마지막 구독자가 사라지는 시점을 알려줍니다.
+ * 스레드 안전하지 않으므로, 호출하는 쪽에서 동기화해야 합니다.
+ */
+public class LocalChatRoomSubscriptionRegistry {
+    private final Map<String, Map<String, String>> subscriptionsBySession = new HashMap<>();
+    private final Map<String, Integer> subscriberCounts = new HashMap<>();
+
+    /**
+     * 해당 routing key에 로컬 구독자가 있는지 확인합니다.
+     */
+    public boolean hasSubscribers(String routingKey) {
+        return subscriberCounts.containsKey(routingKey);
+    }
+
+    /**
+     * 세션의 구독을 등록합니다.
+     * 같은 세션에 이미 등록된 구독 ID인 경우 무시합니다.
+     *
+     * @return 해당 routing key의 첫 번째 로컬 구독인 경우 true
+     */
+    public boolean add(String sessionId, String subscriptionId, String routingKey) {
+        String previous = subscriptionsBySession.computeIfAbsent(sessionId, k -> new HashMap<>()).putIfAbsent(subscriptionId, routingKey);
+
+        if (previous != null) {
+            return false;
+        }
+
+        return subscriberCounts.merge(routingKey, 1, Integer::sum) == 1;
+    }
+
+    /**
+     * 세션의 구독을 해제합니다.
+     *
+     * @return 마지막 로컬 구독이 해제된 routing key. 남은 구독자가 있거나 등록되지 않은 구독인 경우 {@link Optional#empty()}
+     */
+    public Optional<String> remove(String sessionId, String subscriptionId) {
+        Map<String, String> subscriptions = subscriptionsBySession.get(sessionId);
+
+        if (subscriptions == null) {
+            return Optional.empty();
+        }
+
+        String routingKey = subscriptions.remove(subscriptionId);
+        if (subscriptions.isEmpty()) {
+            subscriptionsBySession.remove(sessionId);
+        }
+
+        return Optional.ofNullable(routingKey).filter(this::decrement);
+    }
+
+    /**
+     * 세션의 모든 구독을 해제합니다.
+     *
+     * @return 마지막 로컬 구독이 해제된 routing key 목록
+     */
+    public List<String> removeSession(String sessionId) {
+        Map<String, String> subscriptions = subscriptionsBySession.remove(sessionId);
+
+        if (subscriptions == null) {
+            return List.of();
+        }
+
+        return subscriptions.values().stream().filter(this::decrement).toList();
+    }
+
+    /**
+     * 로컬 구독자가 있는 모든 routing key를 반환합니다.
+     */
+    public Set<String> routingKeys() {
+        return Set.copyOf(subscriberCounts.keySet());
+    }
+
+    private boolean decrement(String routingKey) {
+        return subscriberCounts.computeIfPresent(routingKey, (key, count) -> count > 1 ? count - 1 : null) == null;
+    }
+}
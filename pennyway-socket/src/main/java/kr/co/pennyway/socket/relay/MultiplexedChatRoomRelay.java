@@ -0,0 +1,261 @@
+package kr.co.pennyway.socket.relay;
+
+import kr.co.pennyway.infra.common.properties.ChatExchangeProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * multiplexed 모드에서 외부 브로커의 채팅방 메시지를 로컬 구독자에게 팬아웃합니다.
+ * <p>
+ * 노드마다 하나의 익명 큐와 소비자만 사용하며, 로컬 구독자가 있는 routing key만 큐에 바인딩합니다.
+ * 첫 번째 구독자가 생기면 바인딩을 추가하고, 마지막 구독자가 사라지면 바인딩을 제거합니다.
+ * 노드 전역 잠금은 구독 수를 갱신하는 동안에만 잡고, 브로커와 통신하는 바인딩 변경은 routing key 단위의 잠금 안에서 수행하므로
+ * 한 채팅방의 바인딩 지연이 다른 채팅방의 구독을 막지 않습니다.
+ * 수신한 메시지는 구독 destination({@code /exchange/{exchange}/{routingKey}})으로 인메모리 브로커에 전달합니다.
+ * <p>
+ * 구독 현황은 clientInboundChannel의 첫 번째 인터셉터로 등록되어 추적합니다.
+ * 구독은 권한 검사와 destination 변환이 끝나고 브로커에 전달된 이후에 반영하고,
+ * 구독 해제와 연결 종료는 다른 인터셉터의 실패와 무관하게 반영되도록 가장 먼저 처리합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "message-broker.external", name = "mode", havingValue = "multiplexed")
+@EnableConfigurationProperties({ChatExchangeProperties.class})
+public class MultiplexedChatRoomRelay implements ChannelInterceptor, MessageListener, InitializingBean, DisposableBean {
+    private static final int PREFETCH_COUNT = 250;
+    private static final int BINDING_LOCK_STRIPES = 64;
+
+    private final LocalChatRoomSubscriptionRegistry registry = new LocalChatRoomSubscriptionRegistry();
+    private final Set<String> boundRoutingKeys = ConcurrentHashMap.newKeySet();
+    private final Object[] bindingLocks = createBindingLocks();
+
+    private final ConnectionFactory connectionFactory;
+    private final AmqpAdmin amqpAdmin;
+    private final Queue chatFanoutQueue;
+    private final TopicExchange chatExchange;
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final String destinationPrefix;
+    private final SimpleMessageListenerContainer container;
+
+    public MultiplexedChatRoomRelay(
+            ConnectionFactory connectionFactory,
+            AmqpAdmin amqpAdmin,
+            @Qualifier("chatFanoutQueue") Queue chatFanoutQueue,
+            TopicExchange chatExchange,
+            ChatExchangeProperties chatExchangeProperties,
+            @Lazy SimpMessagingTemplate simpMessagingTemplate
+    ) {
+        this.connectionFactory = connectionFactory;
+        this.amqpAdmin = amqpAdmin;
+        this.chatFanoutQueue = chatFanoutQueue;
+        this.chatExchange = chatExchange;
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.destinationPrefix = "/exchange/" + chatExchangeProperties.getExchange() + "/";
+        this.container = createContainer();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // 연결이 재수립되면 익명 큐가 새로 선언되므로, 현재 구독 중인 routing key를 다시 바인딩한다.
+        connectionFactory.addConnectionListener(connection -> rebindAll());
+
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @Override
+    public void destroy() {
+        container.stop();
+        container.destroy();
+    }
+
+    @Override
+    public org.springframework.messaging.Message<?> preSend(@NonNull org.springframework.messaging.Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+
+        if (accessor == null || accessor.getSessionId() == null) {
+            return message;
+        }
+
+        if (StompCommand.UNSUBSCRIBE.equals(accessor.getCommand())) {
+            unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+        } else if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+            disconnect(accessor.getSessionId());
+        }
+
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(@NonNull org.springframework.messaging.Message<?> message, @NonNull MessageChannel channel, boolean sent, Exception ex) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+
+        if (!sent || ex != null || accessor == null || !StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            return;
+        }
+
+        toRoutingKey(accessor.getDestination())
+                .ifPresent(routingKey -> subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), routingKey));
+    }
+
+    @Override
+    public void onMessage(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        if (properties.getContentType() != null) {
+            accessor.setContentType(MimeTypeUtils.parseMimeType(properties.getContentType()));
+        }
+        properties.getHeaders().forEach((name, value) -> {
+            if (value != null) {
+                accessor.setNativeHeader(name, value.toString());
+            }
+        });
+        accessor.setLeaveMutable(true);
+
+        try {
+            simpMessagingTemplate.send(destinationPrefix + properties.getReceivedRoutingKey(), MessageBuilder.createMessage(message.getBody(), accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.error("[Multiplexed Relay] 메시지 팬아웃 실패: routingKey={}", properties.getReceivedRoutingKey(), e);
+        }
+    }
+
+    void subscribe(String sessionId, String subscriptionId, String routingKey) {
+        synchronized (registry) {
+            registry.add(sessionId, subscriptionId, routingKey);
+        }
+
+        syncBinding(routingKey, false);
+    }
+
+    void unsubscribe(String sessionId, String subscriptionId) {
+        Optional<String> released;
+        synchronized (registry) {
+            released = registry.remove(sessionId, subscriptionId);
+        }
+
+        released.ifPresent(routingKey -> syncBinding(routingKey, false));
+    }
+
+    void disconnect(String sessionId) {
+        List<String> released;
+        synchronized (registry) {
+            released = registry.removeSession(sessionId);
+        }
+
+        released.forEach(routingKey -> syncBinding(routingKey, false));
+    }
+
+    private void rebindAll() {
+        Set<String> routingKeys = new HashSet<>(boundRoutingKeys);
+        synchronized (registry) {
+            routingKeys.addAll(registry.routingKeys());
+        }
+
+        routingKeys.forEach(routingKey -> syncBinding(routingKey, true));
+    }
+
+    /**
+     * routing key의 바인딩을 현재 로컬 구독 여부에 맞춥니다.
+     * 같은 routing key의 바인딩 변경은 routing key 단위의 잠금으로 직렬화하고, 잠금을 잡은 뒤의 구독 여부를 기준으로 판단하므로
+     * 구독과 해제가 교차하더라도 마지막 상태로 수렴합니다.
+     * 바인딩 추가에 실패한 경우, 같은 routing key의 다음 구독에서 다시 시도합니다.
+     *
+     * @param rebind 연결이 재수립되어 기존 바인딩이 사라진 경우 true
+     */
+    private void syncBinding(String routingKey, boolean rebind) {
+        synchronized (bindingLocks[Math.floorMod(routingKey.hashCode(), BINDING_LOCK_STRIPES)]) {
+            if (rebind) {
+                boundRoutingKeys.remove(routingKey);
+            }
+
+            boolean required;
+            synchronized (registry) {
+                required = registry.hasSubscribers(routingKey);
+            }
+
+            if (required && !boundRoutingKeys.contains(routingKey)) {
+                bind(routingKey);
+            } else if (!required && boundRoutingKeys.contains(routingKey)) {
+                unbind(routingKey);
+            }
+        }
+    }
+
+    private void bind(String routingKey) {
+        try {
+            amqpAdmin.declareBinding(createBinding(routingKey));
+            boundRoutingKeys.add(routingKey);
+            log.debug("[Multiplexed Relay] 바인딩 추가: {}", routingKey);
+        } catch (Exception e) {
+            log.error("[Multiplexed Relay] 바인딩 추가 실패: routingKey={}", routingKey, e);
+        }
+    }
+
+    private void unbind(String routingKey) {
+        try {
+            amqpAdmin.removeBinding(createBinding(routingKey));
+            boundRoutingKeys.remove(routingKey);
+            log.debug("[Multiplexed Relay] 바인딩 제거: {}", routingKey);
+        } catch (Exception e) {
+            log.error("[Multiplexed Relay] 바인딩 제거 실패: routingKey={}", routingKey, e);
+        }
+    }
+
+    private Optional<String> toRoutingKey(String destination) {
+        if (destination == null || !destination.startsWith(destinationPrefix)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(destination.substring(destinationPrefix.length()));
+    }
+
+    private Binding createBinding(String routingKey) {
+        return BindingBuilder.bind(chatFanoutQueue).to(chatExchange).with(routingKey);
+    }
+
+    private static Object[] createBindingLocks() {
+        Object[] locks = new Object[BINDING_LOCK_STRIPES];
+        Arrays.setAll(locks, i -> new Object());
+        return locks;
+    }
+
+    private SimpleMessageListenerContainer createContainer() {
+        SimpleMessageListenerContainer container = new SimpleMessageListenerContainer(connectionFactory);
+        container.setQueues(chatFanoutQueue);
+        container.setMessageListener(this);
+        container.setAmqpAdmin(amqpAdmin);
+        container.setAcknowledgeMode(AcknowledgeMode.NONE);
+        container.setPrefetchCount(PREFETCH_COUNT);
+        container.setConcurrentConsumers(1);
+        container.setAutoStartup(false);
+        return container;
+    }
+}
@@ -0,0 +1,154 @@
+package kr.co.pennyway.socket.relay;
+
+import kr.co.pennyway.infra.common.properties.ChatExchangeProperties;
+import kr.co.pennyway.infra.common.properties.ChatUserDestinationExchangeProperties;
+import kr.co.pennyway.socket.common.registry.UserSessionLocator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * multiplexed 모드에서 다른 노드에 연결된 세션으로 사용자 destination 메시지를 전달합니다.
+ * <p>
+ * 사용자 destination은 {@link kr.co.pennyway.socket.common.registry.RedisSimpUserRegistry}에 의해 세션별 destination({@code /queue/xxx-user{sessionId}})으로 변환되는데,
+ * 인메모리 브로커는 다른 노드의 세션에 전달할 수 없으므로 brokerChannel 인터셉터로 등록되어 해당 세션이 연결된 노드의 routing key로 외부 브로커에 발행합니다.
+ * 메시지를 수신한 노드는 현재 노드에 연결된 세션인 경우에만 인메모리 브로커에 전달합니다.
+ * <p>
+ * relay 모드에서는 세션별 destination이 외부 브로커의 큐이므로 이 과정이 필요하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "message-broker.external", name = "mode", havingValue = "multiplexed")
+@EnableConfigurationProperties({ChatExchangeProperties.class, ChatUserDestinationExchangeProperties.class})
+public class MultiplexedUserDestinationRelay implements ChannelInterceptor {
+    static final String DESTINATION_HEADER = "x-simp-destination";
+    static final String NATIVE_HEADERS_HEADER = "x-simp-native-headers";
+    private static final String USER_DESTINATION_SUFFIX = "-user";
+
+    private final UserSessionLocator userSessionLocator;
+    private final RabbitTemplate rabbitTemplate;
+    private final ChatExchangeProperties chatExchangeProperties;
+    private final ChatUserDestinationExchangeProperties chatUserDestinationExchangeProperties;
+    private final SimpMessagingTemplate simpMessagingTemplate;
+
+    public MultiplexedUserDestinationRelay(
+            UserSessionLocator userSessionLocator,
+            RabbitTemplate rabbitTemplate,
+            ChatExchangeProperties chatExchangeProperties,
+            ChatUserDestinationExchangeProperties chatUserDestinationExchangeProperties,
+            @Lazy SimpMessagingTemplate simpMessagingTemplate
+    ) {
+        this.userSessionLocator = userSessionLocator;
+        this.rabbitTemplate = rabbitTemplate;
+        this.chatExchangeProperties = chatExchangeProperties;
+        this.chatUserDestinationExchangeProperties = chatUserDestinationExchangeProperties;
+        this.simpMessagingTemplate = simpMessagingTemplate;
+    }
+
+    /**
+     * 다른 노드의 세션으로 변환된 메시지를 해당 노드로 발행합니다.
+     * 인메모리 브로커에는 해당 세션의 구독이 없으므로, 메시지는 그대로 전달하여 무시되도록 합니다.
+     */
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+
+        if (!SimpMessageType.MESSAGE.equals(SimpMessageHeaderAccessor.getMessageType(headers))) {
+            return message;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        String sessionId = extractSessionId(destination);
+        String nodeId = (sessionId != null) ? userSessionLocator.findRemoteNode(sessionId) : null;
+
+        if (nodeId != null) {
+            forward(nodeId, destination, message);
+        }
+
+        return message;
+    }
+
+    @RabbitListener(
+            containerFactory = "simpleRabbitListenerContainerFactory",
+            queues = "#{userDestinationQueue.name}",
+            concurrency = "1"
+    )
+    public void handle(org.springframework.amqp.core.Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        String destination = properties.getHeader(DESTINATION_HEADER);
+        String sessionId = extractSessionId(destination);
+
+        if (sessionId == null || !userSessionLocator.isLocal(sessionId)) {
+            log.debug("현재 노드에 연결되지 않은 세션의 메시지는 무시합니다. destination={}", destination);
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        Map<String, List<?>> nativeHeaders = properties.getHeader(NATIVE_HEADERS_HEADER);
+        if (nativeHeaders != null) {
+            nativeHeaders.forEach((name, values) -> values.forEach(value -> accessor.addNativeHeader(name, String.valueOf(value))));
+        }
+        if (properties.getContentType() != null) {
+            accessor.setContentType(MimeTypeUtils.parseMimeType(properties.getContentType()));
+        }
+        accessor.setLeaveMutable(true);
+
+        simpMessagingTemplate.send(destination, MessageBuilder.createMessage(message.getBody(), accessor.getMessageHeaders()));
+    }
+
+    private void forward(String nodeId, String destination, Message<?> message) {
+        if (!(message.getPayload() instanceof byte[] body)) {
+            log.warn("변환되지 않은 메시지는 다른 노드로 전달할 수 없습니다. destination={}", destination);
+            return;
+        }
+
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(DESTINATION_HEADER, destination);
+
+        Object nativeHeaders = message.getHeaders().get(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+        if (nativeHeaders instanceof Map<?, ?> map && !map.isEmpty()) {
+            properties.setHeader(NATIVE_HEADERS_HEADER, new HashMap<>(map));
+        }
+
+        Object contentType = message.getHeaders().get(MessageHeaders.CONTENT_TYPE);
+        if (contentType != null) {
+            properties.setContentType(contentType.toString());
+        }
+
+        try {
+            rabbitTemplate.send(chatExchangeProperties.getExchange(), chatUserDestinationExchangeProperties.getRoutingKey(nodeId), new org.springframework.amqp.core.Message(body, properties));
+        } catch (AmqpException e) {
+            log.error("다른 노드로 사용자 메시지 전달 실패: nodeId={}, destination={}", nodeId, destination, e);
+        }
+    }
+
+    private String extractSessionId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+
+        int index = destination.lastIndexOf(USER_DESTINATION_SUFFIX);
+        return (index < 0) ? null : destination.substring(index + USER_DESTINATION_SUFFIX.length());
+    }
+}
@@ -1,34 +1,193 @@
 package kr.co.pennyway.socket.service;
 
 import kr.co.pennyway.domain.context.chat.service.ChatMessageService
+import kr.co.pennyway.domain.domains.message.domain.ChatMessage
 import kr.co.pennyway.domain.domains.message.domain.ChatMessageBuilder
 import kr.co.pennyway.infra.client.broker.MessageBrokerAdapter
 import kr.co.pennyway.infra.client.guid.IdGenerator
 import kr.co.pennyway.infra.common.properties.ChatExchangeProperties
 import kr.co.pennyway.socket.command.SendMessageCommand
 import kr.co.pennyway.socket.common.dto.ChatMessageDto
+import kr.co.pennyway.socket.common.dto.ServerSideMessage
+import kr.co.pennyway.socket.common.properties.ChatMessageSendProperties
+import kr.co.pennyway.socket.common.util.logger
+import kotlinx.coroutines.*
+import kotlinx.coroutines.reactor.awaitSingle
+import kotlinx.coroutines.reactor.awaitSingleOrNull
+import org.springframework.beans.factory.DisposableBean
 import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.messaging.simp.SimpMessagingTemplate
 import org.springframework.stereotype.Component
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Semaphore
 
 @Component
-@EnableConfigurationProperties(ChatExchangeProperties::class)
+@EnableConfigurationProperties(ChatExchangeProperties::class, ChatMessageSendProperties::class)
 class ChatMessageSendService(
     private val chatMessageService: ChatMessageService,
     private val messageBrokerAdapter: MessageBrokerAdapter,
     private val idGenerator: IdGenerator<Long>,
     private val chatExchangeProperties: ChatExchangeProperties,
+    private val chatMessageSendProperties: ChatMessageSendProperties,
     private val simpMessagingTemplate: SimpMessagingTemplate
-) {
+) : DisposableBean {
+    private companion object {
+        private const val SHUTDOWN_TIMEOUT_MILLIS = 5_000L
+    }
+
+    private val log = logger()
+    private val scope = CoroutineScope(SupervisorJob() + Dispatchers.Default + CoroutineName("chat-message-send"))
+    private val inFlight = Semaphore(chatMessageSendProperties.maxInFlight)
+    private val sessionTails = ConcurrentHashMap<String, Job>()
+
+    /**
+     * 클라이언트가 전송한 채팅 메시지를 `pennyway.socket.chat.send.mode` 설정에 따라 처리한다.
+     * ASYNC 모드에서는 [executeAsync]를 코루틴으로 실행하고 즉시 반환하므로, 처리 중 발생한 예외는 `@MessageExceptionHandler` 대신 이 메서드에서 발신자에게 전달한다.
+     *
+     * ASYNC 모드에서도 같은 세션의 메시지는 이전 메시지의 처리가 끝난 이후에 처리하며, TSID는 코루틴을 시작하기 전에 발급하여 전송 순서와 TSID 순서가 일치하도록 한다.
+     * 처리 중인 전송이 [ChatMessageSendProperties.getMaxInFlight]에 도달하면, 처리가 끝날 때까지 호출 스레드가 대기한다.
+     *
+     * @param command SendMessageCommand : 채팅 메시지 전송을 위한 Command
+     * @param sessionId String : 메시지를 전송한 STOMP 세션 ID
+     */
+    fun dispatch(command: SendMessageCommand, sessionId: String) {
+        if (chatMessageSendProperties.mode != ChatMessageSendProperties.Mode.ASYNC) {
+            execute(command)
+            return
+        }
+
+        val message = command.toChatMessage(command)
+        inFlight.acquire()
+
+        val job = sessionTails.compute(sessionId) { _, previous ->
+            scope.launch {
+                previous?.join()
+                try {
+                    executeAsync(command, message)
+                } catch (e: CancellationException) {
+                    throw e
+                } catch (e: Exception) {
+                    log.error("채팅 메시지 전송에 실패했습니다. senderId={}, chatRoomId={}", command.senderId(), command.chatRoomId(), e)
+                    sendError(command, e)
+                }
+            }
+        }!!
+
+        // compute 안에서 등록하면, 이미 완료된 작업의 콜백이 같은 key를 다시 갱신하게 되므로 compute 이후에 등록한다.
+        job.invokeOnCompletion {
+            inFlight.release()
+            sessionTails.remove(sessionId, job)
+        }
+    }
+
     /**
      * 채팅 메시지를 전송한다.
+     * `x-message-id` 헤더가 있는 경우, 같은 발신자가 같은 ID로 이미 전송한 메시지는 다시 저장하거나 발행하지 않고 성공 응답만 반환한다.
+     * 저장 이후 발행에 실패하면 저장한 메시지와 중복 확인 키를 철회하여, 클라이언트의 재전송이 성공 응답만 받지 않고 다시 저장되고 발행되도록 한다.
      *
      * @param command SendMessageCommand : 채팅 메시지 전송을 위한 Command
      */
     fun execute(command: SendMessageCommand) {
         val message = command.toChatMessage(command)
-            .let { chatMessageService.create(it) }
+        val originalChatId = save(message, command.clientMessageId())
+
+        if (originalChatId != null) {
+            log.info("중복 전송된 채팅 메시지를 무시합니다. senderId={}, chatRoomId={}, chatId={}", command.senderId(), command.chatRoomId(), originalChatId)
+        } else {
+            try {
+                publish(command, message)
+            } catch (e: Exception) {
+                command.clientMessageId()?.let { revoke(message, it) }
+                throw e
+            }
+        }
+
+        command.senderName?.takeIf { it.isNotBlank() }?.let { senderName ->
+            simpMessagingTemplate.convertAndSendToUser(
+                senderName,
+                "/queue/success",
+                Unit,
+                command.messageIdHeader()
+            )
+        }
+    }
 
+    /**
+     * [execute]의 non-blocking 버전.
+     * 저장은 Redis reactive API로 수행하여 대기 중에 스레드를 점유하지 않는다.
+     * 중복 여부에 따라 발행 여부가 결정되고 재연결 시 보충 조회가 저장된 메시지를 기준으로 하므로, 저장이 끝난 이후에 발행하며,
+     * [execute]와 같이 발행이 끝난 이후에 성공 응답을 보낸다.
+     * 발행에 실패하면 [execute]와 같이 저장한 메시지와 중복 확인 키를 철회하고, 성공 응답은 보내지 않는다.
+     *
+     * @param command SendMessageCommand : 채팅 메시지 전송을 위한 Command
+     */
+    suspend fun executeAsync(command: SendMessageCommand) {
+        executeAsync(command, command.toChatMessage(command))
+    }
+
+    private suspend fun executeAsync(command: SendMessageCommand, message: ChatMessage) {
+        val originalChatId = saveAsync(message, command.clientMessageId())
+
+        if (originalChatId != null) {
+            log.info("중복 전송된 채팅 메시지를 무시합니다. senderId={}, chatRoomId={}, chatId={}", command.senderId(), command.chatRoomId(), originalChatId)
+        } else {
+            try {
+                withContext(Dispatchers.IO) { publish(command, message) }
+            } catch (e: CancellationException) {
+                throw e
+            } catch (e: Exception) {
+                command.clientMessageId()?.let { revokeAsync(message, it) }
+                throw e
+            }
+        }
+
+        command.senderName?.takeIf { it.isNotBlank() }?.let { senderName ->
+            simpMessagingTemplate.convertAndSendToUser(
+                senderName,
+                "/queue/success",
+                Unit,
+                command.messageIdHeader()
+            )
+        }
+    }
+
+    /**
+     * 처리 중인 전송을 최대 [SHUTDOWN_TIMEOUT_MILLIS] 동안 기다린 뒤 남은 작업을 취소한다.
+     */
+    override fun destroy() {
+        runBlocking {
+            withTimeoutOrNull(SHUTDOWN_TIMEOUT_MILLIS) {
+                scope.coroutineContext[Job]?.children?.toList()?.joinAll()
+            }
+        }
+        scope.cancel()
+    }
+
+    /**
+     * @return 이미 저장된 메시지인 경우 해당 메시지의 chatId, 새로 저장한 경우 null
+     */
+    private fun save(message: ChatMessage, clientMessageId: String?): Long? {
+        if (clientMessageId == null) {
+            chatMessageService.create(message)
+            return null
+        }
+
+        return chatMessageService.createIfAbsent(message, clientMessageId, chatMessageSendProperties.dedupeTtl).orElse(null)
+    }
+
+    /**
+     * @return 이미 저장된 메시지인 경우 해당 메시지의 chatId, 새로 저장한 경우 null
+     */
+    private suspend fun saveAsync(message: ChatMessage, clientMessageId: String?): Long? {
+        if (clientMessageId == null) {
+            chatMessageService.createAsync(message).awaitSingle()
+            return null
+        }
+
+        return chatMessageService.createIfAbsentAsync(message, clientMessageId, chatMessageSendProperties.dedupeTtl).awaitSingleOrNull()
+    }
+
+    private fun publish(command: SendMessageCommand, message: ChatMessage) {
         with(chatExchangeProperties) {
             messageBrokerAdapter.convertAndSend(
                 exchange,
@@ -37,12 +196,35 @@ class ChatMessageSendService(
                 command.headers
             )
         }
+    }
+
+    /**
+     * 철회에 실패하면 재전송은 성공 응답만 받으며, 수신자는 재연결 시 보충 조회로 메시지를 받는다.
+     */
+    private fun revoke(message: ChatMessage, clientMessageId: String) {
+        try {
+            chatMessageService.revoke(message, clientMessageId)
+        } catch (e: Exception) {
+            log.error("발행에 실패한 채팅 메시지를 철회하지 못했습니다. chatRoomId={}, chatId={}", message.chatRoomId, message.chatId, e)
+        }
+    }
 
+    private suspend fun revokeAsync(message: ChatMessage, clientMessageId: String) {
+        try {
+            chatMessageService.revokeAsync(message, clientMessageId).awaitSingleOrNull()
+        } catch (e: CancellationException) {
+            throw e
+        } catch (e: Exception) {
+            log.error("발행에 실패한 채팅 메시지를 철회하지 못했습니다. chatRoomId={}, chatId={}", message.chatRoomId, message.chatId, e)
+        }
+    }
+
+    private fun sendError(command: SendMessageCommand, e: Exception) {
         command.senderName?.takeIf { it.isNotBlank() }?.let { senderName ->
             simpMessagingTemplate.convertAndSendToUser(
                 senderName,
-                "/queue/success",
-                Unit,
+                "/queue/errors",
+                ServerSideMessage.of("5000", e.message ?: e.javaClass.simpleName),
                 command.messageIdHeader()
             )
         }
@@ -56,4 +238,4 @@ class ChatMessageSendService(
         .categoryType(command.categoryType())
         .sender(command.senderId())
         .build()
-}
\ No newline at end of file
+}
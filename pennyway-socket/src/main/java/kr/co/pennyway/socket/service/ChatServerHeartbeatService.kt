@@ -0,0 +1,97 @@
+package kr.co.pennyway.socket.service
+
+import kr.co.pennyway.infra.client.coordinator.ChatServerHeartbeatRepository
+import kr.co.pennyway.infra.client.coordinator.ChatServerStatus
+import kr.co.pennyway.socket.common.properties.ChatServerHeartbeatProperties
+import kr.co.pennyway.socket.common.util.logger
+import org.springframework.beans.factory.annotation.Qualifier
+import org.springframework.boot.context.properties.EnableConfigurationProperties
+import org.springframework.context.SmartLifecycle
+import org.springframework.context.event.EventListener
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor
+import org.springframework.stereotype.Service
+import org.springframework.web.socket.messaging.SessionConnectedEvent
+import org.springframework.web.socket.messaging.SessionDisconnectEvent
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+
+/**
+ * 현재 노드의 부하 상태를 주기적으로 Redis에 보고한다.
+ *
+ * 연결된 STOMP 세션 수와 clientInboundChannel에서 처리를 기다리는 메시지 수를 [ChatServerHeartbeatProperties.getInterval] 주기로 저장하며,
+ * API 서버는 이를 바탕으로 가장 부하가 적은 노드를 클라이언트에게 안내한다.
+ * DISCONNECT는 세션 당 두 번 이상 발생할 수 있으므로, 세션 ID 집합으로 연결 수를 센다.
+ * 보고는 웹 서버가 연결을 받을 수 있게 된 이후 [SmartLifecycle.start]에서 시작하며, 종료 시에는 웹 서버보다 먼저 중단한다.
+ */
+@Service
+@EnableConfigurationProperties(ChatServerHeartbeatProperties::class)
+class ChatServerHeartbeatService(
+    private val chatServerHeartbeatRepository: ChatServerHeartbeatRepository,
+    private val chatServerHeartbeatProperties: ChatServerHeartbeatProperties,
+    @Qualifier("clientInboundChannelExecutor") private val clientInboundChannelExecutor: ThreadPoolTaskExecutor
+) : SmartLifecycle {
+    private val log = logger()
+    private val sessionIds = ConcurrentHashMap.newKeySet<String>()
+
+    @Volatile
+    private var scheduler: ScheduledExecutorService? = null
+
+    override fun start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(CustomizableThreadFactory("chat-server-heartbeat-")).also {
+            it.scheduleWithFixedDelay(::publish, 0, chatServerHeartbeatProperties.interval.toMillis(), TimeUnit.MILLISECONDS)
+        }
+    }
+
+    override fun isRunning(): Boolean = scheduler != null
+
+    @EventListener
+    fun handleConnected(event: SessionConnectedEvent) {
+        StompHeaderAccessor.wrap(event.message).sessionId?.let { sessionIds.add(it) }
+    }
+
+    @EventListener
+    fun handleDisconnect(event: SessionDisconnectEvent) {
+        sessionIds.remove(event.sessionId)
+    }
+
+    fun publish() {
+        val status = ChatServerStatus.of(
+            chatServerHeartbeatProperties.advertisedUrl,
+            sessionIds.size,
+            inboundQueueDepth(),
+            chatServerHeartbeatProperties.weight,
+            System.currentTimeMillis()
+        )
+
+        try {
+            chatServerHeartbeatRepository.save(status)
+        } catch (e: Exception) {
+            log.error("채팅 서버 heartbeat 저장 실패: status={}", status, e)
+        }
+    }
+
+    private fun inboundQueueDepth(): Int =
+        runCatching { clientInboundChannelExecutor.threadPoolExecutor.queue.size }.getOrDefault(0)
+
+    /**
+     * 종료되는 노드로 새로운 연결이 안내되지 않도록, TTL 만료를 기다리지 않고 heartbeat를 제거한다.
+     * 진행 중인 보고가 제거 이후에 다시 저장하지 않도록, 보고가 끝나기를 기다린 후 제거한다.
+     */
+    override fun stop() {
+        scheduler?.let {
+            it.shutdownNow()
+            it.awaitTermination(chatServerHeartbeatProperties.interval.toMillis(), TimeUnit.MILLISECONDS)
+        }
+        scheduler = null
+
+        try {
+            chatServerHeartbeatRepository.delete(chatServerHeartbeatProperties.advertisedUrl)
+        } catch (e: Exception) {
+            log.warn("채팅 서버 heartbeat 제거 실패: url={}", chatServerHeartbeatProperties.advertisedUrl, e)
+        }
+    }
+}
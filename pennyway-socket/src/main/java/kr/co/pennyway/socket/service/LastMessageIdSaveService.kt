@@ -1,11 +1,80 @@
-package kr.co.pennyway.socket.service;
+package kr.co.pennyway.socket.service
 
 import kr.co.pennyway.domain.context.chat.service.ChatMessageStatusService
+import kr.co.pennyway.domain.domains.chatstatus.dto.ChatMessageStatusKey
+import kr.co.pennyway.socket.common.properties.ReadReceiptProperties
+import kr.co.pennyway.socket.common.util.logger
+import org.springframework.beans.factory.DisposableBean
+import org.springframework.boot.context.properties.EnableConfigurationProperties
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory
 import org.springframework.stereotype.Service
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
 
+/**
+ * 사용자가 마지막으로 읽은 메시지 ID를 저장한다.
+ *
+ * 읽음 처리는 메시지를 스크롤하는 동안 짧은 간격으로 연속해서 발생하므로, (사용자, 채팅방) 단위로 가장 큰 메시지 ID만 모아두었다가
+ * [ReadReceiptProperties.getFlushInterval] 주기로 한 번만 저장한다.
+ * 한 주기에 모인 읽음 처리는 키 개수와 무관하게 파이프라인으로 한 번에 저장한다.
+ * 병합 중인 값은 노드가 비정상 종료되면 유실될 수 있으나, 다음 읽음 처리에서 다시 갱신되므로 허용한다.
+ */
 @Service
-class LastMessageIdSaveService(private val chatMessageStatusService: ChatMessageStatusService) {
+@EnableConfigurationProperties(ReadReceiptProperties::class)
+class LastMessageIdSaveService(
+    private val chatMessageStatusService: ChatMessageStatusService,
+    private val readReceiptProperties: ReadReceiptProperties
+) : DisposableBean {
+    private val log = logger()
+    private val pending = ConcurrentHashMap<ChatMessageStatusKey, Long>()
+    private val scheduler: ScheduledExecutorService? = if (readReceiptProperties.isCoalescingEnabled) {
+        Executors.newSingleThreadScheduledExecutor(CustomizableThreadFactory("read-receipt-flush-")).also {
+            val interval = readReceiptProperties.flushInterval.toMillis()
+            it.scheduleWithFixedDelay(::flush, interval, interval, TimeUnit.MILLISECONDS)
+        }
+    } else {
+        null
+    }
+
     fun execute(userId: Long, chatRoomId: Long, lastReadMessageId: Long) {
-        chatMessageStatusService.saveLastReadMessageId(userId, chatRoomId, lastReadMessageId)
+        if (scheduler == null) {
+            chatMessageStatusService.saveLastReadMessageId(userId, chatRoomId, lastReadMessageId)
+            return
+        }
+
+        require(lastReadMessageId > 0) { "Invalid lastReadMessageId: $lastReadMessageId" }
+
+        pending.merge(ChatMessageStatusKey.of(userId, chatRoomId), lastReadMessageId, ::maxOf)
+    }
+
+    /**
+     * 병합된 읽음 처리를 저장한다.
+     * 저장 중 새로 들어온 읽음 처리는 다음 주기에 저장된다.
+     */
+    fun flush() {
+        val batch = HashMap<ChatMessageStatusKey, Long>()
+        for (key in pending.keys) {
+            pending.remove(key)?.let { batch[key] = it }
+        }
+
+        if (batch.isEmpty()) {
+            return
+        }
+
+        try {
+            chatMessageStatusService.saveLastReadMessageIds(batch)
+        } catch (e: Exception) {
+            log.error("마지막으로 읽은 메시지 ID 저장 실패: size={}, lastReadMessageIds={}", batch.size, batch, e)
+        }
+    }
+
+    override fun destroy() {
+        scheduler?.let {
+            it.shutdown()
+            it.awaitTermination(readReceiptProperties.flushInterval.toMillis(), TimeUnit.MILLISECONDS)
+        }
+        flush()
     }
 }
@@ -0,0 +1,98 @@
+package kr.co.pennyway.socket.common.ratelimit
+
+import kr.co.pennyway.socket.common.properties.RateLimitProperties
+import kr.co.pennyway.socket.common.properties.RateLimitProperties.Bandwidth
+import kr.co.pennyway.socket.common.properties.RateLimitProperties.Rule
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.Test
+import java.util.concurrent.TimeUnit
+
+class StompRateLimiterTest {
+    private var now = 0L
+
+    private val limiter = StompRateLimiter(
+        RateLimitProperties(
+            true,
+            listOf(
+                Rule("chat.message.*", Bandwidth(2, 1.0), Bandwidth(3, 1.0)),
+                Rule("status.me", Bandwidth(1, 1.0), Bandwidth(1, 1.0))
+            )
+        ),
+        "/pub",
+        { now }
+    )
+
+    @AfterEach
+    fun tearDown() {
+        limiter.destroy()
+    }
+
+    @Test
+    fun `세션 bucket의 토큰을 모두 소비하면 요청을 거부하고, 시간이 지나면 다시 허용한다`() {
+        // when
+        val results = List(3) { limiter.tryAcquire("session-1", "1", "/pub/chat.message.10") }
+        now += TimeUnit.SECONDS.toNanos(1)
+        val afterRefill = limiter.tryAcquire("session-1", "1", "/pub/chat.message.10")
+
+        // then
+        assertEquals(listOf(true, true, false), results)
+        assertTrue(afterRefill)
+    }
+
+    @Test
+    fun `같은 사용자의 여러 세션은 사용자 bucket을 공유한다`() {
+        // when
+        val first = List(2) { limiter.tryAcquire("session-1", "1", "/pub/chat.message.10") }
+        val second = List(2) { limiter.tryAcquire("session-2", "1", "/pub/chat.message.10") }
+        val otherUser = limiter.tryAcquire("session-3", "2", "/pub/chat.message.10")
+
+        // then
+        assertEquals(listOf(true, true), first)
+        assertEquals(listOf(true, false), second)
+        assertTrue(otherUser)
+    }
+
+    @Test
+    fun `destination 패턴마다 별도의 bucket을 사용하고, 일치하는 규칙이 없으면 제한하지 않는다`() {
+        // when
+        val status = List(2) { limiter.tryAcquire("session-1", "1", "/pub/status.me") }
+        val message = limiter.tryAcquire("session-1", "1", "/pub/chat.message.10")
+        val unmatched = List(10) { limiter.tryAcquire("session-1", "1", "/pub/chat.message.10.read.100") }
+
+        // then
+        assertEquals(listOf(true, false), status)
+        assertTrue(message)
+        assertTrue(unmatched.all { it })
+    }
+
+    @Test
+    fun `연결이 종료된 세션의 bucket은 제거된다`() {
+        // given
+        repeat(2) { limiter.tryAcquire("session-1", "1", "/pub/status.me") }
+
+        // when
+        limiter.removeSession("session-1")
+        now += TimeUnit.SECONDS.toNanos(1)
+
+        // then
+        assertTrue(limiter.tryAcquire("session-1", "1", "/pub/status.me"))
+    }
+
+    @Test
+    fun `토큰이 가득 찬 사용자 bucket은 주기적으로 제거된다`() {
+        // given
+        limiter.tryAcquire("session-1", "1", "/pub/chat.message.10")
+        limiter.tryAcquire("session-2", "2", "/pub/chat.message.10")
+        limiter.sweep()
+        val beforeRefill = limiter.userBucketCount()
+
+        // when
+        now += TimeUnit.SECONDS.toNanos(1)
+        limiter.sweep()
+
+        // then
+        assertEquals(2, beforeRefill)
+        assertEquals(0, limiter.userBucketCount())
+    }
+}
@@ -0,0 +1,194 @@
+package kr.co.pennyway.socket.common.registry
+
+import kr.co.pennyway.domain.context.chat.service.ChatMemberService
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.mockito.ArgumentMatchers.anyLong
+import org.mockito.Mockito.*
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicLong
+
+class ChatRoomMembershipCacheTest {
+    private val ttl = Duration.ofSeconds(10)
+    private val clock = AtomicLong()
+    private val chatMemberService: ChatMemberService = mock(ChatMemberService::class.java)
+    private val cache = ChatRoomMembershipCache(chatMemberService, ttl) { clock.get() }
+
+    @Test
+    fun `CONNECT 시점에 조회한 참여 채팅방은 RDB를 조회하지 않고 허용한다`() {
+        // given
+        `when`(chatMemberService.readChatRoomIdsByUserId(1L)).thenReturn(setOf(10L, 20L))
+        cache.register(1L, "session-1")
+
+        // when
+        val result = cache.isMember(10L, 1L)
+
+        // then
+        assertTrue(result)
+        verify(chatMemberService, never()).isExists(anyLong(), anyLong())
+    }
+
+    @Test
+    fun `같은 사용자의 두 번째 세션은 참여 채팅방을 다시 조회하지 않는다`() {
+        // given
+        `when`(chatMemberService.readChatRoomIdsByUserId(1L)).thenReturn(setOf(10L))
+
+        // when
+        cache.register(1L, "session-1")
+        cache.register(1L, "session-2")
+
+        // then
+        verify(chatMemberService, times(1)).readChatRoomIdsByUserId(1L)
+    }
+
+    @Test
+    fun `캐시에 없는 채팅방은 RDB에서 확인한 후 캐싱한다`() {
+        // given
+        `when`(chatMemberService.readChatRoomIdsByUserId(1L)).thenReturn(setOf())
+        `when`(chatMemberService.isExists(10L, 1L)).thenReturn(true)
+        cache.register(1L, "session-1")
+
+        // when
+        cache.isMember(10L, 1L)
+        cache.isMember(10L, 1L)
+
+        // then
+        verify(chatMemberService, times(1)).isExists(10L, 1L)
+    }
+
+    @Test
+    fun `퇴장하거나 삭제된 채팅방은 캐시에서 제거되어 RDB에서 다시 확인한다`() {
+        // given
+        `when`(chatMemberService.readChatRoomIdsByUserId(1L)).thenReturn(setOf(10L, 20L))
+        cache.register(1L, "session-1")
+
+        // when
+        cache.leave(10L, 1L)
+        cache.deleteChatRoom(20L)
+
+        // then
+        assertFalse(cache.isMember(10L, 1L))
+        assertFalse(cache.isMember(20L, 1L))
+        verify(chatMemberService).isExists(10L, 1L)
+        verify(chatMemberService).isExists(20L, 1L)
+    }
+
+    @Test
+    fun `마지막 세션이 종료되면 캐시를 제거한다`() {
+        // given
+        `when`(chatMemberService.readChatRoomIdsByUserId(1L)).thenReturn(setOf(10L))
+        cache.register(1L, "session-1")
+        cache.register(1L, "session-2")
+
+        // when
+        cache.unregister(1L, "session-1")
+        cache.unregister(1L, "session-1")
+        val stillCached = cache.isMember(10L, 1L)
+        cache.unregister(1L, "session-2")
+        cache.isMember(10L, 1L)
+
+        // then
+        assertTrue(stillCached)
+        verify(chatMemberService, times(1)).isExists(10L, 1L)
+    }
+
+    @Test
+    fun `ttl이 지난 참여 채팅방은 RDB에서 다시 확인하고, 참여 중이 아니면 거부한다`() {
+        // given
+        `when`(chatMemberService.readChatRoomIdsByUserId(1L)).thenReturn(setOf(10L))
+        `when`(chatMemberService.isExists(10L, 1L)).thenReturn(false)
+        cache.register(1L, "session-1")
+        clock.addAndGet(ttl.toNanos() - 1)
+        val beforeExpiry = cache.isMember(10L, 1L)
+
+        // when
+        clock.addAndGet(1)
+        val afterExpiry = cache.isMember(10L, 1L)
+
+        // then
+        assertTrue(beforeExpiry)
+        assertFalse(afterExpiry)
+        verify(chatMemberService, times(1)).isExists(10L, 1L)
+    }
+
+    @Test
+    fun `참여 중이 아닌 결과는 캐싱하지 않는다`() {
+        // given
+        `when`(chatMemberService.readChatRoomIdsByUserId(1L)).thenReturn(setOf())
+        `when`(chatMemberService.isExists(10L, 1L)).thenReturn(false)
+        cache.register(1L, "session-1")
+
+        // when
+        cache.isMember(10L, 1L)
+        cache.isMember(10L, 1L)
+
+        // then
+        verify(chatMemberService, times(2)).isExists(10L, 1L)
+    }
+
+    @Test
+    fun `RDB 조회 중에 퇴장 이벤트가 반영되면 조회 결과를 캐싱하지 않는다`() {
+        // given
+        `when`(chatMemberService.readChatRoomIdsByUserId(1L)).thenReturn(setOf())
+        `when`(chatMemberService.isExists(10L, 1L)).thenAnswer {
+            cache.leave(10L, 1L)
+            true
+        }
+        cache.register(1L, "session-1")
+
+        // when
+        cache.isMember(10L, 1L)
+        cache.isMember(10L, 1L)
+
+        // then
+        verify(chatMemberService, times(2)).isExists(10L, 1L)
+    }
+
+    @Test
+    fun `참여 채팅방 목록을 조회하는 중에 퇴장 이벤트가 반영되면 조회 결과를 캐싱하지 않는다`() {
+        // given
+        `when`(chatMemberService.readChatRoomIdsByUserId(1L)).thenAnswer {
+            cache.leave(10L, 1L)
+            setOf(10L)
+        }
+        `when`(chatMemberService.isExists(10L, 1L)).thenReturn(false)
+
+        // when
+        cache.register(1L, "session-1")
+        val result = cache.isMember(10L, 1L)
+
+        // then
+        assertFalse(result)
+        verify(chatMemberService).isExists(10L, 1L)
+    }
+
+    @Test
+    fun `참여 채팅방 목록 조회에 실패하면 세션 등록을 되돌린다`() {
+        // given
+        `when`(chatMemberService.readChatRoomIdsByUserId(1L)).thenThrow(IllegalStateException("db down"))
+        `when`(chatMemberService.isExists(10L, 1L)).thenReturn(true)
+
+        // when
+        assertThrows(IllegalStateException::class.java) { cache.register(1L, "session-1") }
+        cache.isMember(10L, 1L)
+        cache.isMember(10L, 1L)
+
+        // then
+        verify(chatMemberService, times(2)).isExists(10L, 1L)
+    }
+
+    @Test
+    fun `세션이 없는 사용자는 캐싱하지 않고 RDB에서 확인한다`() {
+        // given
+        `when`(chatMemberService.isExists(10L, 1L)).thenReturn(true)
+
+        // when
+        cache.isMember(10L, 1L)
+        cache.isMember(10L, 1L)
+
+        // then
+        verify(chatMemberService, times(2)).isExists(10L, 1L)
+    }
+}
@@ -0,0 +1,186 @@
+package kr.co.pennyway.socket.common.registry
+
+import kr.co.pennyway.infra.client.coordinator.ChatServerHeartbeatRepository
+import kr.co.pennyway.infra.client.coordinator.ChatServerStatus
+import kr.co.pennyway.infra.client.coordinator.UserSessionNodeRepository
+import kr.co.pennyway.socket.common.properties.ChatServerHeartbeatProperties
+import kr.co.pennyway.socket.common.properties.UserRegistryProperties
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.Test
+import org.mockito.Mockito.*
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor
+import org.springframework.messaging.simp.SimpMessageType
+import org.springframework.messaging.simp.user.DefaultSimpUserRegistry
+import org.springframework.messaging.support.MessageBuilder
+import org.springframework.web.socket.CloseStatus
+import org.springframework.web.socket.messaging.SessionConnectedEvent
+import org.springframework.web.socket.messaging.SessionDisconnectEvent
+import java.security.Principal
+import java.time.Duration
+
+class RedisSimpUserRegistryTest {
+    private val userSessionNodeRepository: UserSessionNodeRepository = mock(UserSessionNodeRepository::class.java)
+    private val chatServerHeartbeatRepository: ChatServerHeartbeatRepository = mock(ChatServerHeartbeatRepository::class.java)
+    private val userSessionLocator = UserSessionLocator(
+        userSessionNodeRepository,
+        chatServerHeartbeatRepository,
+        UserRegistryProperties("node-a", Duration.ofMinutes(1)),
+        ChatServerHeartbeatProperties("ws://localhost:8081/ws", Duration.ofMinutes(1), 1)
+    )
+    private val registry = RedisSimpUserRegistry(DefaultSimpUserRegistry(), userSessionLocator)
+
+    @AfterEach
+    fun tearDown() {
+        userSessionLocator.stop()
+    }
+
+    @Test
+    fun `세션이 연결되면 현재 노드의 세션으로 Redis에 기록한다`() {
+        // when
+        registry.onApplicationEvent(connected("1", "session-1"))
+
+        // then
+        verify(userSessionNodeRepository).save("1", "session-1", "node-a")
+        assertTrue(userSessionLocator.isLocal("session-1"))
+        assertEquals(setOf("session-1"), registry.getUser("1")!!.sessions.map { it.id }.toSet())
+    }
+
+    @Test
+    fun `다른 노드에 연결된 세션을 함께 반환한다`() {
+        // given
+        `when`(userSessionNodeRepository.findAll("1")).thenReturn(mapOf("session-1" to "node-a", "session-2" to "node-b"))
+        registry.onApplicationEvent(connected("1", "session-1"))
+
+        // when
+        val user = registry.getUser("1")
+
+        // then
+        assertEquals(setOf("session-1", "session-2"), user!!.sessions.map { it.id }.toSet())
+        assertNull(userSessionLocator.findRemoteNode("session-1"))
+        assertEquals("node-b", userSessionLocator.findRemoteNode("session-2"))
+    }
+
+    @Test
+    fun `다른 노드에만 연결된 사용자도 조회할 수 있다`() {
+        // given
+        `when`(userSessionNodeRepository.findAll("2")).thenReturn(mapOf("session-3" to "node-b"))
+
+        // when
+        val user = registry.getUser("2")
+
+        // then
+        assertNotNull(user)
+        assertTrue(user!!.hasSessions())
+        assertNotNull(user.getSession("session-3"))
+    }
+
+    @Test
+    fun `다른 노드의 세션 목록은 캐싱하여 Redis를 반복 조회하지 않는다`() {
+        // given
+        `when`(userSessionNodeRepository.findAll("1")).thenReturn(mapOf())
+        registry.onApplicationEvent(connected("1", "session-1"))
+
+        // when
+        repeat(3) { registry.getUser("1") }
+
+        // then
+        verify(userSessionNodeRepository, times(1)).findAll("1")
+    }
+
+    @Test
+    fun `Redis 조회에 실패하면 현재 노드의 세션만 반환한다`() {
+        // given
+        `when`(userSessionNodeRepository.findAll("1")).thenThrow(IllegalStateException("redis down"))
+        registry.onApplicationEvent(connected("1", "session-1"))
+
+        // when
+        val user = registry.getUser("1")
+
+        // then
+        assertEquals(setOf("session-1"), user!!.sessions.map { it.id }.toSet())
+    }
+
+    @Test
+    fun `다른 노드가 없으면 현재 노드에 세션이 있는 사용자는 Redis를 조회하지 않는다`() {
+        // given
+        `when`(chatServerHeartbeatRepository.findAll()).thenReturn(listOf(status("ws://localhost:8081/ws")))
+        registry.onApplicationEvent(connected("1", "session-1"))
+        userSessionLocator.refresh()
+
+        // when
+        val user = registry.getUser("1")
+
+        // then
+        assertEquals(setOf("session-1"), user!!.sessions.map { it.id }.toSet())
+        verify(userSessionNodeRepository, never()).findAll("1")
+    }
+
+    @Test
+    fun `다른 노드가 없더라도 현재 노드에 세션이 없는 사용자는 Redis를 조회한다`() {
+        // given
+        `when`(chatServerHeartbeatRepository.findAll()).thenReturn(listOf(status("ws://localhost:8081/ws")))
+        `when`(userSessionNodeRepository.findAll("2")).thenReturn(mapOf("session-3" to "node-b"))
+        userSessionLocator.refresh()
+
+        // when
+        val user = registry.getUser("2")
+
+        // then
+        assertNotNull(user!!.getSession("session-3"))
+    }
+
+    @Test
+    fun `현재 노드의 세션 TTL은 한 번의 pipeline으로 갱신한다`() {
+        // given
+        `when`(chatServerHeartbeatRepository.findAll()).thenReturn(listOf(status("ws://localhost:8081/ws"), status("ws://localhost:8082/ws")))
+        registry.onApplicationEvent(connected("1", "session-1"))
+        registry.onApplicationEvent(connected("2", "session-2"))
+
+        // when
+        userSessionLocator.refresh()
+
+        // then
+        verify(userSessionNodeRepository).saveAll(mapOf("session-1" to "1", "session-2" to "2"), "node-a")
+        assertTrue(userSessionLocator.hasRemoteNodes())
+    }
+
+    @Test
+    fun `종료 시 Redis의 세션은 제거하되, 연결이 끊기기 전까지 현재 노드의 세션으로 유지한다`() {
+        // given
+        registry.onApplicationEvent(connected("1", "session-1"))
+
+        // when
+        userSessionLocator.stop()
+
+        // then
+        verify(userSessionNodeRepository).delete("1", "session-1")
+        assertTrue(userSessionLocator.isLocal("session-1"))
+    }
+
+    @Test
+    fun `세션이 종료되면 Redis에서 한 번만 제거한다`() {
+        // given
+        registry.onApplicationEvent(connected("1", "session-1"))
+
+        // when
+        registry.onApplicationEvent(disconnected("1", "session-1"))
+        registry.onApplicationEvent(disconnected("1", "session-1"))
+
+        // then
+        verify(userSessionNodeRepository, times(1)).delete("1", "session-1")
+        assertFalse(userSessionLocator.isLocal("session-1"))
+    }
+
+    private fun status(url: String): ChatServerStatus = ChatServerStatus.of(url, 0, 0, 1, System.currentTimeMillis())
+
+    private fun connected(userName: String, sessionId: String): SessionConnectedEvent {
+        val accessor = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT_ACK).apply { this.sessionId = sessionId }
+        return SessionConnectedEvent(this, MessageBuilder.createMessage(ByteArray(0), accessor.messageHeaders), Principal { userName })
+    }
+
+    private fun disconnected(userName: String, sessionId: String): SessionDisconnectEvent {
+        val accessor = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT).apply { this.sessionId = sessionId }
+        return SessionDisconnectEvent(this, MessageBuilder.createMessage(ByteArray(0), accessor.messageHeaders), sessionId, CloseStatus.NORMAL, Principal { userName })
+    }
+}
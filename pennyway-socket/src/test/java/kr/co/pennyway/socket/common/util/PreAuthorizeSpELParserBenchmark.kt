@@ -0,0 +1,135 @@
+package kr.co.pennyway.socket.common.util
+
+import kr.co.pennyway.domain.domains.user.type.Role
+import kr.co.pennyway.socket.common.security.authenticate.UserPrincipal
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Disabled
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.TestInstance
+import org.springframework.expression.BeanResolver
+import org.springframework.expression.spel.standard.SpelExpressionParser
+import org.springframework.expression.spel.support.StandardEvaluationContext
+import java.security.Principal
+import java.time.LocalDateTime
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * 전역 잠금 + 매 호출 파싱 방식(기존)과, 사전 파싱 + 호출 별 EvaluationContext 방식(현재)의 처리량을 비교합니다.
+ * chat.message.{chatRoomId} 전송 시 평가되는 표현식을 inbound channel 스레드 수만큼 동시에 평가합니다.
+ */
+@Disabled
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PreAuthorizeSpELParserBenchmark {
+    companion object {
+        private const val EXPRESSION =
+            "#isAuthenticated(#principal) and @chatRoomAccessChecker.hasPermission(#chatRoomId, #principal)"
+        private const val WARMUP_MILLIS = 2_000L
+        private const val MEASURE_MILLIS = 5_000L
+        private val THREAD_COUNTS = listOf(1, 4, 8, 16)
+    }
+
+    private val parameterNames = arrayOf("chatRoomId", "payload", "principal", "messageId")
+    private val principal = UserPrincipal(
+        userId = 1L,
+        _name = "test",
+        username = "jayang",
+        role = Role.USER,
+        isChatNotify = true,
+        expiresAt = LocalDateTime.now().plusDays(1),
+        deviceId = "deviceId",
+        deviceName = "deviceName"
+    )
+    private val args: Array<Any?> = arrayOf(1L, "payload", principal, "messageId")
+    private val chatRoomAccessChecker = MockChatRoomAccessChecker()
+    private val beanResolver = BeanResolver { _, name ->
+        when (name) {
+            "chatRoomAccessChecker" -> chatRoomAccessChecker
+            else -> throw IllegalArgumentException(name)
+        }
+    }
+
+    @Test
+    fun `처리량 비교 - 전역 잠금 vs 사전 파싱`() {
+        val compiled = PreAuthorizeSpELParser.compile(EXPRESSION)
+        val legacy = LegacyParser()
+
+        assertEquals(PreAuthorizeSpELParser.EvaluationResult.Permitted, PreAuthorizeSpELParser.evaluate(compiled, parameterNames, args, beanResolver))
+        assertEquals(true, legacy.evaluate(EXPRESSION, parameterNames, args, beanResolver))
+
+        THREAD_COUNTS.forEach { threads ->
+            val legacyOps = measureThroughput(threads) { legacy.evaluate(EXPRESSION, parameterNames, args, beanResolver) }
+            val compiledOps = measureThroughput(threads) { PreAuthorizeSpELParser.evaluate(compiled, parameterNames, args, beanResolver) }
+
+            println(
+                """
+                |스레드 수: $threads
+                |기존 (synchronized + parse): ${legacyOps} ops/s
+                |현재 (compiled + context per call): ${compiledOps} ops/s
+                |개선율: ${"%.2f".format(compiledOps.toDouble() / legacyOps)}x
+                |===================================
+            """.trimMargin()
+            )
+        }
+    }
+
+    private fun measureThroughput(threads: Int, block: () -> Any?): Long {
+        run(threads, WARMUP_MILLIS, block)
+        return run(threads, MEASURE_MILLIS, block) * 1000 / MEASURE_MILLIS
+    }
+
+    private fun run(threads: Int, millis: Long, block: () -> Any?): Long {
+        val executor = Executors.newFixedThreadPool(threads)
+        val counter = LongAdder()
+        val start = CountDownLatch(1)
+        val deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis) + TimeUnit.MILLISECONDS.toNanos(100)
+
+        repeat(threads) {
+            executor.execute {
+                start.await()
+                while (System.nanoTime() < deadline) {
+                    block()
+                    counter.increment()
+                }
+            }
+        }
+
+        start.countDown()
+        executor.shutdown()
+        executor.awaitTermination(millis * 2, TimeUnit.MILLISECONDS)
+
+        return counter.sum()
+    }
+
+    /**
+     * 개선 이전의 PreAuthorizeSpELParser 평가 방식을 재현합니다.
+     */
+    private class LegacyParser {
+        private val parser = SpelExpressionParser()
+        private val context = StandardEvaluationContext().apply {
+            PreAuthorizeSpELParser.SpELFunction.values().forEach { function ->
+                registerFunction(
+                    function.level,
+                    PreAuthorizeSpELParser::class.java.getDeclaredMethod(function.methodName, *function.parameterTypes)
+                )
+            }
+        }
+
+        @Synchronized
+        fun evaluate(expression: String, parameterNames: Array<String>, args: Array<Any?>, beanResolver: BeanResolver): Boolean {
+            context.setBeanResolver(beanResolver)
+            parameterNames.forEachIndexed { index, name -> context.setVariable(name, args[index]) }
+
+            val authenticated = parser.parseExpression("#isAuthenticated(#principal)").getValue(context, Boolean::class.java) ?: false
+            val authorized = parser.parseExpression(expression).getValue(context, Boolean::class.java) ?: false
+
+            return authenticated && authorized
+        }
+    }
+
+    class MockChatRoomAccessChecker {
+        fun hasPermission(chatRoomId: Long, principal: Principal): Boolean = chatRoomId == 1L
+    }
+}
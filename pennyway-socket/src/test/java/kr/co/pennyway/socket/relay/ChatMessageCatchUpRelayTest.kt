@@ -0,0 +1,200 @@
+package kr.co.pennyway.socket.relay
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
+import kr.co.pennyway.domain.context.chat.service.ChatMessageService
+import kr.co.pennyway.domain.domains.message.domain.ChatMessage
+import kr.co.pennyway.domain.domains.message.domain.ChatMessageBuilder
+import kr.co.pennyway.domain.domains.message.type.MessageCategoryType
+import kr.co.pennyway.domain.domains.message.type.MessageContentType
+import kr.co.pennyway.infra.common.properties.ChatExchangeProperties
+import kr.co.pennyway.socket.common.properties.ChatCatchUpProperties
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.Test
+import org.mockito.ArgumentMatchers.anyInt
+import org.mockito.ArgumentMatchers.anyLong
+import org.mockito.Mockito.*
+import org.springframework.data.domain.PageRequest
+import org.springframework.data.domain.SliceImpl
+import org.springframework.messaging.Message
+import org.springframework.messaging.MessageChannel
+import org.springframework.messaging.MessageHandler
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor
+import org.springframework.messaging.simp.SimpMessageType
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler
+import org.springframework.messaging.simp.stomp.StompCommand
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor
+import org.springframework.messaging.support.MessageBuilder
+
+class ChatMessageCatchUpRelayTest {
+    private companion object {
+        private const val DESTINATION = "/exchange/chat.exchange/chat.room.1"
+    }
+
+    private val chatMessageService: ChatMessageService = mock(ChatMessageService::class.java)
+    private val inboundChannel: MessageChannel = mock(MessageChannel::class.java)
+    private val brokerHandler: SimpleBrokerMessageHandler = mock(SimpleBrokerMessageHandler::class.java)
+    private val outboundChannel = RecordingChannel()
+
+    private val relay = ChatMessageCatchUpRelay(
+        chatMessageService,
+        ChatExchangeProperties("chat.exchange", "chat.queue", "chat.room.*"),
+        ChatCatchUpProperties(2),
+        ObjectMapper().registerModule(JavaTimeModule()),
+        { MessageHandler { outboundChannel.sent.add(it) } }
+    )
+
+    @Test
+    fun `구독이 브로커에 등록된 이후 놓친 메시지를 오래된 순으로 재전송한다`() {
+        // given
+        `when`(chatMessageService.readLatestMessagesAfter(1L, 100L, 2)).thenReturn(slice(false, message(102L), message(101L)))
+
+        // when
+        subscribe("100")
+
+        // then
+        assertEquals(listOf(101L, 102L), outboundChannel.chatIds())
+        assertTrue(outboundChannel.sent.all { header(it, "catch-up") == "true" && SimpMessageHeaderAccessor.getSubscriptionId(it.headers) == "sub-1" })
+        assertNull(header(outboundChannel.sent.first(), "catch-up-truncated"))
+    }
+
+    @Test
+    fun `놓친 메시지가 최대 개수를 초과하면 첫 번째 재전송 메시지에 표시한다`() {
+        // given
+        `when`(chatMessageService.readLatestMessagesAfter(1L, 100L, 2)).thenReturn(slice(true, message(105L), message(104L)))
+
+        // when
+        subscribe("100")
+
+        // then
+        assertEquals(listOf(104L, 105L), outboundChannel.chatIds())
+        assertEquals("true", header(outboundChannel.sent[0], "catch-up-truncated"))
+        assertNull(header(outboundChannel.sent[1], "catch-up-truncated"))
+    }
+
+    @Test
+    fun `재전송이 끝나기 전에 도착한 실시간 메시지는 재전송 이후에 전달한다`() {
+        // given
+        `when`(chatMessageService.readLatestMessagesAfter(1L, 100L, 2)).thenReturn(slice(false, message(101L)))
+        val subscribe = frame("100")
+        relay.preSend(subscribe, inboundChannel)
+
+        // when
+        outboundChannel.send(live(102L))
+        val heldBeforeReplay = outboundChannel.sent.isEmpty()
+        relay.afterMessageHandled(subscribe, inboundChannel, brokerHandler, null)
+        outboundChannel.send(live(103L))
+
+        // then
+        assertTrue(heldBeforeReplay)
+        assertEquals(listOf(101L, 102L, 103L), outboundChannel.chatIds())
+    }
+
+    @Test
+    fun `재전송 메시지와 보류한 메시지는 clientOutboundChannel을 거치지 않고 세션에 직접 기록한다`() {
+        // given
+        `when`(chatMessageService.readLatestMessagesAfter(1L, 100L, 2)).thenReturn(slice(false, message(101L)))
+        val channel = mock(MessageChannel::class.java)
+        val written = mutableListOf<Message<*>>()
+        val relay = ChatMessageCatchUpRelay(
+            chatMessageService,
+            ChatExchangeProperties("chat.exchange", "chat.queue", "chat.room.*"),
+            ChatCatchUpProperties(2),
+            ObjectMapper().registerModule(JavaTimeModule()),
+            { MessageHandler { written.add(it) } }
+        )
+        val subscribe = frame("100")
+        relay.preSend(subscribe, inboundChannel)
+        val held = relay.preSend(live(102L), channel)
+
+        // when
+        relay.afterMessageHandled(subscribe, inboundChannel, brokerHandler, null)
+
+        // then
+        assertNull(held)
+        assertEquals(2, written.size)
+        verifyNoInteractions(channel)
+    }
+
+    @Test
+    fun `last-message-id 헤더가 없으면 재전송하지 않는다`() {
+        // when
+        subscribe(null)
+        outboundChannel.send(live(102L))
+
+        // then
+        verify(chatMessageService, never()).readLatestMessagesAfter(anyLong(), anyLong(), anyInt())
+        assertEquals(listOf(102L), outboundChannel.chatIds())
+    }
+
+    @Test
+    fun `재전송에 실패해도 보류한 실시간 메시지는 전달한다`() {
+        // given
+        `when`(chatMessageService.readLatestMessagesAfter(1L, 100L, 2)).thenThrow(RuntimeException("redis down"))
+        val subscribe = frame("100")
+        relay.preSend(subscribe, inboundChannel)
+        outboundChannel.send(live(102L))
+
+        // when
+        relay.afterMessageHandled(subscribe, inboundChannel, brokerHandler, null)
+
+        // then
+        assertEquals(listOf(102L), outboundChannel.chatIds())
+    }
+
+    private fun subscribe(lastMessageId: String?) {
+        val message = frame(lastMessageId)
+        relay.preSend(message, inboundChannel)
+        relay.afterSendCompletion(message, inboundChannel, true, null)
+        relay.afterMessageHandled(message, inboundChannel, brokerHandler, null)
+    }
+
+    private fun frame(lastMessageId: String?): Message<ByteArray> {
+        val accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE)
+        accessor.sessionId = "session-1"
+        accessor.subscriptionId = "sub-1"
+        accessor.destination = DESTINATION
+        lastMessageId?.let { accessor.addNativeHeader("last-message-id", it) }
+        accessor.setLeaveMutable(true)
+
+        return MessageBuilder.createMessage(ByteArray(0), accessor.messageHeaders)
+    }
+
+    private fun live(chatId: Long): Message<ByteArray> {
+        val accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE)
+        accessor.sessionId = "session-1"
+        accessor.subscriptionId = "sub-1"
+        accessor.destination = DESTINATION
+        accessor.setLeaveMutable(true)
+
+        return MessageBuilder.createMessage("""{"chatId":$chatId}""".toByteArray(), accessor.messageHeaders)
+    }
+
+    private fun message(chatId: Long): ChatMessage = ChatMessageBuilder.builder()
+        .chatRoomId(1L)
+        .chatId(chatId)
+        .content("message $chatId")
+        .contentType(MessageContentType.TEXT)
+        .categoryType(MessageCategoryType.NORMAL)
+        .sender(2L)
+        .build()
+
+    private fun slice(hasNext: Boolean, vararg messages: ChatMessage) = SliceImpl(messages.toList(), PageRequest.of(0, 2), hasNext)
+
+    private fun header(message: Message<*>, name: String): String? = SimpMessageHeaderAccessor.getFirstNativeHeader(name, message.headers)
+
+    /**
+     * clientOutboundChannel과 같이 인터셉터를 거친 메시지와, 세션에 직접 기록된 메시지를 전달된 순서대로 기록합니다.
+     */
+    private inner class RecordingChannel : MessageChannel {
+        val sent = mutableListOf<Message<*>>()
+
+        override fun send(message: Message<*>, timeout: Long): Boolean {
+            val intercepted = relay.preSend(message, this) ?: return false
+            sent.add(intercepted)
+            return true
+        }
+
+        fun chatIds(): List<Long> = sent.map { ObjectMapper().readTree(it.payload as ByteArray).get("chatId").asLong() }
+    }
+}
@@ -0,0 +1,61 @@
+package kr.co.pennyway.socket.relay
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import kr.co.pennyway.socket.service.ChatMessageRelayService
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.Test
+import org.mockito.ArgumentMatchers.anyLong
+import org.mockito.ArgumentMatchers.anyString
+import org.mockito.Mockito.*
+import org.springframework.amqp.AmqpRejectAndDontRequeueException
+import org.springframework.amqp.core.MessageBuilder
+
+class ChatMessageRelayEventListenerTest {
+    private val chatMessageRelayService: ChatMessageRelayService = mock(ChatMessageRelayService::class.java)
+    private val meterRegistry = SimpleMeterRegistry()
+    private val listener = ChatMessageRelayEventListener(
+        chatMessageRelayService,
+        ObjectMapper().registerModule(JavaTimeModule()),
+        meterRegistry
+    )
+
+    @Test
+    fun `파티션 큐의 메시지를 릴레이하고 파티션별 처리 시간을 기록한다`() {
+        // when
+        listener.handleSendEvent("chat.queue.0", message("NORMAL"))
+
+        // then
+        verify(chatMessageRelayService).execute(2L, 1L, "hello")
+        assertEquals(1L, meterRegistry.get("chat.relay.processing").tag("partition", "chat.queue.0").timer().count())
+    }
+
+    @Test
+    fun `시스템 메시지는 릴레이하지 않는다`() {
+        // when
+        listener.handleSendEvent("chat.queue.0", message("SYSTEM"))
+
+        // then
+        verify(chatMessageRelayService, never()).execute(anyLong(), anyLong(), anyString())
+    }
+
+    @Test
+    fun `역직렬화할 수 없는 메시지는 재전달하지 않도록 거부한다`() {
+        // given
+        val invalid = MessageBuilder.withBody("not-json".toByteArray()).build()
+
+        // when & then
+        assertThrows(AmqpRejectAndDontRequeueException::class.java) {
+            listener.handleSendEvent("chat.queue.0", invalid)
+        }
+        assertEquals(1L, meterRegistry.get("chat.relay.processing").tag("partition", "chat.queue.0").timer().count())
+    }
+
+    private fun message(categoryType: String) = MessageBuilder.withBody(
+        """
+        {"chatRoomId":1,"chatId":100,"content":"hello","contentType":"TEXT","categoryType":"$categoryType","createdAt":"2025-01-01 00:00:00","senderId":2}
+        """.trimIndent().toByteArray()
+    ).build()
+}
@@ -0,0 +1,156 @@
+package kr.co.pennyway.socket.relay
+
+import kr.co.pennyway.socket.common.util.logger
+import org.junit.jupiter.api.Disabled
+import org.junit.jupiter.api.Test
+import org.springframework.messaging.converter.StringMessageConverter
+import org.springframework.messaging.simp.stomp.StompFrameHandler
+import org.springframework.messaging.simp.stomp.StompHeaders
+import org.springframework.messaging.simp.stomp.StompSession
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler
+import org.springframework.util.MimeTypeUtils
+import org.springframework.web.socket.WebSocketHttpHeaders
+import org.springframework.web.socket.client.standard.StandardWebSocketClient
+import org.springframework.web.socket.messaging.WebSocketStompClient
+import java.lang.reflect.Type
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 실행 중인 소켓 노드 하나에 STOMP 세션을 단계적으로 늘려가며, 노드가 수용할 수 있는 세션 수를 측정합니다.
+ *
+ * 같은 채팅방을 구독한 세션을 [STEP]개씩 추가할 때마다 메시지를 하나 전송하고,
+ * 연결에 실패하거나 [DELIVERY_TIMEOUT_SECONDS]초 안에 [MIN_DELIVERY_RATIO] 미만의 세션만 메시지를 받으면 측정을 종료합니다.
+ * 소켓 서버를 `MESSAGE_BROKER_MODE=relay`, `MESSAGE_BROKER_MODE=multiplexed`로 각각 실행한 뒤 측정하여 결과를 비교합니다.
+ * relay 모드에서는 세션마다 외부 브로커와 연결을 맺으므로, 외부 브로커의 연결 수 제한에 먼저 도달합니다.
+ *
+ * 다음 시스템 프로퍼티로 대상을 지정합니다.
+ * - `load.url`: 소켓 서버 endpoint (기본값 `ws://localhost:8081/ws`)
+ * - `load.token`: 채팅방 멤버의 access token
+ * - `load.chat-room-id`: 구독할 채팅방 ID
+ * - `load.publish-prefix`: 메시지 전송 prefix (기본값 `/pub`)
+ * - `load.max-sessions`: 최대 세션 수 (기본값 20000)
+ */
+@Disabled
+class ChatRoomFanoutLoadTest {
+    private companion object {
+        private val log = logger()
+
+        private const val STEP = 500
+        private const val DELIVERY_TIMEOUT_SECONDS = 10L
+        private const val MIN_DELIVERY_RATIO = 0.99
+    }
+
+    private val url = System.getProperty("load.url", "ws://localhost:8081/ws")
+    private val token = System.getProperty("load.token")
+    private val chatRoomId = System.getProperty("load.chat-room-id", "1")
+    private val publishPrefix = System.getProperty("load.publish-prefix", "/pub")
+    private val maxSessions = System.getProperty("load.max-sessions", "20000").toInt()
+
+    private val sessions = ConcurrentLinkedQueue<StompSession>()
+    private val publishedAt = AtomicLong()
+
+    @Volatile
+    private var pending = CountDownLatch(0)
+    private val latencies = ConcurrentLinkedQueue<Long>()
+
+    @Test
+    fun `노드 하나가 수용할 수 있는 세션 수를 측정한다`() {
+        val client = createClient()
+        var supported = 0
+
+        try {
+            while (sessions.size < maxSessions) {
+                val failures = connect(client, STEP)
+                val deliveryRatio = publishAndMeasure()
+
+                log.info(
+                    """
+                    세션 수: {}
+                    연결 실패: {}
+                    전달 비율: {}
+                    p99 전달 지연: {}ms
+                    ===================================""".trimIndent(),
+                    sessions.size, failures, "%.4f".format(deliveryRatio), percentile(0.99)
+                )
+
+                if (failures > 0 || deliveryRatio < MIN_DELIVERY_RATIO) {
+                    break
+                }
+                supported = sessions.size
+            }
+        } finally {
+            log.info("노드 당 수용 가능한 세션 수: {}", supported)
+            sessions.forEach { runCatching { it.disconnect() } }
+            client.stop()
+        }
+    }
+
+    private fun connect(client: WebSocketStompClient, count: Int): Int {
+        var failures = 0
+
+        repeat(count) {
+            val headers = StompHeaders().apply {
+                add("Authorization", "Bearer $token")
+                add("device-id", "load-test-${sessions.size}")
+                add("device-name", "load-test")
+            }
+
+            runCatching {
+                client.connectAsync(url, WebSocketHttpHeaders(), headers, object : StompSessionHandlerAdapter() {})
+                    .get(5, TimeUnit.SECONDS)
+            }.onSuccess { session ->
+                session.subscribe("/sub/chat.room.$chatRoomId", DeliveryHandler())
+                sessions.add(session)
+            }.onFailure {
+                failures++
+            }
+        }
+
+        return failures
+    }
+
+    private fun publishAndMeasure(): Double {
+        latencies.clear()
+        pending = CountDownLatch(sessions.size)
+
+        val headers = StompHeaders().apply {
+            destination = "$publishPrefix/chat.message.$chatRoomId"
+            contentType = MimeTypeUtils.APPLICATION_JSON
+        }
+        publishedAt.set(System.nanoTime())
+        sessions.first().send(headers, """{"content":"load-test","contentType":"TEXT"}""")
+
+        pending.await(DELIVERY_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+
+        return latencies.size.toDouble() / sessions.size
+    }
+
+    private fun percentile(percentile: Double): Long {
+        val sorted = latencies.sorted()
+        if (sorted.isEmpty()) {
+            return -1
+        }
+
+        return TimeUnit.NANOSECONDS.toMillis(sorted[(Math.ceil(percentile * sorted.size).toInt() - 1).coerceAtLeast(0)])
+    }
+
+    private fun createClient(): WebSocketStompClient =
+        WebSocketStompClient(StandardWebSocketClient()).apply {
+            messageConverter = StringMessageConverter()
+            taskScheduler = ThreadPoolTaskScheduler().apply { poolSize = 4; initialize() }
+            defaultHeartbeat = longArrayOf(25_000, 25_000)
+        }
+
+    private inner class DeliveryHandler : StompFrameHandler {
+        override fun getPayloadType(headers: StompHeaders): Type = String::class.java
+
+        override fun handleFrame(headers: StompHeaders, payload: Any?) {
+            latencies.add(System.nanoTime() - publishedAt.get())
+            pending.countDown()
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package kr.co.pennyway.socket.relay
+
+import kr.co.pennyway.infra.common.properties.ChatExchangeProperties
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTimeoutPreemptively
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.mockito.ArgumentCaptor
+import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.argThat
+import org.mockito.ArgumentMatchers.eq
+import org.mockito.Mockito.*
+import org.springframework.amqp.core.AmqpAdmin
+import org.springframework.amqp.core.AnonymousQueue
+import org.springframework.amqp.core.Binding
+import org.springframework.amqp.core.MessageBuilder as AmqpMessageBuilder
+import org.springframework.amqp.core.TopicExchange
+import org.springframework.amqp.rabbit.connection.ConnectionFactory
+import org.springframework.messaging.Message
+import org.springframework.messaging.MessageChannel
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor
+import org.springframework.messaging.simp.SimpMessagingTemplate
+import org.springframework.messaging.simp.stomp.StompCommand
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor
+import org.springframework.messaging.support.MessageBuilder
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import kotlin.concurrent.thread
+
+class MultiplexedChatRoomRelayTest {
+    private val amqpAdmin: AmqpAdmin = mock(AmqpAdmin::class.java)
+    private val simpMessagingTemplate: SimpMessagingTemplate = mock(SimpMessagingTemplate::class.java)
+    private val channel: MessageChannel = mock(MessageChannel::class.java)
+
+    private val relay = MultiplexedChatRoomRelay(
+        mock(ConnectionFactory::class.java),
+        amqpAdmin,
+        AnonymousQueue(),
+        TopicExchange("chat.exchange"),
+        ChatExchangeProperties("chat.exchange", "chat.queue", "chat.room.*"),
+        simpMessagingTemplate
+    )
+
+    @Test
+    fun `같은 채팅방을 여러 세션이 구독해도 바인딩은 한 번만 추가한다`() {
+        // when
+        subscribe("session-1", "sub-1", "/exchange/chat.exchange/chat.room.1")
+        subscribe("session-2", "sub-1", "/exchange/chat.exchange/chat.room.1")
+
+        // then
+        verify(amqpAdmin, times(1)).declareBinding(routingKey("chat.room.1"))
+    }
+
+    @Test
+    fun `마지막 로컬 구독자가 사라질 때만 바인딩을 제거한다`() {
+        // given
+        subscribe("session-1", "sub-1", "/exchange/chat.exchange/chat.room.1")
+        subscribe("session-2", "sub-1", "/exchange/chat.exchange/chat.room.1")
+
+        // when
+        relay.preSend(frame(StompCommand.UNSUBSCRIBE, "session-1", "sub-1"), channel)
+
+        // then
+        verify(amqpAdmin, never()).removeBinding(any())
+
+        // when
+        relay.preSend(frame(StompCommand.DISCONNECT, "session-2"), channel)
+
+        // then
+        verify(amqpAdmin, times(1)).removeBinding(routingKey("chat.room.1"))
+    }
+
+    @Test
+    fun `바인딩 추가에 실패하면 같은 채팅방의 다음 구독에서 다시 시도한다`() {
+        // given
+        doThrow(RuntimeException("broker unavailable")).doNothing().`when`(amqpAdmin).declareBinding(routingKey("chat.room.1"))
+        subscribe("session-1", "sub-1", "/exchange/chat.exchange/chat.room.1")
+
+        // when
+        subscribe("session-2", "sub-1", "/exchange/chat.exchange/chat.room.1")
+        subscribe("session-3", "sub-1", "/exchange/chat.exchange/chat.room.1")
+
+        // then
+        verify(amqpAdmin, times(2)).declareBinding(routingKey("chat.room.1"))
+    }
+
+    @Test
+    fun `한 채팅방의 바인딩이 지연되어도 다른 채팅방의 구독은 기다리지 않는다`() {
+        // given
+        val blocked = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        doAnswer {
+            blocked.countDown()
+            release.await(5, TimeUnit.SECONDS)
+            null
+        }.`when`(amqpAdmin).declareBinding(routingKey("chat.room.1"))
+
+        val slow = thread { subscribe("session-1", "sub-1", "/exchange/chat.exchange/chat.room.1") }
+        assertTrue(blocked.await(1, TimeUnit.SECONDS))
+
+        // when
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(1)) {
+                subscribe("session-2", "sub-1", "/exchange/chat.exchange/chat.room.2")
+            }
+        } finally {
+            release.countDown()
+            slow.join()
+        }
+
+        // then
+        verify(amqpAdmin).declareBinding(routingKey("chat.room.2"))
+    }
+
+    @Test
+    fun `채팅 exchange가 아닌 destination의 구독은 바인딩하지 않는다`() {
+        // when
+        subscribe("session-1", "sub-1", "/queue/success-usersession-1")
+
+        // then
+        verify(amqpAdmin, never()).declareBinding(any())
+    }
+
+    @Test
+    fun `브로커에 전달되지 않은 구독은 바인딩하지 않는다`() {
+        // when
+        relay.afterSendCompletion(frame(StompCommand.SUBSCRIBE, "session-1", "sub-1", "/exchange/chat.exchange/chat.room.1"), channel, false, null)
+
+        // then
+        verify(amqpAdmin, never()).declareBinding(any())
+    }
+
+    @Test
+    fun `수신한 메시지는 routing key에 해당하는 구독 destination으로 헤더와 함께 전달한다`() {
+        // given
+        val message = AmqpMessageBuilder.withBody("{\"content\":\"hi\"}".toByteArray())
+            .setContentType("application/json")
+            .setReceivedRoutingKey("chat.room.1")
+            .setHeader("message-id", "abc")
+            .build()
+
+        // when
+        relay.onMessage(message)
+
+        // then
+        val captor = ArgumentCaptor.forClass(Message::class.java)
+        verify(simpMessagingTemplate).send(eq("/exchange/chat.exchange/chat.room.1"), captor.capture())
+
+        val accessor = SimpMessageHeaderAccessor.wrap(captor.value)
+        assertEquals("application/json", accessor.contentType.toString())
+        assertEquals("abc", accessor.getFirstNativeHeader("message-id"))
+    }
+
+    private fun subscribe(sessionId: String, subscriptionId: String, destination: String) {
+        val message = frame(StompCommand.SUBSCRIBE, sessionId, subscriptionId, destination)
+        relay.preSend(message, channel)
+        relay.afterSendCompletion(message, channel, true, null)
+    }
+
+    private fun frame(command: StompCommand, sessionId: String, subscriptionId: String? = null, destination: String? = null): Message<ByteArray> {
+        val accessor = StompHeaderAccessor.create(command)
+        accessor.sessionId = sessionId
+        subscriptionId?.let { accessor.subscriptionId = it }
+        destination?.let { accessor.destination = it }
+        accessor.setLeaveMutable(true)
+
+        return MessageBuilder.createMessage(ByteArray(0), accessor.messageHeaders)
+    }
+
+    private fun routingKey(routingKey: String): Binding? = argThat { it.routingKey == routingKey }
+}
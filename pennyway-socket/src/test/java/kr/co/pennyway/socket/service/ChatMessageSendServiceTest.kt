@@ -0,0 +1,196 @@
+package kr.co.pennyway.socket.service
+
+import kr.co.pennyway.domain.context.chat.service.ChatMessageService
+import kr.co.pennyway.domain.domains.message.domain.ChatMessage
+import kr.co.pennyway.domain.domains.message.type.MessageContentType
+import kr.co.pennyway.infra.client.broker.MessageBrokerAdapter
+import kr.co.pennyway.infra.client.guid.IdGenerator
+import kr.co.pennyway.infra.common.properties.ChatExchangeProperties
+import kr.co.pennyway.socket.command.SendMessageCommand
+import kr.co.pennyway.socket.common.dto.ChatMessageDto
+import kr.co.pennyway.socket.common.properties.ChatMessageSendProperties
+import kotlinx.coroutines.runBlocking
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.Test
+import org.mockito.ArgumentCaptor
+import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.anyString
+import org.mockito.ArgumentMatchers.eq
+import org.mockito.Mockito.*
+import org.springframework.messaging.simp.SimpMessagingTemplate
+import reactor.core.publisher.Mono
+import java.time.Duration
+import java.util.*
+import java.util.concurrent.atomic.AtomicLong
+
+class ChatMessageSendServiceTest {
+    private val chatMessageService: ChatMessageService = mock(ChatMessageService::class.java)
+    private val messageBrokerAdapter: MessageBrokerAdapter = mock(MessageBrokerAdapter::class.java)
+    private val simpMessagingTemplate: SimpMessagingTemplate = mock(SimpMessagingTemplate::class.java)
+    private val ttl = Duration.ofMinutes(5)
+
+    private val service = ChatMessageSendService(
+        chatMessageService,
+        messageBrokerAdapter,
+        IdGenerator { 100L },
+        ChatExchangeProperties("chat.exchange", "chat.queue", "chat.room.*"),
+        ChatMessageSendProperties(ttl, ChatMessageSendProperties.Mode.BLOCKING, 10),
+        simpMessagingTemplate
+    )
+
+    @Test
+    fun `처음 전송한 메시지는 저장 후 발행하고 성공 응답을 보낸다`() {
+        // given
+        `when`(chatMessageService.createIfAbsent(any(ChatMessage::class.java), eq("client-1"), eq(ttl))).thenReturn(Optional.empty())
+
+        // when
+        service.execute(command("client-1"))
+
+        // then
+        verify(messageBrokerAdapter).convertAndSend(eq("chat.exchange"), eq("chat.room.1"), any(), isNull<Map<String, Any>>())
+        verify(simpMessagingTemplate).convertAndSendToUser("jayang", "/queue/success", Unit, mapOf("x-message-id" to "client-1"))
+    }
+
+    @Test
+    fun `재전송한 메시지는 발행하지 않고 성공 응답만 보낸다`() {
+        // given
+        `when`(chatMessageService.createIfAbsent(any(ChatMessage::class.java), eq("client-1"), eq(ttl))).thenReturn(Optional.of(99L))
+
+        // when
+        service.execute(command("client-1"))
+
+        // then
+        verifyNoInteractions(messageBrokerAdapter)
+        verify(simpMessagingTemplate).convertAndSendToUser("jayang", "/queue/success", Unit, mapOf("x-message-id" to "client-1"))
+    }
+
+    @Test
+    fun `발행에 실패하면 저장한 메시지를 철회하여 재전송이 다시 저장되도록 한다`() {
+        // given
+        `when`(chatMessageService.createIfAbsent(any(ChatMessage::class.java), eq("client-1"), eq(ttl))).thenReturn(Optional.empty())
+        doThrow(RuntimeException("broker down")).`when`(messageBrokerAdapter).convertAndSend(anyString(), anyString(), any(), isNull<Map<String, Any>>())
+
+        // when
+        assertThrows(RuntimeException::class.java) { service.execute(command("client-1")) }
+
+        // then
+        verify(chatMessageService).revoke(any(ChatMessage::class.java), eq("client-1"))
+        verify(simpMessagingTemplate, never()).convertAndSendToUser(anyString(), eq("/queue/success"), any(), any<Map<String, Any>>())
+    }
+
+    @Test
+    fun `x-message-id가 없으면 중복 확인 없이 저장한다`() {
+        // when
+        service.execute(command(null))
+
+        // then
+        verify(chatMessageService).create(any(ChatMessage::class.java))
+        verify(chatMessageService, never()).createIfAbsent(any(ChatMessage::class.java), anyString(), any(Duration::class.java))
+        verify(messageBrokerAdapter).convertAndSend(eq("chat.exchange"), eq("chat.room.1"), any(), isNull<Map<String, Any>>())
+    }
+
+    @Test
+    fun `비동기 전송은 저장이 끝난 후 발행하고 성공 응답을 보낸다`() {
+        // given
+        `when`(chatMessageService.createIfAbsentAsync(any(ChatMessage::class.java), eq("client-1"), eq(ttl))).thenReturn(Mono.empty())
+
+        // when
+        runBlocking { service.executeAsync(command("client-1")) }
+
+        // then
+        val inOrder = inOrder(chatMessageService, messageBrokerAdapter, simpMessagingTemplate)
+        inOrder.verify(chatMessageService).createIfAbsentAsync(any(ChatMessage::class.java), eq("client-1"), eq(ttl))
+        inOrder.verify(messageBrokerAdapter).convertAndSend(eq("chat.exchange"), eq("chat.room.1"), any(), isNull<Map<String, Any>>())
+        inOrder.verify(simpMessagingTemplate).convertAndSendToUser("jayang", "/queue/success", Unit, mapOf("x-message-id" to "client-1"))
+        verify(chatMessageService, never()).createIfAbsent(any(ChatMessage::class.java), anyString(), any(Duration::class.java))
+    }
+
+    @Test
+    fun `비동기 전송에서도 재전송한 메시지는 발행하지 않고 성공 응답만 보낸다`() {
+        // given
+        `when`(chatMessageService.createIfAbsentAsync(any(ChatMessage::class.java), eq("client-1"), eq(ttl))).thenReturn(Mono.just(99L))
+
+        // when
+        runBlocking { service.executeAsync(command("client-1")) }
+
+        // then
+        verifyNoInteractions(messageBrokerAdapter)
+        verify(simpMessagingTemplate).convertAndSendToUser("jayang", "/queue/success", Unit, mapOf("x-message-id" to "client-1"))
+    }
+
+    @Test
+    fun `비동기 전송에서도 발행에 실패하면 저장한 메시지를 철회한다`() {
+        // given
+        `when`(chatMessageService.createIfAbsentAsync(any(ChatMessage::class.java), eq("client-1"), eq(ttl))).thenReturn(Mono.empty())
+        `when`(chatMessageService.revokeAsync(any(ChatMessage::class.java), eq("client-1"))).thenReturn(Mono.just(true))
+        doThrow(RuntimeException("broker down")).`when`(messageBrokerAdapter).convertAndSend(anyString(), anyString(), any(), isNull<Map<String, Any>>())
+
+        // when
+        assertThrows(RuntimeException::class.java) { runBlocking { service.executeAsync(command("client-1")) } }
+
+        // then
+        verify(chatMessageService).revokeAsync(any(ChatMessage::class.java), eq("client-1"))
+        verify(simpMessagingTemplate, never()).convertAndSendToUser(anyString(), eq("/queue/success"), any(), any<Map<String, Any>>())
+    }
+
+    @Test
+    fun `비동기 모드에서도 같은 세션의 메시지는 전송한 순서대로 발행한다`() {
+        // given
+        val chatIds = AtomicLong(100L)
+        val asyncService = ChatMessageSendService(
+            chatMessageService,
+            messageBrokerAdapter,
+            IdGenerator { chatIds.getAndIncrement() },
+            ChatExchangeProperties("chat.exchange", "chat.queue", "chat.room.*"),
+            ChatMessageSendProperties(ttl, ChatMessageSendProperties.Mode.ASYNC, 10),
+            simpMessagingTemplate
+        )
+        `when`(chatMessageService.createAsync(any(ChatMessage::class.java))).thenAnswer {
+            val message = it.getArgument<ChatMessage>(0)
+            if (message.chatId == 100L) Mono.delay(Duration.ofMillis(200)).thenReturn(message) else Mono.just(message)
+        }
+
+        // when
+        asyncService.dispatch(command(null), "session-1")
+        asyncService.dispatch(command(null), "session-1")
+        asyncService.destroy()
+
+        // then
+        val captor = ArgumentCaptor.forClass(Any::class.java)
+        verify(messageBrokerAdapter, times(2)).convertAndSend(eq("chat.exchange"), eq("chat.room.1"), captor.capture(), isNull<Map<String, Any>>())
+        assertEquals(listOf(100L, 101L), captor.allValues.map { (it as ChatMessageDto.Response).chatId() })
+    }
+
+    @Test
+    fun `비동기 모드에서 저장에 실패하면 발행하지 않고 발신자에게 오류를 전달한다`() {
+        // given
+        val asyncService = ChatMessageSendService(
+            chatMessageService,
+            messageBrokerAdapter,
+            IdGenerator { 100L },
+            ChatExchangeProperties("chat.exchange", "chat.queue", "chat.room.*"),
+            ChatMessageSendProperties(ttl, ChatMessageSendProperties.Mode.ASYNC, 10),
+            simpMessagingTemplate
+        )
+        `when`(chatMessageService.createAsync(any(ChatMessage::class.java))).thenReturn(Mono.error(RuntimeException("redis down")))
+
+        // when
+        asyncService.dispatch(command(null), "session-1")
+        asyncService.destroy()
+
+        // then
+        verify(chatMessageService, never()).create(any(ChatMessage::class.java))
+        verifyNoInteractions(messageBrokerAdapter)
+        verify(simpMessagingTemplate).convertAndSendToUser(eq("jayang"), eq("/queue/errors"), any(), isNull<Map<String, Any>>())
+    }
+
+    private fun command(clientMessageId: String?) = SendMessageCommand.createUserMessage(
+        1L,
+        "hello",
+        MessageContentType.TEXT,
+        2L,
+        "jayang",
+        clientMessageId?.let { mapOf("x-message-id" to it) }
+    )
+}
@@ -0,0 +1,92 @@
+package kr.co.pennyway.socket.service
+
+import kr.co.pennyway.domain.context.chat.service.ChatMessageStatusService
+import kr.co.pennyway.domain.domains.chatstatus.dto.ChatMessageStatusKey
+import kr.co.pennyway.socket.common.properties.ReadReceiptProperties
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+import org.mockito.Mockito.*
+import java.time.Duration
+
+class LastMessageIdSaveServiceTest {
+    private val chatMessageStatusService: ChatMessageStatusService = mock(ChatMessageStatusService::class.java)
+    private lateinit var service: LastMessageIdSaveService
+
+    @AfterEach
+    fun tearDown() {
+        service.destroy()
+    }
+
+    @Test
+    fun `연속된 읽음 처리는 (사용자, 채팅방) 단위로 가장 큰 메시지 ID 한 번만 저장한다`() {
+        // given
+        service = LastMessageIdSaveService(chatMessageStatusService, ReadReceiptProperties(Duration.ofHours(1)))
+
+        // when
+        service.execute(1L, 10L, 100L)
+        service.execute(1L, 10L, 300L)
+        service.execute(1L, 10L, 200L)
+        service.execute(2L, 10L, 150L)
+        service.flush()
+
+        // then
+        verify(chatMessageStatusService).saveLastReadMessageIds(
+            mapOf(ChatMessageStatusKey.of(1L, 10L) to 300L, ChatMessageStatusKey.of(2L, 10L) to 150L)
+        )
+        verifyNoMoreInteractions(chatMessageStatusService)
+    }
+
+    @Test
+    fun `저장한 읽음 처리는 다음 주기에 다시 저장하지 않는다`() {
+        // given
+        service = LastMessageIdSaveService(chatMessageStatusService, ReadReceiptProperties(Duration.ofHours(1)))
+        service.execute(1L, 10L, 100L)
+        service.flush()
+
+        // when
+        service.flush()
+
+        // then
+        verify(chatMessageStatusService, times(1)).saveLastReadMessageIds(mapOf(ChatMessageStatusKey.of(1L, 10L) to 100L))
+        verifyNoMoreInteractions(chatMessageStatusService)
+    }
+
+    @Test
+    fun `주기가 돌아오면 병합된 읽음 처리를 저장한다`() {
+        // given
+        service = LastMessageIdSaveService(chatMessageStatusService, ReadReceiptProperties(Duration.ofMillis(10)))
+
+        // when
+        service.execute(1L, 10L, 100L)
+
+        // then
+        verify(chatMessageStatusService, timeout(1_000)).saveLastReadMessageIds(mapOf(ChatMessageStatusKey.of(1L, 10L) to 100L))
+    }
+
+    @Test
+    fun `종료 시 아직 저장하지 않은 읽음 처리를 저장한다`() {
+        // given
+        service = LastMessageIdSaveService(chatMessageStatusService, ReadReceiptProperties(Duration.ofHours(1)))
+        service.execute(1L, 10L, 100L)
+
+        // when
+        service.destroy()
+
+        // then
+        verify(chatMessageStatusService).saveLastReadMessageIds(mapOf(ChatMessageStatusKey.of(1L, 10L) to 100L))
+    }
+
+    @Test
+    fun `병합 주기가 0이면 요청마다 즉시 저장한다`() {
+        // given
+        service = LastMessageIdSaveService(chatMessageStatusService, ReadReceiptProperties(Duration.ZERO))
+
+        // when
+        service.execute(1L, 10L, 100L)
+        service.execute(1L, 10L, 200L)
+
+        // then
+        verify(chatMessageStatusService).saveLastReadMessageId(1L, 10L, 100L)
+        verify(chatMessageStatusService).saveLastReadMessageId(1L, 10L, 200L)
+    }
+}